@@ -19,6 +19,9 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
+import java.util.function.Predicate;
+
 /**
  * Represents the block entity with the state data, which under-ly the information
  * provided by the {@link IMultiStateBlock} blocks.
@@ -86,4 +89,14 @@ public interface IMultiStateBlockEntity extends IWorldAreaAccessor,
     * @return The shape.
     */
    VoxelShape getShape(CollisionType type);
+
+   /**
+    * Determines which state entries of this block have block information that matches the given predicate.
+    * The predicate is resolved against the palette of the block, so it is evaluated once per distinct block information
+    * instead of once per state entry, and blocks which do not contain any matching information are skipped entirely.
+    *
+    * @param predicate The predicate to match the block information with.
+    * @return A bit set in which the bit of each matching entry is set, indexed as {@code x * size * size + y * size + z}.
+    */
+   BitSet findMatchingEntries(Predicate<IBlockInformation> predicate);
 }
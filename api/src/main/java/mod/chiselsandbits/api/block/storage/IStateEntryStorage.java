@@ -2,6 +2,7 @@ package mod.chiselsandbits.api.block.storage;
 
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.multistate.mutator.IMirrorAndRotateble;
+import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.api.util.INBTSerializable;
 import mod.chiselsandbits.api.util.IPacketBufferSerializable;
 import mod.chiselsandbits.api.util.IWithBatchableMutationSupport;
@@ -10,8 +11,12 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 public interface IStateEntryStorage extends IPacketBufferSerializable, IMirrorAndRotateble, INBTSerializable<CompoundTag>, IWithBatchableMutationSupport
 {
@@ -106,4 +111,91 @@ public interface IStateEntryStorage extends IPacketBufferSerializable, IMirrorAn
      * @return The palette.
      */
     List<IBlockInformation> getContainedPalette();
+
+    /**
+     * Determines which entries of this storage have block information that matches the given predicate.
+     * Implementations which are backed by a palette evaluate the predicate once per palette entry, instead of once per entry.
+     *
+     * @param predicate The predicate to match the block information with.
+     * @return A bit set in which the bit of each matching entry is set, indexed as {@code x * size * size + y * size + z}.
+     */
+    default BitSet findMatching(final Predicate<IBlockInformation> predicate) {
+        final int size = getSize();
+        final BitSet matches = new BitSet(size * size * size);
+        int index = 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                for (int z = 0; z < size; z++) {
+                    if (predicate.test(getBlockInformation(x, y, z)))
+                        matches.set(index);
+                    index++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Combines the entries of the given source storage with the entries of this storage, according to the given policy.
+     * The source entry on a given position ends up on that position plus the offset in this storage, source entries which end up
+     * outside of this storage are ignored.
+     * The bits which this storage needs from the outside, and the bits it gives up, are counted while the entries are combined.
+     *
+     * @param source The storage to merge into this storage.
+     * @param offset The offset, in entries, of the source storage relative to this storage.
+     * @param policy The policy which determines how the entries are combined.
+     * @return The required and returned bit counts of the merge.
+     */
+    default StateEntryMergeResult merge(final IStateEntryStorage source, final Vec3i offset, final StateEntryMergePolicy policy) {
+        final Map<IBlockInformation, Integer> requiredBits = new HashMap<>();
+        final Map<IBlockInformation, Integer> returnedBits = new HashMap<>();
+        boolean changed = false;
+
+        final int size = getSize();
+        try (IBatchMutation ignored = batch()) {
+            for (int x = 0; x < source.getSize(); x++) {
+                for (int y = 0; y < source.getSize(); y++) {
+                    for (int z = 0; z < source.getSize(); z++) {
+                        final int targetX = x + offset.getX();
+                        final int targetY = y + offset.getY();
+                        final int targetZ = z + offset.getZ();
+                        if (targetX < 0 || targetY < 0 || targetZ < 0 || targetX >= size || targetY >= size || targetZ >= size)
+                            continue;
+
+                        final IBlockInformation sourceInformation = source.getBlockInformation(x, y, z);
+                        if (sourceInformation.isAir())
+                            continue;
+
+                        final IBlockInformation targetInformation = getBlockInformation(targetX, targetY, targetZ);
+                        final boolean isReplaced = switch (policy) {
+                            case PLACE -> targetInformation.isAir();
+                            case MERGE -> !targetInformation.equals(sourceInformation);
+                            case IMPOSE -> true;
+                            case CARVE -> !targetInformation.isAir();
+                        };
+
+                        if (!isReplaced)
+                            continue;
+
+                        if (!targetInformation.isAir())
+                            returnedBits.merge(targetInformation, 1, Integer::sum);
+
+                        if (policy == StateEntryMergePolicy.CARVE) {
+                            setBlockInformation(targetX, targetY, targetZ, IBlockInformation.AIR);
+                            changed = true;
+                            continue;
+                        }
+
+                        requiredBits.merge(sourceInformation, 1, Integer::sum);
+                        if (!targetInformation.equals(sourceInformation)) {
+                            setBlockInformation(targetX, targetY, targetZ, sourceInformation);
+                            changed = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return new StateEntryMergeResult(requiredBits, returnedBits, changed);
+    }
 }
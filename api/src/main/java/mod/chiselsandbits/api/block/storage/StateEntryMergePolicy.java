@@ -0,0 +1,33 @@
+package mod.chiselsandbits.api.block.storage;
+
+/**
+ * Describes how the entries of a source storage are combined with the entries of a target storage,
+ * see {@link IStateEntryStorage#merge(IStateEntryStorage, net.minecraft.core.Vec3i, StateEntryMergePolicy)}.
+ * <p>
+ * Air entries of the source never change the target.
+ */
+public enum StateEntryMergePolicy
+{
+    /**
+     * The source entries are only written into air entries of the target.
+     * Occupied target entries are left untouched.
+     */
+    PLACE,
+
+    /**
+     * The source entries override the target entries.
+     * Target entries which already contain the same block information are left untouched.
+     */
+    MERGE,
+
+    /**
+     * The source entries override the target entries, every overridden target entry is returned,
+     * even if it contains the same block information.
+     */
+    IMPOSE,
+
+    /**
+     * The target entries underneath the source entries are cleared.
+     */
+    CARVE
+}
@@ -0,0 +1,54 @@
+package mod.chiselsandbits.api.block.storage;
+
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of a merge of one storage into another,
+ * see {@link IStateEntryStorage#merge(IStateEntryStorage, net.minecraft.core.Vec3i, StateEntryMergePolicy)}.
+ */
+public final class StateEntryMergeResult
+{
+    private final Map<IBlockInformation, Integer> requiredBits;
+    private final Map<IBlockInformation, Integer> returnedBits;
+    private final boolean                         changed;
+
+    public StateEntryMergeResult(final Map<IBlockInformation, Integer> requiredBits, final Map<IBlockInformation, Integer> returnedBits, final boolean changed)
+    {
+        this.requiredBits = Collections.unmodifiableMap(requiredBits);
+        this.returnedBits = Collections.unmodifiableMap(returnedBits);
+        this.changed = changed;
+    }
+
+    /**
+     * The bits which were written into the target storage, per block information.
+     *
+     * @return The required bit counts, never containing air.
+     */
+    public Map<IBlockInformation, Integer> getRequiredBits()
+    {
+        return requiredBits;
+    }
+
+    /**
+     * The bits which were removed from the target storage, per block information.
+     *
+     * @return The returned bit counts, never containing air.
+     */
+    public Map<IBlockInformation, Integer> getReturnedBits()
+    {
+        return returnedBits;
+    }
+
+    /**
+     * Indicates if the merge modified at least one entry of the target storage.
+     *
+     * @return {@code true} when the target storage changed.
+     */
+    public boolean hasChanged()
+    {
+        return changed;
+    }
+}
@@ -1,7 +1,9 @@
 package mod.chiselsandbits.api.chiseling;
 
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.chiseling.metadata.IMetadataKey;
 import mod.chiselsandbits.api.chiseling.mode.IChiselMode;
+import mod.chiselsandbits.api.item.click.ClickProcessingState;
 import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.multistate.accessor.IStateAccessor;
 import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
@@ -10,6 +12,7 @@ import mod.chiselsandbits.api.util.LocalStrings;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.level.LevelAccessor;
 import org.jetbrains.annotations.NotNull;
@@ -91,6 +94,22 @@ public interface IChiselingContext extends IStateAccessor
         return this.include(Vec3.atLowerCornerOf(inWorldPosition).add(relativeInBlockPosition));
     }
 
+    /**
+     * Includes the given exact area in the world of this context, retrievable via {@link #getWorld()}, in
+     * the current {@link IWorldAreaMutator}.
+     *
+     * This is equivalent to including every position within the area one by one, but allows shaped modes to
+     * set their bounds in a single step, instead of growing the current {@link IWorldAreaMutator} position by position.
+     *
+     * @param worldArea The area in the current world to include.
+     * @return The context, possibly with a mutated {@link IWorldAreaMutator}.
+     */
+    @NotNull
+    default IChiselingContext include(final AABB worldArea) {
+        return this.include(new Vec3(worldArea.minX, worldArea.minY, worldArea.minZ))
+                .include(new Vec3(worldArea.maxX, worldArea.maxY, worldArea.maxZ));
+    }
+
     /**
      * Marks the current context as complete, so that it can not be reused for interactions which
      * will follow this one.
@@ -231,6 +250,60 @@ public interface IChiselingContext extends IStateAccessor
      */
     int tryDamageItemAndDo(final int damage, final Runnable onDamaged, final Runnable onBroken);
 
+    /**
+     * Reserves the durability of the item that caused the chiseling operation for a whole operation at once,
+     * where each of the given amount of bits costs exactly 1 damage.
+     *
+     * If no item was the cause of the operation, or the item does not support damaging the item on a chiseling operation,
+     * then all bits are reserved.
+     * If the item breaks during the operation, then only the bits up to and including the one on which it broke are reserved,
+     * and if it is already broken, then no bits are reserved.
+     *
+     * Callers are expected to process exactly the reserved amount of bits.
+     *
+     * @param bitCount The amount of bits the operation intends to process.
+     * @return The amount of bits which may be processed.
+     */
+    default int reserveItemDamage(final int bitCount) {
+        final int[] reserved = {0};
+        for (int i = 0; i < bitCount; i++) {
+            final int previouslyReserved = reserved[0];
+            tryDamageItemAndDo(1, () -> reserved[0]++, () -> {});
+            if (reserved[0] == previouslyReserved)
+                break;
+        }
+
+        return reserved[0];
+    }
+
+    /**
+     * Removes all bits of the given mutator which pass the state filter of this context, and hands them to the given player.
+     *
+     * The durability of the item that caused the operation is reserved once for all targeted bits, see {@link #reserveItemDamage(int)},
+     * and only the reserved bits are removed.
+     * If no bits are targeted, or the item broke before all of them were removed, then the matching error is set on this context.
+     *
+     * @param mutator The mutator to remove the bits from.
+     * @param playerEntity The player which receives the removed bits.
+     * @return The result of the operation.
+     */
+    ClickProcessingState consumeAndClear(final IWorldAreaMutator mutator, final Player playerEntity);
+
+    /**
+     * Replaces all bits of the given mutator which pass the state filter of this context with the given block information,
+     * and hands the replaced bits to the given player.
+     *
+     * Unless the player is in creative mode, the replacing bits are taken from its bit inventory, and the operation is
+     * rejected with an error on this context if it does not hold enough of them.
+     * The item that caused the operation is damaged the same way as in {@link #consumeAndClear(IWorldAreaMutator, Player)}.
+     *
+     * @param mutator The mutator to replace the bits in.
+     * @param playerEntity The player which supplies the new bits, and receives the replaced ones.
+     * @param blockInformation The block information to replace the bits with.
+     * @return The result of the operation.
+     */
+    ClickProcessingState consumeAndReplace(final IWorldAreaMutator mutator, final Player playerEntity, final IBlockInformation blockInformation);
+
     /**
      * Allows for the setting of a filterBuilder on the context, which limits which {@link IStateEntryInfo} are returned from
      * the relevant accessor methods of the {@link IWorldAreaMutator}, as well as which limits the setter methods on the same {@link IWorldAreaMutator}
@@ -151,6 +151,14 @@ public interface IClientConfiguration
      */
     Supplier<Long> getFaceLayerCacheSize();
 
+    /**
+     * Indicates if the face layers of all chiselable block states should be extracted in the background when resources are reloaded,
+     * instead of when a block state is rendered in a chiseled block for the first time.
+     *
+     * @return A configuration supplier which indicates if the face layers should be precomputed.
+     */
+    Supplier<Boolean> getPrecomputeFaceLayers();
+
     /**
      * Indicates how many threads should be used during building of the model cache.
      *
@@ -44,4 +44,42 @@ public interface ICommonConfiguration
      * @return A supplier that determines the number of threads to use for block saving.
      */
     Supplier<Integer> getBlockSaveThreadCount();
+
+    /**
+     * Indicates how many threads can be used to compute the new contents of blocks during bulk edits, like the fill and clear commands.
+     *
+     * @return A supplier that determines the number of threads to use for bulk editing.
+     */
+    Supplier<Integer> getBulkEditingThreadCount();
+
+    /**
+     * The amount of milliseconds per server tick that bulk edits are allowed to spend applying their results to the world.
+     *
+     * @return A supplier that determines the time budget per tick of bulk edits.
+     */
+    Supplier<Integer> getBulkEditingTickBudget();
+
+    /**
+     * Indicates how many worker threads the central executor uses for all background work.
+     * The thread counts of the individual tasks, like block saving, limit how many of these workers a task can occupy.
+     *
+     * @return A supplier that determines the number of worker threads.
+     */
+    Supplier<Integer> getWorkerThreadCount();
+
+    /**
+     * The maximal amount of queued work per lane of the central executor.
+     * When a lane is full, a worker which submits new work has to execute it itself, work from the game threads is still queued.
+     *
+     * @return A supplier that determines the queue capacity of each executor lane.
+     */
+    Supplier<Integer> getLaneQueueCapacity();
+
+    /**
+     * The amount of bytes of block synchronisation traffic which may be sent to a single player per tick.
+     * Traffic beyond this budget is deferred to later ticks, it is never dropped. A value of zero disables the budget.
+     *
+     * @return A supplier that determines the per player network byte budget per tick.
+     */
+    Supplier<Integer> getPlayerNetworkByteBudget();
 }
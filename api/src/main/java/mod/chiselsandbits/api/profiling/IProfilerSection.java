@@ -6,6 +6,11 @@ package mod.chiselsandbits.api.profiling;
  */
 public interface IProfilerSection extends AutoCloseable
 {
+    /**
+     * A section which does nothing, handed out while no profiler is active.
+     */
+    IProfilerSection NOOP = () -> {};
+
     @Override
     void close();
 }
@@ -41,4 +41,15 @@ public interface IProfilingManager
      * @return The result of the profiler.
      */
     IProfilerResult stopProfiling(IProfiler profiler);
+
+    /**
+     * Opens a new section in the active profiler, to be closed with a try-with-resources block.
+     * <p>
+     * While no profiler is active this returns {@link IProfilerSection#NOOP} without allocating anything.
+     * Callers should pass constant names, so that no strings are built while profiling is disabled.
+     *
+     * @param name The name of the section.
+     * @return The section.
+     */
+    IProfilerSection withSection(String name);
 }
@@ -175,6 +175,22 @@ public enum LocalStrings
     CommandFillingInProgress("command.fill.in-progress"),
     CommandToFill("command.fill.to-fill"),
     CommandProcessingBlockUpdates("command.fill.processing-block-updates"),
+    CommandBulkEditQueued("command.bulk.queued"),
+    CommandBulkEditInProgress("command.bulk.in-progress"),
+    CommandBulkEditCompleted("command.bulk.completed"),
+    CommandBulkEditCancelled("command.bulk.cancelled"),
+    CommandBulkEditFailed("command.bulk.failed"),
+    CommandBulkEditNotFound("command.bulk.not-found"),
+    CommandBulkEditNoneRunning("command.bulk.none-running"),
+    CommandBulkEditStatus("command.bulk.status"),
+    CommandExecutorStatistics("command.executor.statistics"),
+    CommandMetricsLatency("command.metrics.latency"),
+    CommandMetricsCounter("command.metrics.counter"),
+    CommandMetricsCache("command.metrics.cache"),
+    CommandNetworkPacketType("command.network.packet-type"),
+    CommandNetworkDestination("command.network.destination"),
+    CommandNetworkDeferred("command.network.deferred"),
+    CommandStorageInterning("command.storage.interning"),
 
     PatternItemTooltipModeGrouped("pattern.item.tooltip.mode.grouped"),
     PatternItemTooltipModeSimple("pattern.item.tooltip.mode.simple"),
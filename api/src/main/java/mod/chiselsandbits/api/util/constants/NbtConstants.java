@@ -9,6 +9,9 @@ public class NbtConstants
     public static final String HIGHEST_BIT_FRICTION = "highestBitFriction";
     public static final String NONE_AIR_BITS = "none_air_bits";
     public static final String COLUMN_STATISTICS        = "column_statistics";
+    public static final String COLUMN_BITS                  = "column_bits";
+    public static final String COLUMN_HIGHEST_BITS          = "column_highest_bits";
+    public static final String COLUMN_HIGHEST_BIT_FRICTIONS = "column_highest_bit_frictions";
     public static final String CAN_PROPAGATE_SKYLIGHT_DOWN  = "can_propagate_skylight_down";
     public static final String LOWEST_BIT_CAN_SUSTAIN_GRASS = "lowest_bit_can_sustain_grass";
     public static final String COLLISION_DATA               = "collision_data";
@@ -40,7 +43,9 @@ public class NbtConstants
     public static final String COMPRESSED_STORAGE = "compressedStorage";
     public static final String DATA_IS_COMPRESSED = "isCompressed";
     public static final String COMPRESSED_DATA = "compressedData";
+    public static final String PACKED_DATA = "packedData";
     public static final String PALETTE = "palette";
+    public static final String PALETTE_IS_TIGHT = "paletteIsTight";
     public static final String BLOCK_STATES  = "blockStates";
     public static final String COLUMN_BLOCK_LIST = "columnBlockList";
     public static final String PRIMARY_STATE = "primaryState";
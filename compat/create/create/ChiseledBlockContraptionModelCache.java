@@ -0,0 +1,133 @@
+package mod.chiselsandbits.forge.compat.create;
+
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import mod.chiselsandbits.api.multistate.accessor.identifier.IAreaShapeIdentifier;
+import mod.chiselsandbits.block.entities.ChiseledBlockEntity;
+import mod.chiselsandbits.client.model.data.ChiseledBlockModelDataManager;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares the models of chiseled blocks across all contraptions.
+ * <p>
+ * Blocks with the same primary state and the same stored data end up with the same shape, so their model only needs to be built once.
+ * Entries are reference counted by the actor instances which use them, and are dropped once the last of them is removed.
+ */
+public final class ChiseledBlockContraptionModelCache {
+
+    private static final ChiseledBlockContraptionModelCache INSTANCE = new ChiseledBlockContraptionModelCache();
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+
+    private ChiseledBlockContraptionModelCache() {
+    }
+
+    public static ChiseledBlockContraptionModelCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Acquires the shared model cache for the chiseled block of the given movement context.
+     * The model is built when no other contraption block with the same data is currently using it.
+     *
+     * @param context The movement context of the chiseled block.
+     * @return The key of the entry, which needs to be passed to {@link #release(Key)} once the model is no longer used.
+     */
+    public Key acquire(final MovementContext context) {
+        final Key key = createKey(context);
+        final Entry entry;
+        final boolean isNewEntry;
+        synchronized (entries) {
+            final Entry existing = entries.get(key);
+            isNewEntry = existing == null;
+            entry = isNewEntry ? new Entry() : existing;
+            if (isNewEntry)
+                entries.put(key, entry);
+
+            entry.references++;
+        }
+
+        if (isNewEntry)
+            build(context, entry.cache);
+
+        return key;
+    }
+
+    /**
+     * Gives access to the shared model cache of an acquired entry.
+     *
+     * @param key The key returned by {@link #acquire(MovementContext)}.
+     * @return The model cache, or null if the entry has been released already.
+     */
+    public ChiseledBlockOnContraptionModelCache get(final Key key) {
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            return entry == null ? null : entry.cache;
+        }
+    }
+
+    /**
+     * Releases an entry acquired by {@link #acquire(MovementContext)}.
+     *
+     * @param key The key of the entry.
+     */
+    public void release(final Key key) {
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry == null)
+                return;
+
+            entry.references--;
+            if (entry.references <= 0)
+                entries.remove(key);
+        }
+    }
+
+    /**
+     * The amount of distinct models which are currently shared.
+     *
+     * @return The amount of entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static Key createKey(final MovementContext context) {
+        final CompoundTag data = context.blockEntityData == null ? new CompoundTag() : context.blockEntityData.copy();
+        //The position is not part of the shape, strip it in case it was not removed when the contraption was assembled.
+        data.remove("x");
+        data.remove("y");
+        data.remove("z");
+        return new Key(data, context.state);
+    }
+
+    private static void build(final MovementContext context, final ChiseledBlockOnContraptionModelCache cache) {
+        final ChiseledBlockEntity chiseledBlockEntity = new ChiseledBlockEntity(context.localPos.offset(context.contraption.anchor), context.state);
+        chiseledBlockEntity.setLevel(context.world);
+
+        chiseledBlockEntity.deserializeNBT(context.blockEntityData, () -> ChiseledBlockModelDataManager.getInstance().updateModelData(
+                chiseledBlockEntity,
+                () -> cache.setModelData(chiseledBlockEntity.createNewShapeIdentifier(), chiseledBlockEntity.getBlockModelData()),
+                true
+        ));
+    }
+
+    /**
+     * The key of a shared model.
+     *
+     * @param data  The stored data of the chiseled block, without its position.
+     * @param state The primary state of the chiseled block.
+     */
+    public record Key(CompoundTag data, BlockState state) {
+    }
+
+    private static final class Entry {
+        private final ChiseledBlockOnContraptionModelCache cache = new ChiseledBlockOnContraptionModelCache(IAreaShapeIdentifier.DUMMY);
+        private int references = 0;
+    }
+}
@@ -16,6 +16,7 @@ import net.minecraft.world.level.block.state.BlockState;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 public class ChiseledBlockInstance {
@@ -23,6 +24,8 @@ public class ChiseledBlockInstance {
     private final MaterialManager materialManager;
     private final BlockState blockState;
     private final BlockPos instancePos;
+    private final ChiseledBlockOnContraptionModelCache cache;
+    private final BiConsumer<IAreaShapeIdentifier, IBlockModelData> modelDataConsumer;
 
     private Map<RenderType, ModelData> modelData = Maps.newConcurrentMap();
     private int localBlockLight = -1;
@@ -31,16 +34,19 @@ public class ChiseledBlockInstance {
         this.materialManager = materialManager;
         this.blockState = blockState;
         this.instancePos = instancePos;
-
-        cache.addConsumer((identifier, modelData) -> {
+        this.cache = cache;
+        this.modelDataConsumer = (identifier, modelData) -> {
             Minecraft.getInstance().execute(() -> {
                 init(identifier, modelData);
             });
-        });
+        };
+
+        cache.addConsumer(modelDataConsumer);
     }
 
     public void init(IAreaShapeIdentifier identifier, IBlockModelData data) {
-        record ModelKey(IAreaShapeIdentifier identifier, RenderType type){};
+        if (modelData == null)
+            return;
 
         final Map<RenderType, BakedModel> models = data.getData(ModModelProperties.KNOWN_LAYER_MODEL_PROPERTY);
         if (models == null)
@@ -60,9 +66,12 @@ public class ChiseledBlockInstance {
             if (!modelData.containsKey(renderType)) {
                 modelData.put(renderType, materialManager.state(layer, renderType)
                         .material(ChiseledBlockMaterials.CHISELED_BLOCK)
-                        .model(new ModelKey(identifier, renderType), () -> BlockModel.of(model, blockState))
+                        .model(new ChiseledBlockModelKey(identifier, blockState, renderType), () -> BlockModel.of(model, blockState))
                         .createInstance());
 
+                //The instance does not move within the contraption, so its transform only needs to be uploaded once.
+                this.modelData.get(renderType).loadIdentity().translate(instancePos);
+
                 if (this.localBlockLight != -1) {
                     this.modelData.get(renderType).setBlockLight(this.localBlockLight);
                 }
@@ -70,17 +79,19 @@ public class ChiseledBlockInstance {
             else {
                 materialManager.state(layer, renderType)
                         .material(ChiseledBlockMaterials.CHISELED_BLOCK)
-                        .model(new ModelKey(identifier, renderType), () -> BlockModel.of(model, blockState))
+                        .model(new ChiseledBlockModelKey(identifier, blockState, renderType), () -> BlockModel.of(model, blockState))
                         .stealInstance(modelData.get(renderType));
             }
         });
     }
 
-    public void beginFrame() {
-        if (modelData != null) {
-            for (ModelData value : modelData.values()) {
-                value.loadIdentity().translate(instancePos);
-            }
+    public void delete() {
+        cache.removeConsumer(modelDataConsumer);
+
+        final Map<RenderType, ModelData> currentModelData = modelData;
+        modelData = null;
+        if (currentModelData != null) {
+            currentModelData.values().forEach(ModelData::delete);
         }
     }
 
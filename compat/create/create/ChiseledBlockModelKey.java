@@ -2,6 +2,15 @@ package mod.chiselsandbits.forge.compat.create;
 
 import mod.chiselsandbits.api.multistate.accessor.identifier.IAreaShapeIdentifier;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.world.level.block.state.BlockState;
 
-public record ChiseledBlockModelKey(IAreaShapeIdentifier identifier, RenderType type) {
+/**
+ * The key under which the mesh of a chiseled block is uploaded.
+ * All chiseled blocks of a contraption with an equal key share one mesh, and are drawn as instances of it.
+ *
+ * @param identifier   The shape identifier.
+ * @param primaryState The primary state of the block, which the mesh is lit and tinted with.
+ * @param type         The render type of the mesh.
+ */
+public record ChiseledBlockModelKey(IAreaShapeIdentifier identifier, BlockState primaryState, RenderType type) {
 }
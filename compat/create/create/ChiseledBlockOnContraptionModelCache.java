@@ -3,16 +3,15 @@ package mod.chiselsandbits.forge.compat.create;
 import com.communi.suggestu.scena.core.client.models.data.IBlockModelData;
 import mod.chiselsandbits.api.multistate.accessor.identifier.IAreaShapeIdentifier;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 
 public class ChiseledBlockOnContraptionModelCache {
 
-    private IAreaShapeIdentifier identifier = null;
-    private IBlockModelData modelData = null;
-    private final Collection<BiConsumer<IAreaShapeIdentifier, IBlockModelData>> onSetConsumers = new ArrayList<>();
+    private volatile IAreaShapeIdentifier identifier = null;
+    private volatile IBlockModelData modelData = null;
+    private final Collection<BiConsumer<IAreaShapeIdentifier, IBlockModelData>> onSetConsumers = new CopyOnWriteArrayList<>();
 
     public ChiseledBlockOnContraptionModelCache(IAreaShapeIdentifier identifier)
     {
@@ -23,14 +22,20 @@ public class ChiseledBlockOnContraptionModelCache {
     {
         this.identifier = newShapeIdentifier;
         this.modelData = modelData;
-        this.onSetConsumers.forEach(consumer -> consumer.accept(this.identifier, this.modelData));
+        this.onSetConsumers.forEach(consumer -> consumer.accept(newShapeIdentifier, modelData));
     }
 
     public void addConsumer(final BiConsumer<IAreaShapeIdentifier, IBlockModelData> modelDataConsumer) {
-        if (this.modelData != null && this.identifier != null)
-            modelDataConsumer.accept(this.identifier, this.modelData);
-
         this.onSetConsumers.add(modelDataConsumer);
+
+        final IAreaShapeIdentifier currentIdentifier = this.identifier;
+        final IBlockModelData currentModelData = this.modelData;
+        if (currentModelData != null && currentIdentifier != null)
+            modelDataConsumer.accept(currentIdentifier, currentModelData);
+    }
+
+    public void removeConsumer(final BiConsumer<IAreaShapeIdentifier, IBlockModelData> modelDataConsumer) {
+        this.onSetConsumers.remove(modelDataConsumer);
     }
 
     public IAreaShapeIdentifier getIdentifier() {
@@ -12,6 +12,7 @@ import mod.chiselsandbits.api.util.constants.Constants;
 import mod.chiselsandbits.config.ChiselsAndBitsConfiguration;
 import mod.chiselsandbits.network.NetworkChannel;
 import mod.chiselsandbits.plugin.PluginManger;
+import mod.chiselsandbits.profiling.jvm.jfr.JfrMetricsExporter;
 import mod.chiselsandbits.registrars.*;
 import mod.chiselsandbits.utils.LanguageHandler;
 
@@ -59,6 +60,8 @@ public class ChiselsAndBits
 
         networkChannel.registerCommonMessages();
 
+        JfrMetricsExporter.register();
+
         PluginManger.getInstance().detect();
         PluginManger.getInstance().run(IChiselsAndBitsPlugin::onConstruction);
 	}
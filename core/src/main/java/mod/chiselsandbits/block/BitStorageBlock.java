@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import mod.chiselsandbits.api.block.bitbag.IBitBagAcceptingBlock;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.api.inventory.bit.IBitInventory;
 import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
 import mod.chiselsandbits.api.multistate.StateEntrySize;
@@ -171,7 +172,7 @@ public class BitStorageBlock extends Block implements EntityBlock, IBitBagAccept
         }
 
         if (stack.getOrCreateTag().contains(NbtConstants.BLOCK_INFORMATION)) {
-            final BlockInformation blockInformation = new BlockInformation(stack.getOrCreateTag().getCompound(NbtConstants.BLOCK_INFORMATION));
+            final BlockInformation blockInformation = BlockInformationDictionary.getInstance().fromNBT(stack.getOrCreateTag().getCompound(NbtConstants.BLOCK_INFORMATION));
             final int count = stack.getOrCreateTag().getInt(NbtConstants.COUNT);
 
             blockEntity.setContents(
@@ -23,6 +23,7 @@ import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.multistate.mutator.IMutableStateEntryInfo;
 import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.api.multistate.snapshot.IMultiStateSnapshot;
+import mod.chiselsandbits.api.multistate.statistics.IMultiStateObjectStatistics;
 import mod.chiselsandbits.api.util.ArrayUtils;
 import mod.chiselsandbits.api.util.SingleBlockBlockReader;
 import mod.chiselsandbits.api.util.SingleBlockLevelReader;
@@ -103,11 +104,21 @@ public class ChiseledBlock extends Block implements IMultiStateBlock, SimpleWate
     public int getLightEmission(final BlockState state, final BlockGetter blockGetter, final BlockPos pos)
     {
         return getBlockEntity(blockGetter, pos)
-          .map(multiStateBlockEntity -> blockGetter.getMaxLightLevel() * multiStateBlockEntity.getStatistics().getLightEmissionFactor())
-          .map(inertValue -> inertValue * IServerConfiguration.getInstance().getLightFactorMultiplier().get())
-          .map(consumedValue -> Math.max(consumedValue, 0))
-          .map(consumedValue -> Math.min(consumedValue, blockGetter.getMaxLightLevel()))
-          .orElse(0d).intValue();
+          .map(multiStateBlockEntity -> computeLightEmission(multiStateBlockEntity.getStatistics(), blockGetter.getMaxLightLevel()))
+          .orElse(0);
+    }
+
+    /**
+     * Computes the light level which a chiseled block with the given statistics emits.
+     *
+     * @param statistics    The statistics of the chiseled block.
+     * @param maxLightLevel The maximal light level of the level the block is in.
+     * @return The emitted light level.
+     */
+    public static int computeLightEmission(final IMultiStateObjectStatistics statistics, final int maxLightLevel)
+    {
+        final double lightEmission = maxLightLevel * statistics.getLightEmissionFactor() * IServerConfiguration.getInstance().getLightFactorMultiplier().get();
+        return (int) Math.min(Math.max(lightEmission, 0), maxLightLevel);
     }
 
     @Override
@@ -156,26 +167,17 @@ public class ChiseledBlock extends Block implements IMultiStateBlock, SimpleWate
 
         return getBlockEntity(blockGetter, pos)
           .flatMap(e -> {
-              final Vec3 hitVec = blockRayTraceResult.getLocation();
-              final BlockPos blockPos = blockRayTraceResult.getBlockPos();
-              final Vec3 accuratePos = new Vec3(
-                blockPos.getX(),
-                blockPos.getY(),
-                blockPos.getZ()
-              );
-              final Vec3 faceOffset = new Vec3(
-                blockRayTraceResult.getDirection().getOpposite().getStepX() * StateEntrySize.current().getSizePerHalfBit(),
-                blockRayTraceResult.getDirection().getOpposite().getStepY() * StateEntrySize.current().getSizePerHalfBit(),
-                blockRayTraceResult.getDirection().getOpposite().getStepZ() * StateEntrySize.current().getSizePerHalfBit()
-              );
-              final Vec3 hitDelta = hitVec.subtract(accuratePos).add(faceOffset);
-
-              try {
-                  return e.getInAreaTarget(hitDelta);
-              } catch (IllegalArgumentException exception) {
-                  //Because people do stupid stuff.
+              if (!(e instanceof final ChiseledBlockEntity chiseledBlockEntity))
                   return Optional.empty();
-              }
+
+              //Trace along the view direction through the hit location, from one bit in front of it to one bit behind it, to find the entry
+              //which the outline of the block was hit at. The eye position is only updated per tick, the view direction is not.
+              final Vec3 hitVec = blockRayTraceResult.getLocation();
+              final Vec3 step = player.getViewVector(1.0F).scale(StateEntrySize.current().getSizePerBit());
+              final Vec3 from = hitVec.subtract(step);
+              final Vec3 to = hitVec.add(step);
+
+              return chiseledBlockEntity.traceEntry(from, to, blockInformation -> CollisionType.COLLIDEABLE_ONLY.isValidFor(blockInformation.getBlockState()));
           })
           .map(targetedStateEntry -> IMultiStateItemFactory.getInstance().createBlockFrom(targetedStateEntry))
           .orElseGet(() -> getBlockEntity(blockGetter, pos)
@@ -5,6 +5,7 @@ import com.communi.suggestu.scena.core.fluid.FluidInformation;
 import com.communi.suggestu.scena.core.fluid.IFluidManager;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
 import mod.chiselsandbits.api.inventory.bit.IBitInventory;
 import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
@@ -49,7 +50,7 @@ public class BitStorageBlockEntity extends BlockEntity implements Container {
         super.load(nbt);
 
         final CompoundTag tag = nbt.getCompound(NbtConstants.BLOCK_INFORMATION);
-        state = new BlockInformation(tag);
+        state = BlockInformationDictionary.getInstance().fromNBT(tag);
         bits = nbt.getInt(NbtConstants.BITS);
     }
 
@@ -7,10 +7,10 @@ import com.communi.suggestu.scena.core.client.models.data.IModelDataBuilder;
 import com.communi.suggestu.scena.core.dist.DistExecutor;
 import com.communi.suggestu.scena.core.entity.block.IBlockEntityPositionManager;
 import com.communi.suggestu.scena.core.entity.block.IBlockEntityWithModelData;
-import com.google.common.collect.HashBasedTable;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Table;
+import io.netty.buffer.Unpooled;
 import mod.chiselsandbits.ChiselsAndBits;
 import mod.chiselsandbits.api.axissize.CollisionType;
 import mod.chiselsandbits.api.block.entity.IMultiStateBlockEntity;
@@ -18,6 +18,7 @@ import mod.chiselsandbits.api.block.entity.INetworkUpdatableEntity;
 import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.api.change.IChangeTracker;
 import mod.chiselsandbits.api.chiseling.conversion.IConversionManager;
 import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
@@ -36,16 +37,20 @@ import mod.chiselsandbits.api.multistate.snapshot.IMultiStateSnapshot;
 import mod.chiselsandbits.api.multistate.statistics.IMultiStateObjectStatistics;
 import mod.chiselsandbits.api.util.*;
 import mod.chiselsandbits.api.util.constants.NbtConstants;
+import mod.chiselsandbits.block.ChiseledBlock;
 import mod.chiselsandbits.block.entities.storage.SimpleStateEntryStorage;
+import mod.chiselsandbits.block.entities.storage.StorageInterner;
 import mod.chiselsandbits.client.model.data.ChiseledBlockModelDataManager;
 import mod.chiselsandbits.network.packets.UpdateChiseledBlockPacket;
 import mod.chiselsandbits.registrars.ModBlockEntityTypes;
+import mod.chiselsandbits.storage.ChunkBatchedDeserializer;
 import mod.chiselsandbits.storage.IMultiThreadedStorageEngine;
 import mod.chiselsandbits.storage.IStorageHandler;
 import mod.chiselsandbits.storage.StorageEngineBuilder;
 import mod.chiselsandbits.utils.BlockPosUtils;
 import mod.chiselsandbits.utils.LZ4DataCompressionUtils;
 import mod.chiselsandbits.utils.MultiStateSnapshotUtils;
+import mod.chiselsandbits.utils.VoxelRayTracer;
 import mod.chiselsandbits.voxelshape.MultiStateBlockEntityDiscreteVoxelShape;
 import mod.chiselsandbits.voxelshape.SingleBlockVoxelShapeCache;
 import net.minecraft.client.Minecraft;
@@ -70,32 +75,49 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CubeVoxelShape;
 import net.minecraft.world.phys.shapes.VoxelShape;
-import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ChiseledBlockEntity extends BlockEntity implements
         IMultiStateBlockEntity, INetworkUpdatableEntity, IBlockEntityWithModelData {
     public static final float ONE_THOUSANDS = 1 / 1000f;
+    private static final long NOT_SYNCED = -1;
+
+    /**
+     * The layout of the bits of a single column: The lower 16 bits mark the layers which block skylight, the next 16 bits mark
+     * the layers which are not air, and the bit above those is set when the lowest layer can not sustain grass below it.
+     */
+    private static final long COLUMN_LAYER_MASK = 0xFFFFL;
+    private static final int COLUMN_NONE_AIR_SHIFT = 16;
+    private static final long COLUMN_CANNOT_SUSTAIN_GRASS = 1L << 32;
 
     private MutableStatistics mutableStatistics;
     private final Map<UUID, IBatchMutation> batchMutations = Maps.newConcurrentMap();
     private final Object tagSyncHandle = new Object();
     private IStateEntryStorage storage;
+    private boolean isStorageShared = false;
+    private IStateEntryStorage internedStorage = null;
+    private StorageInterner internedIn = null;
     private IMultiThreadedStorageEngine storageEngine;
     private boolean isInitialized = false;
     private IBlockModelData modelData = IModelDataBuilder.create().build();
     private CompoundTag lastTag = null;
+    private long contentVersion = 0;
+    private long persistedVersion = 0;
+    private long syncedVersion = NOT_SYNCED;
     private CompletableFuture<Void> storageFuture = null;
+    private Supplier<CompoundTag> pendingSnapshot = null;
     private final List<CompoundTag> deserializationQueue = Collections.synchronizedList(Lists.newArrayList());
     private final SingleBlockVoxelShapeCache voxelShapeCache = new SingleBlockVoxelShapeCache(this);
+    private LightSignature lightSignature = null;
 
     public ChiseledBlockEntity(BlockPos position, BlockState state) {
         super(ModBlockEntityTypes.CHISELED.get(), position, state);
@@ -116,6 +138,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
     private void createStorageEngine() {
         storageEngine = StorageEngineBuilder.create()
                 .with(new LZ4StorageBasedStorageHandler())
+                .with(new PackedStorageHandler())
                 .buildMultiThreaded(getExecutor());
     }
 
@@ -133,7 +156,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
     private void updateModelDataIfInLoadedChunk() {
         if (level != null && level.isClientSide() && level.isLoaded(getBlockPos())) {
             updateModelData();
-            level.getLightEngine().checkBlock(getBlockPos());
+            checkLightIfChanged();
         }
     }
 
@@ -153,6 +176,8 @@ public class ChiseledBlockEntity extends BlockEntity implements
     @Override
     public void setRemoved() {
         IBlockEntityPositionManager.getInstance().remove(this);
+        //The storage stays marked as shared, so it is still copied should this block entity be modified after all.
+        releaseInternedStorage();
         super.setRemoved();
     }
 
@@ -224,6 +249,41 @@ public class ChiseledBlockEntity extends BlockEntity implements
         );
     }
 
+    /**
+     * Traces the given ray through the entries of this block, without leaving the block.
+     * The entries are walked one by one along the ray, so no shape is needed to find the targeted entry.
+     *
+     * @param from   The start of the ray, in world coordinates.
+     * @param to     The end of the ray, in world coordinates.
+     * @param filter The filter which decides which entries stop the ray.
+     * @return The first entry on the ray which matches the filter, or empty when the ray passes through the block.
+     */
+    public Optional<IStateEntryInfo> traceEntry(final Vec3 from, final Vec3 to, final Predicate<IBlockInformation> filter) {
+        final VoxelRayTracer.Hit hit = VoxelRayTracer.trace(
+                this.storage.getSize(),
+                (x, y, z) -> filter.test(this.storage.getBlockInformation(x, y, z)),
+                from.x() - getBlockPos().getX(),
+                from.y() - getBlockPos().getY(),
+                from.z() - getBlockPos().getZ(),
+                to.x() - getBlockPos().getX(),
+                to.y() - getBlockPos().getY(),
+                to.z() - getBlockPos().getZ()
+        );
+
+        if (hit == null)
+            return Optional.empty();
+
+        final BlockPos inAreaPos = new BlockPos(hit.x(), hit.y(), hit.z());
+        return Optional.of(new StateEntry(
+                this.storage.getBlockInformation(inAreaPos),
+                getLevel(),
+                getBlockPos(),
+                inAreaPos,
+                this::setInAreaTarget,
+                this::clearInAreaTarget)
+        );
+    }
+
     /**
      * Indicates if the given target (with the given block position offset) is inside the current accessor.
      *
@@ -276,20 +336,46 @@ public class ChiseledBlockEntity extends BlockEntity implements
     }
 
     public void deserializeNBT(final CompoundTag nbt, Runnable onLoaded) {
-        this.storageEngine.deserializeOffThread(nbt)
-                .thenRun(onLoaded)
-                .thenRunAsync(() -> {
-                    if (mutableStatistics.isRequiresRecalculation()) {
-                        mutableStatistics.recalculate(this.storage, shouldUpdateWorld());
-                    }
+        if (getLevel() != null) {
+            //Decoded together with all other chiseled blocks in the same chunk, and installed in a single game thread task.
+            final IMultiThreadedStorageEngine engine = this.storageEngine;
+            ChunkBatchedDeserializer.getInstance().submit(
+                    getLevel(),
+                    getBlockPos(),
+                    () -> {
+                        final Runnable sync = engine.readOffThread(nbt);
+                        return () -> {
+                            sync.run();
+                            onLoaded.run();
+                            onDeserialized();
+                        };
+                    },
+                    getExecutor()
+            );
+        } else {
+            this.storageEngine.deserializeOffThread(nbt)
+                    .thenRun(onLoaded)
+                    .thenRunAsync(this::onDeserialized, getExecutor());
+        }
+
+        synchronized (this.tagSyncHandle) {
+            this.lastTag = nbt;
+            this.pendingSnapshot = null;
+        }
+    }
+
+    private void onDeserialized() {
+        if (mutableStatistics.isRequiresRecalculation()) {
+            mutableStatistics.recalculate(this.storage, shouldUpdateWorld());
+            //The recalculated statistics are not part of the stored data yet.
+            this.contentVersion++;
+        }
 
-                    mutableStatistics.updatePrimaryState(shouldUpdateWorld());
+        mutableStatistics.updatePrimaryState(shouldUpdateWorld());
 
-                    if (shouldUpdateWorld()) {
-                        setChanged();
-                    }
-                }, getExecutor());
-        this.lastTag = nbt;
+        if (shouldUpdateWorld()) {
+            publishChanges();
+        }
     }
 
     @Override
@@ -301,6 +387,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
     public void saveAdditional(@NotNull final CompoundTag compound) {
         super.saveAdditional(compound);
 
+        final Supplier<CompoundTag> snapshot;
         synchronized (this.tagSyncHandle) {
             if (this.lastTag != null) {
                 //Off-Thread completed.)
@@ -308,14 +395,14 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 nbt.getAllKeys().forEach(key -> compound.put(key, nbt.get(key)));
                 return;
             }
-        }
 
-        if (this.storageFuture != null) {
-            this.storageFuture.join();
+            snapshot = this.pendingSnapshot;
+        }
 
-            //Now the tag needs to be there!
-            Validate.notNull(this.lastTag, "The storage future did not complete.");
-            final CompoundTag nbt = this.lastTag.copy();
+        if (snapshot != null) {
+            //The off-thread save has not completed yet, encode its snapshot right here instead of waiting for it.
+            //The snapshot is memoized, so whichever thread gets to it first does the actual work.
+            final CompoundTag nbt = snapshot.get().copy();
             nbt.getAllKeys().forEach(key -> compound.put(key, nbt.get(key)));
             return;
         }
@@ -349,6 +436,23 @@ public class ChiseledBlockEntity extends BlockEntity implements
         return voxelShapeCache.getShape(type);
     }
 
+    /**
+     * The amount of in place edits which flipped one of the collideable entries of the given type.
+     * Together with the instance returned by {@link IMultiStateObjectStatistics#getCollideableEntries(CollisionType)} it identifies
+     * the content of the entries, since replacing them wholesale always creates a new instance.
+     *
+     * @param type The collision type.
+     * @return The version of the collideable entries.
+     */
+    public int getCollideableEntriesVersion(final CollisionType type) {
+        return mutableStatistics.getCollideableEntriesVersion(type);
+    }
+
+    @Override
+    public BitSet findMatchingEntries(final Predicate<IBlockInformation> predicate) {
+        return storage.findMatching(predicate);
+    }
+
     /**
      * For tile entities, ensures the chunk containing the tile entity is saved to disk later - the game won't think it hasn't changed and skip it.
      */
@@ -360,39 +464,200 @@ public class ChiseledBlockEntity extends BlockEntity implements
         if (getLevel() == null)
             return;
 
-        super.setChanged();
+        this.contentVersion++;
+        publishChanges();
+    }
 
-        getLevel().getLightEngine().checkBlock(getBlockPos());
-        getLevel().sendBlockUpdated(getBlockPos(), Blocks.AIR.defaultBlockState(), getBlockState(), Block.UPDATE_ALL);
-        getLevel().updateNeighborsAt(getBlockPos(), getLevel().getBlockState(getBlockPos()).getBlock());
+    /**
+     * Performs the world update, save and broadcast work for the current content version.
+     * Each part only runs when the content version has advanced past its watermark, so content which was just loaded from disk
+     * is neither saved nor broadcast again.
+     */
+    private void publishChanges() {
+        if (!this.batchMutations.isEmpty())
+            return;
+
+        if (getLevel() == null)
+            return;
+
+        //The client does not persist anything, so it always needs to update the world.
+        final boolean requiresPersisting = getLevel().isClientSide() || this.contentVersion > this.persistedVersion;
+        if (requiresPersisting) {
+            super.setChanged();
+
+            checkLightIfChanged();
+            getLevel().sendBlockUpdated(getBlockPos(), Blocks.AIR.defaultBlockState(), getBlockState(), Block.UPDATE_ALL);
+            getLevel().updateNeighborsAt(getBlockPos(), getLevel().getBlockState(getBlockPos()).getBlock());
+        }
 
-        voxelShapeCache.reset();
+        if (getLevel().isClientSide())
+            return;
 
-        if (!getLevel().isClientSide()) {
-            this.mutableStatistics.updatePrimaryState(true);
+        synchronized (this.tagSyncHandle) {
+            if (requiresPersisting) {
+                this.mutableStatistics.updatePrimaryState(true);
 
-            synchronized (this.tagSyncHandle) {
                 if (this.storageFuture != null) {
                     this.storageFuture.cancel(false);
                 }
                 this.lastTag = null;
 
+                //Captured now, so that the off-thread save does not observe changes which are made while it runs.
+                final Supplier<CompoundTag> snapshot = Suppliers.memoize(this.storageEngine.createSerializationSnapshot()::get);
+                this.pendingSnapshot = snapshot;
                 this.storageFuture = this.storageEngine.serializeOffThread(
+                        snapshot,
                         tag -> CompletableFuture.runAsync(
-                                () -> this.setOffThreadSaveResult(tag), this.storageEngine
+                                () -> this.setOffThreadSaveResult(snapshot, tag), this.storageEngine
                         ));
+                this.persistedVersion = this.contentVersion;
+            }
 
+            if (this.contentVersion > this.syncedVersion) {
                 ChiselsAndBits.getInstance().getNetworkChannel().sendToTrackingChunk(
                         new UpdateChiseledBlockPacket(this),
                         getLevel().getChunkAt(getBlockPos())
                 );
+                this.syncedVersion = this.contentVersion;
             }
         }
     }
 
-    private void setOffThreadSaveResult(final CompoundTag tag) {
+    private void installLoadedData(final IStateEntryStorage loadedStorage, final MutableStatistics loadedStatistics) {
+        releaseSharedStorage();
+        this.storage = loadedStorage;
+        this.mutableStatistics = loadedStatistics;
+        internStorage();
+
+        //The content now matches the data it was read from, so it does not need to be saved again.
+        this.contentVersion++;
+        this.persistedVersion = this.contentVersion;
+        if (this.syncedVersion == NOT_SYNCED) {
+            //No client has seen this block yet, they will receive the loaded content when the chunk is sent to them.
+            this.syncedVersion = this.contentVersion;
+        }
+
+        if (!this.isInitialized) {
+            publishChanges();
+        }
+
+        this.isInitialized = true;
+    }
+
+    /**
+     * Shares the current storage with all other block entities which hold equal data.
+     * The shared storage is copied as soon as this block entity is modified, see {@link #ensureExclusiveStorage()}.
+     */
+    private void internStorage() {
+        if (getLevel() == null)
+            return;
+
+        releaseInternedStorage();
+        this.internedIn = StorageInterner.forLevel(getLevel());
+        this.storage = this.internedIn.intern(this.storage);
+        this.internedStorage = this.storage;
+        this.isStorageShared = true;
+
+        final Map<CollisionType, BitSet> sharedCollisionData = this.internedIn.getSharedCollisionData(this.storage);
+        if (sharedCollisionData != null)
+            this.mutableStatistics.shareCollisionData(sharedCollisionData);
+    }
+
+    /**
+     * Copies the storage, if it is shared with other block entities, so that it can be modified.
+     */
+    private void ensureExclusiveStorage() {
+        if (!this.isStorageShared)
+            return;
+
+        this.storage = this.storage.createSnapshot();
+        this.mutableStatistics.copyCollisionData();
+        releaseSharedStorage();
+        StorageInterner.onCopiedOnWrite();
+    }
+
+    /**
+     * Drops the shared storage, invoked before the storage is replaced entirely.
+     */
+    private void releaseSharedStorage() {
+        this.isStorageShared = false;
+        releaseInternedStorage();
+    }
+
+    private void releaseInternedStorage() {
+        if (this.internedStorage == null)
+            return;
+
+        this.internedIn.release(this.internedStorage);
+        this.internedStorage = null;
+        this.internedIn = null;
+    }
+
+    /**
+     * Invoked when the current content of this block entity has been sent to a client, outside of the regular broadcasts.
+     */
+    public void onSentToClient() {
+        this.syncedVersion = Math.max(this.syncedVersion, this.contentVersion);
+    }
+
+    /**
+     * Asks the light engine to check this block again, if the light values it derives from the block changed since the last check.
+     * Most edits neither change the emitted light nor the faces of the block, in which case the light engine is left alone.
+     */
+    private void checkLightIfChanged() {
+        if (getLevel() == null)
+            return;
+
+        final LightSignature currentSignature = new LightSignature(
+                ChiseledBlock.computeLightEmission(getStatistics(), getLevel().getMaxLightLevel()),
+                getStatistics().canPropagateSkylight(),
+                computeOcclusionFaces(getStatistics().getCollideableEntries(CollisionType.COLLIDEABLE_ONLY))
+        );
+
+        if (currentSignature.equals(this.lightSignature))
+            return;
+
+        this.lightSignature = currentSignature;
+        getLevel().getLightEngine().checkBlock(getBlockPos());
+    }
+
+    /**
+     * Collects the outermost layer of the occlusion shape on every side of the block, the light engine only looks at those layers.
+     * A block without collideable entries occludes like a full block, since that is its shape.
+     */
+    private static BitSet computeOcclusionFaces(final BitSet collideableEntries) {
+        final int size = StateEntrySize.current().getBitsPerBlockSide();
+        final int faceSize = size * size;
+        final BitSet faces = new BitSet(Direction.values().length * faceSize);
+        if (collideableEntries.isEmpty()) {
+            faces.set(0, Direction.values().length * faceSize);
+            return faces;
+        }
+
+        for (int first = 0; first < size; first++) {
+            for (int second = 0; second < size; second++) {
+                final int index = first * size + second;
+                faces.set(index, collideableEntries.get(BlockPosUtils.getCollisionIndex(0, first, second)));
+                faces.set(faceSize + index, collideableEntries.get(BlockPosUtils.getCollisionIndex(size - 1, first, second)));
+                faces.set(2 * faceSize + index, collideableEntries.get(BlockPosUtils.getCollisionIndex(first, 0, second)));
+                faces.set(3 * faceSize + index, collideableEntries.get(BlockPosUtils.getCollisionIndex(first, size - 1, second)));
+                faces.set(4 * faceSize + index, collideableEntries.get(BlockPosUtils.getCollisionIndex(first, second, 0)));
+                faces.set(5 * faceSize + index, collideableEntries.get(BlockPosUtils.getCollisionIndex(first, second, size - 1)));
+            }
+        }
+
+        return faces;
+    }
+
+    private void setOffThreadSaveResult(final Supplier<CompoundTag> snapshot, final CompoundTag tag) {
         synchronized (this.tagSyncHandle) {
+            if (this.pendingSnapshot != snapshot) {
+                //A newer save has been started in the meantime.
+                return;
+            }
+
             this.lastTag = tag;
+            this.pendingSnapshot = null;
         }
     }
 
@@ -408,8 +673,10 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
     @Override
     public void deserializeFrom(@NotNull final FriendlyByteBuf packetBuffer) {
+        ensureExclusiveStorage();
         storage.deserializeFrom(packetBuffer);
         mutableStatistics.deserializeFrom(packetBuffer);
+        internStorage();
         updateModelDataIfInLoadedChunk();
     }
 
@@ -463,6 +730,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
             return;
         }
 
+        ensureExclusiveStorage();
         this.storage.setBlockInformation(
                 inAreaPos.getX(),
                 inAreaPos.getY(),
@@ -548,6 +816,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         final IBlockInformation blockState = BlockInformation.AIR;
 
+        ensureExclusiveStorage();
         this.storage.setBlockInformation(
                 inAreaPos.getX(),
                 inAreaPos.getY(),
@@ -598,6 +867,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         //Large operation, better batch this together to prevent weird updates.
         try (final IBatchMutation ignored = batch()) {
+            ensureExclusiveStorage();
             this.storage.rotate(axis, rotationCount);
             this.mutableStatistics.recalculate(this.storage);
         }
@@ -611,11 +881,41 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         //Large operation, better batch this together to prevent weird updates.
         try (final IBatchMutation ignored = batch()) {
+            ensureExclusiveStorage();
             this.storage.mirror(axis);
             this.mutableStatistics.recalculate(this.storage);
         }
     }
 
+    /**
+     * Creates a cheap copy of the current storage of this block entity.
+     * The copy shares its data with the live storage until either of them is mutated.
+     *
+     * @return The storage copy.
+     */
+    public IStateEntryStorage createStorageSnapshot() {
+        return this.storage.createSnapshot();
+    }
+
+    /**
+     * Replaces the entire storage of this block entity in one step, recalculating the statistics only once.
+     * Used by bulk operations which compute the new storage off-thread.
+     *
+     * @param newStorage The new storage.
+     */
+    public void replaceStorage(final IStateEntryStorage newStorage) {
+        if (getLevel() == null) {
+            return;
+        }
+
+        //Large operation, better batch this together to prevent weird updates.
+        try (final IBatchMutation ignored = batch()) {
+            releaseSharedStorage();
+            this.storage = newStorage;
+            this.mutableStatistics.recalculate(this.storage);
+        }
+    }
+
     @Override
     public void initializeWith(final IBlockInformation newInitialInformation) {
         if (getLevel() == null) {
@@ -623,6 +923,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
         }
 
         try (IBatchMutation ignored = batch()) {
+            ensureExclusiveStorage();
             this.storage.initializeWith(newInitialInformation);
             this.mutableStatistics.initializeWith(newInitialInformation);
         }
@@ -677,6 +978,8 @@ public class ChiseledBlockEntity extends BlockEntity implements
     @Override
     public IBatchMutation batch() {
         final UUID id = UUID.randomUUID();
+        //Batches write to the storage in place, so a shared storage needs to be copied up front.
+        ensureExclusiveStorage();
         final IBatchMutation storageBatch = storage.batch();
 
         this.batchMutations.put(id, new BatchMutationLock(() ->
@@ -742,6 +1045,11 @@ public class ChiseledBlockEntity extends BlockEntity implements
         );
     }
 
+    /**
+     * The values which the light engine derives from a chiseled block, see {@link #checkLightIfChanged()}.
+     */
+    private record LightSignature(int lightEmission, boolean canPropagateSkylight, BitSet occlusionFaces) {}
+
     private static final class StateEntry implements IInWorldMutableStateEntryInfo {
 
         private final IBlockInformation blockInformation;
@@ -878,8 +1186,12 @@ public class ChiseledBlockEntity extends BlockEntity implements
         private final Supplier<LevelAccessor> worldReaderSupplier;
         private final Supplier<BlockPos> positionSupplier;
         private final Map<IBlockInformation, Integer> countMap = Maps.newConcurrentMap();
-        private final Table<Integer, Integer, ColumnStatistics> columnStatisticsTable = HashBasedTable.create();
+        private final int columnSize = StateEntrySize.current().getBitsPerBlockSide();
+        private final short[] columnHighestBits = new short[columnSize * columnSize];
+        private final float[] columnHighestBitFrictions = new float[columnSize * columnSize];
+        private final long[] columnBits = new long[columnSize * columnSize];
         private final Map<CollisionType, BitSet> collisionData = Maps.newConcurrentMap();
+        private final AtomicIntegerArray collisionDataVersions = new AtomicIntegerArray(CollisionType.values().length);
         private IBlockInformation primaryState = BlockInformation.AIR;
         private int totalUsedBlockCount = 0;
         private int totalUsedChecksWeakPowerCount = 0;
@@ -893,6 +1205,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
         private MutableStatistics(final Supplier<LevelAccessor> worldReaderSupplier, final Supplier<BlockPos> positionSupplier) {
             this.worldReaderSupplier = worldReaderSupplier;
             this.positionSupplier = positionSupplier;
+            clearColumns();
         }
 
         @Override
@@ -922,10 +1235,16 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         @Override
         public float getSlipperiness() {
-            return (float) this.columnStatisticsTable.values()
-                    .stream()
-                    .filter(columnStatistics -> columnStatistics.getHighestBit() >= 0)
-                    .mapToDouble(ColumnStatistics::getHighestBitFriction).average().orElse(0.0);
+            double totalFriction = 0;
+            int columnCount = 0;
+            for (int column = 0; column < this.columnHighestBits.length; column++) {
+                if (this.columnHighestBits[column] >= 0) {
+                    totalFriction += this.columnHighestBitFrictions[column];
+                    columnCount++;
+                }
+            }
+
+            return columnCount == 0 ? 0f : (float) (totalFriction / columnCount);
         }
 
         @Override
@@ -965,14 +1284,22 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         @Override
         public boolean canPropagateSkylight() {
-            return columnStatisticsTable.values()
-                    .stream().allMatch(ColumnStatistics::canPropagateSkylightDown);
+            for (final long bits : this.columnBits) {
+                if ((bits & COLUMN_LAYER_MASK) != 0)
+                    return false;
+            }
+
+            return true;
         }
 
         @Override
         public boolean canSustainGrassBelow() {
-            return columnStatisticsTable.values()
-                    .stream().anyMatch(ColumnStatistics::canLowestBitSustainGrass);
+            for (final long bits : this.columnBits) {
+                if ((bits & COLUMN_CANNOT_SUSTAIN_GRASS) == 0)
+                    return true;
+            }
+
+            return false;
         }
 
         @Override
@@ -997,6 +1324,22 @@ public class ChiseledBlockEntity extends BlockEntity implements
             return collisionDataSet;
         }
 
+        private int getCollideableEntriesVersion(final CollisionType collisionType) {
+            return collisionDataVersions.get(collisionType.ordinal());
+        }
+
+        private void updateCollideableEntries(final BlockPos pos, final BlockState blockState) {
+            final int index = BlockPosUtils.getCollisionIndex(pos);
+            this.collisionData.forEach((collisionType, bitSet) -> {
+                final boolean collides = collisionType.isValidFor(blockState);
+                if (bitSet.get(index) == collides)
+                    return;
+
+                bitSet.set(index, collides);
+                this.collisionDataVersions.incrementAndGet(collisionType.ordinal());
+            });
+        }
+
         private void onBlockStateAdded(final IBlockInformation blockInformation, final BlockPos pos, final boolean updateWorld) {
             countMap.putIfAbsent(blockInformation, 0);
             countMap.computeIfPresent(blockInformation, (state, currentCount) -> currentCount + 1);
@@ -1016,31 +1359,13 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 this.totalUsedChecksWeakPowerCount++;
             }
 
-            this.totalLightLevel += ILevelBasedPropertyAccessor.getInstance().getLightEmission(
-                    new SingleBlockLevelReader(
-                            blockInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
+            this.totalLightLevel += getLightProperties(blockInformation).lightEmission();
 
-            this.totalLightBlockLevel += ILevelBasedPropertyAccessor.getInstance().getLightBlock(
-                    new SingleBlockLevelReader(
-                            blockInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
-
-            if (!this.columnStatisticsTable.contains(pos.getX(), pos.getZ())) {
-                this.columnStatisticsTable.put(pos.getX(), pos.getZ(), new ColumnStatistics(this.worldReaderSupplier, this.positionSupplier));
-            }
+            this.totalLightBlockLevel += getLightProperties(blockInformation).lightBlock();
 
-            this.columnStatisticsTable.get(pos.getX(), pos.getZ()).onBlockStateAdded(blockInformation, pos);
+            updateColumn(pos.getX(), pos.getY(), pos.getZ(), blockInformation);
 
-            this.collisionData.forEach((collisionType, bitSet) -> bitSet.set(BlockPosUtils.getCollisionIndex(pos), collisionType.isValidFor(blockInformation.getBlockState())));
+            updateCollideableEntries(pos, blockInformation.getBlockState());
         }
 
         private void updatePrimaryState(final boolean updateWorld) {
@@ -1100,30 +1425,12 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 this.totalUsedChecksWeakPowerCount--;
             }
 
-            this.totalLightLevel -= ILevelBasedPropertyAccessor.getInstance().getLightEmission(
-                    new SingleBlockLevelReader(
-                            blockInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
-
-            this.totalLightBlockLevel -= ILevelBasedPropertyAccessor.getInstance().getLightBlock(
-                    new SingleBlockLevelReader(
-                            blockInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
+            this.totalLightLevel -= getLightProperties(blockInformation).lightEmission();
 
-            if (!this.columnStatisticsTable.contains(pos.getX(), pos.getZ())) {
-                this.columnStatisticsTable.put(pos.getX(), pos.getZ(), new ColumnStatistics(this.worldReaderSupplier, this.positionSupplier));
-            }
+            this.totalLightBlockLevel -= getLightProperties(blockInformation).lightBlock();
 
-            this.columnStatisticsTable.get(pos.getX(), pos.getZ()).onBlockStateRemoved(blockInformation, pos);
-            this.collisionData.forEach((collisionType, bitSet) -> bitSet.set(BlockPosUtils.getCollisionIndex(pos), collisionType.isValidFor(Blocks.AIR.defaultBlockState())));
+            updateColumn(pos.getX(), pos.getY(), pos.getZ(), BlockInformation.AIR);
+            updateCollideableEntries(pos, Blocks.AIR.defaultBlockState());
         }
 
         private void onBlockStateReplaced(final IBlockInformation currentInformation, final IBlockInformation newInformation, final BlockPos pos, final boolean updateWorld) {
@@ -1157,49 +1464,17 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 this.totalUsedChecksWeakPowerCount++;
             }
 
-            this.totalLightLevel -= ILevelBasedPropertyAccessor.getInstance().getLightEmission(
-                    new SingleBlockLevelReader(
-                            currentInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
+            this.totalLightLevel -= getLightProperties(currentInformation).lightEmission();
 
-            this.totalLightLevel += ILevelBasedPropertyAccessor.getInstance().getLightEmission(
-                    new SingleBlockLevelReader(
-                            newInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
+            this.totalLightLevel += getLightProperties(newInformation).lightEmission();
 
-            this.totalLightBlockLevel -= ILevelBasedPropertyAccessor.getInstance().getLightBlock(
-                    new SingleBlockLevelReader(
-                            currentInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
+            this.totalLightBlockLevel -= getLightProperties(currentInformation).lightBlock();
 
-            this.totalLightBlockLevel += ILevelBasedPropertyAccessor.getInstance().getLightBlock(
-                    new SingleBlockLevelReader(
-                            newInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            );
-
-            if (!this.columnStatisticsTable.contains(pos.getX(), pos.getZ())) {
-                this.columnStatisticsTable.put(pos.getX(), pos.getZ(), new ColumnStatistics(this.worldReaderSupplier, this.positionSupplier));
-            }
+            this.totalLightBlockLevel += getLightProperties(newInformation).lightBlock();
 
-            this.columnStatisticsTable.get(pos.getX(), pos.getZ()).onBlockStateReplaced(currentInformation, newInformation, pos);
+            updateColumn(pos.getX(), pos.getY(), pos.getZ(), newInformation);
 
-            this.collisionData.forEach((collisionType, bitSet) -> bitSet.set(BlockPosUtils.getCollisionIndex(pos), collisionType.isValidFor(newInformation.getBlockState())));
+            updateCollideableEntries(pos, newInformation.getBlockState());
         }
 
         @Override
@@ -1212,14 +1487,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 packetBuffer.writeVarInt(blockStateIntegerEntry.getValue());
             }
 
-            packetBuffer.writeVarInt(this.columnStatisticsTable.size());
-            this.columnStatisticsTable.cellSet()
-                    .forEach(cell ->
-                    {
-                        packetBuffer.writeVarInt(cell.getRowKey());
-                        packetBuffer.writeVarInt(cell.getColumnKey());
-                        cell.getValue().serializeInto(packetBuffer);
-                    });
+            writeColumns(packetBuffer);
 
             packetBuffer.writeVarInt(this.totalUsedBlockCount);
             packetBuffer.writeVarInt(this.totalUsedChecksWeakPowerCount);
@@ -1241,31 +1509,19 @@ public class ChiseledBlockEntity extends BlockEntity implements
         @Override
         public void deserializeFrom(@NotNull final FriendlyByteBuf packetBuffer) {
             this.countMap.clear();
-            this.columnStatisticsTable.clear();
             this.collisionData.clear();
 
-            this.primaryState = new BlockInformation(packetBuffer);
+            this.primaryState = BlockInformationDictionary.getInstance().fromNetwork(packetBuffer);
 
             final int stateCount = packetBuffer.readVarInt();
             for (int i = 0; i < stateCount; i++) {
                 this.countMap.put(
-                        new BlockInformation(packetBuffer),
+                        BlockInformationDictionary.getInstance().fromNetwork(packetBuffer),
                         packetBuffer.readVarInt()
                 );
             }
 
-            final int columnBlockCount = packetBuffer.readVarInt();
-            for (int i = 0; i < columnBlockCount; i++) {
-                final ColumnStatistics statistics = new ColumnStatistics(this.worldReaderSupplier, this.positionSupplier);
-
-                this.columnStatisticsTable.put(
-                        packetBuffer.readVarInt(),
-                        packetBuffer.readVarInt(),
-                        statistics
-                );
-
-                statistics.deserializeFrom(packetBuffer);
-            }
+            readColumns(packetBuffer);
 
             this.totalUsedBlockCount = packetBuffer.readVarInt();
             this.totalUsedChecksWeakPowerCount = packetBuffer.readVarInt();
@@ -1299,17 +1555,17 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 blockStateList.add(stateNbt);
             }
 
-            final CompoundTag columnStatisticsTableNbt = new CompoundTag();
-            this.columnStatisticsTable.rowMap().forEach((rowKey, columnStatisticsMap) ->
-            {
-                final CompoundTag rowNbt = new CompoundTag();
-                columnStatisticsMap.forEach((columnKey, columnStatistics) -> rowNbt.put(String.valueOf(columnKey), columnStatistics.serializeNBT()));
-
-                columnStatisticsTableNbt.put(String.valueOf(rowKey), rowNbt);
-            });
+            final int[] highestBits = new int[this.columnHighestBits.length];
+            final int[] highestBitFrictions = new int[this.columnHighestBitFrictions.length];
+            for (int column = 0; column < highestBits.length; column++) {
+                highestBits[column] = this.columnHighestBits[column];
+                highestBitFrictions[column] = Float.floatToIntBits(this.columnHighestBitFrictions[column]);
+            }
 
             nbt.put(NbtConstants.BLOCK_STATES, blockStateList);
-            nbt.put(NbtConstants.COLUMN_STATISTICS, columnStatisticsTableNbt);
+            nbt.putLongArray(NbtConstants.COLUMN_BITS, this.columnBits);
+            nbt.putIntArray(NbtConstants.COLUMN_HIGHEST_BITS, highestBits);
+            nbt.putIntArray(NbtConstants.COLUMN_HIGHEST_BIT_FRICTIONS, highestBitFrictions);
 
             nbt.putInt(NbtConstants.TOTAL_BLOCK_COUNT, totalUsedBlockCount);
             nbt.putInt(NbtConstants.TOTAL_SHOULD_CHECK_WEAK_POWER_COUNT, totalUsedChecksWeakPowerCount);
@@ -1332,14 +1588,14 @@ public class ChiseledBlockEntity extends BlockEntity implements
         public void deserializeNBT(final CompoundTag nbt) {
             this.countMap.clear();
 
-            this.primaryState = new BlockInformation(nbt.getCompound(NbtConstants.PRIMARY_BLOCK_INFORMATION));
+            this.primaryState = BlockInformationDictionary.getInstance().fromNBT(nbt.getCompound(NbtConstants.PRIMARY_BLOCK_INFORMATION));
 
             if (nbt.contains(NbtConstants.BLOCK_STATES, Tag.TAG_LIST)) {
                 final ListTag blockStateList = nbt.getList(NbtConstants.BLOCK_STATES, Tag.TAG_COMPOUND);
                 for (int i = 0; i < blockStateList.size(); i++) {
                     final CompoundTag stateNbt = blockStateList.getCompound(i);
 
-                    BlockInformation blockInformation = new BlockInformation(stateNbt.getCompound(NbtConstants.BLOCK_INFORMATION));
+                    BlockInformation blockInformation = BlockInformationDictionary.getInstance().fromNBT(stateNbt.getCompound(NbtConstants.BLOCK_INFORMATION));
 
                     this.countMap.put(
                             blockInformation,
@@ -1349,26 +1605,37 @@ public class ChiseledBlockEntity extends BlockEntity implements
             }
 
 
-            this.columnStatisticsTable.clear();
-            if (nbt.contains(NbtConstants.COLUMN_STATISTICS, Tag.TAG_COMPOUND)) {
+            clearColumns();
+            if (nbt.contains(NbtConstants.COLUMN_BITS, Tag.TAG_LONG_ARRAY)) {
+                final long[] bits = nbt.getLongArray(NbtConstants.COLUMN_BITS);
+                final int[] highestBits = nbt.getIntArray(NbtConstants.COLUMN_HIGHEST_BITS);
+                final int[] highestBitFrictions = nbt.getIntArray(NbtConstants.COLUMN_HIGHEST_BIT_FRICTIONS);
+                if (bits.length == this.columnBits.length && highestBits.length == this.columnHighestBits.length && highestBitFrictions.length == this.columnHighestBitFrictions.length) {
+                    System.arraycopy(bits, 0, this.columnBits, 0, bits.length);
+                    for (int column = 0; column < highestBits.length; column++) {
+                        this.columnHighestBits[column] = (short) highestBits[column];
+                        this.columnHighestBitFrictions[column] = Float.intBitsToFloat(highestBitFrictions[column]);
+                    }
+                } else {
+                    requiresRecalculation = true;
+                }
+            } else if (nbt.contains(NbtConstants.COLUMN_STATISTICS, Tag.TAG_COMPOUND)) {
                 final CompoundTag columnStatisticsTableNbt = nbt.getCompound(NbtConstants.COLUMN_STATISTICS);
-                columnStatisticsTableNbt.getAllKeys().forEach(rowKeyValue ->
-                {
-                    final Integer rowKey = Integer.valueOf(rowKeyValue);
+                for (final String rowKeyValue : columnStatisticsTableNbt.getAllKeys()) {
                     final CompoundTag rowNbt = columnStatisticsTableNbt.getCompound(rowKeyValue);
-                    rowNbt.getAllKeys().forEach(columnKeyValue ->
-                    {
-                        final Integer columnKey = Integer.valueOf(columnKeyValue);
+                    for (final String columnKeyValue : rowNbt.getAllKeys()) {
                         final CompoundTag columnStatisticsNbt = rowNbt.getCompound(columnKeyValue);
-                        final ColumnStatistics columnStatistics = new ColumnStatistics(
-                                this.worldReaderSupplier,
-                                this.positionSupplier
+                        setLegacyColumn(
+                                Integer.parseInt(rowKeyValue),
+                                Integer.parseInt(columnKeyValue),
+                                BitSet.valueOf(columnStatisticsNbt.getByteArray(NbtConstants.SKYLIGHT_BLOCKING_BITS)),
+                                BitSet.valueOf(columnStatisticsNbt.getByteArray(NbtConstants.NONE_AIR_BITS)),
+                                columnStatisticsNbt.getShort(NbtConstants.HIGHEST_BIT),
+                                columnStatisticsNbt.getFloat(NbtConstants.HIGHEST_BIT_FRICTION),
+                                columnStatisticsNbt.getBoolean(NbtConstants.LOWEST_BIT_CAN_SUSTAIN_GRASS)
                         );
-
-                        columnStatistics.deserializeNBT(columnStatisticsNbt);
-                        this.columnStatisticsTable.put(rowKey, columnKey, columnStatistics);
-                    });
-                });
+                    }
+                }
             } else {
                 requiresRecalculation = true;
             }
@@ -1403,6 +1670,63 @@ public class ChiseledBlockEntity extends BlockEntity implements
             this.emitsLightBasedOnFullBlock = nbt.contains(NbtConstants.EMITS_LIGHT_BASED_ON_FULL_BLOCK) && nbt.getBoolean(NbtConstants.EMITS_LIGHT_BASED_ON_FULL_BLOCK);
         }
 
+        /**
+         * Writes the statistics which can not be derived from the storage without access to the level, in a binary form.
+         * The state counts, the total block count and the primary state are restored from the storage when reading.
+         *
+         * @param buffer The buffer to write into.
+         */
+        private void serializeIntoPersistent(final FriendlyByteBuf buffer) {
+            writeColumns(buffer);
+
+            buffer.writeVarInt(this.totalUsedChecksWeakPowerCount);
+            buffer.writeVarInt(this.totalLightLevel);
+            buffer.writeVarInt(this.totalLightBlockLevel);
+
+            buffer.writeVarInt(this.collisionData.size());
+            this.collisionData
+                    .forEach((collisionType, bitSet) ->
+                    {
+                        buffer.writeVarInt(collisionType.ordinal());
+                        buffer.writeLongArray(bitSet.toLongArray());
+                    });
+
+            buffer.writeBoolean(canBeFlooded);
+            buffer.writeBoolean(emitsLightBasedOnFullBlock);
+        }
+
+        /**
+         * Reads the statistics written by {@link #serializeIntoPersistent(FriendlyByteBuf)}, and derives the remaining statistics from the given storage.
+         * Does not access the level, so it can be invoked off-thread.
+         *
+         * @param buffer The buffer to read from.
+         * @param source The storage the statistics belong to.
+         */
+        private void deserializeFromPersistent(final FriendlyByteBuf buffer, final IStateEntryStorage source) {
+            clear();
+
+            source.count(countMap::put);
+            countMap.remove(BlockInformation.AIR);
+            this.totalUsedBlockCount = countMap.values().stream().mapToInt(i -> i).sum();
+            updatePrimaryState(false);
+
+            readColumns(buffer);
+
+            this.totalUsedChecksWeakPowerCount = buffer.readVarInt();
+            this.totalLightLevel = buffer.readVarInt();
+            this.totalLightBlockLevel = buffer.readVarInt();
+
+            final int collisionTypeCount = buffer.readVarInt();
+            for (int i = 0; i < collisionTypeCount; i++) {
+                final CollisionType collisionType = CollisionType.values()[buffer.readVarInt()];
+                final BitSet set = BitSet.valueOf(buffer.readLongArray());
+                this.collisionData.put(collisionType, set);
+            }
+
+            this.canBeFlooded = buffer.readBoolean();
+            this.emitsLightBasedOnFullBlock = buffer.readBoolean();
+        }
+
         public void initializeWith(final IBlockInformation blockInformation) {
             clear();
             final boolean isAir = blockInformation.isAir();
@@ -1425,36 +1749,22 @@ public class ChiseledBlockEntity extends BlockEntity implements
                 this.totalUsedChecksWeakPowerCount = StateEntrySize.current().getBitsPerBlock();
             }
 
-            this.totalLightLevel += (ILevelBasedPropertyAccessor.getInstance().getLightEmission(
-                    new SingleBlockLevelReader(
-                            blockInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            ) * StateEntrySize.current().getBitsPerBlock());
+            this.totalLightLevel += (getLightProperties(blockInformation).lightEmission() * StateEntrySize.current().getBitsPerBlock());
 
-            this.totalLightBlockLevel += (ILevelBasedPropertyAccessor.getInstance().getLightBlock(
-                    new SingleBlockLevelReader(
-                            blockInformation,
-                            this.positionSupplier.get(),
-                            this.worldReaderSupplier.get()
-                    ),
-                    this.positionSupplier.get()
-            ) * StateEntrySize.current().getBitsPerBlock());
-
-            this.columnStatisticsTable.clear();
-            IntStream.range(0, StateEntrySize.current().getBitsPerBlockSide())
-                    .forEach(x -> IntStream.range(0, StateEntrySize.current().getBitsPerBlockSide())
-                            .forEach(z ->
-                            {
-                                final ColumnStatistics columnStatistics = new ColumnStatistics(
-                                        this.worldReaderSupplier,
-                                        this.positionSupplier
-                                );
-                                columnStatistics.initializeWith(blockInformation);
-                                this.columnStatisticsTable.put(x, z, columnStatistics);
-                            }));
+            this.totalLightBlockLevel += (getLightProperties(blockInformation).lightBlock() * StateEntrySize.current().getBitsPerBlock());
+
+            final long fullColumn = (1L << this.columnSize) - 1;
+            long bits = 0;
+            if (!propagatesSkylightDown(blockInformation))
+                bits |= fullColumn;
+            if (!isAir)
+                bits |= fullColumn << COLUMN_NONE_AIR_SHIFT;
+            if (!canSustainGrassBelow(blockInformation))
+                bits |= COLUMN_CANNOT_SUSTAIN_GRASS;
+
+            Arrays.fill(this.columnBits, bits);
+            Arrays.fill(this.columnHighestBits, isAir ? -1 : (short) (this.columnSize - 1));
+            Arrays.fill(this.columnHighestBitFrictions, isAir ? 0f : getFriction(blockInformation));
 
             this.collisionData.clear();
             for (final CollisionType collisionType : CollisionType.values()) {
@@ -1465,11 +1775,28 @@ public class ChiseledBlockEntity extends BlockEntity implements
             }
         }
 
+        /**
+         * Replaces the collision data with the instances which are shared by all holders of the same interned storage.
+         *
+         * @param sharedCollisionData The shared collision data, see {@link StorageInterner#getSharedCollisionData(IStateEntryStorage)}.
+         */
+        private void shareCollisionData(final Map<CollisionType, BitSet> sharedCollisionData) {
+            this.collisionData.forEach(sharedCollisionData::putIfAbsent);
+            this.collisionData.putAll(sharedCollisionData);
+        }
+
+        /**
+         * Copies the shared collision data, so that it can be updated in place again.
+         */
+        private void copyCollisionData() {
+            this.collisionData.replaceAll((collisionType, bitSet) -> (BitSet) bitSet.clone());
+        }
+
         private void clear() {
             this.primaryState = BlockInformation.AIR;
 
             this.countMap.clear();
-            this.columnStatisticsTable.clear();
+            clearColumns();
             this.collisionData.clear();
 
             this.totalUsedBlockCount = 0;
@@ -1515,36 +1842,12 @@ public class ChiseledBlockEntity extends BlockEntity implements
                     this.totalUsedChecksWeakPowerCount += count;
                 }
 
-                this.totalLightLevel += (ILevelBasedPropertyAccessor.getInstance().getLightEmission(
-                        new SingleBlockLevelReader(
-                                blockState,
-                                this.positionSupplier.get(),
-                                this.worldReaderSupplier.get()
-                        ),
-                        this.positionSupplier.get()
-                ) * count);
+                this.totalLightLevel += (getLightProperties(blockState).lightEmission() * count);
 
-                this.totalLightBlockLevel += (ILevelBasedPropertyAccessor.getInstance().getLightBlock(
-                        new SingleBlockLevelReader(
-                                blockState,
-                                this.positionSupplier.get(),
-                                this.worldReaderSupplier.get()
-                        ),
-                        this.positionSupplier.get()
-                ) * count);
+                this.totalLightBlockLevel += (getLightProperties(blockState).lightBlock() * count);
             });
 
-            BlockPosStreamProvider.getForRange(StateEntrySize.current().getBitsPerBlockSide())
-                    .forEach(pos ->
-                    {
-                        final IBlockInformation blockState = source.getBlockInformation(pos.getX(), pos.getY(), pos.getZ());
-
-                        if (!this.columnStatisticsTable.contains(pos.getX(), pos.getZ())) {
-                            this.columnStatisticsTable.put(pos.getX(), pos.getZ(), new ColumnStatistics(this.worldReaderSupplier, this.positionSupplier));
-                        }
-
-                        this.columnStatisticsTable.get(pos.getX(), pos.getZ()).onBlockStateAdded(blockState, pos);
-                    });
+            recalculateColumns(source);
 
             this.collisionData.clear();
             for (final CollisionType collisionType : CollisionType.values()) {
@@ -1552,242 +1855,154 @@ public class ChiseledBlockEntity extends BlockEntity implements
             }
         }
         
-        public boolean isCanBeFlooded() {
-            return canBeFlooded;
-        }
-        
-        public void setCanBeFlooded(boolean canBeFlooded) {
-            this.canBeFlooded = canBeFlooded;
-            
-        }
-        
-        public boolean isEmitsLightBasedOnFullBlock() {
-            return emitsLightBasedOnFullBlock;
-        }
-        
-        public void setEmitsLightBasedOnFullBlock(boolean emitsLightBasedOnFullBlock) {
-            this.emitsLightBasedOnFullBlock = emitsLightBasedOnFullBlock;
+        private int getColumnIndex(final int x, final int z) {
+            return x * this.columnSize + z;
+        }
+
+        private void clearColumns() {
+            Arrays.fill(this.columnBits, 0L);
+            Arrays.fill(this.columnHighestBits, (short) -1);
+            Arrays.fill(this.columnHighestBitFrictions, 0f);
+        }
+
+        /**
+         * Updates the column statistics after the entry at the given position changed.
+         *
+         * @param x                The x coordinate of the entry.
+         * @param y                The y coordinate of the entry.
+         * @param z                The z coordinate of the entry.
+         * @param blockInformation The new block information at the position.
+         */
+        private void updateColumn(final int x, final int y, final int z, final IBlockInformation blockInformation) {
+            final int column = getColumnIndex(x, z);
+            final long layerBit = 1L << y;
+            final long noneAirBit = layerBit << COLUMN_NONE_AIR_SHIFT;
+
+            long bits = this.columnBits[column];
+            bits = propagatesSkylightDown(blockInformation) ? bits & ~layerBit : bits | layerBit;
+            bits = blockInformation.isAir() ? bits & ~noneAirBit : bits | noneAirBit;
+            if (y == 0) {
+                bits = canSustainGrassBelow(blockInformation) ? bits & ~COLUMN_CANNOT_SUSTAIN_GRASS : bits | COLUMN_CANNOT_SUSTAIN_GRASS;
+            }
+            this.columnBits[column] = bits;
+
+            if (!blockInformation.isAir() && y >= this.columnHighestBits[column]) {
+                this.columnHighestBits[column] = (short) y;
+                this.columnHighestBitFrictions[column] = getFriction(blockInformation);
+            } else if (blockInformation.isAir() && y == this.columnHighestBits[column]) {
+                //The top of the column got removed, the next entry below it is the new top.
+                final long noneAirBits = (bits >>> COLUMN_NONE_AIR_SHIFT) & COLUMN_LAYER_MASK;
+                final int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(noneAirBits);
+                this.columnHighestBits[column] = (short) highestBit;
+                this.columnHighestBitFrictions[column] = highestBit < 0 ? 0f : getFriction(ChiseledBlockEntity.this.storage.getBlockInformation(x, highestBit, z));
+            }
         }
-    }
-
-    private final class ColumnStatistics implements INBTSerializable<CompoundTag>, IPacketBufferSerializable {
-        private final BitSet skylightBlockingBits = new BitSet(StateEntrySize.current().getBitsPerBlockSide());
-        private final BitSet noneAirBits = new BitSet(StateEntrySize.current().getBitsPerBlockSide());
-        private final Supplier<LevelAccessor> worldReaderSupplier;
-        private final Supplier<BlockPos> positionSupplier;
-
-        private short highestBit = -1;
-        private float highestBitFriction = 0f;
-        private boolean canPropagateSkylightDown = true;
-        private boolean canLowestBitSustainGrass = true;
 
-        private ColumnStatistics(final Supplier<LevelAccessor> worldReaderSupplier, final Supplier<BlockPos> positionSupplier) {
-            this.worldReaderSupplier = worldReaderSupplier;
-            this.positionSupplier = positionSupplier;
-        }
+        private void recalculateColumns(final IStateEntryStorage source) {
+            for (int x = 0; x < this.columnSize; x++) {
+                for (int z = 0; z < this.columnSize; z++) {
+                    final int column = getColumnIndex(x, z);
+                    long bits = 0;
+                    int highestBit = -1;
+                    IBlockInformation highestBlockInformation = null;
+                    for (int y = 0; y < this.columnSize; y++) {
+                        final IBlockInformation blockInformation = source.getBlockInformation(x, y, z);
+                        if (!propagatesSkylightDown(blockInformation))
+                            bits |= 1L << y;
+
+                        if (!blockInformation.isAir()) {
+                            bits |= 1L << (y + COLUMN_NONE_AIR_SHIFT);
+                            highestBit = y;
+                            highestBlockInformation = blockInformation;
+                        }
 
-        @SuppressWarnings("unused")
-        public BitSet getSkylightBlockingBits() {
-            return skylightBlockingBits;
-        }
+                        if (y == 0 && !canSustainGrassBelow(blockInformation))
+                            bits |= COLUMN_CANNOT_SUSTAIN_GRASS;
+                    }
 
-        @SuppressWarnings("unused")
-        public BitSet getNoneAirBits() {
-            return noneAirBits;
+                    this.columnBits[column] = bits;
+                    this.columnHighestBits[column] = (short) highestBit;
+                    this.columnHighestBitFrictions[column] = highestBlockInformation == null ? 0f : getFriction(highestBlockInformation);
+                }
+            }
         }
 
-        public short getHighestBit() {
-            return highestBit;
-        }
+        private void setLegacyColumn(
+                final int x,
+                final int z,
+                final BitSet skylightBlockingBits,
+                final BitSet noneAirBits,
+                final short highestBit,
+                final float highestBitFriction,
+                final boolean canLowestBitSustainGrass) {
+            if (x < 0 || x >= this.columnSize || z < 0 || z >= this.columnSize)
+                return;
 
-        public float getHighestBitFriction() {
-            return highestBitFriction;
-        }
+            final int column = getColumnIndex(x, z);
+            final long[] skylightBlockingWords = skylightBlockingBits.toLongArray();
+            final long[] noneAirWords = noneAirBits.toLongArray();
 
-        public boolean canPropagateSkylightDown() {
-            return canPropagateSkylightDown;
-        }
+            long bits = skylightBlockingWords.length == 0 ? 0 : skylightBlockingWords[0] & COLUMN_LAYER_MASK;
+            bits |= (noneAirWords.length == 0 ? 0 : noneAirWords[0] & COLUMN_LAYER_MASK) << COLUMN_NONE_AIR_SHIFT;
+            if (!canLowestBitSustainGrass)
+                bits |= COLUMN_CANNOT_SUSTAIN_GRASS;
 
-        public boolean canLowestBitSustainGrass() {
-            return canLowestBitSustainGrass;
+            this.columnBits[column] = bits;
+            this.columnHighestBits[column] = highestBit;
+            this.columnHighestBitFrictions[column] = highestBitFriction;
         }
 
-        private void onBlockStateAdded(final IBlockInformation blockState, final BlockPos pos) {
-            skylightBlockingBits.set(pos.getY(), !ILevelBasedPropertyAccessor.getInstance().propagatesSkylightDown(
-                    new SingleBlockBlockReader(blockState, positionSupplier.get(), this.worldReaderSupplier.get()),
-                    positionSupplier.get()
-            ));
-
-            if (skylightBlockingBits.get(pos.getY())) {
-                canPropagateSkylightDown = false;
+        private void writeColumns(final FriendlyByteBuf buffer) {
+            buffer.writeLongArray(this.columnBits);
+            for (final short highestBit : this.columnHighestBits) {
+                buffer.writeByte(highestBit);
             }
-
-            if (!blockState.isAir() && pos.getY() >= highestBit) {
-                highestBit = (short) pos.getY();
-                highestBitFriction = ILevelBasedPropertyAccessor.getInstance().getFriction(
-                        new SingleBlockLevelReader(blockState, positionSupplier.get(), this.worldReaderSupplier.get()),
-                        positionSupplier.get(),
-                        null
-                );
-            }
-
-            if (pos.getY() == 0) {
-                canLowestBitSustainGrass = ILevelBasedPropertyAccessor.getInstance()
-                        .canBeGrass(
-                                new SingleBlockLevelReader(blockState, positionSupplier.get(), this.worldReaderSupplier.get()),
-                                Blocks.GRASS_BLOCK.defaultBlockState(),
-                                positionSupplier.get().below(),
-                                blockState.getBlockState(),
-                                positionSupplier.get()
-                        )
-                        .orElseGet(() ->
-                        {
-                            if (blockState.getBlockState().is(Blocks.SNOW) && blockState.getBlockState().getValue(SnowLayerBlock.LAYERS) == 1) {
-                                return true;
-                            } else if (blockState.getBlockState().getFluidState().getAmount() == 8) {
-                                return false;
-                            } else {
-                                int i = LightEngine.getLightBlockInto(
-                                        new SingleBlockLevelReader(blockState, positionSupplier.get(), this.worldReaderSupplier.get()),
-                                        Blocks.GRASS_BLOCK.defaultBlockState(),
-                                        this.positionSupplier.get().below(),
-                                        blockState.getBlockState(),
-                                        this.positionSupplier.get(),
-                                        Direction.UP,
-                                        blockState.getBlockState().getLightBlock(
-                                                new SingleBlockLevelReader(blockState, positionSupplier.get(), this.worldReaderSupplier.get()),
-                                                this.positionSupplier.get()));
-                                return i < this.worldReaderSupplier.get().getMaxLightLevel();
-                            }
-                        });
+            for (final float highestBitFriction : this.columnHighestBitFrictions) {
+                buffer.writeFloat(highestBitFriction);
             }
         }
 
-        private void onBlockStateRemoved(final IBlockInformation blockInformation, final BlockPos pos) {
-            skylightBlockingBits.set(pos.getY(), !ILevelBasedPropertyAccessor.getInstance().propagatesSkylightDown(
-                    new SingleBlockBlockReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
-                    positionSupplier.get()
-            ));
+        private void readColumns(final FriendlyByteBuf buffer) {
+            final long[] bits = buffer.readLongArray();
+            if (bits.length != this.columnBits.length)
+                throw new IllegalStateException("The column statistics were written for a different bit size. Expected %s columns, but got %s.".formatted(this.columnBits.length, bits.length));
 
-            if (!skylightBlockingBits.get(pos.getY())) {
-                canPropagateSkylightDown = IntStream.range(0, StateEntrySize.current().getBitsPerBlockSide())
-                        .noneMatch(skylightBlockingBits::get);
+            System.arraycopy(bits, 0, this.columnBits, 0, bits.length);
+            for (int column = 0; column < this.columnHighestBits.length; column++) {
+                this.columnHighestBits[column] = buffer.readByte();
             }
-
-            if (pos.getY() >= highestBit) {
-                highestBit = -1;
-                highestBitFriction = 0f;
-
-                for (int i = StateEntrySize.current().getBitsPerBlockSide() - 1; i >= 0; i--) {
-                    if (noneAirBits.get(i)) {
-                        highestBit = (short) i;
-                        highestBitFriction = ILevelBasedPropertyAccessor.getInstance().getFriction(
-                                new SingleBlockLevelReader(ChiseledBlockEntity.this.storage.getBlockInformation(pos.getX(), i, pos.getZ()), positionSupplier.get(), this.worldReaderSupplier.get()),
-                                positionSupplier.get(),
-                                null
-                        );
-                        break;
-                    }
-                }
-            }
-
-            if (pos.getY() == 0) {
-                this.canLowestBitSustainGrass = true;
+            for (int column = 0; column < this.columnHighestBitFrictions.length; column++) {
+                this.columnHighestBitFrictions[column] = buffer.readFloat();
             }
         }
 
-        private void onBlockStateReplaced(final IBlockInformation currentInformation, final IBlockInformation newInformation, final BlockPos pos) {
-            onBlockStateRemoved(currentInformation, pos);
-            onBlockStateAdded(newInformation, pos);
-        }
-
-        @Override
-        public CompoundTag serializeNBT() {
-            final CompoundTag compoundTag = new CompoundTag();
-
-            compoundTag.putByteArray(NbtConstants.SKYLIGHT_BLOCKING_BITS, skylightBlockingBits.toByteArray());
-            compoundTag.putByteArray(NbtConstants.NONE_AIR_BITS, noneAirBits.toByteArray());
-            compoundTag.putShort(NbtConstants.HIGHEST_BIT, highestBit);
-            compoundTag.putFloat(NbtConstants.HIGHEST_BIT_FRICTION, highestBitFriction);
-            compoundTag.putBoolean(NbtConstants.CAN_PROPAGATE_SKYLIGHT_DOWN, canPropagateSkylightDown);
-            compoundTag.putBoolean(NbtConstants.LOWEST_BIT_CAN_SUSTAIN_GRASS, canLowestBitSustainGrass);
-
-            return compoundTag;
-        }
-
-        @Override
-        public void deserializeNBT(final CompoundTag nbt) {
-            skylightBlockingBits.clear();
-            skylightBlockingBits.or(BitSet.valueOf(nbt.getByteArray(NbtConstants.SKYLIGHT_BLOCKING_BITS)));
-
-            noneAirBits.clear();
-            noneAirBits.or(BitSet.valueOf(nbt.getByteArray(NbtConstants.NONE_AIR_BITS)));
-
-            highestBit = nbt.getShort(NbtConstants.HIGHEST_BIT);
-            highestBitFriction = nbt.getFloat(NbtConstants.HIGHEST_BIT_FRICTION);
-            canPropagateSkylightDown = nbt.getBoolean(NbtConstants.CAN_PROPAGATE_SKYLIGHT_DOWN);
-            canLowestBitSustainGrass = nbt.getBoolean(NbtConstants.LOWEST_BIT_CAN_SUSTAIN_GRASS);
+        private boolean propagatesSkylightDown(final IBlockInformation blockInformation) {
+            return getLightProperties(blockInformation).propagatesSkylightDown();
         }
 
-        @Override
-        public void serializeInto(final @NotNull FriendlyByteBuf packetBuffer) {
-            packetBuffer.writeBitSet(skylightBlockingBits);
-            packetBuffer.writeBitSet(noneAirBits);
-            packetBuffer.writeShort(highestBit);
-            packetBuffer.writeFloat(highestBitFriction);
-            packetBuffer.writeBoolean(canPropagateSkylightDown);
-            packetBuffer.writeBoolean(canLowestBitSustainGrass);
+        private StateLightPropertiesTable.LightProperties getLightProperties(final IBlockInformation blockInformation) {
+            return StateLightPropertiesTable.getInstance().get(blockInformation, this.worldReaderSupplier.get(), this.positionSupplier.get());
         }
 
-        @Override
-        public void deserializeFrom(final @NotNull FriendlyByteBuf packetBuffer) {
-            skylightBlockingBits.clear();
-            skylightBlockingBits.or(packetBuffer.readBitSet());
-
-            noneAirBits.clear();
-            noneAirBits.or(packetBuffer.readBitSet());
-
-            highestBit = packetBuffer.readShort();
-            highestBitFriction = packetBuffer.readFloat();
-            canPropagateSkylightDown = packetBuffer.readBoolean();
-            canLowestBitSustainGrass = packetBuffer.readBoolean();
+        private float getFriction(final IBlockInformation blockInformation) {
+            return ILevelBasedPropertyAccessor.getInstance().getFriction(
+                    new SingleBlockLevelReader(blockInformation, this.positionSupplier.get(), this.worldReaderSupplier.get()),
+                    this.positionSupplier.get(),
+                    null
+            );
         }
 
-        public void initializeWith(final IBlockInformation blockInformation) {
-            skylightBlockingBits.clear();
-            noneAirBits.clear();
-
-            skylightBlockingBits.set(0, StateEntrySize.current().getBitsPerBlockSide(),
-                    !ILevelBasedPropertyAccessor.getInstance().propagatesSkylightDown(
-                            new SingleBlockBlockReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
-                            positionSupplier.get()
-                    ));
-            noneAirBits.set(0, !blockInformation.isAir());
-
-            if (blockInformation.isAir()) {
-                highestBit = -1;
-                highestBitFriction = 0f;
-            } else {
-                highestBit = (short) (StateEntrySize.current().getBitsPerBlockSide() - 1);
-                highestBitFriction = ILevelBasedPropertyAccessor.getInstance().getFriction(
-                        new SingleBlockLevelReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
-                        positionSupplier.get(),
-                        null
-                );
-            }
-
-            this.canPropagateSkylightDown = ILevelBasedPropertyAccessor.getInstance().propagatesSkylightDown(
-                    new SingleBlockBlockReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
-                    positionSupplier.get()
-            );
+        private boolean canSustainGrassBelow(final IBlockInformation blockInformation) {
+            if (blockInformation.isAir())
+                return true;
 
-            this.canLowestBitSustainGrass = blockInformation.isAir() || ILevelBasedPropertyAccessor.getInstance()
+            return ILevelBasedPropertyAccessor.getInstance()
                     .canBeGrass(
-                            new SingleBlockLevelReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
+                            new SingleBlockLevelReader(blockInformation, this.positionSupplier.get(), this.worldReaderSupplier.get()),
                             Blocks.GRASS_BLOCK.defaultBlockState(),
-                            positionSupplier.get().below(),
+                            this.positionSupplier.get().below(),
                             blockInformation.getBlockState(),
-                            positionSupplier.get()
+                            this.positionSupplier.get()
                     )
                     .orElseGet(() ->
                     {
@@ -1797,19 +2012,36 @@ public class ChiseledBlockEntity extends BlockEntity implements
                             return false;
                         } else {
                             int i = LightEngine.getLightBlockInto(
-                                    new SingleBlockLevelReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
+                                    new SingleBlockLevelReader(blockInformation, this.positionSupplier.get(), this.worldReaderSupplier.get()),
                                     Blocks.GRASS_BLOCK.defaultBlockState(),
                                     this.positionSupplier.get().below(),
                                     blockInformation.getBlockState(),
                                     this.positionSupplier.get(),
                                     Direction.UP,
                                     blockInformation.getBlockState().getLightBlock(
-                                            new SingleBlockLevelReader(blockInformation, positionSupplier.get(), this.worldReaderSupplier.get()),
+                                            new SingleBlockLevelReader(blockInformation, this.positionSupplier.get(), this.worldReaderSupplier.get()),
                                             this.positionSupplier.get()));
                             return i < this.worldReaderSupplier.get().getMaxLightLevel();
                         }
                     });
         }
+
+        public boolean isCanBeFlooded() {
+            return canBeFlooded;
+        }
+        
+        public void setCanBeFlooded(boolean canBeFlooded) {
+            this.canBeFlooded = canBeFlooded;
+            
+        }
+        
+        public boolean isEmitsLightBasedOnFullBlock() {
+            return emitsLightBasedOnFullBlock;
+        }
+        
+        public void setEmitsLightBasedOnFullBlock(boolean emitsLightBasedOnFullBlock) {
+            this.emitsLightBasedOnFullBlock = emitsLightBasedOnFullBlock;
+        }
     }
 
     private final class LZ4StorageBasedStorageHandler implements IStorageHandler<LZ4StorageBasedStorageHandler.Payload> {
@@ -1829,14 +2061,7 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         @Override
         public void syncPayloadOnGameThread(Payload payload) {
-            storage = payload.storage;
-            mutableStatistics = payload.mutableStatistics;
-
-            if (!isInitialized) {
-                setChanged();
-            }
-
-            isInitialized = true;
+            installLoadedData(payload.storage, payload.mutableStatistics);
         }
 
         @Override
@@ -1848,8 +2073,22 @@ public class ChiseledBlockEntity extends BlockEntity implements
             });
         }
 
+        @Override
+        public Supplier<CompoundTag> createSnapshotOnGameThread() {
+            //The storage snapshot shares its data until either side is modified, the statistics are small enough to be written directly.
+            final IStateEntryStorage storageSnapshot = storage.createSnapshot();
+            final CompoundTag statisticsNbt = mutableStatistics.serializeNBT();
+
+            return () -> LZ4DataCompressionUtils.compress(compoundTag ->
+            {
+                compoundTag.put(NbtConstants.CHISELED_DATA, storageSnapshot.serializeNBT());
+                compoundTag.put(NbtConstants.STATISTICS, statisticsNbt);
+            });
+        }
+
         @Override
         public void deserializeNBT(final CompoundTag nbt) {
+            ensureExclusiveStorage();
             LZ4DataCompressionUtils.decompress(nbt, compoundTag ->
             {
                 storage.deserializeNBT(compoundTag.getCompound(NbtConstants.CHISELED_DATA));
@@ -1865,6 +2104,112 @@ public class ChiseledBlockEntity extends BlockEntity implements
 
         @Override
         public void deserializeFrom(@NotNull FriendlyByteBuf packetBuffer) {
+            ensureExclusiveStorage();
+            storage.deserializeFrom(packetBuffer);
+            mutableStatistics.deserializeFrom(packetBuffer);
+        }
+
+        private record Payload(IStateEntryStorage storage, MutableStatistics mutableStatistics) {
+        }
+    }
+
+    /**
+     * Stores the data in a packed binary form, compressed as a single LZ4 block.
+     * Supersedes the {@link LZ4StorageBasedStorageHandler}, which builds and compresses a complete nbt tree.
+     */
+    private final class PackedStorageHandler implements IStorageHandler<PackedStorageHandler.Payload> {
+
+        //The bits, the highest bit and its friction of a single column.
+        private static final int MAX_PERSISTENT_COLUMN_SIZE = Long.BYTES + Byte.BYTES + Float.BYTES;
+        private static final int MAX_VAR_INT_SIZE = 5;
+
+        @Override
+        public Payload readPayloadOffThread(CompoundTag nbt) {
+            return LZ4DataCompressionUtils.decompressBlock(nbt.getByteArray(NbtConstants.PACKED_DATA), getMaxPayloadSize(), buffer -> {
+                final SimpleStateEntryStorage storage = new SimpleStateEntryStorage();
+                final MutableStatistics mutableStatistics = new MutableStatistics(ChiseledBlockEntity.this::getLevel, ChiseledBlockEntity.this::getBlockPos);
+
+                storage.deserializeFromPersistent(buffer);
+                mutableStatistics.deserializeFromPersistent(buffer, storage);
+
+                return new Payload(storage, mutableStatistics);
+            });
+        }
+
+        @Override
+        public void syncPayloadOnGameThread(Payload payload) {
+            installLoadedData(payload.storage(), payload.mutableStatistics());
+        }
+
+        @Override
+        public CompoundTag serializeNBT() {
+            return write(toPersistentStorage(storage), mutableStatistics::serializeIntoPersistent);
+        }
+
+        @Override
+        public Supplier<CompoundTag> createSnapshotOnGameThread() {
+            final SimpleStateEntryStorage storageSnapshot = toPersistentStorage(storage.createSnapshot());
+            //The statistics are small, and written without the need for a snapshot of them.
+            final FriendlyByteBuf statisticsBuffer = new FriendlyByteBuf(Unpooled.buffer());
+            mutableStatistics.serializeIntoPersistent(statisticsBuffer);
+
+            return () -> write(storageSnapshot, buffer -> buffer.writeBytes(statisticsBuffer, statisticsBuffer.readerIndex(), statisticsBuffer.readableBytes()));
+        }
+
+        /**
+         * Determines the largest payload which a block of the current bit size can produce, so corrupt data can not claim an arbitrary size.
+         * The statistics are bounded by the amount of columns, and by the collision data of each type.
+         *
+         * @return The largest size of the uncompressed payload.
+         */
+        private int getMaxPayloadSize() {
+            final int size = StateEntrySize.current().getBitsPerBlockSide();
+            final int columnCount = size * size;
+            final int collisionDataLength = (size * size * size + Long.SIZE - 1) / Long.SIZE;
+
+            final int maxStatisticsSize = MAX_VAR_INT_SIZE + columnCount * MAX_PERSISTENT_COLUMN_SIZE
+                    + 4 * MAX_VAR_INT_SIZE
+                    + CollisionType.values().length * (2 * MAX_VAR_INT_SIZE + collisionDataLength * Long.BYTES)
+                    + 2;
+
+            return SimpleStateEntryStorage.getMaxPersistentSize(size) + maxStatisticsSize;
+        }
+
+        private CompoundTag write(final SimpleStateEntryStorage storage, final Consumer<FriendlyByteBuf> statisticsWriter) {
+            final CompoundTag nbt = new CompoundTag();
+            nbt.putByteArray(NbtConstants.PACKED_DATA, LZ4DataCompressionUtils.compressBlock(buffer -> {
+                storage.serializeIntoPersistent(buffer);
+                statisticsWriter.accept(buffer);
+            }));
+            return nbt;
+        }
+
+        private SimpleStateEntryStorage toPersistentStorage(final IStateEntryStorage source) {
+            if (source instanceof SimpleStateEntryStorage simpleStateEntryStorage)
+                return simpleStateEntryStorage;
+
+            final SimpleStateEntryStorage converted = new SimpleStateEntryStorage(source.getSize());
+            converted.deserializeNBT(source.serializeNBT());
+            return converted;
+        }
+
+        @Override
+        public void deserializeNBT(final CompoundTag nbt) {
+            final Payload payload = readPayloadOffThread(nbt);
+            releaseSharedStorage();
+            storage = payload.storage();
+            mutableStatistics = payload.mutableStatistics();
+        }
+
+        @Override
+        public void serializeInto(@NotNull FriendlyByteBuf packetBuffer) {
+            storage.serializeInto(packetBuffer);
+            mutableStatistics.serializeInto(packetBuffer);
+        }
+
+        @Override
+        public void deserializeFrom(@NotNull FriendlyByteBuf packetBuffer) {
+            ensureExclusiveStorage();
             storage.deserializeFrom(packetBuffer);
             mutableStatistics.deserializeFrom(packetBuffer);
         }
@@ -0,0 +1,73 @@
+package mod.chiselsandbits.block.entities;
+
+import com.communi.suggestu.scena.core.blockstate.ILevelBasedPropertyAccessor;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.util.SingleBlockBlockReader;
+import mod.chiselsandbits.api.util.SingleBlockLevelReader;
+import mod.chiselsandbits.utils.StateIdTable;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.LevelAccessor;
+
+/**
+ * Holds the light properties of the states which can be contained in a chiseled block, looked up by the interned id of the state.
+ * <p>
+ * The properties are computed once per state, through a level reader which only contains the state, and are reused by the
+ * statistics of every chiseled block. Entries are only used for the state they were computed for, even when the registry ids
+ * change, see {@link StateIdTable}. The table is cleared whenever the data of the game is reloaded, and whenever the client joins
+ * or leaves a world.
+ */
+public final class StateLightPropertiesTable
+{
+    private static final StateLightPropertiesTable INSTANCE = new StateLightPropertiesTable();
+
+    private final StateIdTable<LightProperties> properties = new StateIdTable<>();
+
+    private StateLightPropertiesTable()
+    {
+    }
+
+    public static StateLightPropertiesTable getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gives access to the light properties of the given block information.
+     *
+     * @param blockInformation The block information.
+     * @param level            The level in which the properties are computed, if they are not known yet.
+     * @param position         The position at which the properties are computed, if they are not known yet.
+     * @return The light properties.
+     */
+    public LightProperties get(final IBlockInformation blockInformation, final LevelAccessor level, final BlockPos position)
+    {
+        return properties.computeIfAbsent(blockInformation.getBlockState(), blockState -> compute(blockInformation, level, position));
+    }
+
+    /**
+     * Drops all cached properties, invoked when the registries or tags are reloaded, and when the client joins or leaves a world.
+     */
+    public void clearCache()
+    {
+        properties.clear();
+    }
+
+    private static LightProperties compute(final IBlockInformation blockInformation, final LevelAccessor level, final BlockPos position)
+    {
+        final SingleBlockLevelReader reader = new SingleBlockLevelReader(blockInformation, position, level);
+        return new LightProperties(
+          ILevelBasedPropertyAccessor.getInstance().getLightEmission(reader, position),
+          ILevelBasedPropertyAccessor.getInstance().getLightBlock(reader, position),
+          ILevelBasedPropertyAccessor.getInstance().propagatesSkylightDown(new SingleBlockBlockReader(blockInformation, position, level), position)
+        );
+    }
+
+    /**
+     * The light properties of a single state.
+     *
+     * @param lightEmission          The light level the state emits.
+     * @param lightBlock             The amount of light the state blocks.
+     * @param propagatesSkylightDown {@code true} when skylight passes the state unchanged.
+     */
+    public record LightProperties(int lightEmission, int lightBlock, boolean propagatesSkylightDown) {}
+}
@@ -6,6 +6,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.api.util.INBTSerializable;
 import mod.chiselsandbits.api.util.IPacketBufferSerializable;
 import net.minecraft.nbt.CompoundTag;
@@ -13,6 +14,7 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -82,6 +84,49 @@ public class SimpleStateEntryPalette implements IPacketBufferSerializable, INBTS
         this.paletteEntries.forEach(entry -> entry.serializeInto(packetBuffer));
     }
 
+    /**
+     * Writes the palette in its persistent binary form.
+     *
+     * @param buffer The buffer to write into.
+     */
+    public void serializeIntoPersistent(final @NotNull FriendlyByteBuf buffer)
+    {
+        buffer.writeVarInt(this.paletteEntries.size());
+        this.paletteEntries.forEach(entry -> entry.serializeIntoPersistent(buffer));
+    }
+
+    /**
+     * Reads the palette from its persistent binary form, as written by {@link #serializeIntoPersistent(FriendlyByteBuf)}.
+     *
+     * @param buffer The buffer to read from.
+     */
+    public void deserializeFromPersistent(final @NotNull FriendlyByteBuf buffer)
+    {
+        final int currentSize = this.paletteEntries.size();
+
+        this.paletteEntries.clear();
+        this.paletteMap.clear();
+
+        final int newCount = buffer.readVarInt();
+        final List<Entry> entries = new ArrayList<>(newCount);
+        for (int i = 0; i < newCount; i++)
+        {
+            entries.add(new Entry(BlockInformation.deserializeFromPersistent(buffer)));
+        }
+
+        //Added in one go, every addition copies the backing array.
+        this.paletteEntries.addAll(entries);
+        this.paletteEntries.forEach(entry -> this.paletteMap.put(entry.get(), entry));
+
+        if (paletteEntries.isEmpty()) {
+            clear();
+        }
+
+        if (currentSize != this.paletteEntries.size()) {
+            this.onNewSizeAddedConsumer.accept(this.paletteEntries.size());
+        }
+    }
+
     @Override
     public void deserializeFrom(final @NotNull FriendlyByteBuf packetBuffer)
     {
@@ -133,6 +178,11 @@ public class SimpleStateEntryPalette implements IPacketBufferSerializable, INBTS
         return this.paletteEntries.get(blockStateId).get();
     }
 
+    public int getSize()
+    {
+        return this.paletteEntries.size();
+    }
+
     public void sanitize(final Collection<IBlockInformation> toRemove) {
         final List<Entry> toRemoveList = toRemove.stream().map(this.paletteMap::get).toList();
 
@@ -204,7 +254,6 @@ public class SimpleStateEntryPalette implements IPacketBufferSerializable, INBTS
 
         private Entry(final IBlockInformation newState) {
             this.outwardFacingState = newState;
-            this.rawSpec = newState.serializeNBT();
         }
 
         private Entry(final CompoundTag tag) {
@@ -218,6 +267,10 @@ public class SimpleStateEntryPalette implements IPacketBufferSerializable, INBTS
         @Override
         public CompoundTag serializeNBT()
         {
+            //Created lazily, most entries are never written to nbt.
+            if (rawSpec == null)
+                rawSpec = outwardFacingState.serializeNBT();
+
             return rawSpec.copy();
         }
 
@@ -225,7 +278,7 @@ public class SimpleStateEntryPalette implements IPacketBufferSerializable, INBTS
         public void deserializeNBT(final CompoundTag nbt)
         {
             this.rawSpec = nbt;
-            this.outwardFacingState = new BlockInformation(nbt);
+            this.outwardFacingState = BlockInformationDictionary.getInstance().fromNBT(nbt);
         }
 
         @Override
@@ -237,8 +290,18 @@ public class SimpleStateEntryPalette implements IPacketBufferSerializable, INBTS
         @Override
         public void deserializeFrom(final @NotNull FriendlyByteBuf packetBuffer)
         {
-            this.outwardFacingState = new BlockInformation(packetBuffer);
-            this.rawSpec = this.outwardFacingState.serializeNBT();
+            this.outwardFacingState = BlockInformationDictionary.getInstance().fromNetwork(packetBuffer);
+            this.rawSpec = null;
+        }
+
+        private void serializeIntoPersistent(final @NotNull FriendlyByteBuf buffer)
+        {
+            if (this.outwardFacingState instanceof BlockInformation blockInformation) {
+                blockInformation.serializeIntoPersistent(buffer);
+                return;
+            }
+
+            new BlockInformation(this.outwardFacingState.getBlockState(), this.outwardFacingState.getVariant()).serializeIntoPersistent(buffer);
         }
 
         public IBlockInformation get()
@@ -4,6 +4,8 @@ import com.google.common.collect.Maps;
 import com.google.common.math.LongMath;
 import com.mojang.datafixers.util.Pair;
 import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
+import mod.chiselsandbits.api.block.storage.StateEntryMergePolicy;
+import mod.chiselsandbits.api.block.storage.StateEntryMergeResult;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
@@ -30,18 +32,26 @@ import org.jetbrains.annotations.NotNull;
 import java.math.RoundingMode;
 import java.util.*;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 public class SimpleStateEntryStorage implements IStateEntryStorage
 {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    //The budget for a single palette entry in the persistent form, which is its block name, its properties and an optional variant.
+    private static final int MAX_PERSISTENT_PALETTE_ENTRY_SIZE = 1024;
+    private static final int MAX_VAR_INT_SIZE = 5;
+
     private final int  size;
     private final SimpleStateEntryPalette palette;
 
     private BitSet data       = new BitSet();
     private int    entryWidth = 0;
     private boolean isDeserializing = false;
+    //Whether every palette entry is in use, see isPaletteTight. Only recomputed after a mutation, instead of on every write.
+    private boolean paletteTightnessDirty = true;
+    private boolean paletteTight = false;
     private List<IBatchMutation> ongoingBatchMutations = new ArrayList<>();
 
     public SimpleStateEntryStorage()
@@ -55,6 +65,8 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
         this.palette = new SimpleStateEntryPalette(this::onPaletteResize, this::onPaletteIndexChanged, stateEntryStorage.palette);
         this.data = stateEntryStorage.data;
         this.entryWidth = stateEntryStorage.entryWidth;
+        this.paletteTightnessDirty = stateEntryStorage.paletteTightnessDirty;
+        this.paletteTight = stateEntryStorage.paletteTight;
     }
 
     public SimpleStateEntryStorage(final int size) {
@@ -78,10 +90,21 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
         this.data = new BitSet();
         this.entryWidth = 0;
         this.palette.clear();
+        markPaletteTightnessDirty();
     }
 
     private void resetData() {
         this.data = new BitSet();
+        markPaletteTightnessDirty();
+    }
+
+    private void markPaletteTightnessDirty() {
+        this.paletteTightnessDirty = true;
+    }
+
+    private void markPaletteTight() {
+        this.paletteTightnessDirty = false;
+        this.paletteTight = true;
     }
 
     @Override
@@ -137,6 +160,7 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
         ensureCapacity();
 
         ByteArrayUtils.setValueAt(data, blockStateId, entryWidth, offSetIndex);
+        markPaletteTightnessDirty();
     }
 
     private void ensureCapacity() {
@@ -156,26 +180,161 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
         return x * size * size + y * size + z;
     }
 
-    private Vec3i doCalculatePosition(final int index) {
-        final int x = index / (size * size);
-        final int y = (index - x * size * size) / size;
-        final int z = index - x * size * size - y * size;
-
-        return new Vec3i(x, y, z);
-    }
-
     @Override
     public void count(final BiConsumer<IBlockInformation, Integer> storageConsumer)
     {
         final Map<IBlockInformation, Integer> countMap = Maps.newHashMap();
 
-        BlockPosStreamProvider.getForRange(this.getSize())
-          .map(position -> getBlockInformation(position.getX(), position.getY(), position.getZ()))
-          .forEach(blockState -> countMap.compute(blockState, (state, count) -> count == null ? 1 : count + 1));
+        //Counted per palette index, which skips resolving the block information of every single entry.
+        final int paletteSize = this.palette.getSize();
+        final int[] indexCounts = new int[Math.max(1, paletteSize)];
+        for (int i = 0; i < getTotalEntryCount(); i++)
+        {
+            final int paletteIndex = ByteArrayUtils.getValueAt(data, entryWidth, i);
+            indexCounts[paletteIndex < paletteSize ? paletteIndex : 0]++;
+        }
+
+        for (int i = 0; i < indexCounts.length; i++)
+        {
+            if (indexCounts[i] > 0)
+                countMap.merge(this.palette.getBlockState(i), indexCounts[i], Integer::sum);
+        }
 
         countMap.forEach(storageConsumer);
     }
 
+    @Override
+    public BitSet findMatching(final Predicate<IBlockInformation> predicate)
+    {
+        final BitSet matches = new BitSet(getTotalEntryCount());
+
+        //Resolved once per palette index. When nothing in the palette matches, the entries do not need to be looked at at all.
+        final int paletteSize = this.palette.getSize();
+        final boolean[] matchingIndices = new boolean[Math.max(1, paletteSize)];
+        boolean anyMatch = false;
+        for (int i = 0; i < matchingIndices.length; i++)
+        {
+            matchingIndices[i] = predicate.test(this.palette.getBlockState(i));
+            anyMatch |= matchingIndices[i];
+        }
+
+        if (!anyMatch)
+            return matches;
+
+        for (int i = 0; i < getTotalEntryCount(); i++)
+        {
+            final int paletteIndex = ByteArrayUtils.getValueAt(data, entryWidth, i);
+            if (matchingIndices[paletteIndex < paletteSize ? paletteIndex : 0])
+                matches.set(i);
+        }
+
+        return matches;
+    }
+
+    @Override
+    public StateEntryMergeResult merge(final IStateEntryStorage source, final Vec3i offset, final StateEntryMergePolicy policy)
+    {
+        if (!(source instanceof final SimpleStateEntryStorage sourceStorage))
+            return IStateEntryStorage.super.merge(source, offset, policy);
+
+        //Only the occupied entries of the source take part. The mask is resolved per palette index, and walking it skips empty words.
+        final BitSet sourceMask = sourceStorage.findMatching(blockInformation -> !blockInformation.isAir());
+        if (sourceMask.isEmpty())
+            return new StateEntryMergeResult(Collections.emptyMap(), Collections.emptyMap(), false);
+
+        final int sourceSize = sourceStorage.getSize();
+        final int sourcePaletteSize = sourceStorage.palette.getSize();
+        final int[] requiredCounts = new int[Math.max(1, sourcePaletteSize)];
+
+        //Source palette indices are translated into palette indices of this storage on first use, so that no unused entries are added.
+        final int[] translatedIndices = new int[requiredCounts.length];
+        Arrays.fill(translatedIndices, -1);
+        int airIndex = -1;
+
+        //Entries which are not visited yet still use the original palette, which is only ever appended to during the merge.
+        final int paletteSize = this.palette.getSize();
+        final int[] returnedCounts = new int[Math.max(1, paletteSize)];
+        final boolean[] airIndices = new boolean[returnedCounts.length];
+        for (int i = 0; i < airIndices.length; i++)
+        {
+            airIndices[i] = this.palette.getBlockState(i).isAir();
+        }
+
+        boolean changed = false;
+        try (IBatchMutation ignored = batch())
+        {
+            for (int sourceIndex = sourceMask.nextSetBit(0); sourceIndex >= 0; sourceIndex = sourceMask.nextSetBit(sourceIndex + 1))
+            {
+                final int targetX = sourceIndex / (sourceSize * sourceSize) + offset.getX();
+                final int targetY = (sourceIndex / sourceSize) % sourceSize + offset.getY();
+                final int targetZ = sourceIndex % sourceSize + offset.getZ();
+                if (targetX < 0 || targetY < 0 || targetZ < 0 || targetX >= size || targetY >= size || targetZ >= size)
+                    continue;
+
+                final int targetIndex = doCalculatePositionIndex(targetX, targetY, targetZ);
+                final int rawCurrentIndex = ByteArrayUtils.getValueAt(data, entryWidth, targetIndex);
+                final int currentIndex = rawCurrentIndex < paletteSize ? rawCurrentIndex : 0;
+                final boolean currentIsAir = airIndices[currentIndex];
+
+                if (policy == StateEntryMergePolicy.CARVE)
+                {
+                    if (currentIsAir)
+                        continue;
+
+                    if (airIndex < 0)
+                        airIndex = this.palette.getIndex(BlockInformation.AIR);
+
+                    returnedCounts[currentIndex]++;
+                    ByteArrayUtils.setValueAt(data, airIndex, entryWidth, targetIndex);
+                    changed = true;
+                    continue;
+                }
+
+                if (policy == StateEntryMergePolicy.PLACE && !currentIsAir)
+                    continue;
+
+                final int rawSourceIndex = ByteArrayUtils.getValueAt(sourceStorage.data, sourceStorage.entryWidth, sourceIndex);
+                final int sourcePaletteIndex = rawSourceIndex < sourcePaletteSize ? rawSourceIndex : 0;
+                if (translatedIndices[sourcePaletteIndex] < 0)
+                    translatedIndices[sourcePaletteIndex] = this.palette.getIndex(sourceStorage.palette.getBlockState(sourcePaletteIndex));
+
+                final int newIndex = translatedIndices[sourcePaletteIndex];
+                if (policy == StateEntryMergePolicy.MERGE && newIndex == currentIndex)
+                    continue;
+
+                if (!currentIsAir)
+                    returnedCounts[currentIndex]++;
+
+                requiredCounts[sourcePaletteIndex]++;
+                if (newIndex != currentIndex)
+                {
+                    //Translating an index might have widened the entries, so the fields are read again here.
+                    ByteArrayUtils.setValueAt(data, newIndex, entryWidth, targetIndex);
+                    changed = true;
+                }
+            }
+        }
+
+        //The palette might have grown even when no entry changed.
+        markPaletteTightnessDirty();
+
+        final Map<IBlockInformation, Integer> requiredBits = Maps.newHashMap();
+        for (int i = 0; i < requiredCounts.length; i++)
+        {
+            if (requiredCounts[i] > 0)
+                requiredBits.merge(sourceStorage.palette.getBlockState(i), requiredCounts[i], Integer::sum);
+        }
+
+        final Map<IBlockInformation, Integer> returnedBits = Maps.newHashMap();
+        for (int i = 0; i < returnedCounts.length; i++)
+        {
+            if (returnedCounts[i] > 0)
+                returnedBits.merge(this.palette.getBlockState(i), returnedCounts[i], Integer::sum);
+        }
+
+        return new StateEntryMergeResult(requiredBits, returnedBits, changed);
+    }
+
     public BitSet getData()
     {
         return data;
@@ -311,6 +470,8 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
 
         result.put(NbtConstants.PALETTE, this.palette.serializeNBT());
         result.putLongArray(NbtConstants.DATA, this.getRawData());
+        if (isPaletteTight())
+            result.putBoolean(NbtConstants.PALETTE_IS_TIGHT, true);
 
         return result;
     }
@@ -335,23 +496,73 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
             this.data = BitSet.valueOf(nbt.getLongArray(NbtConstants.DATA));
         }
 
-        final Set<IBlockInformation> containedStates = new HashSet<>();
-        for (int i = 0; i < getTotalEntryCount(); i++)
-        {
-            final Vec3i pos = doCalculatePosition(i);
-            final IBlockInformation blockState = getBlockInformation(pos);
-            containedStates.add(blockState);
+        this.isDeserializing = false;
+
+        //When every entry of the palette is in use, there is nothing to sanitize.
+        if (!nbt.getBoolean(NbtConstants.PALETTE_IS_TIGHT)) {
+            sanitizePalette();
         }
 
+        markPaletteTight();
+    }
+
+    private void sanitizePalette() {
+        final BitSet usedIndices = collectUsedPaletteIndices();
+        final Set<IBlockInformation> containedStates = new HashSet<>();
+        usedIndices.stream().mapToObj(this.palette::getBlockState).forEach(containedStates::add);
+
         final List<IBlockInformation> paletteStates = new ArrayList<>(this.palette.getStates());
         paletteStates.removeAll(containedStates);
         paletteStates.remove(BlockInformation.AIR); //We need to keep this!
 
-        this.isDeserializing = false;
-
         this.palette.sanitize(paletteStates);
     }
 
+    /**
+     * Determines whether every entry in the palette, except air, is referenced by at least one entry in the data.
+     * The result is kept until the next mutation, so repeated writes of an unchanged storage do not scan it again.
+     *
+     * @return True when sanitizing the palette would not remove any entries.
+     */
+    private boolean isPaletteTight() {
+        if (this.paletteTightnessDirty) {
+            this.paletteTight = computeIsPaletteTight();
+            this.paletteTightnessDirty = false;
+        }
+
+        return this.paletteTight;
+    }
+
+    private boolean computeIsPaletteTight() {
+        final int paletteSize = this.palette.getSize();
+        final BitSet usedIndices = collectUsedPaletteIndices();
+        for (int i = usedIndices.nextClearBit(0); i < paletteSize; i = usedIndices.nextClearBit(i + 1))
+        {
+            if (!this.palette.getBlockState(i).isAir())
+                return false;
+        }
+
+        return true;
+    }
+
+    private BitSet collectUsedPaletteIndices() {
+        final int paletteSize = this.palette.getSize();
+        final BitSet usedIndices = new BitSet(paletteSize);
+        int usedCount = 0;
+        for (int i = 0; i < getTotalEntryCount() && usedCount < paletteSize; i++)
+        {
+            final int paletteIndex = ByteArrayUtils.getValueAt(data, entryWidth, i);
+            //Out of range indices resolve to the first entry, see SimpleStateEntryPalette#getBlockState.
+            final int resolvedIndex = paletteIndex < paletteSize ? paletteIndex : 0;
+            if (!usedIndices.get(resolvedIndex)) {
+                usedIndices.set(resolvedIndex);
+                usedCount++;
+            }
+        }
+
+        return usedIndices;
+    }
+
     @Override
     public void serializeInto(final @NotNull FriendlyByteBuf packetBuffer)
     {
@@ -372,6 +583,62 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
         this.isDeserializing = false;
     }
 
+    /**
+     * Writes the storage in a binary form which is suitable for persistent storage.
+     * The palette is written without relying on numeric ids, see {@link SimpleStateEntryPalette#serializeIntoPersistent(FriendlyByteBuf)}.
+     *
+     * @param buffer The buffer to write into.
+     */
+    public void serializeIntoPersistent(final @NotNull FriendlyByteBuf buffer)
+    {
+        this.palette.serializeIntoPersistent(buffer);
+        buffer.writeLongArray(this.getRawData());
+        buffer.writeBoolean(isPaletteTight());
+    }
+
+    /**
+     * Determines the largest amount of bytes which {@link #serializeIntoPersistent(FriendlyByteBuf)} writes for a storage of the given size.
+     * Every entry can hold a distinct state next to air, which bounds both the palette and the width of the packed data.
+     *
+     * @param size The amount of entries along each side of the storage.
+     * @return The largest size of the persistent form.
+     */
+    public static int getMaxPersistentSize(final int size)
+    {
+        final int totalEntryCount = size * size * size;
+        final int maxPaletteSize = totalEntryCount + 1;
+        final int maxEntryWidth = LongMath.log2(maxPaletteSize, RoundingMode.CEILING);
+        final int maxDataLength = (totalEntryCount * maxEntryWidth + Long.SIZE - 1) / Long.SIZE;
+
+        return MAX_VAR_INT_SIZE + maxPaletteSize * MAX_PERSISTENT_PALETTE_ENTRY_SIZE
+                 + MAX_VAR_INT_SIZE + maxDataLength * Long.BYTES
+                 + 1;
+    }
+
+    /**
+     * Reads the storage from the binary form written by {@link #serializeIntoPersistent(FriendlyByteBuf)}.
+     *
+     * @param buffer The buffer to read from.
+     */
+    public void deserializeFromPersistent(final @NotNull FriendlyByteBuf buffer)
+    {
+        clear();
+
+        this.isDeserializing = true;
+
+        this.palette.deserializeFromPersistent(buffer);
+        this.data = BitSet.valueOf(buffer.readLongArray());
+        final boolean isPaletteTight = buffer.readBoolean();
+
+        this.isDeserializing = false;
+
+        if (!isPaletteTight) {
+            sanitizePalette();
+        }
+
+        markPaletteTight();
+    }
+
     private void onPaletteResize(final int newSize) {
         final int currentEntryWidth = this.entryWidth;
         this.entryWidth = LongMath.log2(newSize, RoundingMode.CEILING);
@@ -392,6 +659,8 @@ public class SimpleStateEntryStorage implements IStateEntryStorage
         if (remaps.isEmpty())
             return;
 
+        markPaletteTightnessDirty();
+
         for (int i = 0; i < getTotalEntryCount(); i++)
         {
             final int currentId = ByteArrayUtils.getValueAt(data, entryWidth, i);
@@ -0,0 +1,234 @@
+package mod.chiselsandbits.block.entities.storage;
+
+import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.axissize.CollisionType;
+import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
+import mod.chiselsandbits.profiling.metrics.Metrics;
+import net.minecraft.world.level.LevelAccessor;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deduplicates the storages of chiseled blocks by their content.
+ * <p>
+ * Block entities which hold byte identical data share one canonical storage, together with the collision data derived from it.
+ * The canonical instances are reference counted, and may never be mutated: holders need to copy them before writing, after which
+ * they release their reference.
+ * <p>
+ * Every level has an interner of its own, which is dropped when the level is unloaded, so storages whose release was missed
+ * can not outlive their level. The content hash of a storage is computed once, before it is interned, and is kept together
+ * with the canonical instance. Releases and lookups of canonical storages only compare identities.
+ */
+public final class StorageInterner
+{
+    private static final Map<LevelAccessor, StorageInterner> INTERNERS       = new WeakHashMap<>();
+    private static final LongAdder                           COPIES_ON_WRITE = new LongAdder();
+
+    private final Map<ContentKey, Entry>         entries   = new ConcurrentHashMap<>();
+    private final Map<IStateEntryStorage, Entry> canonical = new IdentityHashMap<>();
+    private int references = 0;
+
+    private StorageInterner()
+    {
+    }
+
+    /**
+     * Gives access to the interner of the given level.
+     *
+     * @param level The level.
+     * @return The interner of the level.
+     */
+    public static StorageInterner forLevel(final LevelAccessor level)
+    {
+        synchronized (INTERNERS)
+        {
+            return INTERNERS.computeIfAbsent(level, key -> new StorageInterner());
+        }
+    }
+
+    /**
+     * Drops the interner of the given level, invoked when the level is unloaded.
+     * Holders which release their storage afterwards are ignored.
+     *
+     * @param level The level.
+     */
+    public static void onLevelUnloaded(final LevelAccessor level)
+    {
+        synchronized (INTERNERS)
+        {
+            INTERNERS.remove(level);
+        }
+    }
+
+    /**
+     * Records that a holder copied its canonical storage, because it was about to be modified.
+     */
+    public static void onCopiedOnWrite()
+    {
+        COPIES_ON_WRITE.increment();
+    }
+
+    /**
+     * Creates a snapshot of the current statistics of the interners of all loaded levels.
+     *
+     * @return The statistics.
+     */
+    public static Statistics getStatistics()
+    {
+        final List<StorageInterner> interners;
+        synchronized (INTERNERS)
+        {
+            interners = List.copyOf(INTERNERS.values());
+        }
+
+        int uniqueStorages = 0;
+        int references = 0;
+        for (final StorageInterner interner : interners)
+        {
+            synchronized (interner.canonical)
+            {
+                uniqueStorages += interner.canonical.size();
+                references += interner.references;
+            }
+        }
+
+        return new Statistics(uniqueStorages, references, COPIES_ON_WRITE.sum());
+    }
+
+    /**
+     * Interns the given storage.
+     * When an equal storage is already interned, that one is returned, otherwise the given storage becomes the canonical instance.
+     * Either way the caller holds a reference to the result, which needs to be released with {@link #release(IStateEntryStorage)}.
+     *
+     * @param storage The storage to intern, may not be modified afterwards.
+     * @return The canonical storage.
+     */
+    public IStateEntryStorage intern(final IStateEntryStorage storage)
+    {
+        Metrics.STORAGE_INTERNING.lookup();
+        //Hashed outside any lock, the content is only compared again when the hashes match.
+        final ContentKey key = new ContentKey(storage, storage.hashCode());
+        while (true)
+        {
+            final Entry entry = entries.computeIfAbsent(key, ignored -> {
+                Metrics.STORAGE_INTERNING.miss();
+                return new Entry(key);
+            });
+
+            synchronized (canonical)
+            {
+                //The entry might have been released by its last holder in the meantime, in which case a new one is needed.
+                if (entry.released)
+                    continue;
+
+                if (entry.references == 0)
+                    canonical.put(entry.key.storage(), entry);
+
+                entry.references++;
+                references++;
+                return entry.key.storage();
+            }
+        }
+    }
+
+    /**
+     * Gives access to the collision data which is shared by all holders of the given canonical storage.
+     * The bit sets in the map may not be modified, only new ones may be added.
+     *
+     * @param canonicalStorage The canonical storage.
+     * @return The shared collision data, or null when the storage is not interned.
+     */
+    public Map<CollisionType, BitSet> getSharedCollisionData(final IStateEntryStorage canonicalStorage)
+    {
+        synchronized (canonical)
+        {
+            final Entry entry = canonical.get(canonicalStorage);
+            return entry == null ? null : entry.collisionData;
+        }
+    }
+
+    /**
+     * Releases a reference to a canonical storage, which was acquired by {@link #intern(IStateEntryStorage)}.
+     *
+     * @param canonicalStorage The canonical storage.
+     */
+    public void release(final IStateEntryStorage canonicalStorage)
+    {
+        synchronized (canonical)
+        {
+            final Entry entry = canonical.get(canonicalStorage);
+            if (entry == null)
+                return;
+
+            references--;
+            entry.references--;
+            if (entry.references <= 0)
+            {
+                entry.released = true;
+                canonical.remove(canonicalStorage);
+                entries.remove(entry.key, entry);
+            }
+        }
+    }
+
+    /**
+     * A storage together with its content hash, which is computed once when the storage is interned.
+     * The storage is never modified while it is interned, so the hash stays valid.
+     */
+    private record ContentKey(IStateEntryStorage storage, int hash)
+    {
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+                return true;
+
+            return o instanceof ContentKey that && hash == that.hash && storage.equals(that.storage);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    private static final class Entry
+    {
+        private final ContentKey                  key;
+        private final Map<CollisionType, BitSet> collisionData = Maps.newConcurrentMap();
+        private int                               references    = 0;
+        private boolean                           released      = false;
+
+        private Entry(final ContentKey key)
+        {
+            this.key = key;
+        }
+    }
+
+    /**
+     * The statistics of the interners.
+     *
+     * @param uniqueStorages The amount of distinct storages which are currently interned.
+     * @param references     The amount of block entities which currently hold an interned storage.
+     * @param copiesOnWrite  The amount of times a holder copied its interned storage before modifying it.
+     */
+    public record Statistics(int uniqueStorages, int references, long copiesOnWrite)
+    {
+        /**
+         * The amount of holders per distinct storage.
+         *
+         * @return The deduplication ratio, 1 when nothing is shared.
+         */
+        public double getDeduplicationRatio()
+        {
+            return uniqueStorages == 0 ? 1 : references / (double) uniqueStorages;
+        }
+    }
+}
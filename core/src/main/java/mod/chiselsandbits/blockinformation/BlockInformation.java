@@ -1,6 +1,6 @@
 package mod.chiselsandbits.blockinformation;
 
-import com.mojang.serialization.DataResult;
+import com.communi.suggestu.scena.core.registries.IPlatformRegistryManager;
 import mod.chiselsandbits.api.block.state.id.IBlockStateIdManager;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.util.*;
@@ -10,11 +10,15 @@ import mod.chiselsandbits.api.variant.state.IStateVariantManager;
 import mod.chiselsandbits.stateinfo.additional.StateVariantManager;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.Property;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -51,7 +55,7 @@ public final class BlockInformation implements IBlockInformation {
     @Override
     public CompoundTag serializeNBT() {
         final CompoundTag tag = new CompoundTag();
-        tag.putString(NbtConstants.STATE, BlockStateSerializationUtils.serialize(getBlockState()));
+        tag.putString(NbtConstants.STATE, BlockInformationDictionary.getInstance().serializeState(getBlockState()));
         variant.ifPresent((info) -> tag.put(
                 NbtConstants.VARIANT,
                 IStateVariantManager.getInstance().serializeNBT(info))
@@ -61,8 +65,7 @@ public final class BlockInformation implements IBlockInformation {
 
     @Override
     public void deserializeNBT(final CompoundTag nbt) {
-        DataResult<BlockState> dataResult = BlockStateSerializationUtils.deserialize(nbt.getString(NbtConstants.STATE));
-        this.blockState = dataResult.result().orElseGet(Blocks.AIR::defaultBlockState);
+        this.blockState = BlockInformationDictionary.getInstance().parseState(nbt.getString(NbtConstants.STATE));
 
         variant = Optional.empty();
         if (nbt.contains(NbtConstants.VARIANT)) {
@@ -83,10 +86,80 @@ public final class BlockInformation implements IBlockInformation {
 
         variant = Optional.empty();
         if (packetBuffer.readBoolean()) {
-            variant = Optional.of(IStateVariantManager.getInstance().deserializeFrom(packetBuffer));
+            readVariantFrom(packetBuffer);
         }
     }
 
+    /**
+     * Reads the variant from the network, after the flag which indicates its presence has already been consumed.
+     *
+     * @param packetBuffer The buffer to read from.
+     */
+    void readVariantFrom(final @NotNull FriendlyByteBuf packetBuffer) {
+        variant = Optional.of(IStateVariantManager.getInstance().deserializeFrom(packetBuffer));
+    }
+
+    /**
+     * Writes the information in a binary form which is suitable for persistent storage.
+     * Unlike {@link #serializeInto(FriendlyByteBuf)} it does not rely on numeric ids, which can change between sessions.
+     *
+     * @param buffer The buffer to write into.
+     */
+    public void serializeIntoPersistent(final @NotNull FriendlyByteBuf buffer) {
+        buffer.writeResourceLocation(IPlatformRegistryManager.getInstance().getBlockRegistry().getKey(blockState.getBlock()));
+
+        final Map<Property<?>, Comparable<?>> values = blockState.getValues();
+        buffer.writeVarInt(values.size());
+        values.forEach((property, value) -> {
+            buffer.writeUtf(property.getName());
+            buffer.writeUtf(getValueName(property, value));
+        });
+
+        buffer.writeBoolean(variant.isPresent());
+        variant.ifPresent((info) -> buffer.writeNbt(IStateVariantManager.getInstance().serializeNBT(info)));
+    }
+
+    /**
+     * Reads information which was written by {@link #serializeIntoPersistent(FriendlyByteBuf)}.
+     * Unknown blocks resolve to air, unknown properties keep their default value.
+     *
+     * @param buffer The buffer to read from.
+     * @return The read information.
+     */
+    public static BlockInformation deserializeFromPersistent(final @NotNull FriendlyByteBuf buffer) {
+        final ResourceLocation blockName = buffer.readResourceLocation();
+        final Block block = IPlatformRegistryManager.getInstance().getBlockRegistry().getValue(blockName).orElse(Blocks.AIR);
+
+        BlockState state = block.defaultBlockState();
+        final int propertyCount = buffer.readVarInt();
+        for (int i = 0; i < propertyCount; i++) {
+            final Property<?> property = block.getStateDefinition().getProperty(buffer.readUtf());
+            final String valueName = buffer.readUtf();
+            if (property != null) {
+                state = setValue(state, property, valueName);
+            }
+        }
+
+        Optional<IStateVariant> variant = Optional.empty();
+        if (buffer.readBoolean()) {
+            final CompoundTag variantNbt = buffer.readNbt();
+            if (variantNbt != null) {
+                variant = Optional.of(IStateVariantManager.getInstance().deserializeNBT(variantNbt));
+            }
+        }
+
+        return variant.isPresent() ? new BlockInformation(state, variant) : BlockInformationDictionary.getInstance().get(state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> String getValueName(final Property<T> property, final Comparable<?> value) {
+        return property.getName((T) value);
+    }
+
+    private static <T extends Comparable<T>> BlockState setValue(final BlockState state, final Property<T> property, final String valueName) {
+        return property.getValue(valueName).map(value -> state.setValue(property, value)).orElse(state);
+    }
+
     @Override
     public BlockState getBlockState() {
         return blockState;
@@ -0,0 +1,133 @@
+package mod.chiselsandbits.blockinformation;
+
+import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.util.BlockStateSerializationUtils;
+import mod.chiselsandbits.api.util.constants.NbtConstants;
+import mod.chiselsandbits.utils.StateIdTable;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A global dictionary of canonical block information instances.
+ * <p>
+ * Block information without a variant is interned per block state, and addressed by the registry id of the state. The serialized
+ * form of each state is parsed once and cached as well, so reading stored data does not need to run the state codec for every entry.
+ * Only serialized states in their canonical form are cached, so the amount of parsed entries is bounded by the amount of states.
+ * <p>
+ * Registry ids can change while the game runs, for example when the registries are synced with a server. Cached entries are
+ * only used when they belong to the requested state, see {@link StateIdTable}. The dictionary is cleared whenever the data of
+ * the game is reloaded, and whenever the client joins or leaves a world.
+ */
+public final class BlockInformationDictionary
+{
+    private static final BlockInformationDictionary INSTANCE = new BlockInformationDictionary();
+
+    private final Map<String, BlockState> parsedStates = Maps.newConcurrentMap();
+    private final StateIdTable<BlockInformation> informationByState = new StateIdTable<>();
+    private final StateIdTable<String> serializedStates = new StateIdTable<>();
+
+    private BlockInformationDictionary()
+    {
+    }
+
+    public static BlockInformationDictionary getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gives access to the canonical block information of the given state, without a variant.
+     * The returned instance is shared and may not be modified.
+     *
+     * @param blockState The block state.
+     * @return The canonical block information.
+     */
+    public BlockInformation get(final BlockState blockState)
+    {
+        return informationByState.computeIfAbsent(blockState, state -> new BlockInformation(state, Optional.empty()));
+    }
+
+    /**
+     * Reads block information from its NBT form.
+     * Information without a variant is resolved to its canonical instance.
+     *
+     * @param tag The tag to read from, as written by {@link BlockInformation#serializeNBT()}.
+     * @return The block information.
+     */
+    public BlockInformation fromNBT(final CompoundTag tag)
+    {
+        if (tag.contains(NbtConstants.VARIANT))
+            return new BlockInformation(tag);
+
+        return get(parseState(tag.getString(NbtConstants.STATE)));
+    }
+
+    /**
+     * Reads block information from its network form.
+     * Information without a variant is resolved to its canonical instance.
+     *
+     * @param buffer The buffer to read from, as written by {@link BlockInformation#serializeInto(FriendlyByteBuf)}.
+     * @return The block information.
+     */
+    public BlockInformation fromNetwork(final FriendlyByteBuf buffer)
+    {
+        final BlockState blockState = BlockStateSerializationUtils.deserialize(buffer);
+        if (!buffer.readBoolean())
+            return get(blockState);
+
+        final BlockInformation blockInformation = new BlockInformation(blockState, Optional.empty());
+        blockInformation.readVariantFrom(buffer);
+        return blockInformation;
+    }
+
+    /**
+     * Parses a serialized block state, see {@link BlockStateSerializationUtils#deserialize(String)}.
+     * States which can not be parsed resolve to air.
+     *
+     * @param serializedState The serialized state.
+     * @return The block state.
+     */
+    public BlockState parseState(final String serializedState)
+    {
+        final BlockState cached = parsedStates.get(serializedState);
+        if (cached != null)
+            return cached;
+
+        final Optional<BlockState> parsed = BlockStateSerializationUtils.deserialize(serializedState).result();
+        if (parsed.isEmpty())
+            return Blocks.AIR.defaultBlockState();
+
+        //Stored data can contain any string, only the canonical form of a state is remembered.
+        final BlockState blockState = parsed.get();
+        if (serializeState(blockState).equals(serializedState))
+            parsedStates.put(serializedState, blockState);
+
+        return blockState;
+    }
+
+    /**
+     * Serializes a block state, see {@link BlockStateSerializationUtils#serialize(BlockState)}.
+     *
+     * @param blockState The block state.
+     * @return The serialized state.
+     */
+    public String serializeState(final BlockState blockState)
+    {
+        return serializedStates.computeIfAbsent(blockState, BlockStateSerializationUtils::serialize);
+    }
+
+    /**
+     * Drops all cached entries, invoked when the registries or tags are reloaded, and when the client joins or leaves a world.
+     */
+    public void clearCache()
+    {
+        parsedStates.clear();
+        informationByState.clear();
+        serializedStates.clear();
+    }
+}
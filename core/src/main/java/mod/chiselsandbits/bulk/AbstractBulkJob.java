@@ -0,0 +1,330 @@
+package mod.chiselsandbits.bulk;
+
+import mod.chiselsandbits.api.multistate.StateEntrySize;
+import mod.chiselsandbits.api.util.LocalStrings;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Base class for jobs which process a large area in the background.
+ * <p>
+ * The area is split into work units which are aligned to chunk sections. Each unit is prepared on the game thread, calculated
+ * on the bulk workers, and its result is consumed back on the game thread within the tick budget of the {@link BulkEditManager}.
+ *
+ * @param <R> The type of the result of a single work unit.
+ */
+public abstract class AbstractBulkJob<R>
+{
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final   int                          id;
+    protected final ServerLevel                  level;
+    protected final CommandSourceStack           source;
+    protected final int                          bitsPerBlockSide;
+    protected final BlockPos                     bitStart;
+    protected final BlockPos                     bitEnd;
+    private final   long                         totalBlockCount;
+    private final   int                          workUnitCount;
+    private final   Deque<WorkUnit>              pendingUnits   = new ArrayDeque<>();
+    private final   Queue<WorkUnitResult<R>>     completedUnits = new ConcurrentLinkedQueue<>();
+    private final   AtomicInteger                inFlightUnits  = new AtomicInteger();
+
+    @Nullable
+    private WorkUnitResult<R> activeUnit;
+    private long              processedBlockCount = 0;
+    private int               nextReportedProcent = 10;
+    private volatile boolean  cancelled           = false;
+    private volatile Throwable failure            = null;
+
+    protected AbstractBulkJob(
+      final int id,
+      final ServerLevel level,
+      final CommandSourceStack source,
+      final Vec3 start,
+      final Vec3 end)
+    {
+        this.id = id;
+        this.level = level;
+        this.source = source;
+        this.bitsPerBlockSide = StateEntrySize.current().getBitsPerBlockSide();
+
+        this.bitStart = new BlockPos(
+          Mth.floor(Math.min(start.x(), end.x()) * bitsPerBlockSide),
+          Mth.floor(Math.min(start.y(), end.y()) * bitsPerBlockSide),
+          Mth.floor(Math.min(start.z(), end.z()) * bitsPerBlockSide)
+        );
+        this.bitEnd = new BlockPos(
+          Mth.floor(Math.max(start.x(), end.x()) * bitsPerBlockSide),
+          Mth.floor(Math.max(start.y(), end.y()) * bitsPerBlockSide),
+          Mth.floor(Math.max(start.z(), end.z()) * bitsPerBlockSide)
+        );
+
+        final BlockPos blockStart = new BlockPos(
+          Math.floorDiv(bitStart.getX(), bitsPerBlockSide),
+          Math.max(level.getMinBuildHeight(), Math.floorDiv(bitStart.getY(), bitsPerBlockSide)),
+          Math.floorDiv(bitStart.getZ(), bitsPerBlockSide)
+        );
+        final BlockPos blockEnd = new BlockPos(
+          Math.floorDiv(bitEnd.getX(), bitsPerBlockSide),
+          Math.min(level.getMaxBuildHeight() - 1, Math.floorDiv(bitEnd.getY(), bitsPerBlockSide)),
+          Math.floorDiv(bitEnd.getZ(), bitsPerBlockSide)
+        );
+
+        long blockCount = 0;
+        for (int sectionX = SectionPos.blockToSectionCoord(blockStart.getX()); sectionX <= SectionPos.blockToSectionCoord(blockEnd.getX()); sectionX++)
+        {
+            for (int sectionZ = SectionPos.blockToSectionCoord(blockStart.getZ()); sectionZ <= SectionPos.blockToSectionCoord(blockEnd.getZ()); sectionZ++)
+            {
+                for (int sectionY = SectionPos.blockToSectionCoord(blockStart.getY()); sectionY <= SectionPos.blockToSectionCoord(blockEnd.getY()); sectionY++)
+                {
+                    final WorkUnit unit = new WorkUnit(
+                      new BlockPos(
+                        Math.max(blockStart.getX(), SectionPos.sectionToBlockCoord(sectionX)),
+                        Math.max(blockStart.getY(), SectionPos.sectionToBlockCoord(sectionY)),
+                        Math.max(blockStart.getZ(), SectionPos.sectionToBlockCoord(sectionZ))
+                      ),
+                      new BlockPos(
+                        Math.min(blockEnd.getX(), SectionPos.sectionToBlockCoord(sectionX, 15)),
+                        Math.min(blockEnd.getY(), SectionPos.sectionToBlockCoord(sectionY, 15)),
+                        Math.min(blockEnd.getZ(), SectionPos.sectionToBlockCoord(sectionZ, 15))
+                      )
+                    );
+
+                    pendingUnits.add(unit);
+                    blockCount += unit.getBlockCount();
+                }
+            }
+        }
+
+        this.totalBlockCount = blockCount;
+        this.workUnitCount = pendingUnits.size();
+    }
+
+    public int getId()
+    {
+        return id;
+    }
+
+    public long getTotalBlockCount()
+    {
+        return totalBlockCount;
+    }
+
+    public int getWorkUnitCount()
+    {
+        return workUnitCount;
+    }
+
+    public long getProcessedBlockCount()
+    {
+        return processedBlockCount;
+    }
+
+    /**
+     * Requests the cancellation of this job.
+     * Work which has already been consumed stays consumed, the job stops during the next server tick.
+     */
+    public void cancel()
+    {
+        this.cancelled = true;
+    }
+
+    protected boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Processes the job on the game thread.
+     *
+     * @param deadline         The {@link System#nanoTime()} after which no further work should be started this tick.
+     * @param maxInFlightUnits The maximal amount of work units which may be calculated by the workers at the same time.
+     * @param executor         The executor which calculates the work units.
+     * @return True when the job is done, either because it completed, was cancelled or failed.
+     */
+    boolean tick(final long deadline, final int maxInFlightUnits, final Executor executor)
+    {
+        if (failure != null)
+        {
+            LOGGER.error("Bulk job #{} failed.", id, failure);
+            finish();
+            source.sendFailure(LocalStrings.CommandBulkEditFailed.getText(id));
+            return true;
+        }
+
+        if (cancelled)
+        {
+            finish();
+            source.sendSystemMessage(LocalStrings.CommandBulkEditCancelled.getText(id, processedBlockCount, totalBlockCount));
+            return true;
+        }
+
+        consumeCompletedUnits(deadline);
+
+        while (!pendingUnits.isEmpty() && inFlightUnits.get() < maxInFlightUnits && System.nanoTime() < deadline)
+        {
+            dispatch(pendingUnits.poll(), executor);
+        }
+
+        reportProgress();
+
+        //Order matters here: A worker publishes its result before it releases its in flight slot.
+        if (pendingUnits.isEmpty() && inFlightUnits.get() == 0 && completedUnits.isEmpty() && activeUnit == null)
+        {
+            finish();
+            onCompleted();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Prepares the given work unit on the game thread.
+     * Everything which needs access to the level should be captured here, the returned calculation runs on a worker.
+     *
+     * @param unit The unit to prepare.
+     * @return The calculation of the result of the unit.
+     */
+    protected abstract Supplier<R> prepare(final WorkUnit unit);
+
+    /**
+     * Consumes the result of a work unit on the game thread.
+     * Might be invoked several times for the same result if the deadline passes before it is fully consumed.
+     *
+     * @param result   The result to consume.
+     * @param deadline The {@link System#nanoTime()} after which the consumption should be paused.
+     * @return True when the result has been fully consumed.
+     */
+    protected abstract boolean consume(final R result, final long deadline);
+
+    /**
+     * Invoked on the game thread when the job stops, regardless of whether it completed, was cancelled or failed.
+     */
+    protected void onFinished()
+    {
+    }
+
+    /**
+     * Invoked on the game thread when all units have been consumed.
+     */
+    protected abstract void onCompleted();
+
+    /**
+     * Calculates the range of bits of the given block which lie inside the area of this job.
+     *
+     * @param position The position of the block.
+     * @return The bit range, with inclusive bounds.
+     */
+    protected BitRange getBitRangeIn(final BlockPos position)
+    {
+        return new BitRange(
+          Math.max(0, bitStart.getX() - position.getX() * bitsPerBlockSide),
+          Math.max(0, bitStart.getY() - position.getY() * bitsPerBlockSide),
+          Math.max(0, bitStart.getZ() - position.getZ() * bitsPerBlockSide),
+          Math.min(bitsPerBlockSide - 1, bitEnd.getX() - position.getX() * bitsPerBlockSide),
+          Math.min(bitsPerBlockSide - 1, bitEnd.getY() - position.getY() * bitsPerBlockSide),
+          Math.min(bitsPerBlockSide - 1, bitEnd.getZ() - position.getZ() * bitsPerBlockSide)
+        );
+    }
+
+    private void dispatch(final WorkUnit unit, final Executor executor)
+    {
+        final Supplier<R> calculation = prepare(unit);
+
+        inFlightUnits.incrementAndGet();
+        executor.execute(() -> {
+            try
+            {
+                completedUnits.add(new WorkUnitResult<>(unit.getBlockCount(), calculation.get()));
+            }
+            catch (Throwable throwable)
+            {
+                failure = throwable;
+            }
+            finally
+            {
+                inFlightUnits.decrementAndGet();
+            }
+        });
+    }
+
+    private void consumeCompletedUnits(final long deadline)
+    {
+        while (System.nanoTime() < deadline)
+        {
+            if (activeUnit == null)
+            {
+                activeUnit = completedUnits.poll();
+                if (activeUnit == null)
+                    return;
+            }
+
+            if (!consume(activeUnit.result(), deadline))
+                return;
+
+            processedBlockCount += activeUnit.blockCount();
+            activeUnit = null;
+        }
+    }
+
+    private void reportProgress()
+    {
+        if (totalBlockCount == 0)
+            return;
+
+        final long procent = processedBlockCount * 100 / totalBlockCount;
+        if (procent < nextReportedProcent || procent >= 100)
+            return;
+
+        nextReportedProcent = (int) (procent / 10 + 1) * 10;
+        source.sendSystemMessage(LocalStrings.CommandBulkEditInProgress.getText(id, procent, totalBlockCount));
+    }
+
+    private void finish()
+    {
+        pendingUnits.clear();
+        completedUnits.clear();
+        activeUnit = null;
+
+        onFinished();
+    }
+
+    protected record WorkUnit(BlockPos from, BlockPos to)
+    {
+        public int getBlockCount()
+        {
+            return (to.getX() - from.getX() + 1) * (to.getY() - from.getY() + 1) * (to.getZ() - from.getZ() + 1);
+        }
+    }
+
+    protected record BitRange(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+    {
+        public boolean covers(final int size)
+        {
+            return minX == 0 && minY == 0 && minZ == 0 && maxX == size - 1 && maxY == size - 1 && maxZ == size - 1;
+        }
+
+        public int getVolume()
+        {
+            return (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        }
+    }
+
+    private record WorkUnitResult<R>(int blockCount, R result) {}
+}
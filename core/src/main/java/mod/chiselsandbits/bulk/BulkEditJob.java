@@ -0,0 +1,250 @@
+package mod.chiselsandbits.bulk;
+
+import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.change.IChangeTracker;
+import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
+import mod.chiselsandbits.api.multistate.mutator.IMutatorFactory;
+import mod.chiselsandbits.api.multistate.snapshot.IMultiStateSnapshot;
+import mod.chiselsandbits.api.util.IBatchMutation;
+import mod.chiselsandbits.api.util.LocalStrings;
+import mod.chiselsandbits.api.variant.state.IStateVariantManager;
+import mod.chiselsandbits.block.entities.ChiseledBlockEntity;
+import mod.chiselsandbits.block.entities.storage.SimpleStateEntryStorage;
+import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.utils.MultiStateSnapshotUtils;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A single bulk edit, for example a fill or clear command, which is processed in the background.
+ * <p>
+ * The current content of each work unit is captured as storage snapshots on the game thread, the new storages are calculated
+ * on the bulk workers, and the results are swapped into the world on the game thread. Changes made to the area by others while
+ * the job runs are overwritten, just like they would be by a synchronous fill.
+ */
+public final class BulkEditJob extends AbstractBulkJob<List<BulkEditJob.BlockResult>>
+{
+    private final IBulkEditOperation operation;
+    @Nullable
+    private final IChangeTracker     changeTracker;
+    private final Map<BlockPos, IMultiStateSnapshot> beforeStates = Maps.newHashMap();
+    private final Map<BlockPos, IMultiStateSnapshot> afterStates  = Maps.newHashMap();
+
+    @Nullable
+    private Iterator<BlockResult> activeResults;
+    private long                  changedBlockCount = 0;
+
+    BulkEditJob(
+      final int id,
+      final ServerLevel level,
+      final CommandSourceStack source,
+      final Vec3 start,
+      final Vec3 end,
+      final IBulkEditOperation operation,
+      @Nullable final IChangeTracker changeTracker)
+    {
+        super(id, level, source, start, end);
+        this.operation = operation;
+        this.changeTracker = changeTracker;
+    }
+
+    @Override
+    protected Supplier<List<BlockResult>> prepare(final WorkUnit unit)
+    {
+        final List<BlockTarget> targets = new ArrayList<>();
+        BlockPos.betweenClosed(unit.from(), unit.to()).forEach(position -> {
+            if (!level.isLoaded(position))
+                return;
+
+            final BlockPos target = position.immutable();
+            final BlockEntity blockEntity = level.getBlockEntity(target);
+            if (blockEntity instanceof ChiseledBlockEntity chiseledBlockEntity)
+            {
+                targets.add(new BlockTarget(target, chiseledBlockEntity.createStorageSnapshot()));
+                return;
+            }
+
+            final BlockState blockState = level.getBlockState(target);
+            final IBlockInformation blockInformation = new BlockInformation(
+              blockState,
+              IStateVariantManager.getInstance().getStateVariant(blockState, Optional.ofNullable(blockEntity))
+            );
+
+            if (blockEntity == null && isEditable(blockInformation))
+            {
+                final IStateEntryStorage storage = new SimpleStateEntryStorage(bitsPerBlockSide);
+                storage.initializeWith(blockInformation);
+                targets.add(new BlockTarget(target, storage));
+            }
+        });
+
+        final long seed = level.getRandom().nextLong();
+        return () -> {
+            final RandomSource random = RandomSource.create(seed);
+            final List<BlockResult> results = new ArrayList<>();
+            for (final BlockTarget target : targets)
+            {
+                if (isCancelled())
+                    break;
+
+                calculate(target, random).ifPresent(results::add);
+            }
+
+            return results;
+        };
+    }
+
+    @Override
+    protected boolean consume(final List<BlockResult> result, final long deadline)
+    {
+        if (activeResults == null)
+            activeResults = result.iterator();
+
+        while (activeResults.hasNext())
+        {
+            if (System.nanoTime() >= deadline)
+                return false;
+
+            apply(activeResults.next());
+        }
+
+        activeResults = null;
+        return true;
+    }
+
+    @Override
+    protected void onFinished()
+    {
+        activeResults = null;
+        if (changeTracker != null && !beforeStates.isEmpty())
+        {
+            changeTracker.onBlocksUpdated(beforeStates, afterStates);
+        }
+    }
+
+    @Override
+    protected void onCompleted()
+    {
+        source.sendSuccess(() -> LocalStrings.CommandBulkEditCompleted.getText(getId(), changedBlockCount), true);
+    }
+
+    private Optional<BlockResult> calculate(final BlockTarget target, final RandomSource random)
+    {
+        final IStateEntryStorage before = target.storage();
+        final BitRange range = getBitRangeIn(target.position());
+        final Optional<IBlockInformation> uniformInformation = operation.getUniformInformation();
+
+        final IStateEntryStorage after;
+        if (range.covers(bitsPerBlockSide) && uniformInformation.isPresent() && before.getContainedPalette().stream().allMatch(this::isEditable))
+        {
+            //Everything is replaced with the same state, so we can skip the per bit processing.
+            if (isFilledWith(before, uniformInformation.get()))
+                return Optional.empty();
+
+            after = new SimpleStateEntryStorage(before.getSize());
+            after.initializeWith(uniformInformation.get());
+        }
+        else
+        {
+            after = before.createSnapshot();
+            boolean changed = false;
+            try (final IBatchMutation ignored = after.batch())
+            {
+                for (int x = range.minX(); x <= range.maxX(); x++)
+                {
+                    for (int y = range.minY(); y <= range.maxY(); y++)
+                    {
+                        for (int z = range.minZ(); z <= range.maxZ(); z++)
+                        {
+                            final IBlockInformation current = after.getBlockInformation(x, y, z);
+                            if (!isEditable(current))
+                                continue;
+
+                            final IBlockInformation next = operation.getNextInformation(random);
+                            if (!next.equals(current))
+                            {
+                                after.setBlockInformation(x, y, z, next);
+                                changed = true;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (!changed)
+                return Optional.empty();
+        }
+
+        if (changeTracker == null)
+            return Optional.of(new BlockResult(target.position(), after, null, null));
+
+        return Optional.of(new BlockResult(
+          target.position(),
+          after,
+          MultiStateSnapshotUtils.createFromStorage(before),
+          MultiStateSnapshotUtils.createFromStorage(after)
+        ));
+    }
+
+    private void apply(final BlockResult result)
+    {
+        if (!level.isLoaded(result.position()))
+            return;
+
+        try (final IBatchMutation ignored = IMutatorFactory.getInstance().in(level, result.position()).batch())
+        {
+            if (!(level.getBlockEntity(result.position()) instanceof ChiseledBlockEntity chiseledBlockEntity))
+                return;
+
+            chiseledBlockEntity.replaceStorage(result.storage());
+            changedBlockCount++;
+
+            if (changeTracker != null)
+            {
+                beforeStates.putIfAbsent(result.position(), result.before());
+                afterStates.put(result.position(), result.after());
+            }
+        }
+    }
+
+    private boolean isEditable(final IBlockInformation blockInformation)
+    {
+        return blockInformation.isAir() || IEligibilityManager.getInstance().canBeChiseled(blockInformation);
+    }
+
+    private static boolean isFilledWith(final IStateEntryStorage storage, final IBlockInformation blockInformation)
+    {
+        for (int x = 0; x < storage.getSize(); x++)
+        {
+            for (int y = 0; y < storage.getSize(); y++)
+            {
+                for (int z = 0; z < storage.getSize(); z++)
+                {
+                    if (!storage.getBlockInformation(x, y, z).equals(blockInformation))
+                        return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private record BlockTarget(BlockPos position, IStateEntryStorage storage) {}
+
+    record BlockResult(BlockPos position, IStateEntryStorage storage, IMultiStateSnapshot before, IMultiStateSnapshot after) {}
+}
@@ -0,0 +1,123 @@
+package mod.chiselsandbits.bulk;
+
+import mod.chiselsandbits.api.change.IChangeTracker;
+import mod.chiselsandbits.api.config.ICommonConfiguration;
+import mod.chiselsandbits.executor.ChiselsAndBitsExecutor;
+import mod.chiselsandbits.executor.ExecutorLane;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of all running bulk jobs and drives them from the server tick.
+ * All methods, apart from the job calculations themselves, are expected to be invoked on the game thread.
+ */
+public final class BulkEditManager
+{
+    private static final BulkEditManager INSTANCE = new BulkEditManager();
+
+    private final Map<Integer, AbstractBulkJob<?>> jobs = new LinkedHashMap<>();
+    private int nextJobId = 1;
+
+    private BulkEditManager()
+    {
+    }
+
+    public static BulkEditManager getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues a new bulk edit job for the given area.
+     *
+     * @param level         The level to edit.
+     * @param source        The command source which receives the progress reports.
+     * @param start         The start of the area.
+     * @param end           The end of the area.
+     * @param operation     The operation to perform on every bit in the area.
+     * @param changeTracker The change tracker to record the job in, if any.
+     * @return The queued job.
+     */
+    public BulkEditJob submit(
+      final ServerLevel level,
+      final CommandSourceStack source,
+      final Vec3 start,
+      final Vec3 end,
+      final IBulkEditOperation operation,
+      @Nullable final IChangeTracker changeTracker)
+    {
+        final BulkEditJob job = new BulkEditJob(nextJobId++, level, source, start, end, operation, changeTracker);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Queues a new job which collects the statistics of the given area.
+     *
+     * @param level  The level to collect the statistics in.
+     * @param source The command source which receives the statistics.
+     * @param start  The start of the area.
+     * @param end    The end of the area.
+     * @return The queued job.
+     */
+    public RegionStatisticsJob submitStatistics(
+      final ServerLevel level,
+      final CommandSourceStack source,
+      final Vec3 start,
+      final Vec3 end)
+    {
+        final RegionStatisticsJob job = new RegionStatisticsJob(nextJobId++, level, source, start, end);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Requests the cancellation of the job with the given id.
+     *
+     * @param id The id of the job.
+     * @return The job which will be cancelled, if it exists.
+     */
+    public Optional<AbstractBulkJob<?>> cancel(final int id)
+    {
+        final AbstractBulkJob<?> job = jobs.get(id);
+        if (job == null)
+            return Optional.empty();
+
+        job.cancel();
+        return Optional.of(job);
+    }
+
+    public Collection<AbstractBulkJob<?>> getJobs()
+    {
+        return Collections.unmodifiableCollection(jobs.values());
+    }
+
+    public void onServerStarting()
+    {
+        jobs.values().forEach(AbstractBulkJob::cancel);
+        jobs.clear();
+        nextJobId = 1;
+    }
+
+    /**
+     * Processes the running jobs, in the order they were submitted, until the configured tick budget is used up.
+     */
+    public void tick()
+    {
+        if (jobs.isEmpty())
+            return;
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ICommonConfiguration.getInstance().getBulkEditingTickBudget().get());
+        final int maxInFlightUnits = ICommonConfiguration.getInstance().getBulkEditingThreadCount().get() * 2;
+        jobs.values().removeIf(job -> job.tick(deadline, maxInFlightUnits, ChiselsAndBitsExecutor.getInstance().getExecutor(ExecutorLane.BULK)));
+    }
+}
@@ -0,0 +1,95 @@
+package mod.chiselsandbits.bulk;
+
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import net.minecraft.util.RandomSource;
+
+import java.util.Optional;
+
+/**
+ * Describes what a bulk edit job writes into every editable bit of its area.
+ * <p>
+ * Implementations are invoked from the bulk edit worker threads, and as such need to be thread safe.
+ */
+public interface IBulkEditOperation
+{
+    /**
+     * Creates an operation which fills the area with a single state.
+     *
+     * @param blockInformation The state to fill the area with.
+     * @return The operation.
+     */
+    static IBulkEditOperation fill(final IBlockInformation blockInformation)
+    {
+        return new Uniform(blockInformation);
+    }
+
+    /**
+     * Creates an operation which clears the area.
+     *
+     * @return The operation.
+     */
+    static IBulkEditOperation clear()
+    {
+        return new Uniform(IBlockInformation.AIR);
+    }
+
+    /**
+     * Creates an operation which fills the area with a random pick from the given candidates for each bit.
+     *
+     * @param candidates The candidates to pick from.
+     * @return The operation.
+     */
+    static IBulkEditOperation fillRandomly(final IBlockInformation[] candidates)
+    {
+        if (candidates.length == 0)
+            throw new IllegalArgumentException("Can not fill randomly without any candidates.");
+
+        return new Random(candidates.clone());
+    }
+
+    /**
+     * Gives access to the state which this operation writes into every bit, if it always writes the same state.
+     * Allows the job to skip the per bit processing of blocks that are fully covered.
+     *
+     * @return An optional, containing the state if this operation is uniform.
+     */
+    Optional<IBlockInformation> getUniformInformation();
+
+    /**
+     * Gets the state which should be written into the next bit.
+     *
+     * @param random The random source of the current work unit.
+     * @return The state to write.
+     */
+    IBlockInformation getNextInformation(RandomSource random);
+
+    record Uniform(IBlockInformation blockInformation) implements IBulkEditOperation
+    {
+        @Override
+        public Optional<IBlockInformation> getUniformInformation()
+        {
+            return Optional.of(blockInformation);
+        }
+
+        @Override
+        public IBlockInformation getNextInformation(final RandomSource random)
+        {
+            return blockInformation;
+        }
+    }
+
+    record Random(IBlockInformation[] candidates) implements IBulkEditOperation
+    {
+        @Override
+        public Optional<IBlockInformation> getUniformInformation()
+        {
+            return Optional.empty();
+        }
+
+        @Override
+        public IBlockInformation getNextInformation(final RandomSource random)
+        {
+            return candidates[random.nextInt(candidates.length)];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package mod.chiselsandbits.bulk;
+
+import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.variant.state.IStateVariantManager;
+import mod.chiselsandbits.block.entities.ChiseledBlockEntity;
+import mod.chiselsandbits.blockinformation.BlockInformation;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Collects the amount of bits per state in an area, for example for the stats command.
+ * <p>
+ * Fully covered chiseled blocks contribute their cached statistics, plain blocks contribute their state for every covered bit.
+ * Only chiseled blocks which are partially covered by the area are counted bit by bit, on the bulk workers.
+ * Each work unit produces its own histogram, which are merged on the game thread.
+ */
+public final class RegionStatisticsJob extends AbstractBulkJob<Map<IBlockInformation, Long>>
+{
+    private final Map<IBlockInformation, Long> stateCounts = Maps.newHashMap();
+
+    RegionStatisticsJob(
+      final int id,
+      final ServerLevel level,
+      final CommandSourceStack source,
+      final Vec3 start,
+      final Vec3 end)
+    {
+        super(id, level, source, start, end);
+    }
+
+    @Override
+    protected Supplier<Map<IBlockInformation, Long>> prepare(final WorkUnit unit)
+    {
+        final List<Map<IBlockInformation, Integer>> cachedCounts = new ArrayList<>();
+        final List<BlockSample> samples = new ArrayList<>();
+        BlockPos.betweenClosed(unit.from(), unit.to()).forEach(position -> {
+            if (!level.isLoaded(position))
+                return;
+
+            final BitRange range = getBitRangeIn(position);
+            final BlockEntity blockEntity = level.getBlockEntity(position);
+            if (blockEntity instanceof ChiseledBlockEntity chiseledBlockEntity)
+            {
+                if (range.covers(bitsPerBlockSide))
+                {
+                    cachedCounts.add(Map.copyOf(chiseledBlockEntity.getStatistics().getStateCounts()));
+                }
+                else
+                {
+                    samples.add(new BlockSample(range, chiseledBlockEntity.createStorageSnapshot(), null));
+                }
+                return;
+            }
+
+            final BlockState blockState = level.getBlockState(position);
+            samples.add(new BlockSample(
+              range,
+              null,
+              new BlockInformation(blockState, IStateVariantManager.getInstance().getStateVariant(blockState, Optional.ofNullable(blockEntity)))
+            ));
+        });
+
+        return () -> {
+            final Map<IBlockInformation, Long> histogram = Maps.newHashMap();
+            for (final Map<IBlockInformation, Integer> counts : cachedCounts)
+            {
+                counts.forEach((state, count) -> histogram.merge(state, (long) count, Long::sum));
+            }
+
+            for (final BlockSample sample : samples)
+            {
+                if (isCancelled())
+                    break;
+
+                sample.countInto(histogram);
+            }
+
+            return histogram;
+        };
+    }
+
+    @Override
+    protected boolean consume(final Map<IBlockInformation, Long> result, final long deadline)
+    {
+        result.forEach((state, count) -> stateCounts.merge(state, count, Long::sum));
+        return true;
+    }
+
+    @Override
+    protected void onCompleted()
+    {
+        source.sendSuccess(() -> Component.literal("Collected the following statistics for the requested area:"), true);
+        source.sendSuccess(() -> Component.literal("----------------------------------------------------------"), true);
+        source.sendSuccess(() -> Component.literal("BlockStates:"), true);
+        source.sendSuccess(() -> Component.literal("############"), true);
+        stateCounts.entrySet().stream()
+          .sorted(Map.Entry.<IBlockInformation, Long>comparingByValue().reversed())
+          .forEach(entry -> source.sendSuccess(
+            () -> Component.literal(" > ").append(entry.getKey().getBlockState().getBlock().getName()).append(Component.literal(": " + entry.getValue())),
+            true
+          ));
+    }
+
+    private record BlockSample(BitRange range, IStateEntryStorage storage, IBlockInformation blockInformation)
+    {
+        private void countInto(final Map<IBlockInformation, Long> histogram)
+        {
+            if (storage == null)
+            {
+                histogram.merge(blockInformation, (long) range.getVolume(), Long::sum);
+                return;
+            }
+
+            for (int x = range.minX(); x <= range.maxX(); x++)
+            {
+                for (int y = range.minY(); y <= range.maxY(); y++)
+                {
+                    for (int z = range.minZ(); z <= range.maxZ(); z++)
+                    {
+                        histogram.merge(storage.getBlockInformation(x, y, z), 1L, Long::sum);
+                    }
+                }
+            }
+        }
+    }
+}
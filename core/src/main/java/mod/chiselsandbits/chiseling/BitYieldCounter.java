@@ -0,0 +1,42 @@
+package mod.chiselsandbits.chiseling;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.utils.BitInventoryUtils;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Tallies the bits which are removed during a single chiseling operation, so that they can be handed to the player in one go.
+ * The counts are kept as primitives, per distinct block information.
+ */
+public final class BitYieldCounter
+{
+    private final Object2IntOpenHashMap<IBlockInformation> counts = new Object2IntOpenHashMap<>();
+
+    /**
+     * Records a single removed bit.
+     *
+     * @param blockInformation The block information of the removed bit.
+     */
+    public void add(final IBlockInformation blockInformation)
+    {
+        counts.addTo(blockInformation, 1);
+    }
+
+    /**
+     * Hands all recorded bits to the given player, spawning what does not fit.
+     * The counter is empty afterwards.
+     *
+     * @param playerEntity The player to give the bits to.
+     */
+    public void insertIntoOrSpawn(final Player playerEntity)
+    {
+        for (final Object2IntMap.Entry<IBlockInformation> entry : counts.object2IntEntrySet())
+        {
+            BitInventoryUtils.insertIntoOrSpawn(playerEntity, entry.getKey(), entry.getIntValue());
+        }
+
+        counts.clear();
+    }
+}
@@ -1,17 +1,24 @@
 package mod.chiselsandbits.chiseling;
 
 import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.chiseling.ChiselingOperation;
 import mod.chiselsandbits.api.chiseling.IChiselingContext;
 import mod.chiselsandbits.api.chiseling.metadata.IMetadataKey;
 import mod.chiselsandbits.api.chiseling.mode.IChiselMode;
+import mod.chiselsandbits.api.inventory.bit.IBitInventory;
+import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
 import mod.chiselsandbits.api.item.chisel.IChiselingItem;
+import mod.chiselsandbits.api.item.click.ClickProcessingState;
 import mod.chiselsandbits.api.multistate.StateEntrySize;
 import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
+import mod.chiselsandbits.api.multistate.mutator.IMutableStateEntryInfo;
 import mod.chiselsandbits.api.multistate.mutator.IMutatorFactory;
+import mod.chiselsandbits.api.multistate.mutator.world.IInWorldMutableStateEntryInfo;
 import mod.chiselsandbits.api.multistate.mutator.world.IWorldAreaMutator;
 import mod.chiselsandbits.api.permissions.IPermissionHandler;
+import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.VectorUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
@@ -21,14 +28,18 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public class ChiselingContext implements IChiselingContext
 {
@@ -186,6 +197,39 @@ public class ChiselingContext implements IChiselingContext
         return this;
     }
 
+    @Override
+    public @NotNull IChiselingContext include(final AABB worldArea)
+    {
+        final Vec3 areaStart = new Vec3(worldArea.minX, worldArea.minY, worldArea.minZ);
+        final Vec3 areaEnd = new Vec3(worldArea.maxX, worldArea.maxY, worldArea.maxZ);
+
+        final Optional<IWorldAreaMutator> currentMutator = getMutator();
+        if (currentMutator.isEmpty())
+        {
+            this.mutator = IMutatorFactory.getInstance().covering(world, areaStart, areaEnd);
+            return this;
+        }
+
+        final IWorldAreaMutator worldAreaMutator = currentMutator.get();
+        if (worldAreaMutator.isInside(areaStart) && worldAreaMutator.isInside(areaEnd))
+            return this;
+
+        //Grow the bounds once, instead of replacing the mutator for every corner.
+        final Vec3 start = new Vec3(
+          Math.min(areaStart.x(), worldAreaMutator.getInWorldStartPoint().x()),
+          Math.min(areaStart.y(), worldAreaMutator.getInWorldStartPoint().y()),
+          Math.min(areaStart.z(), worldAreaMutator.getInWorldStartPoint().z())
+        );
+        final Vec3 end = new Vec3(
+          Math.max(areaEnd.x(), worldAreaMutator.getInWorldEndPoint().x()),
+          Math.max(areaEnd.y(), worldAreaMutator.getInWorldEndPoint().y()),
+          Math.max(areaEnd.z(), worldAreaMutator.getInWorldEndPoint().z())
+        );
+
+        this.mutator = IMutatorFactory.getInstance().covering(world, start, end);
+        return this;
+    }
+
     @Override
     public void setComplete()
     {
@@ -272,8 +316,112 @@ public class ChiselingContext implements IChiselingContext
             return 0;
         }
 
-        final AtomicBoolean broken = new AtomicBoolean(false);
         final int currentDamage = causingItemStack.getDamageValue();
+        damageCausingItem(damage);
+
+        onDamaged.run();
+        return Math.min(damage, currentDamage);
+    }
+
+    @Override
+    public int reserveItemDamage(final int bitCount)
+    {
+        if (bitCount <= 0)
+            return 0;
+
+        if (!this.supportsDamaging || this.simulation)
+            return bitCount;
+
+        if (causingItemStack.isEmpty())
+            return 0;
+
+        //These cases never actually damage the item, see ItemStack#hurtAndBreak.
+        if (!causingItemStack.isDamageableItem() || world.isClientSide() || playerEntity.getAbilities().instabuild)
+            return bitCount;
+
+        //The damage is applied in chunks of the remaining durability. A chunk can only break the item if none of its points
+        //were absorbed by enchantments, in which case it breaks exactly on the last bit of the chunk.
+        int reserved = 0;
+        while (reserved < bitCount && !causingItemStack.isEmpty())
+        {
+            final int remainingDurability = Math.max(1, causingItemStack.getMaxDamage() - causingItemStack.getDamageValue());
+            final int chunk = Math.min(bitCount - reserved, remainingDurability);
+
+            damageCausingItem(chunk);
+            reserved += chunk;
+        }
+
+        return reserved;
+    }
+
+    @Override
+    public ClickProcessingState consumeAndClear(final IWorldAreaMutator mutator, final Player playerEntity)
+    {
+        final List<IInWorldMutableStateEntryInfo> targets = collectTargets(mutator);
+        consume(targets, playerEntity, IMutableStateEntryInfo::clear);
+        return ClickProcessingState.ALLOW;
+    }
+
+    @Override
+    public ClickProcessingState consumeAndReplace(final IWorldAreaMutator mutator, final Player playerEntity, final IBlockInformation blockInformation)
+    {
+        final List<IInWorldMutableStateEntryInfo> targets = collectTargets(mutator);
+
+        final IBitInventory playerBitInventory = IBitInventoryManager.getInstance().create(playerEntity);
+        if (!playerEntity.isCreative() && !playerBitInventory.canExtract(blockInformation, targets.size()))
+        {
+            setError(LocalStrings.ChiselAttemptFailedNotEnoughBits.getText(blockInformation.getBlockState().getBlock().getName()));
+            return ClickProcessingState.DEFAULT;
+        }
+
+        final int reservedBitCount = consume(targets, playerEntity, state -> state.overrideState(blockInformation));
+
+        //Only the bits which were actually replaced are consumed, the rest is kept when the chisel broke.
+        if (!playerEntity.isCreative())
+            playerBitInventory.extract(blockInformation, reservedBitCount);
+
+        return ClickProcessingState.ALLOW;
+    }
+
+    private List<IInWorldMutableStateEntryInfo> collectTargets(final IWorldAreaMutator mutator)
+    {
+        final Predicate<IStateEntryInfo> filter = getStateFilter()
+          .map(builder -> builder.apply(mutator))
+          .orElse(state -> true);
+
+        return mutator.inWorldMutableStream()
+          .filter(filter)
+          .collect(Collectors.toList());
+    }
+
+    private int consume(
+      final List<IInWorldMutableStateEntryInfo> targets,
+      final Player playerEntity,
+      final Consumer<IInWorldMutableStateEntryInfo> operation)
+    {
+        final int reservedBitCount = reserveItemDamage(targets.size());
+
+        final BitYieldCounter bitYields = new BitYieldCounter();
+        for (int i = 0; i < reservedBitCount; i++)
+        {
+            final IInWorldMutableStateEntryInfo state = targets.get(i);
+            bitYields.add(state.getBlockInformation());
+            operation.accept(state);
+        }
+
+        if (targets.isEmpty()) {
+            setError(LocalStrings.ChiselAttemptFailedNoValidStateFound.getText());
+        } else if (reservedBitCount < targets.size()) {
+            setError(LocalStrings.ChiselAttemptFailedChiselBroke.getText());
+        }
+
+        bitYields.insertIntoOrSpawn(playerEntity);
+        return reservedBitCount;
+    }
+
+    private void damageCausingItem(final int damage)
+    {
+        final AtomicBoolean broken = new AtomicBoolean(false);
         this.causingItemStack.hurtAndBreak(damage, playerEntity, playerEntity -> {
             broken.set(true);
 
@@ -283,11 +431,9 @@ public class ChiselingContext implements IChiselingContext
             playerEntity.broadcastBreakEvent(hand);
         });
 
-        onDamaged.run();
         if (broken.get()) {
             causingItemStack = ItemStack.EMPTY;
         }
-        return Math.min(damage, currentDamage);
     }
 
     @Override
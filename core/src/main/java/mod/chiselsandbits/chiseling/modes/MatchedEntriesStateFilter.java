@@ -0,0 +1,88 @@
+package mod.chiselsandbits.chiseling.modes;
+
+import mod.chiselsandbits.api.multistate.StateEntrySize;
+import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
+import mod.chiselsandbits.api.util.VectorUtils;
+import mod.chiselsandbits.utils.StateEntryMatchUtils;
+import net.minecraft.core.Vec3i;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A state filter for modes which select a set of entries in a single block up front.
+ * The selection is kept as a bit set of entry indices, see {@link StateEntryMatchUtils#getEntryIndex(int, int, int)},
+ * so that testing an entry is a single bit lookup.
+ * <p>
+ * Shaped modes, like the sphere and the drawn line and wall, select entries by their geometry instead of their material,
+ * and keep their own predicates.
+ */
+public final class MatchedEntriesStateFilter implements Predicate<IStateEntryInfo>
+{
+    private final BitSet matchedEntries;
+
+    public MatchedEntriesStateFilter(final BitSet matchedEntries)
+    {
+        this.matchedEntries = matchedEntries;
+    }
+
+    /**
+     * Creates a filter which matches the given positions.
+     *
+     * @param positions The in block positions of the matched entries, in bits.
+     * @return The filter.
+     */
+    public static MatchedEntriesStateFilter of(final Set<Vec3i> positions)
+    {
+        final BitSet matchedEntries = new BitSet(StateEntrySize.current().getBitsPerBlock());
+        positions.forEach(position -> matchedEntries.set(
+          StateEntryMatchUtils.getEntryIndex(position.getX(), position.getY(), position.getZ())
+        ));
+
+        return new MatchedEntriesStateFilter(matchedEntries);
+    }
+
+    @Override
+    public boolean test(final IStateEntryInfo iStateEntryInfo)
+    {
+        final Vec3i position = VectorUtils.toInteger(
+          iStateEntryInfo.getStartPoint().x() * StateEntrySize.current().getBitsPerBlockSide(),
+          iStateEntryInfo.getStartPoint().y() * StateEntrySize.current().getBitsPerBlockSide(),
+          iStateEntryInfo.getStartPoint().z() * StateEntrySize.current().getBitsPerBlockSide()
+        );
+
+        return matchedEntries.get(
+          StateEntryMatchUtils.getEntryIndex(position.getX(), position.getY(), position.getZ())
+        );
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof final MatchedEntriesStateFilter that))
+        {
+            return false;
+        }
+
+        return matchedEntries.equals(that.matchedEntries);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return matchedEntries.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MatchedEntriesStateFilter{" +
+                 "matchedEntries=" + matchedEntries +
+                 '}';
+    }
+}
@@ -1,7 +1,6 @@
 package mod.chiselsandbits.chiseling.modes.connected.material;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.axissize.CollisionType;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
@@ -21,9 +20,9 @@ import mod.chiselsandbits.api.util.IQuadFunction;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
+import mod.chiselsandbits.chiseling.modes.MatchedEntriesStateFilter;
 import mod.chiselsandbits.registrars.ModChiselModeGroups;
 import mod.chiselsandbits.registrars.ModMetadataKeys;
-import mod.chiselsandbits.utils.BitInventoryUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
 import mod.chiselsandbits.voxelshape.VoxelShapeManager;
 import net.minecraft.core.BlockPos;
@@ -77,8 +76,7 @@ public class ConnectedMaterialChiselingMode extends AbstractCustomRegistryEntry
           position -> IMutatorFactory.getInstance().in(
             context.getWorld(),
             VectorUtils.toBlockPos(position)
-          ),
-          direction -> Vec3i.ZERO
+          )
         );
 
         if (context.isSimulation())
@@ -92,39 +90,8 @@ public class ConnectedMaterialChiselingMode extends AbstractCustomRegistryEntry
               {
                   context.setComplete();
 
-                  final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                  final Predicate<IStateEntryInfo> filter = context.getStateFilter()
-                    .map(builder -> builder.apply(mutator))
-                    .orElse((state) -> true);
-
-                  final int totalModifiedStates = mutator.inWorldMutableStream()
-                    .filter(filter)
-                    .mapToInt(state -> {
-                        final IBlockInformation currentState = state.getBlockInformation();
-
-                        return context.tryDamageItemAndDoOrSetBrokenError(
-                          () -> {
-                              resultingBitCount.putIfAbsent(currentState, 0);
-                              resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                              state.clear();
-                          });
-                    })
-                    .sum();
-
-                  if (totalModifiedStates == 0) {
-                      context.setError(LocalStrings.ChiselAttemptFailedNoValidStateFound.getText());
-                  }
-
-                  resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(
-                    Player,
-                    blockState,
-                    count
-                  ));
+                  return context.consumeAndClear(mutator, Player);
               }
-
-              return ClickProcessingState.ALLOW;
           }).orElse(ClickProcessingState.DEFAULT)
         );
     }
@@ -186,11 +153,6 @@ public class ConnectedMaterialChiselingMode extends AbstractCustomRegistryEntry
             context.getWorld(),
             VectorUtils.toBlockPos(position.subtract(1, 1, 1)),
             VectorUtils.toBlockPos(position.add(1, 1, 1))
-          ),
-          direction -> new Vec3i(
-            direction.getNormal().getX() * depth,
-            direction.getNormal().getY() * depth,
-            direction.getNormal().getZ() * depth
           )
         );
 
@@ -317,8 +279,7 @@ public class ConnectedMaterialChiselingMode extends AbstractCustomRegistryEntry
       final UnaryOperator<Direction> searchDirectionAdapter,
       final Function<Direction, Vec3> placementFacingAdapter,
       final IQuadFunction<BlockPos, Vec3, Direction, Vec3, Vec3> stateExtractionAdapter,
-      final Function<Vec3, IAreaAccessor> areaAccessorBuilder,
-      final Function<Direction, Vec3i> filterOffsetProducer
+      final Function<Vec3, IAreaAccessor> areaAccessorBuilder
     )
     {
         final HitResult hitResult = RayTracingUtils.rayTracePlayer(Player);
@@ -451,7 +412,7 @@ public class ConnectedMaterialChiselingMode extends AbstractCustomRegistryEntry
 
         context.include(hitPos, Vec3.ZERO);
         context.include(hitPos, new Vec3(0.9999, 0.9999, 0.9999));
-        context.setStateFilter(accessor -> new SelectedBitStateFilter(filterOffsetProducer.apply(blockHitResult.getDirection()), validPositions));
+        context.setStateFilter(accessor -> MatchedEntriesStateFilter.of(validPositions));
 
         context.setMetadata(ModMetadataKeys.VALID_POSITIONS.get(), validPositions);
         context.setMetadata(ModMetadataKeys.TARGETED_SIDE.get(), blockHitResult.getDirection());
@@ -492,67 +453,4 @@ public class ConnectedMaterialChiselingMode extends AbstractCustomRegistryEntry
 
         return VoxelShapeManager.getInstance().get(context.getMutator().get(), CollisionType.ALL);
     }
-
-    private static final class SelectedBitStateFilter implements Predicate<IStateEntryInfo>
-    {
-
-        private final Vec3i      offset;
-        private final Set<Vec3i> validPositions;
-
-        public SelectedBitStateFilter(final Vec3i offset, final Set<Vec3i> validPositions)
-        {
-            this.offset = offset;
-            this.validPositions = validPositions;
-        }
-
-        @Override
-        public boolean test(final IStateEntryInfo iStateEntryInfo)
-        {
-            final Vec3i position = VectorUtils.toInteger(
-              iStateEntryInfo.getStartPoint().x() * StateEntrySize.current().getBitsPerBlockSide(),
-              iStateEntryInfo.getStartPoint().y() * StateEntrySize.current().getBitsPerBlockSide(),
-              iStateEntryInfo.getStartPoint().z() * StateEntrySize.current().getBitsPerBlockSide()
-            );
-
-            return validPositions.contains(
-              position
-            );
-        }
-
-        @Override
-        public int hashCode()
-        {
-            int result = offset.hashCode();
-            result = 31 * result + validPositions.hashCode();
-            return result;
-        }
-
-        @Override
-        public boolean equals(final Object o)
-        {
-            if (this == o)
-            {
-                return true;
-            }
-            if (!(o instanceof final SelectedBitStateFilter that))
-            {
-                return false;
-            }
-
-            if (!offset.equals(that.offset))
-            {
-                return false;
-            }
-            return validPositions.equals(that.validPositions);
-        }
-
-        @Override
-        public String toString()
-        {
-            return "SelectedBitStateFilter{" +
-                     "offset=" + offset +
-                     ", validPositions=" + validPositions +
-                     '}';
-        }
-    }
 }
@@ -1,7 +1,6 @@
 package mod.chiselsandbits.chiseling.modes.cubed;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.axissize.CollisionType;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
@@ -14,12 +13,10 @@ import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
 import mod.chiselsandbits.api.multistate.StateEntrySize;
 import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.util.IBatchMutation;
-import mod.chiselsandbits.api.util.BlockPosStreamProvider;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
 import mod.chiselsandbits.registrars.ModChiselModeGroups;
-import mod.chiselsandbits.utils.BitInventoryUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
 import mod.chiselsandbits.voxelshape.VoxelShapeManager;
 import net.minecraft.ChatFormatting;
@@ -29,6 +26,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
@@ -36,7 +34,6 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -83,28 +80,8 @@ public class CubedChiselMode extends AbstractCustomRegistryEntry implements IChi
               try (IBatchMutation ignored =
                      mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(playerEntity)))
               {
-                  final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                  final int totalItemDamage = mutator.inWorldMutableStream()
-                    .mapToInt(state -> {
-                        final IBlockInformation currentState = state.getBlockInformation();
-                        return context.tryDamageItemAndDoOrSetBrokenError(
-                          () -> {
-                              resultingBitCount.putIfAbsent(currentState, 0);
-                              resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                              state.clear();
-                          });
-                    }).sum();
-
-                  resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(
-                    playerEntity,
-                    blockState,
-                    count
-                  ));
+                  return context.consumeAndClear(mutator, playerEntity);
               }
-
-              return ClickProcessingState.ALLOW;
           }).orElse(ClickProcessingState.DEFAULT)
         );
     }
@@ -253,15 +230,12 @@ public class CubedChiselMode extends AbstractCustomRegistryEntry implements IChi
               .multiply(StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit());
         }
 
-        final Vec3 finalAlignmentOffset = alignmentOffset.multiply(fullFacingVector);
-        BlockPosStreamProvider.getForRange(bitsPerSide)
-          .forEach(bitPos -> context.include(
-            hitVector
-              .subtract(finalAlignmentOffset)
-              .add(Vec3.atLowerCornerOf(bitPos)
-                .multiply(fullFacingVector)
-                .multiply(StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit()))
-          ));
+        final Vec3 cubeStart = hitVector.subtract(alignmentOffset.multiply(fullFacingVector));
+        final Vec3 cubeEnd = cubeStart.add(
+          fullFacingVector.multiply(bitsPerSide - 1, bitsPerSide - 1, bitsPerSide - 1)
+            .multiply(StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit())
+        );
+        context.include(new AABB(cubeStart, cubeEnd));
 
         return Optional.empty();
     }
@@ -1,7 +1,6 @@
 package mod.chiselsandbits.chiseling.modes.draw;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
 import mod.chiselsandbits.api.chiseling.IChiselingContext;
@@ -22,7 +21,6 @@ import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
 import mod.chiselsandbits.registrars.ModChiselModeGroups;
 import mod.chiselsandbits.registrars.ModMetadataKeys;
-import mod.chiselsandbits.utils.BitInventoryUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
 import mod.chiselsandbits.utils.VoxelShapeUtils;
 import net.minecraft.ChatFormatting;
@@ -43,7 +41,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -104,29 +101,7 @@ public class DrawnWallChiselMode extends AbstractCustomRegistryEntry implements
         context.getMutator().ifPresent(mutator -> {
             try (IBatchMutation ignored =
                          mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(playerEntity))) {
-                final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                final Predicate<IStateEntryInfo> filter = context.getStateFilter()
-                        .map(factory -> factory.apply(mutator))
-                        .orElse((s) -> true);
-
-                mutator.inWorldMutableStream()
-                        .filter(filter)
-                        .forEach(state -> {
-                            final IBlockInformation currentState = state.getBlockInformation();
-                            if (context.tryDamageItem()) {
-                                resultingBitCount.putIfAbsent(currentState, 0);
-                                resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                                state.clear();
-                            }
-                        });
-
-                resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(
-                        playerEntity,
-                        blockState,
-                        count
-                ));
+                context.consumeAndClear(mutator, playerEntity);
             }
         });
     }
@@ -1,7 +1,6 @@
 package mod.chiselsandbits.chiseling.modes.line;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.axissize.CollisionType;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
@@ -18,7 +17,6 @@ import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
 import mod.chiselsandbits.registrars.ModChiselModeGroups;
-import mod.chiselsandbits.utils.BitInventoryUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
 import mod.chiselsandbits.voxelshape.VoxelShapeManager;
 import net.minecraft.ChatFormatting;
@@ -35,7 +33,6 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -67,23 +64,8 @@ public class LinedChiselMode extends AbstractCustomRegistryEntry implements IChi
             try (IBatchMutation ignored = mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(playerEntity))) {
                 context.setComplete();
 
-                final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                mutator.inWorldMutableStream().forEach(state -> {
-                    final IBlockInformation currentState = state.getBlockInformation();
-
-                    if (context.tryDamageItem()) {
-                        resultingBitCount.putIfAbsent(currentState, 0);
-                        resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                        state.clear();
-                    }
-                });
-
-                resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(playerEntity, blockState, count));
+                return context.consumeAndClear(mutator, playerEntity);
             }
-
-            return ClickProcessingState.ALLOW;
         }).orElse(ClickProcessingState.DEFAULT));
     }
 
@@ -1,7 +1,6 @@
 package mod.chiselsandbits.chiseling.modes.plane;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.axissize.CollisionType;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
@@ -13,13 +12,11 @@ import mod.chiselsandbits.api.item.click.ClickProcessingState;
 import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
 import mod.chiselsandbits.api.multistate.StateEntrySize;
 import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
-import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
 import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
 import mod.chiselsandbits.registrars.ModChiselModeGroups;
-import mod.chiselsandbits.utils.BitInventoryUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
 import mod.chiselsandbits.voxelshape.VoxelShapeManager;
 import net.minecraft.ChatFormatting;
@@ -36,10 +33,8 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 import static mod.chiselsandbits.block.entities.ChiseledBlockEntity.ONE_THOUSANDS;
 
@@ -83,39 +78,8 @@ public class PlaneChiselMode extends AbstractCustomRegistryEntry implements IChi
               {
                   context.setComplete();
 
-                  final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                  final Predicate<IStateEntryInfo> filter = context.getStateFilter()
-                                                                     .map(builder -> builder.apply(mutator))
-                                                                     .orElse((state) -> true);
-
-                  final int totalModifiedStates = mutator.inWorldMutableStream()
-                    .filter(filter)
-                    .mapToInt(state -> {
-                        final IBlockInformation currentState = state.getBlockInformation();
-
-                        return context.tryDamageItemAndDoOrSetBrokenError(
-                          () -> {
-                              resultingBitCount.putIfAbsent(currentState, 0);
-                              resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                              state.clear();
-                          });
-                    })
-                    .sum();
-
-                  if (totalModifiedStates == 0) {
-                      context.setError(LocalStrings.ChiselAttemptFailedNoValidStateFound.getText());
-                  }
-
-                  resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(
-                    playerEntity,
-                    blockState,
-                    count
-                  ));
+                  return context.consumeAndClear(mutator, playerEntity);
               }
-
-              return ClickProcessingState.ALLOW;
           }).orElse(ClickProcessingState.DEFAULT)
         );
     }
@@ -1,15 +1,12 @@
 package mod.chiselsandbits.chiseling.modes.replace;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import mod.chiselsandbits.api.axissize.CollisionType;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
 import mod.chiselsandbits.api.chiseling.ChiselingOperation;
 import mod.chiselsandbits.api.chiseling.IChiselingContext;
 import mod.chiselsandbits.api.chiseling.mode.IChiselMode;
-import mod.chiselsandbits.api.inventory.bit.IBitInventory;
-import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
 import mod.chiselsandbits.api.item.click.ClickProcessingState;
 import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
 import mod.chiselsandbits.api.multistate.StateEntrySize;
@@ -17,13 +14,13 @@ import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
 import mod.chiselsandbits.api.multistate.mutator.IMutatorFactory;
 import mod.chiselsandbits.api.util.IBatchMutation;
-import mod.chiselsandbits.api.util.LambdaExceptionUtils;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
+import mod.chiselsandbits.chiseling.modes.MatchedEntriesStateFilter;
 import mod.chiselsandbits.registrars.ModMetadataKeys;
-import mod.chiselsandbits.utils.BitInventoryUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
+import mod.chiselsandbits.utils.StateEntryMatchUtils;
 import mod.chiselsandbits.voxelshape.VoxelShapeManager;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -41,7 +38,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 public class ReplaceChiselingMode extends AbstractCustomRegistryEntry implements IChiselMode
 {
@@ -84,54 +80,8 @@ public class ReplaceChiselingMode extends AbstractCustomRegistryEntry implements
 
                   context.setComplete();
 
-                  final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                  final Predicate<IStateEntryInfo> filter = context.getStateFilter()
-                    .map(builder -> builder.apply(mutator))
-                    .orElse((state) -> true);
-
-                  final int missingBitCount = (int) mutator.stream()
-                    .filter(filter)
-                    .count();
-
-                  final IBitInventory playerBitInventory = IBitInventoryManager.getInstance().create(player);
-
-                  if (!player.isCreative() && !playerBitInventory.canExtract(heldBlockState, missingBitCount))
-                  {
-                      context.setError(LocalStrings.ChiselAttemptFailedNotEnoughBits.getText(heldBlockState.getBlockState().getBlock().getName()));
-                      return ClickProcessingState.DEFAULT;
-                  }
-
-                  final int totalModifiedStates = mutator.inWorldMutableStream()
-                    .filter(filter)
-                    .mapToInt(LambdaExceptionUtils.rethrowToIntFunction(state -> {
-                        final IBlockInformation currentState = state.getBlockInformation();
-
-                        return context.tryDamageItemAndDoOrSetBrokenError(
-                          () -> {
-                              resultingBitCount.putIfAbsent(currentState, 0);
-                              resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                              state.overrideState(heldBlockState);
-                          });
-                    }))
-                    .sum();
-
-                  if (totalModifiedStates == 0) {
-                      context.setError(LocalStrings.ChiselAttemptFailedNoValidStateFound.getText());
-                  }
-
-                  if (!player.isCreative())
-                        playerBitInventory.extract(heldBlockState, missingBitCount);
-
-                  resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(
-                    player,
-                    blockState,
-                    count
-                  ));
+                  return context.consumeAndReplace(mutator, player, heldBlockState);
               }
-
-              return ClickProcessingState.ALLOW;
           }).orElse(ClickProcessingState.DEFAULT)
         );
     }
@@ -250,19 +200,20 @@ public class ReplaceChiselingMode extends AbstractCustomRegistryEntry implements
             return Optional.of(ClickProcessingState.DEFAULT);
         }
 
-        worldAccessor.stream()
-          .filter(state -> state.getBlockInformation().equals(targetedInfo.get().getBlockInformation()))
-          .map(state -> state.getStartPoint().multiply(StateEntrySize.current().getBitsPerBlockSideScalingVector()))
-          .map(position -> VectorUtils.toInteger(
-            position.x(),
-            position.y(),
-            position.z()
-          ))
+        final IBlockInformation targetedBlockInformation = targetedInfo.get().getBlockInformation();
+        final BitSet validEntries = StateEntryMatchUtils.findMatchingEntries(
+          context.getWorld(),
+          hitPos,
+          worldAccessor,
+          targetedBlockInformation::equals
+        );
+        validEntries.stream()
+          .mapToObj(StateEntryMatchUtils::getEntryPosition)
           .forEach(validPositions::add);
 
         context.include(hitPos, Vec3.ZERO);
         context.include(hitPos, new Vec3(0.9999, 0.9999, 0.9999));
-        context.setStateFilter(accessor -> new SelectedBitStateFilter(validPositions));
+        context.setStateFilter(accessor -> new MatchedEntriesStateFilter(validEntries));
 
         context.setMetadata(ModMetadataKeys.VALID_POSITIONS.get(), validPositions);
         context.setMetadata(ModMetadataKeys.TARGETED_SIDE.get(), blockHitResult.getDirection());
@@ -309,57 +260,4 @@ public class ReplaceChiselingMode extends AbstractCustomRegistryEntry implements
     {
         return this.multiLineDisplayName;
     }
-
-    private static final class SelectedBitStateFilter implements Predicate<IStateEntryInfo> {
-
-        private final Set<Vec3i> validPositions;
-
-        public SelectedBitStateFilter( final Set<Vec3i> validPositions)
-        {
-            this.validPositions = validPositions;
-        }
-
-        @Override
-        public boolean test(final IStateEntryInfo iStateEntryInfo)
-        {
-            final Vec3i position = VectorUtils.toInteger(
-              iStateEntryInfo.getStartPoint().x() * StateEntrySize.current().getBitsPerBlockSide(),
-              iStateEntryInfo.getStartPoint().y() * StateEntrySize.current().getBitsPerBlockSide(),
-              iStateEntryInfo.getStartPoint().z() * StateEntrySize.current().getBitsPerBlockSide()
-            );
-
-            return validPositions.contains(
-                position
-            );
-        }
-
-        @Override
-        public boolean equals(final Object o)
-        {
-            if (this == o)
-            {
-                return true;
-            }
-            if (!(o instanceof final SelectedBitStateFilter that))
-            {
-                return false;
-            }
-
-            return validPositions.equals(that.validPositions);
-        }
-
-        @Override
-        public int hashCode()
-        {
-            return validPositions.hashCode();
-        }
-
-        @Override
-        public String toString()
-        {
-            return "SelectedBitStateFilter{" +
-                     "validPositions=" + validPositions +
-                     '}';
-        }
-    }
 }
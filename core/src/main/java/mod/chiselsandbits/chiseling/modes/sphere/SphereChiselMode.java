@@ -1,7 +1,6 @@
 package mod.chiselsandbits.chiseling.modes.sphere;
 
 import com.communi.suggestu.scena.core.registries.AbstractCustomRegistryEntry;
-import com.google.common.collect.Maps;
 import com.mojang.datafixers.util.Either;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
@@ -18,36 +17,28 @@ import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
 import mod.chiselsandbits.api.multistate.accessor.world.IInWorldStateEntryInfo;
 import mod.chiselsandbits.api.multistate.accessor.world.IWorldAreaAccessor;
 import mod.chiselsandbits.api.multistate.mutator.world.IWorldAreaMutator;
-import mod.chiselsandbits.api.util.BlockPosForEach;
-import mod.chiselsandbits.api.util.BlockPosStreamProvider;
 import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.RayTracingUtils;
 import mod.chiselsandbits.api.util.VectorUtils;
 import mod.chiselsandbits.registrars.ModChiselModeGroups;
 import mod.chiselsandbits.registrars.ModMetadataKeys;
-import mod.chiselsandbits.utils.BitInventoryUtils;
-import mod.chiselsandbits.utils.BlockPosUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
-import mod.chiselsandbits.voxelshape.MultiStateBlockEntityDiscreteVoxelShape;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.Vec3i;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
-import net.minecraft.world.phys.shapes.CubeVoxelShape;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.BitSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -59,8 +50,6 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
     private final MutableComponent multiLineDisplayName;
     private final ResourceLocation iconName;
 
-    private final Map<StateEntrySize, VoxelShape> baseSphereShapes = Maps.newHashMap();
-
     SphereChiselMode(
             final int diameter,
             final MutableComponent displayName,
@@ -70,31 +59,6 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
         this.displayName = displayName;
         this.multiLineDisplayName = multiLineDisplayName;
         this.iconName = iconName;
-
-        for (final StateEntrySize size : StateEntrySize.values()) {
-            baseSphereShapes.put(size, buildSphereShape(size, diameter));
-        }
-    }
-
-    private static VoxelShape buildSphereShape(final StateEntrySize size, final int diameter) {
-        final int blocks = StateEntrySize.ONE_SIXTEENTH.getBitsPerBlockSide() / size.getBitsPerBlockSide();
-        final int fullBitAccuracy = blocks * StateEntrySize.ONE_SIXTEENTH.getBitsPerBlockSide();
-        final int centerBitCoord = fullBitAccuracy / 2;
-        final int radius = diameter / 2;
-
-        final BlockPos centerPos = new BlockPos(centerBitCoord, centerBitCoord, centerBitCoord);
-        final BlockPos cornerPos = centerPos.subtract(new Vec3i(radius, 0, 0));
-        final double range = cornerPos.distSqr(centerPos);
-
-        final BitSet bits = new BitSet(fullBitAccuracy * fullBitAccuracy * fullBitAccuracy);
-        BlockPosForEach.forEachInRange(fullBitAccuracy, blockPos -> {
-            final int index = BlockPosUtils.getCollisionIndex(blockPos, fullBitAccuracy, fullBitAccuracy);
-            final double posRange = blockPos.distSqr(centerPos);
-
-            bits.set(index, posRange <= range);
-        });
-
-        return new CubeVoxelShape(new MultiStateBlockEntityDiscreteVoxelShape(bits, fullBitAccuracy));
     }
 
     @Override
@@ -128,39 +92,8 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
         return context.getMutator().map(mutator -> {
             try (IBatchMutation ignored =
                          mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(playerEntity))) {
-                final Map<IBlockInformation, Integer> resultingBitCount = Maps.newHashMap();
-
-                final Predicate<IStateEntryInfo> filter = context.getStateFilter()
-                        .map(factory -> factory.apply(mutator))
-                        .orElse((s) -> true);
-
-                final int totalModifiedStates = mutator.inWorldMutableStream()
-                        .filter(filter)
-                        .mapToInt(state -> {
-                            final IBlockInformation currentState = state.getBlockInformation();
-
-                            return context.tryDamageItemAndDoOrSetBrokenError(
-                                    () -> {
-                                        resultingBitCount.putIfAbsent(currentState, 0);
-                                        resultingBitCount.computeIfPresent(currentState, (s, currentCount) -> currentCount + 1);
-
-                                        state.clear();
-                                    });
-                        })
-                        .sum();
-
-                if (totalModifiedStates == 0) {
-                    context.setError(LocalStrings.ChiselAttemptFailedNoValidStateFound.getText());
-                }
-
-                resultingBitCount.forEach((blockState, count) -> BitInventoryUtils.insertIntoOrSpawn(
-                        playerEntity,
-                        blockState,
-                        count
-                ));
+                return context.consumeAndClear(mutator, playerEntity);
             }
-
-            return ClickProcessingState.ALLOW;
         }).orElse(ClickProcessingState.DEFAULT);
     }
 
@@ -279,7 +212,7 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
             return Shapes.empty();
         }
 
-        final VoxelShape genericShape = baseSphereShapes.get(StateEntrySize.current());
+        final VoxelShape genericShape = SphereTemplateCache.getInstance().getShape(diameter, StateEntrySize.current());
 
         final Vec3 areaStart = accessor.get().getInWorldStartPoint();
         final BlockPos areaStartPos = VectorUtils.toBlockPos(areaStart);
@@ -375,16 +308,12 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
             return new SphereAreaFilter(context.getModeOfOperandus(), Vec3.ZERO, center);
         });
 
-        BlockPosStreamProvider.getForRange(diameter)
-                .forEach(bitPos -> {
-                    final Vec3 target = center
-                            .add(Vec3.atLowerCornerOf(bitPos.subtract(new Vec3i(diameter / 2, diameter / 2, diameter / 2)))
-                                    .multiply(StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit(), StateEntrySize.current().getSizePerBit()));
-
-                    context.include(
-                            target
-                    );
-                });
+        final double lowerExtent = (diameter / 2) * StateEntrySize.current().getSizePerBit();
+        final double upperExtent = (diameter - 1 - diameter / 2) * StateEntrySize.current().getSizePerBit();
+        context.include(new AABB(
+                center.subtract(lowerExtent, lowerExtent, lowerExtent),
+                center.add(upperExtent, upperExtent, upperExtent)
+        ));
 
         return Either.right(center);
     }
@@ -417,11 +346,32 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
         private final ChiselingOperation operation;
         private final Vec3 startPoint;
         private final Vec3 center;
+        private final int bitsPerBlockSide;
+        private final SphereTemplateCache.SphereMask mask;
+        private final long maskStartX;
+        private final long maskStartY;
+        private final long maskStartZ;
 
         private SphereAreaFilter(final ChiselingOperation operation, final Vec3 startPoint, final Vec3 center) {
             this.operation = operation;
             this.startPoint = startPoint;
             this.center = center;
+            this.bitsPerBlockSide = StateEntrySize.current().getBitsPerBlockSide();
+
+            //The center lies on the bit grid, or half a bit off it, so its doubled coordinates in bits are exact integers.
+            final long doubledCenterX = Math.round(center.x() * 2 * bitsPerBlockSide);
+            final long doubledCenterY = Math.round(center.y() * 2 * bitsPerBlockSide);
+            final long doubledCenterZ = Math.round(center.z() * 2 * bitsPerBlockSide);
+
+            this.mask = SphereTemplateCache.getInstance().getMask(
+                    diameter,
+                    Math.floorMod(doubledCenterX - diameter, 2) != 0,
+                    Math.floorMod(doubledCenterY - diameter, 2) != 0,
+                    Math.floorMod(doubledCenterZ - diameter, 2) != 0
+            );
+            this.maskStartX = Math.floorDiv(doubledCenterX - diameter + 1, 2);
+            this.maskStartY = Math.floorDiv(doubledCenterY - diameter + 1, 2);
+            this.maskStartZ = Math.floorDiv(doubledCenterZ - diameter + 1, 2);
         }
 
         @Override
@@ -430,7 +380,11 @@ public class SphereChiselMode extends AbstractCustomRegistryEntry implements ICh
                 return false;
             }
 
-            return inWorldStateEntryInfo.getInWorldStartPoint().distanceTo(center) <= (diameter / 2f / StateEntrySize.current().getBitsPerBlockSide()) &&
+            final Vec3 entryStartPoint = inWorldStateEntryInfo.getInWorldStartPoint();
+            return mask.contains(
+                    Math.round(entryStartPoint.x() * bitsPerBlockSide) - maskStartX,
+                    Math.round(entryStartPoint.y() * bitsPerBlockSide) - maskStartY,
+                    Math.round(entryStartPoint.z() * bitsPerBlockSide) - maskStartZ) &&
                     (!stateEntryInfo.getBlockInformation().isAir() || operation.processesAir());
         }
 
@@ -0,0 +1,158 @@
+package mod.chiselsandbits.chiseling.modes.sphere;
+
+import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.multistate.StateEntrySize;
+import mod.chiselsandbits.api.util.BlockPosForEach;
+import mod.chiselsandbits.utils.BlockPosUtils;
+import mod.chiselsandbits.voxelshape.MultiStateBlockEntityDiscreteVoxelShape;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.world.phys.shapes.CubeVoxelShape;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Holds the precomputed templates of the sphere chisel modes.
+ * <p>
+ * The masks are expressed in bits, and only depend on the diameter and on which axes the center of the sphere is offset by half a bit,
+ * so a single mask serves every sphere of that kind regardless of its position. The preview shapes are built per diameter and bit size.
+ */
+final class SphereTemplateCache
+{
+    private static final SphereTemplateCache INSTANCE = new SphereTemplateCache();
+
+    private final Map<MaskKey, SphereMask>    masks  = Maps.newConcurrentMap();
+    private final Map<ShapeKey, VoxelShape>   shapes = Maps.newConcurrentMap();
+
+    private SphereTemplateCache()
+    {
+    }
+
+    public static SphereTemplateCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gives access to the mask of a sphere with the given diameter in bits.
+     * <p>
+     * On an axis with an odd offset the doubled center coordinate of the sphere minus its diameter is odd, in which case the mask is one
+     * bit smaller along that axis.
+     *
+     * @param diameter The diameter of the sphere in bits.
+     * @param oddX     Whether the sphere has an odd offset on the x axis.
+     * @param oddY     Whether the sphere has an odd offset on the y axis.
+     * @param oddZ     Whether the sphere has an odd offset on the z axis.
+     * @return The mask.
+     */
+    public SphereMask getMask(final int diameter, final boolean oddX, final boolean oddY, final boolean oddZ)
+    {
+        return masks.computeIfAbsent(new MaskKey(diameter, oddX, oddY, oddZ), SphereTemplateCache::buildMask);
+    }
+
+    /**
+     * Gives access to the preview shape of a sphere with the given diameter in bits, for the given bit size.
+     *
+     * @param diameter The diameter of the sphere in bits.
+     * @param size     The bit size.
+     * @return The preview shape, centered in its area.
+     */
+    public VoxelShape getShape(final int diameter, final StateEntrySize size)
+    {
+        return shapes.computeIfAbsent(new ShapeKey(diameter, size), SphereTemplateCache::buildShape);
+    }
+
+    private static SphereMask buildMask(final MaskKey key)
+    {
+        final int diameter = key.diameter();
+        final int doubledOffsetX = key.oddX() ? diameter - 1 : diameter;
+        final int doubledOffsetY = key.oddY() ? diameter - 1 : diameter;
+        final int doubledOffsetZ = key.oddZ() ? diameter - 1 : diameter;
+        final long maxDistanceSquared = (long) diameter * diameter;
+
+        final SphereMask mask = new SphereMask(doubledOffsetX + 1, doubledOffsetY + 1, doubledOffsetZ + 1);
+        for (int x = 0; x < mask.sizeX; x++)
+        {
+            final long dx = 2L * x - doubledOffsetX;
+            for (int y = 0; y < mask.sizeY; y++)
+            {
+                final long dy = 2L * y - doubledOffsetY;
+                for (int z = 0; z < mask.sizeZ; z++)
+                {
+                    final long dz = 2L * z - doubledOffsetZ;
+                    mask.bits.set(mask.getIndex(x, y, z), dx * dx + dy * dy + dz * dz <= maxDistanceSquared);
+                }
+            }
+        }
+
+        return mask;
+    }
+
+    private static VoxelShape buildShape(final ShapeKey key)
+    {
+        final int blocks = StateEntrySize.ONE_SIXTEENTH.getBitsPerBlockSide() / key.size().getBitsPerBlockSide();
+        final int fullBitAccuracy = blocks * StateEntrySize.ONE_SIXTEENTH.getBitsPerBlockSide();
+        final int centerBitCoord = fullBitAccuracy / 2;
+        final int radius = key.diameter() / 2;
+
+        final BlockPos centerPos = new BlockPos(centerBitCoord, centerBitCoord, centerBitCoord);
+        final BlockPos cornerPos = centerPos.subtract(new Vec3i(radius, 0, 0));
+        final double range = cornerPos.distSqr(centerPos);
+
+        final BitSet bits = new BitSet(fullBitAccuracy * fullBitAccuracy * fullBitAccuracy);
+        BlockPosForEach.forEachInRange(fullBitAccuracy, blockPos -> {
+            final int index = BlockPosUtils.getCollisionIndex(blockPos, fullBitAccuracy, fullBitAccuracy);
+            final double posRange = blockPos.distSqr(centerPos);
+
+            bits.set(index, posRange <= range);
+        });
+
+        return new CubeVoxelShape(new MultiStateBlockEntityDiscreteVoxelShape(bits, fullBitAccuracy));
+    }
+
+    /**
+     * A precomputed sphere, indexed in bits relative to the lowest corner of its bounds.
+     */
+    static final class SphereMask
+    {
+        private final int    sizeX;
+        private final int    sizeY;
+        private final int    sizeZ;
+        private final BitSet bits;
+
+        private SphereMask(final int sizeX, final int sizeY, final int sizeZ)
+        {
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+            this.bits = new BitSet(sizeX * sizeY * sizeZ);
+        }
+
+        private int getIndex(final int x, final int y, final int z)
+        {
+            return (x * sizeY + y) * sizeZ + z;
+        }
+
+        /**
+         * Indicates whether the given bit is part of the sphere.
+         *
+         * @param x The x coordinate of the bit, relative to the lowest corner of the mask.
+         * @param y The y coordinate of the bit, relative to the lowest corner of the mask.
+         * @param z The z coordinate of the bit, relative to the lowest corner of the mask.
+         * @return True when the bit is inside the sphere.
+         */
+        public boolean contains(final long x, final long y, final long z)
+        {
+            if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ)
+                return false;
+
+            return bits.get(getIndex((int) x, (int) y, (int) z));
+        }
+    }
+
+    private record MaskKey(int diameter, boolean oddX, boolean oddY, boolean oddZ) {}
+
+    private record ShapeKey(int diameter, StateEntrySize size) {}
+}
@@ -5,10 +5,11 @@ import com.communi.suggestu.scena.core.fluid.FluidInformation;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
 import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
+import mod.chiselsandbits.client.input.FrameBasedInputTracker;
+import mod.chiselsandbits.client.model.baked.bit.BitItemRenderMetadataTable;
 import mod.chiselsandbits.item.bit.BitItem;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.color.item.ItemColor;
-import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.world.item.AirItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -16,6 +17,8 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LiquidBlock;
 
+import java.util.Optional;
+
 public class BitItemItemColor implements ItemColor
 {
     private static final int TINT_MASK = 0xff;
@@ -29,8 +32,18 @@ public class BitItemItemColor implements ItemColor
             return 0xffffff;
 
         final IBlockInformation blockInformation = ((BitItem) stack.getItem()).getBlockInformation(stack);
+        final boolean large = FrameBasedInputTracker.getInstance().isShiftDown();
+        final Optional<BitItemRenderMetadataTable.Entry> metadata = BitItemRenderMetadataTable.getInstance().get(blockInformation);
+        if (metadata.isEmpty())
+            return computeColor(blockInformation, large, tint);
+
+        return metadata.get().getColor(large, tint, tintIndex -> computeColor(blockInformation, large, tintIndex));
+    }
+
+    private static int computeColor(final IBlockInformation blockInformation, final boolean large, final int tint)
+    {
         if(blockInformation.getBlockState().getBlock() instanceof LiquidBlock) {
-            if ((!Minecraft.getInstance().options.keyShift.isUnbound() && Minecraft.getInstance().options.keyShift.isDown()) || (Minecraft.getInstance().getWindow() != null && Screen.hasShiftDown())) {
+            if (large) {
                 return -1; //No coloring on liquids when pressing shifts -> Buckets
             }
 
@@ -40,7 +53,7 @@ public class BitItemItemColor implements ItemColor
             ));
         }
 
-        if ((!Minecraft.getInstance().options.keyShift.isUnbound() && Minecraft.getInstance().options.keyShift.isDown()) || (Minecraft.getInstance().getWindow() != null && Screen.hasShiftDown()))
+        if (large)
         {
             final Block block = blockInformation.getBlockState().getBlock();
             final Item item = block.asItem();
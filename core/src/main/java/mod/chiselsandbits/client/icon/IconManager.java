@@ -5,11 +5,14 @@ import mod.chiselsandbits.api.client.icon.IIconManager;
 import mod.chiselsandbits.api.util.constants.Constants;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ReloadableResourceManager;
 import net.minecraft.server.packs.resources.ResourceManager;
 
+import java.util.Optional;
+
 import static mod.chiselsandbits.client.icon.IconSpriteUploader.TEXTURE_MAP_NAME;
 
 public class IconManager implements IIconManager
@@ -26,6 +29,9 @@ public class IconManager implements IIconManager
     private static final ResourceLocation ICON_ROLL_Z = new ResourceLocation(Constants.MOD_ID, "roll_z");
     private static final ResourceLocation ICON_WHITE = new ResourceLocation(Constants.MOD_ID, "white");
 
+    private static final String ICON_TEXTURE_PREFIX = "textures/icons/";
+    private static final String ICON_TEXTURE_SUFFIX = ".png";
+
     public static IconManager getInstance()
     {
         return INSTANCE;
@@ -53,6 +59,28 @@ public class IconManager implements IIconManager
         return this.iconSpriteUploader.getSprite(name);
     }
 
+    /**
+     * Looks up the sprite of an icon texture in the icon atlas.
+     * Only the textures in the icons texture directory are stitched into the atlas, all other textures have no sprite.
+     *
+     * @param texture The location of the icon texture, for example {@code chiselsandbits:textures/icons/bit.png}.
+     * @return The sprite of the texture in the icon atlas, or empty when the texture is not part of the atlas.
+     */
+    public Optional<TextureAtlasSprite> getIconForTexture(final ResourceLocation texture) {
+        final String path = texture.getPath();
+        if (this.iconSpriteUploader == null || !path.startsWith(ICON_TEXTURE_PREFIX) || !path.endsWith(ICON_TEXTURE_SUFFIX))
+            return Optional.empty();
+
+        final TextureAtlasSprite sprite = getIcon(new ResourceLocation(
+          texture.getNamespace(),
+          path.substring(ICON_TEXTURE_PREFIX.length(), path.length() - ICON_TEXTURE_SUFFIX.length())
+        ));
+        if (sprite.contents().name().equals(MissingTextureAtlasSprite.getLocation()))
+            return Optional.empty();
+
+        return Optional.of(sprite);
+    }
+
     @Override
     public TextureAtlasSprite getSwapIcon() {
         return getIcon(ICON_SWAP);
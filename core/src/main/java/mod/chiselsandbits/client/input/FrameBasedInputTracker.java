@@ -6,6 +6,7 @@ import mod.chiselsandbits.ChiselsAndBits;
 import mod.chiselsandbits.input.ProcessingInputTracker;
 import mod.chiselsandbits.network.packets.InputTrackerStatusUpdatePacket;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.Screen;
 
 import java.util.function.Supplier;
 
@@ -46,6 +47,8 @@ public final class FrameBasedInputTracker
       }
     );
 
+    private boolean isShiftDown = false;
+
     private FrameBasedInputTracker()
     {
     }
@@ -53,6 +56,19 @@ public final class FrameBasedInputTracker
     public void onRenderFrame() {
         leftMouseTracker.tick();
         rightMouseTracker.tick();
+
+        isShiftDown = (!Minecraft.getInstance().options.keyShift.isUnbound() && Minecraft.getInstance().options.keyShift.isDown())
+                        || (Minecraft.getInstance().getWindow() != null && Screen.hasShiftDown());
+    }
+
+    /**
+     * Indicates if shift was held down during the last rendered frame.
+     * Used by renderers which query the state for every item they draw.
+     *
+     * @return {@code true} when shift is held down.
+     */
+    public boolean isShiftDown() {
+        return isShiftDown;
     }
 
     private static final class InputTracker {
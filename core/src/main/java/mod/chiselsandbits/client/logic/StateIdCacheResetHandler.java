@@ -0,0 +1,35 @@
+package mod.chiselsandbits.client.logic;
+
+import mod.chiselsandbits.block.entities.StateLightPropertiesTable;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
+import mod.chiselsandbits.client.model.baked.face.FaceManager;
+import mod.chiselsandbits.item.bit.BitItemMetadataTable;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+
+/**
+ * Drops or remaps the caches which are addressed by block state registry ids, whenever the client joins or leaves a world.
+ * The registry ids of the client are synced from the server it connects to, and are restored when it disconnects again.
+ */
+public final class StateIdCacheResetHandler
+{
+    private StateIdCacheResetHandler()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: StateIdCacheResetHandler. This is a utility class");
+    }
+
+    public static void onPlayerJoinedWorld(final Player player, final Level level)
+    {
+        if (player instanceof LocalPlayer)
+            doReset();
+    }
+
+    public static void doReset()
+    {
+        BlockInformationDictionary.getInstance().clearCache();
+        BitItemMetadataTable.getInstance().clearCache();
+        StateLightPropertiesTable.getInstance().clearCache();
+        FaceManager.getInstance().remapPrecomputedFaceLayers();
+    }
+}
@@ -72,13 +72,21 @@ public class BakedQuadBuilder implements IVertexConsumer {
         }
     }
 
+    /**
+     * Resets the builder so that it can be reused for the next quad.
+     */
+    public void reset() {
+        this.tint = -1;
+        this.orientation = null;
+        this.texture = null;
+        this.applyDiffuseLighting = true;
+        this.vertices = 0;
+        this.elements = 0;
+        this.full = false;
+    }
+
     public BakedQuad build() {
-        if (!full) {
-            throw new IllegalStateException("not enough data");
-        }
-        if (texture == null) {
-            throw new IllegalStateException("texture not set");
-        }
+        validate();
         int[] packed = new int[DefaultVertexFormat.BLOCK.getIntegerSize() * 4];
         for (int v = 0; v < 4; v++) {
             for (int e = 0; e < SIZE; e++) {
@@ -87,4 +95,29 @@ public class BakedQuadBuilder implements IVertexConsumer {
         }
         return new BakedQuad(packed, tint, orientation, texture, applyDiffuseLighting);
     }
+
+    /**
+     * Packs the quad straight into the given buffer, without creating an intermediate {@link BakedQuad}.
+     *
+     * @param target The buffer to pack the quad into.
+     */
+    public void buildInto(PackedQuadBuffer target) {
+        validate();
+        final int offset = target.allocate(tint, orientation, texture, applyDiffuseLighting);
+        final int[] vertexData = target.getVertexData();
+        for (int v = 0; v < 4; v++) {
+            for (int e = 0; e < SIZE; e++) {
+                LightUtil.pack(unpackedData[v][e], vertexData, offset, v, e);
+            }
+        }
+    }
+
+    private void validate() {
+        if (!full) {
+            throw new IllegalStateException("not enough data");
+        }
+        if (texture == null) {
+            throw new IllegalStateException("texture not set");
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package mod.chiselsandbits.client.model.baked;
+
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A growable buffer which stores quads in packed form: The vertex data of all quads lives in a single contiguous array,
+ * the per quad properties live in parallel arrays.
+ * <p>
+ * Buffers are meant to be reused as scratch space while building a model, see {@link #reset()} and {@link #bake()}.
+ */
+public final class PackedQuadBuffer
+{
+    public static final int QUAD_SIZE = DefaultVertexFormat.BLOCK.getIntegerSize() * 4;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[]                vertexData   = new int[INITIAL_CAPACITY * QUAD_SIZE];
+    private int[]                tints        = new int[INITIAL_CAPACITY];
+    private Direction[]          orientations = new Direction[INITIAL_CAPACITY];
+    private TextureAtlasSprite[] sprites      = new TextureAtlasSprite[INITIAL_CAPACITY];
+    private boolean[]            shades       = new boolean[INITIAL_CAPACITY];
+    private int                  quadCount    = 0;
+
+    /**
+     * Ensures that the buffer can hold the given amount of additional quads without growing.
+     *
+     * @param additionalQuads The amount of quads which are about to be added.
+     */
+    public void reserve(final int additionalQuads)
+    {
+        final int required = quadCount + additionalQuads;
+        if (required <= tints.length)
+            return;
+
+        final int capacity = Math.max(required, tints.length + (tints.length >> 1));
+        vertexData = Arrays.copyOf(vertexData, capacity * QUAD_SIZE);
+        tints = Arrays.copyOf(tints, capacity);
+        orientations = Arrays.copyOf(orientations, capacity);
+        sprites = Arrays.copyOf(sprites, capacity);
+        shades = Arrays.copyOf(shades, capacity);
+    }
+
+    /**
+     * Allocates space for a new quad.
+     *
+     * @param tint        The tint index of the quad.
+     * @param orientation The orientation of the quad.
+     * @param sprite      The texture of the quad.
+     * @param shade       Whether diffuse lighting applies to the quad.
+     * @return The offset in {@link #getVertexData()} at which the vertex data of the new quad starts.
+     */
+    public int allocate(final int tint, final Direction orientation, final TextureAtlasSprite sprite, final boolean shade)
+    {
+        reserve(1);
+
+        final int index = quadCount++;
+        tints[index] = tint;
+        orientations[index] = orientation;
+        sprites[index] = sprite;
+        shades[index] = shade;
+
+        final int offset = index * QUAD_SIZE;
+        Arrays.fill(vertexData, offset, offset + QUAD_SIZE, 0);
+        return offset;
+    }
+
+    public int[] getVertexData()
+    {
+        return vertexData;
+    }
+
+    public int size()
+    {
+        return quadCount;
+    }
+
+    public boolean isEmpty()
+    {
+        return quadCount == 0;
+    }
+
+    /**
+     * Clears the buffer, retaining its capacity.
+     */
+    public void reset()
+    {
+        Arrays.fill(sprites, 0, quadCount, null);
+        quadCount = 0;
+    }
+
+    /**
+     * Creates the quads for the current contents.
+     * Every quad receives its own copy of its vertex data, the buffer itself stays reusable.
+     *
+     * @return The quads, or null when the buffer is empty.
+     */
+    @Nullable
+    public List<BakedQuad> bake()
+    {
+        if (isEmpty())
+            return null;
+
+        final BakedQuad[] quads = new BakedQuad[quadCount];
+        for (int i = 0; i < quadCount; i++)
+        {
+            final int offset = i * QUAD_SIZE;
+            quads[i] = new BakedQuad(
+              Arrays.copyOfRange(vertexData, offset, offset + QUAD_SIZE),
+              tints[i],
+              orientations[i],
+              sprites[i],
+              shades[i]
+            );
+        }
+
+        return Arrays.asList(quads);
+    }
+}
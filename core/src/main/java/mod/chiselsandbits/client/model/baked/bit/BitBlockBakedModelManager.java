@@ -5,11 +5,11 @@ import com.google.common.cache.CacheBuilder;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.item.bit.IBitItem;
 import mod.chiselsandbits.api.variant.state.IStateVariantManager;
+import mod.chiselsandbits.client.input.FrameBasedInputTracker;
 import mod.chiselsandbits.client.model.baked.simple.NullBakedModel;
 import mod.chiselsandbits.client.time.TickHandler;
 import mod.chiselsandbits.registrars.ModCreativeTabs;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.entity.LivingEntity;
@@ -21,6 +21,7 @@ import net.minecraft.world.level.block.LiquidBlock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -44,6 +45,7 @@ public class BitBlockBakedModelManager
     public void clearCache() {
         modelCache.asMap().clear();
         largeModelCache.asMap().clear();
+        BitItemRenderMetadataTable.getInstance().clearCache();
     }
 
     public BakedModel get(
@@ -55,7 +57,7 @@ public class BitBlockBakedModelManager
           stack,
           world,
           entity,
-          (!Minecraft.getInstance().options.keyShift.isUnbound() && Minecraft.getInstance().options.keyShift.isDown()) || (Minecraft.getInstance().getWindow() != null && Screen.hasShiftDown())
+          FrameBasedInputTracker.getInstance().isShiftDown()
         );
     }
 
@@ -119,33 +121,18 @@ public class BitBlockBakedModelManager
             blockInformation = ((IBitItem) alternativeStack.getItem()).getBlockInformation(alternativeStack);
         }
 
-        final Cache<IBlockInformation, BakedModel> target = large ? largeModelCache : modelCache;
         final IBlockInformation workingState = blockInformation;
+        final Level finalLevel = level;
+        final Optional<BitItemRenderMetadataTable.Entry> metadata = BitItemRenderMetadataTable.getInstance().get(blockInformation);
+        if (metadata.isPresent())
+        {
+            return metadata.get().getModel(large, () -> createModel(large, workingState, finalLevel, entity));
+        }
+
+        final Cache<IBlockInformation, BakedModel> target = large ? largeModelCache : modelCache;
         try
         {
-            Level finalLevel = level;
-            return target.get(blockInformation, () -> {
-                if (large)
-                {
-                    ItemStack lookupStack = IStateVariantManager.getInstance().getItemStack(workingState).orElseGet(
-                      () -> new ItemStack(workingState.getBlockState().getBlock())
-                    );
-                    if (workingState.getBlockState().getBlock() instanceof LiquidBlock)
-                    {
-                        lookupStack = new ItemStack(workingState.getBlockState().getFluidState().getType().getBucket());
-                    }
-                    return Minecraft.getInstance().getItemRenderer().getModel(
-                      lookupStack,
-                      finalLevel,
-                      entity,
-                      0
-                    );
-                }
-                else
-                {
-                    return new BitBlockBakedModel(workingState);
-                }
-            });
+            return target.get(blockInformation, () -> createModel(large, workingState, finalLevel, entity));
         }
         catch (ExecutionException e)
         {
@@ -153,4 +140,26 @@ public class BitBlockBakedModelManager
             return NullBakedModel.instance;
         }
     }
+
+    private static BakedModel createModel(final boolean large, final IBlockInformation blockInformation, final Level level, final LivingEntity entity)
+    {
+        if (large)
+        {
+            ItemStack lookupStack = IStateVariantManager.getInstance().getItemStack(blockInformation).orElseGet(
+              () -> new ItemStack(blockInformation.getBlockState().getBlock())
+            );
+            if (blockInformation.getBlockState().getBlock() instanceof LiquidBlock)
+            {
+                lookupStack = new ItemStack(blockInformation.getBlockState().getFluidState().getType().getBucket());
+            }
+            return Minecraft.getInstance().getItemRenderer().getModel(
+              lookupStack,
+              level,
+              entity,
+              0
+            );
+        }
+
+        return new BitBlockBakedModel(blockInformation);
+    }
 }
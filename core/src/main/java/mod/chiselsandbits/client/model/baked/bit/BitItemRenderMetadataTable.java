@@ -0,0 +1,105 @@
+package mod.chiselsandbits.client.model.baked.bit;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.utils.StateIdTable;
+import net.minecraft.client.resources.model.BakedModel;
+
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Holds the render metadata of bit items, the normal and large item models and the item colors, per contained block state.
+ * <p>
+ * Only bits without a variant are tracked, they are looked up by the interned id of their state. The colors are only ever
+ * accessed from the render thread. The table is cleared whenever the resources are reloaded.
+ */
+public final class BitItemRenderMetadataTable
+{
+    private static final BitItemRenderMetadataTable INSTANCE = new BitItemRenderMetadataTable();
+
+    private final StateIdTable<Entry> entries = new StateIdTable<>();
+
+    private BitItemRenderMetadataTable()
+    {
+    }
+
+    public static BitItemRenderMetadataTable getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gives access to the render metadata of the given block information.
+     *
+     * @param blockInformation The block information contained in the bit.
+     * @return The render metadata, or empty when the block information has a variant.
+     */
+    public Optional<Entry> get(final IBlockInformation blockInformation)
+    {
+        if (blockInformation.getVariant().isPresent())
+            return Optional.empty();
+
+        return Optional.of(entries.computeIfAbsent(blockInformation.getBlockState(), blockState -> new Entry()));
+    }
+
+    public void clearCache()
+    {
+        entries.clear();
+    }
+
+    public static final class Entry
+    {
+        private volatile BakedModel model;
+        private volatile BakedModel largeModel;
+
+        private final Int2IntOpenHashMap colors      = new Int2IntOpenHashMap();
+        private final Int2IntOpenHashMap largeColors = new Int2IntOpenHashMap();
+
+        private Entry()
+        {
+        }
+
+        /**
+         * Gets the item model of the bit, computing it on first use.
+         *
+         * @param large   {@code true} to get the model of the full block, instead of the bit.
+         * @param factory The factory which computes the model.
+         * @return The model.
+         */
+        public BakedModel getModel(final boolean large, final Supplier<BakedModel> factory)
+        {
+            BakedModel current = large ? largeModel : model;
+            if (current == null)
+            {
+                current = factory.get();
+                if (large)
+                    largeModel = current;
+                else
+                    model = current;
+            }
+
+            return current;
+        }
+
+        /**
+         * Gets the item color of the bit for the given tint index, computing it on first use.
+         *
+         * @param large   {@code true} to get the color of the full block, instead of the bit.
+         * @param tint    The tint index.
+         * @param factory The factory which computes the color from the tint index.
+         * @return The color.
+         */
+        public int getColor(final boolean large, final int tint, final IntUnaryOperator factory)
+        {
+            final Int2IntOpenHashMap target = large ? largeColors : colors;
+            if (target.containsKey(tint))
+                return target.get(tint);
+
+            final int color = factory.applyAsInt(tint);
+            target.put(tint, color);
+            return color;
+        }
+    }
+}
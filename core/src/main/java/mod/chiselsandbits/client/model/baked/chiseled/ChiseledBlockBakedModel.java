@@ -7,6 +7,7 @@ import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
 import mod.chiselsandbits.api.profiling.IProfilerSection;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.client.model.baked.PackedQuadBuffer;
 import mod.chiselsandbits.client.model.baked.base.BaseBakedBlockModel;
 import mod.chiselsandbits.client.model.meshing.GreedyMeshBuilder;
 import mod.chiselsandbits.client.model.meshing.GreedyMeshFace;
@@ -38,14 +39,14 @@ public class ChiseledBlockBakedModel extends BaseBakedBlockModel {
 
     private final ChiselRenderType chiselRenderType;
 
-    // keep memory requirements low by using arrays.
-    private BakedQuad[] up;
-    private BakedQuad[] down;
-    private BakedQuad[] north;
-    private BakedQuad[] south;
-    private BakedQuad[] east;
-    private BakedQuad[] west;
-    private BakedQuad[] generic;
+    // null for sides without quads, so that empty sides do not allocate anything.
+    private List<BakedQuad> up;
+    private List<BakedQuad> down;
+    private List<BakedQuad> north;
+    private List<BakedQuad> south;
+    private List<BakedQuad> east;
+    private List<BakedQuad> west;
+    private List<BakedQuad> generic;
 
     private List<BakedQuad> getList(
             final Direction side) {
@@ -71,12 +72,12 @@ public class ChiseledBlockBakedModel extends BaseBakedBlockModel {
     }
 
     private List<BakedQuad> asList(
-            final BakedQuad[] array) {
-        if (array == null) {
+            final List<BakedQuad> quads) {
+        if (quads == null) {
             return Collections.emptyList();
         }
 
-        return Arrays.asList(array);
+        return quads;
     }
 
     public ChiseledBlockBakedModel(
@@ -99,33 +100,28 @@ public class ChiseledBlockBakedModel extends BaseBakedBlockModel {
             }
 
             if (shouldLayerRender) {
-                final ChiseledBlockModelBuilder builder = new ChiseledBlockModelBuilder();
-                try (final IProfilerSection ignoredFaceGeneration = ProfilingManager.getInstance().withSection("facegeneration")) {
-                    generateFaces(builder, data, primaryStateRenderSeed);
-                }
-
-                // convert from builder to final storage.
-                try (final IProfilerSection ignoredFinalize = ProfilingManager.getInstance().withSection("finalize")) {
-                    up = builder.getSide(Direction.UP);
-                    down = builder.getSide(Direction.DOWN);
-                    east = builder.getSide(Direction.EAST);
-                    west = builder.getSide(Direction.WEST);
-                    north = builder.getSide(Direction.NORTH);
-                    south = builder.getSide(Direction.SOUTH);
-                    generic = builder.getSide(null);
+                try (final ChiseledBlockModelBuilder builder = ChiseledBlockModelBuilder.acquire()) {
+                    try (final IProfilerSection ignoredFaceGeneration = ProfilingManager.getInstance().withSection("facegeneration")) {
+                        generateFaces(builder, data, primaryStateRenderSeed);
+                    }
+
+                    // convert from builder to final storage.
+                    try (final IProfilerSection ignoredFinalize = ProfilingManager.getInstance().withSection("finalize")) {
+                        up = builder.getSide(Direction.UP);
+                        down = builder.getSide(Direction.DOWN);
+                        east = builder.getSide(Direction.EAST);
+                        west = builder.getSide(Direction.WEST);
+                        north = builder.getSide(Direction.NORTH);
+                        south = builder.getSide(Direction.SOUTH);
+                        generic = builder.getSide(null);
+                    }
                 }
             }
         }
     }
 
     public boolean isEmpty() {
-        boolean trulyEmpty = getList(null).isEmpty();
-
-        for (final Direction e : Direction.values()) {
-            trulyEmpty = trulyEmpty && getList(e).isEmpty();
-        }
-
-        return trulyEmpty;
+        return up == null && down == null && north == null && south == null && east == null && west == null && generic == null;
     }
 
     private void generateFaces(
@@ -148,12 +144,22 @@ public class ChiseledBlockBakedModel extends BaseBakedBlockModel {
         }
 
         try (final IProfilerSection ignoredQuadGeneration = ProfilingManager.getInstance().withSection("quadGeneration")) {
+            // Most faces produce exactly one quad, so size the buffers up front to prevent them from growing during generation.
+            final int[] faceCounts = new int[Direction.values().length + 1];
+            for (final GreedyMeshFace region : faces) {
+                faceCounts[region.isOnOuterFace() ? region.normalDirection().ordinal() : Direction.values().length]++;
+            }
+            for (final Direction side : Direction.values()) {
+                builder.getBuffer(side).reserve(faceCounts[side.ordinal()]);
+            }
+            builder.getBuffer(null).reserve(faceCounts[Direction.values().length]);
+
             for (final GreedyMeshFace region : faces) {
                 final Direction cullDirection = region.normalDirection();
 
-                List<BakedQuad> target = builder.getList(null);
+                PackedQuadBuffer target = builder.getBuffer(null);
                 if (region.isOnOuterFace()) {
-                    target = builder.getList(cullDirection);
+                    target = builder.getBuffer(cullDirection);
                 }
 
                 QuadGenerationUtils.generateQuads(target, primaryStateRenderSeed, chiselRenderType.layer, region.faceValue(), cullDirection, region.lowerLeft(), region.upperRight());
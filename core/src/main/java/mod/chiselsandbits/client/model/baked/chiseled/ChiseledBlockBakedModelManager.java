@@ -10,6 +10,7 @@ import mod.chiselsandbits.api.neighborhood.IBlockNeighborhood;
 import mod.chiselsandbits.api.neighborhood.IBlockNeighborhoodBuilder;
 import mod.chiselsandbits.api.profiling.IProfilerSection;
 import mod.chiselsandbits.profiling.ProfilingManager;
+import mod.chiselsandbits.profiling.metrics.Metrics;
 import mod.chiselsandbits.utils.SimpleMaxSizedCache;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.core.BlockPos;
@@ -98,8 +99,10 @@ public class ChiseledBlockBakedModelManager {
                     blockNeighborhood,
                     primaryStateRenderSeed,
                     renderType);
+            Metrics.MODEL_CACHE.lookup();
             return cache.get(key,
                     () -> {
+                        Metrics.MODEL_CACHE.miss();
                         try (IProfilerSection ignored3 = ProfilingManager.getInstance().withSection("Cache mis")) {
                             return new ChiseledBlockBakedModel(
                                     primaryState,
@@ -1,22 +1,54 @@
 package mod.chiselsandbits.client.model.baked.chiseled;
 
+import mod.chiselsandbits.client.model.baked.PackedQuadBuffer;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class ChiseledBlockModelBuilder
+/**
+ * Collects the quads of a chiseled block model per side.
+ * <p>
+ * The quads are packed into scratch buffers which are reused by all models built on the same thread,
+ * so a builder needs to be {@link #close() closed} once its sides have been retrieved.
+ */
+public class ChiseledBlockModelBuilder implements AutoCloseable
 {
-    private final List<BakedQuad> up   = new ArrayList<>();
-    private final List<BakedQuad> down = new ArrayList<>();
-    private final List<BakedQuad> north   = new ArrayList<>();
-    private final List<BakedQuad> south   = new ArrayList<>();
-    private final List<BakedQuad> east    = new ArrayList<>();
-    private final List<BakedQuad> west    = new ArrayList<>();
-    private final List<BakedQuad> generic = new ArrayList<>();
-
-    public List<BakedQuad> getList(
+    private static final ThreadLocal<ChiseledBlockModelBuilder> POOL = ThreadLocal.withInitial(ChiseledBlockModelBuilder::new);
+
+    private final PackedQuadBuffer up      = new PackedQuadBuffer();
+    private final PackedQuadBuffer down    = new PackedQuadBuffer();
+    private final PackedQuadBuffer north   = new PackedQuadBuffer();
+    private final PackedQuadBuffer south   = new PackedQuadBuffer();
+    private final PackedQuadBuffer east    = new PackedQuadBuffer();
+    private final PackedQuadBuffer west    = new PackedQuadBuffer();
+    private final PackedQuadBuffer generic = new PackedQuadBuffer();
+
+    private boolean inUse = false;
+
+    private ChiseledBlockModelBuilder()
+    {
+    }
+
+    /**
+     * Gets the builder of the current thread, or a new one if it is already in use.
+     *
+     * @return The builder.
+     */
+    public static ChiseledBlockModelBuilder acquire()
+    {
+        ChiseledBlockModelBuilder builder = POOL.get();
+        if (builder.inUse)
+        {
+            builder = new ChiseledBlockModelBuilder();
+        }
+
+        builder.inUse = true;
+        return builder;
+    }
+
+    public PackedQuadBuffer getBuffer(
       final Direction side )
     {
         if ( side != null )
@@ -42,16 +74,23 @@ public class ChiseledBlockModelBuilder
         return generic;
     }
 
-    public BakedQuad[] getSide(
+    @Nullable
+    public List<BakedQuad> getSide(
       final Direction side )
     {
-        final List<BakedQuad> out = getList( side );
-
-        if ( out.isEmpty() )
-        {
-            return null;
-        }
+        return getBuffer( side ).bake();
+    }
 
-        return out.toArray(new BakedQuad[0]);
+    @Override
+    public void close()
+    {
+        up.reset();
+        down.reset();
+        north.reset();
+        south.reset();
+        east.reset();
+        west.reset();
+        generic.reset();
+        inUse = false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package mod.chiselsandbits.client.model.baked.face;
+
+import mod.chiselsandbits.api.block.state.id.IBlockStateIdManager;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.client.model.baked.cache.IBakedModelCacheKey;
+import mod.chiselsandbits.client.model.baked.cache.BakedModelCacheKeyCalculatorRegistry;
+import mod.chiselsandbits.client.model.baked.face.model.ModelQuadLayer;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable table of precomputed face layers, indexed by block state id.
+ * <p>
+ * Only block states without a variant are stored. For every render type of a block state, the table holds the solved model,
+ * the model cache key it was computed with and the face layers of all six directions.
+ * <p>
+ * Every entry remembers its block state, since the registry ids can change after the table was built, for example when the
+ * registries are synced with a server. Entries are only returned for their own state, see {@link #remapped()}.
+ */
+final class FaceLayerTable
+{
+    static final FaceLayerTable EMPTY = new FaceLayerTable(new Entry[0]);
+
+    private final Entry[] entries;
+
+    FaceLayerTable(final Entry[] entries)
+    {
+        this.entries = entries;
+    }
+
+    /**
+     * Looks up the precomputed face layers.
+     *
+     * @param blockInformation The block information.
+     * @param face             The face.
+     * @param renderType       The render type.
+     * @param renderSeed       The render seed of the primary state, the layers are only returned if it results in the same model cache key.
+     * @return The layers, or null if they have not been precomputed.
+     */
+    @Nullable
+    List<ModelQuadLayer> get(final IBlockInformation blockInformation, final Direction face, final RenderType renderType, final long renderSeed)
+    {
+        if (blockInformation.getVariant().isPresent())
+            return null;
+
+        final int id = IBlockStateIdManager.getInstance().getIdFrom(blockInformation.getBlockState());
+        if (id < 0 || id >= entries.length)
+            return null;
+
+        final Entry entry = entries[id];
+        if (entry == null || entry.blockState() != blockInformation.getBlockState())
+            return null;
+
+        for (int i = 0; i < entry.renderTypes().length; i++)
+        {
+            if (entry.renderTypes()[i] != renderType)
+                continue;
+
+            final IBakedModelCacheKey key = BakedModelCacheKeyCalculatorRegistry.getInstance().getCacheKey(entry.models()[i], renderSeed);
+            if (!key.equals(entry.modelKeys()[i]))
+                return null;
+
+            return entry.layers()[i * Direction.values().length + face.ordinal()];
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a table with the same entries, placed at the current registry ids of their states.
+     *
+     * @return The remapped table.
+     */
+    FaceLayerTable remapped()
+    {
+        if (entries.length == 0)
+            return this;
+
+        Entry[] remappedEntries = new Entry[entries.length];
+        for (final Entry entry : entries)
+        {
+            if (entry == null)
+                continue;
+
+            final int id = IBlockStateIdManager.getInstance().getIdFrom(entry.blockState());
+            if (id < 0)
+                continue;
+
+            if (id >= remappedEntries.length)
+                remappedEntries = Arrays.copyOf(remappedEntries, id + 1);
+
+            remappedEntries[id] = entry;
+        }
+
+        return new FaceLayerTable(remappedEntries);
+    }
+
+    /**
+     * The precomputed data of a single block state.
+     *
+     * @param blockState  The block state.
+     * @param renderTypes The render types of the block state.
+     * @param models      The solved model per render type.
+     * @param modelKeys   The model cache key per render type, which the layers were computed with.
+     * @param layers      The layers, indexed by render type index times six plus the ordinal of the face.
+     */
+    record Entry(BlockState blockState, RenderType[] renderTypes, BakedModel[] models, IBakedModelCacheKey[] modelKeys, List<ModelQuadLayer>[] layers) {}
+}
@@ -6,16 +6,20 @@ import com.communi.suggestu.scena.core.client.rendering.IRenderingManager;
 import com.communi.suggestu.scena.core.fluid.FluidInformation;
 import com.communi.suggestu.scena.core.registries.IPlatformRegistryManager;
 import com.google.common.collect.Lists;
+import mod.chiselsandbits.api.block.state.id.IBlockStateIdManager;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.client.color.IBlockInformationColorManager;
 import mod.chiselsandbits.api.client.model.baked.cache.IBakedModelCacheKey;
 import mod.chiselsandbits.api.client.model.baked.cache.IBakedModelCacheKeyCalculatorRegistry;
 import mod.chiselsandbits.api.client.variant.state.IClientStateVariantManager;
+import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
 import mod.chiselsandbits.api.config.IClientConfiguration;
+import mod.chiselsandbits.blockinformation.BlockInformation;
 import mod.chiselsandbits.client.model.baked.cache.BakedModelCacheKeyCalculatorRegistry;
 import mod.chiselsandbits.client.model.baked.face.model.ModelQuadLayer;
 import mod.chiselsandbits.client.model.baked.face.model.ModelVertexRange;
 import mod.chiselsandbits.client.model.baked.simple.SimpleGeneratedModel;
+import mod.chiselsandbits.client.util.BlockInformationUtils;
 import mod.chiselsandbits.utils.ItemStackUtils;
 import mod.chiselsandbits.utils.LightUtil;
 import mod.chiselsandbits.utils.SimpleMaxSizedCache;
@@ -32,6 +36,8 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.inventory.InventoryMenu;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.Fluids;
 import org.apache.logging.log4j.LogManager;
@@ -43,11 +49,24 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public final class FaceManager {
 
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final RandomSource RANDOM = Util.make(RandomSource.createNewThreadLocalInstance(), (random) -> random.setSeed(42L));
+    private static final ThreadLocal<RandomSource> RANDOM = ThreadLocal.withInitial(() -> Util.make(RandomSource.createNewThreadLocalInstance(), (random) -> random.setSeed(42L)));
+
+    /**
+     * The render seed used when precomputing face layers.
+     */
+    private static final long PRECOMPUTE_RENDER_SEED = 42L;
+
+    /**
+     * The amount of block states which are precomputed by a single background task.
+     */
+    private static final int PRECOMPUTE_BATCH_SIZE = 256;
 
     private static final FaceManager INSTANCE = new FaceManager();
 
@@ -58,6 +77,9 @@ public final class FaceManager {
             () -> IPlatformRegistryManager.getInstance().getBlockStateIdMap().size() == 0 ? 1000 : IPlatformRegistryManager.getInstance().getBlockStateIdMap().size()
     );
 
+    private final Object precomputedLayersLock = new Object();
+    private final AtomicReference<FaceLayerTable> precomputedLayers = new AtomicReference<>(FaceLayerTable.EMPTY);
+    private int precomputeGeneration = 0;
 
     private FaceManager() {
     }
@@ -245,12 +267,13 @@ public final class FaceManager {
             final long primaryStateRenderSeed,
             final RenderType renderType) {
         // try to get block model...
-        RANDOM.setSeed(primaryStateRenderSeed);
+        final RandomSource random = RANDOM.get();
+        random.setSeed(primaryStateRenderSeed);
         try {
             if (model instanceof IDataAwareBakedModel dataAwareBakedModel) {
-                return dataAwareBakedModel.getQuads(state.getBlockState(), f, RANDOM, IClientStateVariantManager.getInstance().getBlockModelData(state), renderType);
+                return dataAwareBakedModel.getQuads(state.getBlockState(), f, random, IClientStateVariantManager.getInstance().getBlockModelData(state), renderType);
             } else {
-                return model.getQuads(state.getBlockState(), f, RANDOM);
+                return model.getQuads(state.getBlockState(), f, random);
             }
         } catch (final Throwable ignored) {
         }
@@ -258,9 +281,9 @@ public final class FaceManager {
         try {
             // try to get item model?
             if (model instanceof IDataAwareBakedModel dataAwareBakedModel) {
-                return dataAwareBakedModel.getQuads(null, f, RANDOM, IClientStateVariantManager.getInstance().getBlockModelData(state), renderType);
+                return dataAwareBakedModel.getQuads(null, f, random, IClientStateVariantManager.getInstance().getBlockModelData(state), renderType);
             } else {
-                return model.getQuads(null, f, RANDOM);
+                return model.getQuads(null, f, random);
             }
         } catch (final Throwable ignored) {
         }
@@ -272,9 +295,9 @@ public final class FaceManager {
             if (secondModel != null) {
                 try {
                     if (secondModel instanceof IDataAwareBakedModel dataAwareBakedModel) {
-                        return dataAwareBakedModel.getQuads(state.getBlockState(), f, RANDOM, IClientStateVariantManager.getInstance().getBlockModelData(state), renderType);
+                        return dataAwareBakedModel.getQuads(state.getBlockState(), f, random, IClientStateVariantManager.getInstance().getBlockModelData(state), renderType);
                     } else {
-                        return secondModel.getQuads(state.getBlockState(), f, RANDOM);
+                        return secondModel.getQuads(state.getBlockState(), f, random);
                     }
                 } catch (final Throwable ignored) {
                 }
@@ -388,6 +411,98 @@ public final class FaceManager {
     public void clearCache() {
         cache.clear();
         colorCache.clear();
+
+        synchronized (precomputedLayersLock) {
+            //Invalidates all running precomputations, their results are based on the old resources.
+            precomputeGeneration++;
+            precomputedLayers.set(FaceLayerTable.EMPTY);
+        }
+    }
+
+    /**
+     * Moves the precomputed face layers to the current registry ids of their states, invoked when the client joins or leaves a world.
+     */
+    public void remapPrecomputedFaceLayers() {
+        synchronized (precomputedLayersLock) {
+            precomputedLayers.set(precomputedLayers.get().remapped());
+        }
+    }
+
+    /**
+     * Extracts the face layers of all chiselable block states in the background, and installs them once all of them are done.
+     * Until then, and for all block states which are not covered, the layers are extracted on demand.
+     */
+    public void precomputeFaceLayers() {
+        if (!IClientConfiguration.getInstance().getPrecomputeFaceLayers().get())
+            return;
+
+        final int generation;
+        synchronized (precomputedLayersLock) {
+            generation = precomputeGeneration;
+        }
+
+        final List<BlockState> states = Lists.newArrayList(Block.BLOCK_STATE_REGISTRY);
+        final int tableSize = states.stream().mapToInt(IBlockStateIdManager.getInstance()::getIdFrom).max().orElse(-1) + 1;
+        final FaceLayerTable.Entry[] entries = new FaceLayerTable.Entry[tableSize];
+
+        final long startTime = System.nanoTime();
+        final List<CompletableFuture<Void>> batches = Lists.newArrayList();
+        for (int batchStart = 0; batchStart < states.size(); batchStart += PRECOMPUTE_BATCH_SIZE) {
+            final List<BlockState> batch = states.subList(batchStart, Math.min(states.size(), batchStart + PRECOMPUTE_BATCH_SIZE));
+            batches.add(CompletableFuture.runAsync(() -> {
+                for (final BlockState state : batch) {
+                    //Every state has its own slot, so the batches can write into the shared array without coordination.
+                    entries[IBlockStateIdManager.getInstance().getIdFrom(state)] = precomputeEntry(state);
+                }
+            }, Util.backgroundExecutor()));
+        }
+
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to precompute the face layers of the chiselable block states.", throwable);
+                return;
+            }
+
+            synchronized (precomputedLayersLock) {
+                if (precomputeGeneration != generation)
+                    return;
+
+                precomputedLayers.set(new FaceLayerTable(entries));
+            }
+
+            LOGGER.info("Precomputed the face layers of the chiselable block states in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private FaceLayerTable.Entry precomputeEntry(final BlockState state) {
+        final IBlockInformation blockInformation = new BlockInformation(state, Optional.empty());
+        if (blockInformation.isAir() || !IEligibilityManager.getInstance().analyse(blockInformation).canBeChiseled())
+            return null;
+
+        try {
+            final RenderType[] renderTypes = BlockInformationUtils.extractRenderTypes(blockInformation).toArray(RenderType[]::new);
+            final BakedModel[] models = new BakedModel[renderTypes.length];
+            final IBakedModelCacheKey[] modelKeys = new IBakedModelCacheKey[renderTypes.length];
+            final List<ModelQuadLayer>[] layers = new List[renderTypes.length * Direction.values().length];
+
+            final BakedModel blockModel = Minecraft.getInstance().getBlockRenderer().getBlockModelShaper().getBlockModel(state);
+            for (int i = 0; i < renderTypes.length; i++) {
+                models[i] = solveModel(blockInformation, blockModel, PRECOMPUTE_RENDER_SEED, renderTypes[i]);
+                modelKeys[i] = BakedModelCacheKeyCalculatorRegistry.getInstance().getCacheKey(models[i], PRECOMPUTE_RENDER_SEED);
+                for (final Direction face : Direction.values()) {
+                    layers[i * Direction.values().length + face.ordinal()] = List.copyOf(
+                            buildFaceQuadLayers(blockInformation, face, PRECOMPUTE_RENDER_SEED, renderTypes[i], models[i])
+                    );
+                }
+            }
+
+            return new FaceLayerTable.Entry(state, renderTypes, models, modelKeys, layers);
+        } catch (final Exception ex) {
+            LOGGER.debug("Failed to precompute the face layers of: {}, they will be extracted on demand.", state, ex);
+            return null;
+        }
     }
 
     public Collection<ModelQuadLayer> getCachedLayersFor(
@@ -400,6 +515,11 @@ public final class FaceManager {
             return null;
         }
 
+        final List<ModelQuadLayer> precomputed = precomputedLayers.get().get(state, face, renderType, primaryStateRenderSeed);
+        if (precomputed != null) {
+            return precomputed;
+        }
+
         final BakedModel model = solveModel(state, Minecraft.getInstance().getBlockRenderer().getBlockModelShaper().getBlockModel(state.getBlockState()), primaryStateRenderSeed, renderType);
         final IBakedModelCacheKey modelCacheKey = BakedModelCacheKeyCalculatorRegistry.getInstance()
                 .getCacheKey(model, primaryStateRenderSeed);
@@ -12,7 +12,8 @@ import java.util.Collection;
 public class BakedQuadAdapter extends BakedQuadBuilder {
 
     private final Int2ObjectMap<VertexData> indexToVertexData = new Int2ObjectOpenHashMap<>();
-    private final int colorOverride;
+    private final float[] scratch = new float[4];
+    private int colorOverride;
 
     public BakedQuadAdapter(Collection<VertexData> adaptionData, int colorOverride) {
         super();
@@ -20,6 +21,33 @@ public class BakedQuadAdapter extends BakedQuadBuilder {
         this.colorOverride = colorOverride;
     }
 
+    protected BakedQuadAdapter() {
+        super();
+        this.colorOverride = -1;
+    }
+
+    /**
+     * Resets the adapter so that it can be reused for the next quad.
+     *
+     * @param adaptionData The adapted vertices of the next quad.
+     * @param colorOverride The color override of the next quad, or -1.
+     */
+    public void reset(Collection<VertexData> adaptionData, int colorOverride) {
+        super.reset();
+        this.indexToVertexData.clear();
+        adaptionData.forEach(data -> indexToVertexData.put(data.vertexIndex(), data));
+        this.colorOverride = colorOverride;
+    }
+
+    /**
+     * Creates an adapter which is meant to be reused via {@link #reset(Collection, int)}.
+     *
+     * @return The reusable adapter.
+     */
+    public static BakedQuadAdapter reusable() {
+        return new BakedQuadAdapter();
+    }
+
     @Override
     public void put(final int vertexIndex,
                     final int elementIndex,
@@ -30,19 +58,24 @@ public class BakedQuadAdapter extends BakedQuadBuilder {
 
             if (element.isPosition()) {
                 final VertexData vertexData = indexToVertexData.get(vertexIndex);
-                final float[] positionData = vertexData.positionData();
-                super.put(vertexIndex, elementIndex, positionData);
+                scratch[0] = vertexData.x();
+                scratch[1] = vertexData.y();
+                scratch[2] = vertexData.z();
+                scratch[3] = 0f;
+                super.put(vertexIndex, elementIndex, scratch);
             } else if (element.getUsage() == VertexFormatElement.Usage.UV && element.getIndex() == 0) {
                 final VertexData vertexData = indexToVertexData.get(vertexIndex);
-                final float[] uvData = vertexData.uvData();
-                super.put(vertexIndex, elementIndex, uvData);
+                scratch[0] = vertexData.u();
+                scratch[1] = vertexData.v();
+                scratch[2] = 0f;
+                scratch[3] = 0f;
+                super.put(vertexIndex, elementIndex, scratch);
             } else if (element.getUsage() == VertexFormatElement.Usage.COLOR && this.colorOverride != -1) {
-                final float[] colorData = new float[4];
-                colorData[0] = ((this.colorOverride >> 16) & 0xFF) / 255.0F;
-                colorData[1] = ((this.colorOverride >> 8) & 0xFF) / 255.0F;
-                colorData[2] = (this.colorOverride & 0xFF) / 255.0F;
-                colorData[3] = ((this.colorOverride >> 24) & 0xFF) / 255.0F;
-                super.put(vertexIndex, elementIndex, colorData);
+                scratch[0] = ((this.colorOverride >> 16) & 0xFF) / 255.0F;
+                scratch[1] = ((this.colorOverride >> 8) & 0xFF) / 255.0F;
+                scratch[2] = (this.colorOverride & 0xFF) / 255.0F;
+                scratch[3] = ((this.colorOverride >> 24) & 0xFF) / 255.0F;
+                super.put(vertexIndex, elementIndex, scratch);
             } else {
                 super.put(vertexIndex, elementIndex, data);
             }
@@ -1,15 +1,14 @@
 package mod.chiselsandbits.client.model.data;
 
+import com.communi.suggestu.scena.core.client.models.data.IBlockModelData;
 import com.communi.suggestu.scena.core.client.models.data.IModelDataBuilder;
 import com.communi.suggestu.scena.core.client.models.data.IModelDataManager;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Table;
 import com.mojang.logging.LogUtils;
-import mod.chiselsandbits.ChiselsAndBits;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
-import mod.chiselsandbits.api.config.IClientConfiguration;
 import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.neighborhood.IBlockNeighborhood;
 import mod.chiselsandbits.api.neighborhood.IBlockNeighborhoodBuilder;
@@ -25,7 +24,11 @@ import mod.chiselsandbits.client.model.baked.simple.CombinedModel;
 import mod.chiselsandbits.client.model.baked.simple.NullBakedModel;
 import mod.chiselsandbits.client.multistate.rendering.RenderingAreaAccessor;
 import mod.chiselsandbits.client.util.BlockInformationUtils;
+import mod.chiselsandbits.executor.ChiselsAndBitsExecutor;
+import mod.chiselsandbits.executor.ExecutorLane;
 import mod.chiselsandbits.profiling.ProfilingManager;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.Metrics;
 import mod.chiselsandbits.registrars.ModModelProperties;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.RenderType;
@@ -36,21 +39,34 @@ import net.minecraft.world.level.block.state.BlockState;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class ChiseledBlockModelDataExecutor {
-    private static ExecutorService recalculationService;
-
     private static final Logger LOGGER = LogUtils.getLogger();
 
-    public static void updateModelDataCore(final ChiseledBlockEntity tileEntity, final Runnable onCompleteCallback) {
-        ensureThreadPoolSetup();
+    /**
+     * The profiler section names for every combination of solid and fluid render type, built once so that no strings are
+     * concatenated for every model build.
+     */
+    private static final String[][] KNOWN_RENDER_LAYER_SECTION_NAMES = new String[ChiselRenderType.values().length][ChiselRenderType.values().length];
+    static {
+        for (final ChiselRenderType solidType : ChiselRenderType.values()) {
+            for (final ChiselRenderType fluidType : ChiselRenderType.values()) {
+                KNOWN_RENDER_LAYER_SECTION_NAMES[solidType.ordinal()][fluidType.ordinal()] =
+                        "Known render layer model building for: " + solidType.name() + " and " + fluidType.name();
+            }
+        }
+    }
+
+    private static String getKnownRenderLayerSectionName(final ChiselRenderType solidType, final ChiselRenderType fluidType) {
+        return KNOWN_RENDER_LAYER_SECTION_NAMES[solidType.ordinal()][fluidType.ordinal()];
+    }
 
+    public static void updateModelDataCore(final ChiseledBlockEntity tileEntity, final Runnable onCompleteCallback) {
         final IBlockNeighborhood neighborhood = IBlockNeighborhoodBuilder.getInstance().build(
                 direction -> {
                     final BlockState state = Objects.requireNonNull(tileEntity.getLevel()).getBlockState(tileEntity.getBlockPos().offset(direction.getNormal()));
@@ -70,7 +86,9 @@ public class ChiseledBlockModelDataExecutor {
                     return null;
                 }
         );
-        CompletableFuture.supplyAsync(() -> {
+        //A newer update of the same block replaces this one while it is still queued, so a block only ever occupies a single slot.
+        ChiselsAndBitsExecutor.getInstance().supplyCoalescing(ExecutorLane.MESHING, tileEntity, () -> {
+                    final long meshingStart = LatencyHistogram.start();
                     BakedModel unknownRenderTypeModel;
                     Map<RenderType, BakedModel> renderTypedModels = Maps.newLinkedHashMap();
 
@@ -93,7 +111,7 @@ public class ChiseledBlockModelDataExecutor {
                                 BakedModel baked;
 
                                 try (IProfilerSection ignored3 = ProfilingManager.getInstance()
-                                        .withSection("Known render layer model building for: " + solidType.name() + " and " + fluidType.name())) {
+                                        .withSection(getKnownRenderLayerSectionName(solidType, fluidType))) {
 
                                     if (FluidRenderingManager.getInstance().isFluidRenderType(chunkBufferLayer)) {
                                         try (IProfilerSection ignored4 = ProfilingManager.getInstance().withSection("Combined model building")) {
@@ -155,7 +173,7 @@ public class ChiseledBlockModelDataExecutor {
                             .filter(model -> model != NullBakedModel.instance)
                             .toArray(BakedModel[]::new));
 
-                    return IModelDataBuilder.create()
+                    final IBlockModelData modelData = IModelDataBuilder.create()
                             .withInitial(
                                     ModModelProperties.UNKNOWN_LAYER_MODEL_PROPERTY, unknownRenderTypeModel
                             )
@@ -163,9 +181,15 @@ public class ChiseledBlockModelDataExecutor {
                                     ModModelProperties.KNOWN_LAYER_MODEL_PROPERTY, renderTypedModels
                             )
                             .build();
-                }, recalculationService)
-                .thenAcceptAsync(tileEntity::setModelData, recalculationService)
-                .thenRunAsync(onCompleteCallback, recalculationService)
+
+                    Metrics.MESHING.recordSince(meshingStart);
+                    return modelData;
+                })
+                .thenAccept(modelData -> {
+                    //Applied by the worker which built the model, instead of queueing further work per block.
+                    tileEntity.setModelData(modelData);
+                    onCompleteCallback.run();
+                })
                 .thenRunAsync(() -> {
                     if (Minecraft.getInstance().level == tileEntity.getLevel()) {
                         IModelDataManager.getInstance().requestModelDataRefresh(tileEntity);
@@ -178,13 +202,15 @@ public class ChiseledBlockModelDataExecutor {
                     }
                 }, Minecraft.getInstance())
                 .exceptionally(throwable -> {
-                    LOGGER.error("Failed to update model data for chiseled block entity", throwable);
+                    if (!(throwable.getCause() instanceof CancellationException)) {
+                        LOGGER.error("Failed to update model data for chiseled block entity", throwable);
+                    }
                     return null;
                 });
     }
 
     public static void updateModelDataPerContainedState(final ChiseledBlockEntity tileEntity, final Consumer<Table<RenderType, IBlockInformation, BakedModel>> resultConsumer) {
-        ensureThreadPoolSetup();
+        final Executor recalculationService = ChiselsAndBitsExecutor.getInstance().getExecutor(ExecutorLane.MESHING);
 
         final IBlockNeighborhood neighborhood = IBlockNeighborhoodBuilder.getInstance().build(
                 direction -> {
@@ -209,6 +235,7 @@ public class ChiseledBlockModelDataExecutor {
         CompletableFuture.supplyAsync(new Supplier<Table<RenderType, IBlockInformation, BakedModel>>() {
             @Override
             public Table<RenderType, IBlockInformation, BakedModel> get() {
+                final long meshingStart = LatencyHistogram.start();
                 final HashBasedTable<RenderType, IBlockInformation, BakedModel> result = HashBasedTable.create();
 
                 for (IBlockInformation blockInformation : tileEntity.getStatistics().getContainedStates()) {
@@ -230,7 +257,7 @@ public class ChiseledBlockModelDataExecutor {
                         BakedModel baked;
 
                         try (IProfilerSection ignored3 = ProfilingManager.getInstance()
-                                .withSection("Known render layer model building for: " + solidType.name() + " and " + fluidType.name())) {
+                                .withSection(getKnownRenderLayerSectionName(solidType, fluidType))) {
 
                             if (FluidRenderingManager.getInstance().isFluidRenderType(renderType)) {
                                 try (IProfilerSection ignored4 = ProfilingManager.getInstance().withSection("Combined model building")) {
@@ -287,26 +314,10 @@ public class ChiseledBlockModelDataExecutor {
                     }
                 }
 
+                Metrics.MESHING.recordSince(meshingStart);
                 return result;
             }
         }, recalculationService)
         .thenAcceptAsync(resultConsumer, recalculationService);
     }
-
-    private static synchronized void ensureThreadPoolSetup() {
-        if (recalculationService == null) {
-            final ClassLoader classLoader = ChiselsAndBits.class.getClassLoader();
-            final AtomicInteger genericThreadCounter = new AtomicInteger();
-            recalculationService = Executors.newFixedThreadPool(
-                    IClientConfiguration.getInstance().getModelBuildingThreadCount().get(),
-                    runnable -> {
-                        final Thread thread = new Thread(runnable);
-                        thread.setContextClassLoader(classLoader);
-                        thread.setName(String.format("Chisels and Bits Model builder #%s", genericThreadCounter.incrementAndGet()));
-                        thread.setDaemon(true);
-                        return thread;
-                    }
-            );
-        }
-    }
 }
@@ -4,6 +4,7 @@ import com.communi.suggestu.scena.core.client.event.IClientEvents;
 import com.communi.suggestu.scena.core.event.IGameEvents;
 import mod.chiselsandbits.client.input.FrameBasedInputTracker;
 import mod.chiselsandbits.client.logic.*;
+import mod.chiselsandbits.client.model.baked.bit.BitItemRenderMetadataTable;
 import mod.chiselsandbits.client.time.TickHandler;
 import mod.chiselsandbits.clipboard.CreativeClipboardManager;
 import mod.chiselsandbits.keys.KeyBindingManager;
@@ -23,6 +24,9 @@ public final class EventHandlers {
                 ChiseledBlockModelUpdateHandler.updateAllModelDataInChunk(levelChunk);
         });
         IGameEvents.getInstance().getPlayerJoinedWorldEvent().register((player, level) -> CreativeClipboardManager.getInstance().load());
+        //The eligibility of states, which the bit colors depend on, can differ per server.
+        IGameEvents.getInstance().getPlayerJoinedWorldEvent().register((player, level) -> BitItemRenderMetadataTable.getInstance().clearCache());
+        IGameEvents.getInstance().getPlayerJoinedWorldEvent().register(StateIdCacheResetHandler::onPlayerJoinedWorld);
         IClientEvents.getInstance().getClientTickStartedEvent().register(() -> {
             ToolNameHighlightTickHandler.handleClientTickForMagnifyingGlass();
             KeyBindingManager.getInstance().handleKeyPresses();
@@ -6,6 +6,7 @@ import mod.chiselsandbits.client.besr.BitStorageBESR;
 import mod.chiselsandbits.client.model.baked.bit.BitBlockBakedModelManager;
 import mod.chiselsandbits.client.model.baked.chiseled.ChiseledBlockBakedModelManager;
 import mod.chiselsandbits.client.model.baked.face.FaceManager;
+import mod.chiselsandbits.client.screens.widgets.RadialMenuMeshCache;
 import mod.chiselsandbits.reloading.DataReloadingResourceManager;
 import net.minecraft.client.Minecraft;
 import net.minecraft.server.packs.resources.ReloadableResourceManager;
@@ -37,6 +38,9 @@ public class ClientResourceReloadingManager implements ResourceManagerReloadList
     public void onResourceManagerReload(final @NotNull ResourceManager manager)
     {
         clearCaches();
+
+        //Queued behind the remaining reload tasks, so that the baked models of this reload are installed when the precomputation starts.
+        Minecraft.getInstance().tell(FaceManager.getInstance()::precomputeFaceLayers);
     }
 
     public ClientResourceReloadingManager registerCacheClearer(final ICacheClearingHandler cacheClearingHandler) {
@@ -55,7 +59,8 @@ public class ClientResourceReloadingManager implements ResourceManagerReloadList
           .registerCacheClearer(BitStorageBESR::clearCache)
           .registerCacheClearer(BitBlockBakedModelManager.getInstance()::clearCache)
           .registerCacheClearer(ChiseledBlockBakedModelManager.getInstance()::clearCache)
-          .registerCacheClearer(FaceManager.getInstance()::clearCache);
+          .registerCacheClearer(FaceManager.getInstance()::clearCache)
+          .registerCacheClearer(RadialMenuMeshCache.getInstance()::clearCache);
     }
 
     public void clearCaches() {
@@ -0,0 +1,230 @@
+package mod.chiselsandbits.client.screens.widgets;
+
+import com.google.common.collect.Maps;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Caches the segment geometry of radial menus in static vertex buffers on the GPU.
+ * <p>
+ * The geometry of a menu only depends on its segment count, its arc and its radii, and on which of its segments are active.
+ * All segments of a menu with the same active state share a single buffer, and each segment has a buffer of its own for
+ * highlighting. Drawing a menu therefore takes a constant amount of draw calls, independent of its segment count.
+ * The cache may only be accessed from the render thread.
+ */
+public final class RadialMenuMeshCache
+{
+    private static final RadialMenuMeshCache INSTANCE = new RadialMenuMeshCache();
+
+    private static final float DRAWS = 720;
+
+    private final Map<Key, Mesh> meshes = Maps.newHashMap();
+
+    private RadialMenuMeshCache()
+    {
+    }
+
+    public static RadialMenuMeshCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the mesh of a radial menu, uploading it on first use.
+     *
+     * @param segmentCount      The amount of segments in the menu.
+     * @param sectionArcAngle   The angle of the arc which is covered by all segments together.
+     * @param sectionStartAngle The angle at which the first segment starts.
+     * @param innerRadius       The inner radius of the segments.
+     * @param outerRadius       The outer radius of the segments.
+     * @param activeSegments    The indices of the segments which are active.
+     * @return The mesh.
+     */
+    public Mesh get(
+      final int segmentCount,
+      final float sectionArcAngle,
+      final float sectionStartAngle,
+      final float innerRadius,
+      final float outerRadius,
+      final BitSet activeSegments)
+    {
+        return meshes.computeIfAbsent(
+          new Key(segmentCount, sectionArcAngle, sectionStartAngle, innerRadius, outerRadius, (BitSet) activeSegments.clone()),
+          RadialMenuMeshCache::build
+        );
+    }
+
+    /**
+     * Releases all buffers, invoked when the resources are reloaded.
+     */
+    public void clearCache()
+    {
+        meshes.values().forEach(Mesh::close);
+        meshes.clear();
+    }
+
+    private static Mesh build(final Key key)
+    {
+        final float itemArcAngle = key.sectionArcAngle() / key.segmentCount();
+        final VertexBuffer[] segments = new VertexBuffer[key.segmentCount()];
+        for (int i = 0; i < key.segmentCount(); i++)
+        {
+            final BufferBuilder builder = begin();
+            appendSegment(builder, key, i, itemArcAngle);
+            segments[i] = upload(builder);
+        }
+
+        return new Mesh(
+          buildCombined(key, itemArcAngle, true),
+          buildCombined(key, itemArcAngle, false),
+          segments
+        );
+    }
+
+    @Nullable
+    private static VertexBuffer buildCombined(final Key key, final float itemArcAngle, final boolean active)
+    {
+        BufferBuilder builder = null;
+        for (int i = 0; i < key.segmentCount(); i++)
+        {
+            if (key.activeSegments().get(i) != active)
+                continue;
+
+            if (builder == null)
+                builder = begin();
+
+            appendSegment(builder, key, i, itemArcAngle);
+        }
+
+        return builder == null ? null : upload(builder);
+    }
+
+    private static BufferBuilder begin()
+    {
+        final BufferBuilder builder = Tesselator.getInstance().getBuilder();
+        builder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION);
+        return builder;
+    }
+
+    private static VertexBuffer upload(final BufferBuilder builder)
+    {
+        final VertexBuffer vertexBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        vertexBuffer.bind();
+        vertexBuffer.upload(builder.end());
+        VertexBuffer.unbind();
+        return vertexBuffer;
+    }
+
+    /**
+     * Appends the torus segment of the given index, with the same steps as an immediately drawn torus of the same arc.
+     */
+    private static void appendSegment(final BufferBuilder builder, final Key key, final int index, final float itemArcAngle)
+    {
+        final float itemTargetAngle = ((index + 0.5f) * itemArcAngle) + key.sectionStartAngle();
+        final float startAngle = (itemTargetAngle - 90F) - (itemArcAngle / 2);
+        final float draws = DRAWS * (itemArcAngle / 360F);
+
+        float previousAngle = Float.NaN;
+        for (int i = 0; i <= draws; i++)
+        {
+            final float angle = (float) Math.toRadians(startAngle + (i / DRAWS) * 360);
+            if (!Float.isNaN(previousAngle))
+            {
+                vertex(builder, key.outerRadius(), previousAngle);
+                vertex(builder, key.innerRadius(), previousAngle);
+                vertex(builder, key.innerRadius(), angle);
+                vertex(builder, key.outerRadius(), angle);
+            }
+            previousAngle = angle;
+        }
+    }
+
+    private static void vertex(final BufferBuilder builder, final float radius, final float angle)
+    {
+        builder.vertex((float) (radius * Math.cos(angle)), (float) (radius * Math.sin(angle)), 0).endVertex();
+    }
+
+    private record Key(int segmentCount, float sectionArcAngle, float sectionStartAngle, float innerRadius, float outerRadius, BitSet activeSegments) {}
+
+    public static final class Mesh
+    {
+        @Nullable
+        private final VertexBuffer   activeSegments;
+        @Nullable
+        private final VertexBuffer   inactiveSegments;
+        private final VertexBuffer[] segments;
+
+        private Mesh(@Nullable final VertexBuffer activeSegments, @Nullable final VertexBuffer inactiveSegments, final VertexBuffer[] segments)
+        {
+            this.activeSegments = activeSegments;
+            this.inactiveSegments = inactiveSegments;
+            this.segments = segments;
+        }
+
+        /**
+         * Draws all active segments, with the current shader color.
+         *
+         * @param graphics The graphics to draw with, its pose has to be centered on the menu.
+         */
+        public void drawActiveSegments(final GuiGraphics graphics)
+        {
+            draw(graphics, activeSegments);
+        }
+
+        /**
+         * Draws all inactive segments, with the current shader color.
+         *
+         * @param graphics The graphics to draw with, its pose has to be centered on the menu.
+         */
+        public void drawInactiveSegments(final GuiGraphics graphics)
+        {
+            draw(graphics, inactiveSegments);
+        }
+
+        /**
+         * Draws a single segment, with the current shader color.
+         *
+         * @param graphics The graphics to draw with, its pose has to be centered on the menu.
+         * @param index    The index of the segment.
+         */
+        public void drawSegment(final GuiGraphics graphics, final int index)
+        {
+            if (index >= 0 && index < segments.length)
+                draw(graphics, segments[index]);
+        }
+
+        private static void draw(final GuiGraphics graphics, @Nullable final VertexBuffer vertexBuffer)
+        {
+            if (vertexBuffer == null)
+                return;
+
+            final Matrix4f modelViewMatrix = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(graphics.pose().last().pose());
+            vertexBuffer.bind();
+            vertexBuffer.drawWithShader(modelViewMatrix, RenderSystem.getProjectionMatrix(), GameRenderer.getPositionColorShader());
+            VertexBuffer.unbind();
+        }
+
+        private void close()
+        {
+            if (activeSegments != null)
+                activeSegments.close();
+            if (inactiveSegments != null)
+                inactiveSegments.close();
+            for (final VertexBuffer segment : segments)
+            {
+                segment.close();
+            }
+        }
+    }
+}
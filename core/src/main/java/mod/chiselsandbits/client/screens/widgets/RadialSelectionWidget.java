@@ -6,16 +6,23 @@ import mod.chiselsandbits.api.client.screen.widget.AbstractChiselsAndBitsWidget;
 import mod.chiselsandbits.api.config.IClientConfiguration;
 import mod.chiselsandbits.api.item.withmode.IRenderableMode;
 import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
+import mod.chiselsandbits.client.icon.IconManager;
+import mod.chiselsandbits.client.icon.IconSpriteUploader;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.network.chat.Component;
+import net.minecraft.util.FastColor;
 import net.minecraft.util.FormattedCharSequence;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Matrix4f;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -222,40 +229,40 @@ public class RadialSelectionWidget extends AbstractChiselsAndBitsWidget
             }
         }
 
+        final BitSet activeModes = new BitSet(selectableItemCount);
+        for (int modeIndex = 0; modeIndex < selectableItemCount; modeIndex++)
+        {
+            activeModes.set(modeIndex, modes.get(modeIndex).isActive());
+        }
+
+        //The segments come precompiled from the cache, so the amount of draw calls does not depend on the amount of modes.
+        final RadialMenuMeshCache.Mesh mesh = RadialMenuMeshCache.getInstance().get(
+          selectableItemCount,
+          sectionArcAngle,
+          sectionStartAngle,
+          innerRadius,
+          outerRadius,
+          activeModes
+        );
+
         RenderSystem.enableBlend();
-        final int renderableHoveredItemIndex = hoveredItemIndex;
-        modes.forEach(mode -> {
-            final int modeIndex = modes.indexOf(mode);
-            final boolean isSelected = current != null && mode == current;
-            final boolean isHovered = renderableHoveredItemIndex == modeIndex;
+        RenderSystem.setShaderColor(0.3f, 0.3f, 0.3f, 0.3f);
+        mesh.drawActiveSegments(graphics);
+        RenderSystem.setShaderColor(0.1f, 0.1f, 0.1f, 0.1f);
+        mesh.drawInactiveSegments(graphics);
 
-            final float itemTargetAngle = ((modeIndex + 0.5f) * itemArcAngle) + sectionStartAngle;
+        final int selectedItemIndex = current == null ? -1 : modes.indexOf(current);
+        if (selectedItemIndex >= 0 && activeModes.get(selectedItemIndex))
+        {
+            RenderSystem.setShaderColor(0.4F, 0.4F, 0.4F, 0.7F);
+            mesh.drawSegment(graphics, selectedItemIndex);
+        }
 
-            if (mode.isActive())
-            {
-                drawSelectableSection(
-                  graphics,
-                  sectionArcAngle,
-                  innerRadius,
-                  outerRadius,
-                  selectableItemCount,
-                  itemTargetAngle,
-                  isSelected,
-                  isHovered
-                );
-            }
-            else
-            {
-                drawDeactivatedSection(
-                  graphics,
-                  sectionArcAngle,
-                  innerRadius,
-                  outerRadius,
-                  selectableItemCount,
-                  itemTargetAngle
-                );
-            }
-        });
+        if (hoveredItemIndex >= 0 && activeModes.get(hoveredItemIndex))
+        {
+            RenderSystem.setShaderColor(0.7F, 0.7F, 0.7F, 0.7F);
+            mesh.drawSegment(graphics, hoveredItemIndex);
+        }
         RenderSystem.disableBlend();
 
         if (isMouseInSection && hoveredItemIndex >= 0 && hoveredItemIndex < modes.size() && modes.get(hoveredItemIndex).isActive())
@@ -293,14 +300,7 @@ public class RadialSelectionWidget extends AbstractChiselsAndBitsWidget
             currentlyHoveredModeCallback.accept(null);
         }
 
-        modes.forEach(mode -> {
-            if (mode.isActive())
-            {
-                final int modeIndex = modes.indexOf(mode);
-                final float itemTargetAngle = ((modeIndex + 0.5f) * itemArcAngle) + sectionStartAngle;
-                renderModeIcon(graphics, innerRadius, outerRadius, itemTargetAngle, iconScaleFactor, iconTextSpacer, mode, fontRenderer);
-            }
-        });
+        renderModeIcons(graphics, itemArcAngle);
 
         RenderSystem.setShaderColor(1F, 1F, 1F, 1F);
         graphics.pose().popPose();
@@ -327,82 +327,6 @@ public class RadialSelectionWidget extends AbstractChiselsAndBitsWidget
         return (float) Math.sqrt(xDiff * xDiff + yDiff * yDiff);
     }
 
-    @SuppressWarnings("deprecation")
-    private static void drawSelectableSection(
-      @NotNull final GuiGraphics graphics,
-      final float sectionArcAngle,
-      final float innerRadius,
-      final float outerRadius,
-      final int itemCountInSection,
-      final float itemTargetAngle,
-      final boolean isSelected,
-      final boolean isHovered
-    )
-    {
-        final float itemArcAngle = sectionArcAngle / itemCountInSection;
-        final float itemRenderAngle = itemTargetAngle - 90F;
-
-        final float sectionStartAngle = itemRenderAngle - (itemArcAngle / 2);
-
-        RenderSystem.setShaderColor(0.3f, 0.3f, 0.3f, 0.3f);
-        drawTorus(
-          graphics,
-          sectionStartAngle,
-          itemArcAngle,
-          innerRadius,
-          outerRadius
-        );
-
-        if (isSelected)
-        {
-            RenderSystem.setShaderColor(0.4F, 0.4F, 0.4F, 0.7F);
-            drawTorus(
-              graphics,
-              sectionStartAngle,
-              itemArcAngle,
-              innerRadius,
-              outerRadius
-            );
-        }
-
-        if (isHovered)
-        {
-            RenderSystem.setShaderColor(0.7F, 0.7F, 0.7F, 0.7F);
-            drawTorus(
-              graphics,
-              sectionStartAngle,
-              itemArcAngle,
-              innerRadius,
-              outerRadius
-            );
-        }
-    }
-
-    @SuppressWarnings("deprecation")
-    private static void drawDeactivatedSection(
-      @NotNull final GuiGraphics graphics,
-      final float sectionArcAngle,
-      final float innerRadius,
-      final float outerRadius,
-      final int itemCountInSection,
-      final float itemTargetAngle
-    )
-    {
-        final float itemArcAngle = sectionArcAngle / itemCountInSection;
-        final float itemRenderAngle = itemTargetAngle - 90F;
-
-        final float sectionStartAngle = itemRenderAngle - (itemArcAngle / 2);
-
-        RenderSystem.setShaderColor(0.1f, 0.1f, 0.1f, 0.1f);
-        drawTorus(
-          graphics,
-          sectionStartAngle,
-          itemArcAngle,
-          innerRadius,
-          outerRadius
-        );
-    }
-
     private static void drawTorus(GuiGraphics graphics, float startAngle, float sizeAngle, float inner, float outer)
     {
         RenderSystem.setShader(GameRenderer::getPositionColorShader);
@@ -420,15 +344,83 @@ public class RadialSelectionWidget extends AbstractChiselsAndBitsWidget
         BufferUploader.drawWithShader(buffer);
     }
 
-    private void renderModeIcon(
-      final @NotNull GuiGraphics graphics,
-      final float innerRadius,
-      final float outerRadius,
-      final float itemTargetAngle,
-      final float iconScaleFactor,
-      final int iconTextSpacer,
-      final @NotNull IRenderableMode mode,
-      final Font fontRenderer)
+    private void renderModeIcons(final @NotNull GuiGraphics graphics, final float itemArcAngle)
+    {
+        final List<ModeIconLayout> layouts = new ArrayList<>();
+        for (int modeIndex = 0; modeIndex < modes.size(); modeIndex++)
+        {
+            final IRenderableMode mode = modes.get(modeIndex);
+            if (mode.isActive())
+            {
+                final float itemTargetAngle = ((modeIndex + 0.5f) * itemArcAngle) + sectionStartAngle;
+                layouts.add(layoutModeIcon(mode, itemTargetAngle));
+            }
+        }
+
+        //Icons from the icon atlas are drawn in a single batch, all other icons need their own texture and are drawn afterwards.
+        final Matrix4f matrix4f = graphics.pose().last().pose();
+        final int iconRenderSize = (int) (iconSize * iconScaleFactor);
+        final List<ModeIconLayout> standaloneIcons = new ArrayList<>();
+        BufferBuilder atlasIcons = null;
+        for (final ModeIconLayout layout : layouts)
+        {
+            final Optional<TextureAtlasSprite> sprite = IconManager.getInstance().getIconForTexture(layout.mode().getIcon());
+            if (sprite.isEmpty())
+            {
+                standaloneIcons.add(layout);
+                continue;
+            }
+
+            if (atlasIcons == null)
+            {
+                atlasIcons = Tesselator.getInstance().getBuilder();
+                atlasIcons.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR_TEX);
+            }
+
+            final IRenderableMode mode = layout.mode();
+            final float red = (float) mode.getColorVector().x();
+            final float green = (float) mode.getColorVector().y();
+            final float blue = (float) mode.getColorVector().z();
+            final float alpha = (float) mode.getAlphaChannel();
+
+            final int minX = (int) layout.iconStartX();
+            final int minY = (int) layout.iconStartY();
+            final int maxX = minX + iconRenderSize;
+            final int maxY = minY + iconRenderSize;
+
+            final TextureAtlasSprite icon = sprite.get();
+            atlasIcons.vertex(matrix4f, minX, minY, 0).color(red, green, blue, alpha).uv(icon.getU0(), icon.getV0()).endVertex();
+            atlasIcons.vertex(matrix4f, minX, maxY, 0).color(red, green, blue, alpha).uv(icon.getU0(), icon.getV1()).endVertex();
+            atlasIcons.vertex(matrix4f, maxX, maxY, 0).color(red, green, blue, alpha).uv(icon.getU1(), icon.getV1()).endVertex();
+            atlasIcons.vertex(matrix4f, maxX, minY, 0).color(red, green, blue, alpha).uv(icon.getU1(), icon.getV0()).endVertex();
+        }
+
+        if (atlasIcons != null)
+        {
+            RenderSystem.setShader(GameRenderer::getPositionColorTexShader);
+            RenderSystem.setShaderColor(1F, 1F, 1F, 1F);
+            RenderSystem.setShaderTexture(0, IconSpriteUploader.TEXTURE_MAP_NAME);
+            BufferUploader.drawWithShader(atlasIcons.end());
+        }
+
+        for (final ModeIconLayout layout : standaloneIcons)
+        {
+            final IRenderableMode mode = layout.mode();
+            RenderSystem.setShaderColor(
+              (float) mode.getColorVector().x(),
+              (float) mode.getColorVector().y(),
+              (float) mode.getColorVector().z(),
+              (float) mode.getAlphaChannel()
+            );
+            graphics.blit(mode.getIcon(), (int) layout.iconStartX(), (int) layout.iconStartY(), iconRenderSize, iconRenderSize, 0, 0, 18, 18, 18, 18);
+        }
+
+        //The labels are tinted through their vertex color, so that all of them can be flushed in one go.
+        RenderSystem.setShaderColor(1F, 1F, 1F, 1F);
+        graphics.drawManaged(() -> layouts.forEach(layout -> renderModeLabel(graphics, layout)));
+    }
+
+    private ModeIconLayout layoutModeIcon(final @NotNull IRenderableMode mode, final float itemTargetAngle)
     {
         float workingAngle = itemTargetAngle - 90;
         while (workingAngle < 0)
@@ -449,33 +441,36 @@ public class RadialSelectionWidget extends AbstractChiselsAndBitsWidget
         final float iconStartX = itemCenterX - ((iconSize * iconScaleFactor) / 2f);
         final float iconStartY = itemCenterY - (itemHeight / 2f);
 
-        graphics.pose().pushPose();
-        RenderSystem.setShader(GameRenderer::getPositionColorTexShader);
-        RenderSystem.setShaderColor(
-          (float) mode.getColorVector().x(),
-          (float) mode.getColorVector().y(),
-          (float) mode.getColorVector().z(),
-          (float) mode.getAlphaChannel()
+        return new ModeIconLayout(mode, itemCenterX, itemCenterY, iconStartX, iconStartY, lines);
+    }
+
+    private void renderModeLabel(final @NotNull GuiGraphics graphics, final ModeIconLayout layout)
+    {
+        final IRenderableMode mode = layout.mode();
+        if (!mode.shouldRenderDisplayNameInMenu())
+        {
+            return;
+        }
+
+        final int color = FastColor.ARGB32.color(
+          (int) (0xCC * mode.getAlphaChannel()),
+          (int) (0xFF * mode.getColorVector().x()),
+          (int) (0xFF * mode.getColorVector().y()),
+          (int) (0xFF * mode.getColorVector().z())
         );
-        RenderSystem.setShaderTexture(0, mode.getIcon());
-        graphics.blit(mode.getIcon(), (int) iconStartX, (int) iconStartY, (int) (iconSize * iconScaleFactor), (int) (iconSize * iconScaleFactor), 0, 0, 18, 18, 18, 18);
+
         graphics.pose().pushPose();
+        graphics.pose().translate(layout.itemCenterX(), layout.itemCenterY(), 0);
+        graphics.pose().scale(0.6F * iconScaleFactor, 0.6F * iconScaleFactor, 0.6F * iconScaleFactor);
 
-        if (mode.shouldRenderDisplayNameInMenu())
+        int offset = 0;
+        for (final FormattedCharSequence line : layout.lines())
         {
-            graphics.pose().translate(itemCenterX, itemCenterY, 0);
-            graphics.pose().scale(0.6F * iconScaleFactor, 0.6F * iconScaleFactor, 0.6F * iconScaleFactor);
-
-            int offset = 0;
-            for (final FormattedCharSequence line : lines)
-            {
-                graphics.drawString(fontRenderer, line, (int) (fontRenderer.width(line) / -2f), iconTextSpacer + offset, 0xCCFFFFFF);
-                offset += fontRenderer.lineHeight;
-            }
+            graphics.drawString(fontRenderer, line, (int) (fontRenderer.width(line) / -2f), iconTextSpacer + offset, color);
+            offset += fontRenderer.lineHeight;
         }
 
         graphics.pose().popPose();
-        graphics.pose().popPose();
     }
 
     @Override
@@ -516,4 +511,6 @@ public class RadialSelectionWidget extends AbstractChiselsAndBitsWidget
         this.currentlyClickedModeCallback.accept(modes.get(hoveredItemIndex));
         return true;
     }
+
+    private record ModeIconLayout(IRenderableMode mode, float itemCenterX, float itemCenterY, float iconStartX, float iconStartY, List<FormattedCharSequence> lines) {}
 }
@@ -1,6 +1,7 @@
 package mod.chiselsandbits.client.util;
 
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.client.model.baked.PackedQuadBuffer;
 import mod.chiselsandbits.client.model.baked.face.FaceManager;
 import mod.chiselsandbits.client.model.baked.face.model.BakedQuadAdapter;
 import mod.chiselsandbits.client.model.baked.face.model.ModelQuadLayer;
@@ -14,6 +15,7 @@ import org.joml.Vector3f;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public final class QuadGenerationUtils {
 
@@ -21,10 +23,21 @@ public final class QuadGenerationUtils {
         throw new IllegalStateException("Tried to instantiate: 'QuadGenerationUtils', but this is a utility class.");
     }
 
+    private static final ThreadLocal<BakedQuadAdapter> ADAPTER = ThreadLocal.withInitial(BakedQuadAdapter::reusable);
+
     public static void generateQuads(List<BakedQuad> target, long primaryStateRenderSeed, @NotNull RenderType renderType, IBlockInformation blockInformation, Direction cullDirection, Vector3f from, Vector3f to) {
+        generateQuads(adapter -> target.add(adapter.build()), primaryStateRenderSeed, renderType, blockInformation, cullDirection, from, to);
+    }
+
+    public static void generateQuads(PackedQuadBuffer target, long primaryStateRenderSeed, @NotNull RenderType renderType, IBlockInformation blockInformation, Direction cullDirection, Vector3f from, Vector3f to) {
+        generateQuads(adapter -> adapter.buildInto(target), primaryStateRenderSeed, renderType, blockInformation, cullDirection, from, to);
+    }
+
+    private static void generateQuads(Consumer<BakedQuadAdapter> target, long primaryStateRenderSeed, @NotNull RenderType renderType, IBlockInformation blockInformation, Direction cullDirection, Vector3f from, Vector3f to) {
         final Collection<ModelQuadLayer> quadLayers = FaceManager.getInstance().getCachedLayersFor(blockInformation, cullDirection, renderType, primaryStateRenderSeed, renderType);
 
         if (quadLayers != null) {
+            final BakedQuadAdapter adapter = ADAPTER.get();
             for (final ModelQuadLayer layer : quadLayers) {
 
                 final Collection<VertexData> adaptedVertices;
@@ -34,15 +47,14 @@ public final class QuadGenerationUtils {
                     continue;
                 }
 
-                final BakedQuadAdapter adapter = new BakedQuadAdapter(adaptedVertices, layer.color());
+                adapter.reset(adaptedVertices, layer.color());
                 LightUtil.put(adapter, layer.sourceQuad());
                 adapter.setQuadTint(layer.tint());
                 adapter.setApplyDiffuseLighting(layer.shade());
                 adapter.setTexture(layer.sprite());
                 adapter.setQuadOrientation(cullDirection);
-                final BakedQuad quad = adapter.build();
 
-                target.add(quad);
+                target.accept(adapter);
             }
         }
     }
@@ -7,27 +7,30 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import mod.chiselsandbits.ChiselsAndBits;
-import mod.chiselsandbits.api.blockinformation.IBlockInformation;
-import mod.chiselsandbits.api.exceptions.SpaceOccupiedException;
+import mod.chiselsandbits.block.entities.storage.StorageInterner;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.bulk.BulkEditJob;
+import mod.chiselsandbits.bulk.BulkEditManager;
+import mod.chiselsandbits.bulk.IBulkEditOperation;
+import mod.chiselsandbits.bulk.RegionStatisticsJob;
+import mod.chiselsandbits.executor.ChiselsAndBitsExecutor;
 import mod.chiselsandbits.api.change.IChangeTracker;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
 import mod.chiselsandbits.api.change.changes.IllegalChangeAttempt;
 import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
 import mod.chiselsandbits.api.inventory.bit.IBitInventory;
 import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
-import mod.chiselsandbits.api.multistate.mutator.IMutableStateEntryInfo;
-import mod.chiselsandbits.api.multistate.mutator.IMutatorFactory;
-import mod.chiselsandbits.api.util.IBatchMutation;
-import mod.chiselsandbits.api.multistate.mutator.world.IWorldAreaMutator;
 import mod.chiselsandbits.api.profiling.IProfilerResult;
 import mod.chiselsandbits.api.profiling.IProfilingManager;
 import mod.chiselsandbits.api.util.BlockInformationUtils;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.variant.state.IStateVariantManager;
+import mod.chiselsandbits.network.NetworkChannel;
 import mod.chiselsandbits.network.packets.ExportPatternCommandMessagePacket;
 import mod.chiselsandbits.network.packets.ImportPatternCommandMessagePacket;
 import mod.chiselsandbits.profiling.ProfilingManager;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.MetricsRegistry;
 import mod.chiselsandbits.utils.CommandUtils;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.commands.CommandSourceStack;
@@ -46,12 +49,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Optional;
-import java.util.function.Consumer;
 
 public class CommandManager
 {
     private static final CommandManager INSTANCE = new CommandManager();
     private static final Logger         LOGGER   = LogManager.getLogger();
+    private static final int            RANDOM_FILL_CANDIDATE_COUNT = 1024;
 
     private CommandManager()
     {
@@ -89,6 +92,23 @@ public class CommandManager
                             )
                     )
             )
+            .then(Commands.literal("jobs")
+                    .executes(this::listBulkEditJobs)
+                    .then(Commands.literal("cancel")
+                            .then(Commands.argument("id", IntegerArgumentType.integer(1))
+                                    .executes(this::cancelBulkEditJob)
+                            )
+                    )
+            )
+            .then(Commands.literal("executor")
+                    .executes(this::runExecutorStatisticsCommand)
+            )
+            .then(Commands.literal("network")
+                    .executes(this::runNetworkStatisticsCommand)
+            )
+            .then(Commands.literal("storage")
+                    .executes(this::runStorageStatisticsCommand)
+            )
             .then(Commands.literal("stats")
                     .then(Commands.argument("start", Vec3Argument.vec3(false))
                             .then(Commands.argument("end", Vec3Argument.vec3(false))
@@ -113,6 +133,9 @@ public class CommandManager
                     .then(Commands.literal("stop")
                             .executes(this::stopProfiling)
                     )
+                    .then(Commands.literal("metrics")
+                            .executes(this::runMetricsCommand)
+                    )
             )
             .then(Commands.literal("undo")
               .then(Commands.argument("target", EntityArgument.player())
@@ -149,68 +172,20 @@ public class CommandManager
             return -1;
         }
 
-        final IWorldAreaMutator mutator = IMutatorFactory.getInstance().covering(
-          context.getSource().getLevel(),
-          start,
-          end
-        );
-
+        final IBulkEditOperation operation;
         if (CommandUtils.hasArgument(context, "state"))
         {
             final BlockState state = BlockStateArgument.getBlock(context, "state").getState();
-            try (final IBatchMutation ignored = context.getSource().getEntity() != null ? mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(context.getSource().getPlayerOrException())) :
-                                                  mutator.batch())
-            {
-                final long bitCount = mutator.mutableStream().count();
-                final IBlockInformation information = new BlockInformation(state, IStateVariantManager.getInstance().getStateVariant(state, Optional.empty()));
-                final ReportingBlockInformationOverrider reporter = new ReportingBlockInformationOverrider(context.getSource(), bitCount) {
-                    @Override
-                    protected IBlockInformation getNextInformation() {
-                        return information;
-                    }
-                };
-
-                context.getSource().sendSystemMessage(LocalStrings.CommandToFill.getText(bitCount));
-                mutator.mutableStream().forEach(reporter);
-                context.getSource().sendSystemMessage(LocalStrings.CommandProcessingBlockUpdates.getText());
-            }
+            operation = IBulkEditOperation.fill(new BlockInformation(state, IStateVariantManager.getInstance().getStateVariant(state, Optional.empty())));
         }
         else
         {
-            try (final IBatchMutation ignored = context.getSource().getEntity() != null ? mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(context.getSource().getPlayerOrException())) :
-                                                                                                                                                                                                            mutator.batch())
-            {
-                final long bitCount = mutator.mutableStream().count();
-                final ReportingBlockInformationOverrider reporter = new ReportingBlockInformationOverrider(context.getSource(), bitCount) {
-                    IBlockInformation[] lookup = null;
-                    long total = bitCount;
-                    int index = 0;
-
-                    @Override
-                    protected IBlockInformation getNextInformation() {
-                        if (lookup == null || index == lookup.length) {
-                            final int count = (int) Math.min(total, Integer.MAX_VALUE);
-                            lookup = BlockInformationUtils.getRandomSupportedInformation(context.getSource().getLevel().getRandom(), count);
-                            total -= count;
-                            index = 0;
-                        }
-
-
-                        final IBlockInformation blockInformation = lookup[index];
-                        index++;
-
-                        return blockInformation;
-                    }
-                };
-
-                context.getSource().sendSystemMessage(LocalStrings.CommandToFill.getText(bitCount));
-                mutator.mutableStream().forEach(reporter);
-                context.getSource().sendSystemMessage(LocalStrings.CommandProcessingBlockUpdates.getText());
-            }
+            operation = IBulkEditOperation.fillRandomly(
+              BlockInformationUtils.getRandomSupportedInformation(context.getSource().getLevel().getRandom(), RANDOM_FILL_CANDIDATE_COUNT)
+            );
         }
 
-        context.getSource().sendSuccess(() -> Component.translatable(LocalStrings.CommandFillCompleted.toString()), true);
-        return 0;
+        return submitBulkEdit(context, start, end, operation);
     }
 
     private int runClearCommand(final CommandContext<CommandSourceStack> context) throws CommandSyntaxException
@@ -218,18 +193,49 @@ public class CommandManager
         final Vec3 start = Vec3Argument.getVec3(context, "start");
         final Vec3 end = Vec3Argument.getVec3(context, "end");
 
-        final IWorldAreaMutator mutator = IMutatorFactory.getInstance().covering(
+        return submitBulkEdit(context, start, end, IBulkEditOperation.clear());
+    }
+
+    private int submitBulkEdit(final CommandContext<CommandSourceStack> context, final Vec3 start, final Vec3 end, final IBulkEditOperation operation) throws CommandSyntaxException
+    {
+        final IChangeTracker changeTracker = context.getSource().getEntity() != null ?
+                                               IChangeTrackerManager.getInstance().getChangeTracker(context.getSource().getPlayerOrException()) :
+                                               null;
+
+        final BulkEditJob job = BulkEditManager.getInstance().submit(
           context.getSource().getLevel(),
+          context.getSource(),
           start,
-          end
+          end,
+          operation,
+          changeTracker
         );
 
-        try (final IBatchMutation ignored = context.getSource().getEntity() != null ? mutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(context.getSource().getPlayerOrException())) :
-                                                                                                                                                                                                       mutator.batch())
+        context.getSource().sendSystemMessage(LocalStrings.CommandBulkEditQueued.getText(job.getId(), job.getTotalBlockCount(), job.getWorkUnitCount()));
+        return job.getId();
+    }
+
+    private int listBulkEditJobs(final CommandContext<CommandSourceStack> context)
+    {
+        if (BulkEditManager.getInstance().getJobs().isEmpty())
         {
-            mutator.mutableStream().forEach(
-              IMutableStateEntryInfo::clear
-            );
+            context.getSource().sendSystemMessage(LocalStrings.CommandBulkEditNoneRunning.getText());
+            return 0;
+        }
+
+        BulkEditManager.getInstance().getJobs().forEach(job -> context.getSource().sendSystemMessage(
+          LocalStrings.CommandBulkEditStatus.getText(job.getId(), job.getProcessedBlockCount(), job.getTotalBlockCount())
+        ));
+        return BulkEditManager.getInstance().getJobs().size();
+    }
+
+    private int cancelBulkEditJob(final CommandContext<CommandSourceStack> context)
+    {
+        final int id = IntegerArgumentType.getInteger(context, "id");
+        if (BulkEditManager.getInstance().cancel(id).isEmpty())
+        {
+            context.getSource().sendFailure(LocalStrings.CommandBulkEditNotFound.getText(id));
+            return 1;
         }
 
         return 0;
@@ -240,20 +246,32 @@ public class CommandManager
         final Vec3 start = Vec3Argument.getVec3(context, "start");
         final Vec3 end = Vec3Argument.getVec3(context, "end");
 
-        final IWorldAreaMutator mutator = IMutatorFactory.getInstance().covering(
+        final RegionStatisticsJob job = BulkEditManager.getInstance().submitStatistics(
           context.getSource().getLevel(),
+          context.getSource(),
           start,
           end
         );
 
-        context.getSource().sendSuccess(() -> Component.literal("Collected the following statistics for the requested area:"), true);
-        context.getSource().sendSuccess(() -> Component.literal("----------------------------------------------------------"), true);
-        context.getSource().sendSuccess(() -> Component.literal("BlockStates:"), true);
-        context.getSource().sendSuccess(() -> Component.literal("############"), true);
-        mutator.createSnapshot().getStatics()
-          .getStateCounts().forEach((state, count) -> {
-            context.getSource().sendSuccess(() -> Component.literal(" > ").append(state.getBlockState().getBlock().getName()).append(Component.literal(": " + count)), true);
-        });
+        context.getSource().sendSystemMessage(LocalStrings.CommandBulkEditQueued.getText(job.getId(), job.getTotalBlockCount(), job.getWorkUnitCount()));
+        return job.getId();
+    }
+
+    private int runExecutorStatisticsCommand(final CommandContext<CommandSourceStack> context)
+    {
+        ChiselsAndBitsExecutor.getInstance().getStatistics().forEach(statistics -> context.getSource().sendSystemMessage(
+          LocalStrings.CommandExecutorStatistics.getText(
+            statistics.lane().name(),
+            statistics.queued(),
+            statistics.running(),
+            statistics.completed(),
+            statistics.executedByCaller(),
+            statistics.deferred(),
+            statistics.coalesced(),
+            statistics.averageWaitTime(),
+            statistics.maxWaitTime()
+          )
+        ));
 
         return 0;
     }
@@ -305,6 +323,79 @@ public class CommandManager
         return 0;
     }
 
+    private int runNetworkStatisticsCommand(final CommandContext<CommandSourceStack> context)
+    {
+        final NetworkChannel networkChannel = ChiselsAndBits.getInstance().getNetworkChannel();
+        networkChannel.getStatistics().getPacketTypes().forEach(packetType -> context.getSource().sendSystemMessage(
+          LocalStrings.CommandNetworkPacketType.getText(
+            packetType.name(),
+            packetType.packets().get(),
+            packetType.bytes().get(),
+            toMillis(packetType.encoding().snapshot().mean())
+          )
+        ));
+        networkChannel.getStatistics().getDestinations().forEach(destination -> context.getSource().sendSystemMessage(
+          LocalStrings.CommandNetworkDestination.getText(
+            destination.name(),
+            destination.packets().get(),
+            destination.bytes().get()
+          )
+        ));
+        context.getSource().getServer().getPlayerList().getPlayers().forEach(player -> {
+            final int deferred = networkChannel.getDeferredPacketCount(player);
+            if (deferred > 0)
+                context.getSource().sendSystemMessage(LocalStrings.CommandNetworkDeferred.getText(player.getGameProfile().getName(), deferred));
+        });
+
+        return 0;
+    }
+
+    private int runStorageStatisticsCommand(final CommandContext<CommandSourceStack> context)
+    {
+        final StorageInterner.Statistics statistics = StorageInterner.getStatistics();
+        context.getSource().sendSystemMessage(LocalStrings.CommandStorageInterning.getText(
+          statistics.references(),
+          statistics.uniqueStorages(),
+          String.format("%.2f", statistics.getDeduplicationRatio()),
+          statistics.copiesOnWrite()
+        ));
+
+        return 0;
+    }
+
+    private int runMetricsCommand(final CommandContext<CommandSourceStack> context)
+    {
+        MetricsRegistry.getInstance().getHistograms().forEach(histogram -> {
+            final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            context.getSource().sendSystemMessage(LocalStrings.CommandMetricsLatency.getText(
+              histogram.getName(),
+              snapshot.count(),
+              toMillis(snapshot.mean()),
+              toMillis(snapshot.p50()),
+              toMillis(snapshot.p99()),
+              toMillis(snapshot.max())
+            ));
+        });
+        MetricsRegistry.getInstance().getCounters().forEach(counter -> context.getSource().sendSystemMessage(
+          LocalStrings.CommandMetricsCounter.getText(counter.getName(), counter.get())
+        ));
+        MetricsRegistry.getInstance().getCaches().forEach(cache -> context.getSource().sendSystemMessage(
+          LocalStrings.CommandMetricsCache.getText(
+            cache.getName(),
+            cache.getLookups(),
+            cache.getMisses(),
+            String.format("%.1f", cache.getHitRate() * 100)
+          )
+        ));
+
+        return 0;
+    }
+
+    private static String toMillis(final long nanos)
+    {
+        return String.format("%.3f", nanos / 1_000_000d);
+    }
+
     private int redoFor(final CommandContext<CommandSourceStack> context) throws CommandSyntaxException
     {
         final Player target = EntityArgument.getPlayer(context, "target");
@@ -373,45 +464,4 @@ public class CommandManager
 
         return 0;
     }
-
-    private static abstract class ReportingBlockInformationOverrider implements Consumer<IMutableStateEntryInfo>
-    {
-        private final CommandSourceStack source;
-        private final long count;
-        private final long reportEvery;
-
-        protected int index = 0;
-
-        public ReportingBlockInformationOverrider(CommandSourceStack source, long count) {
-            this.source = source;
-            this.count = count;
-
-            this.reportEvery = Math.max(1, count / 10);
-        }
-
-        @Override
-        public void accept(final IMutableStateEntryInfo iMutableStateEntryInfo)
-        {
-            iMutableStateEntryInfo.overrideState(getNextInformation());
-            if (shouldReport())
-            {
-                doReport();
-            }
-        }
-
-        protected boolean shouldReport()
-        {
-            return index++ % reportEvery == 0;
-        }
-
-        protected void doReport()
-        {
-            final double procent = (double) index / (double) count * 100;
-            final String formatted = String.format("%.0f", procent);
-
-            source.sendSystemMessage(LocalStrings.CommandFillingInProgress.getText(formatted, count));
-        }
-
-        protected abstract IBlockInformation getNextInformation();
-    }
 }
@@ -36,6 +36,7 @@ public class ClientConfiguration implements IClientConfiguration
     private final Supplier<Long>                       modelCacheSize;
     private final Supplier<Long>                       stackModelCacheSize;
     private final Supplier<Long>                       faceLayerCacheSize;
+    private final Supplier<Boolean>                    precomputeFaceLayers;
     private final Supplier<Integer>                    modelBuildingThreadCount;
     private final Supplier<Integer>                    clipboardSize;
     private final Supplier<Boolean>                    addBrokenBlocksToClipboard;
@@ -73,6 +74,7 @@ public class ClientConfiguration implements IClientConfiguration
         radialMenuMouseIndicator = builder.defineBoolean("gui.radial-menu.display-mouse-indicator", false);
         modelCacheSize = builder.defineLong("performance.caches.sizes.block-models", 1000, 3500, 20000);
         faceLayerCacheSize = builder.defineLong("performance.caches.sizes.block-faces", 1000000, 350000, 2000000);
+        precomputeFaceLayers = builder.defineBoolean("performance.caches.precompute-block-faces", true);
         cullTestingCacheSize = builder.defineLong("performance.caches.sizes.cull-testing", 1000, 3500, 200000);
         modelBuildingThreadCount = builder.defineInteger("performance.model-building.thread-count", Math.max(1, Runtime.getRuntime().availableProcessors()) / 2, 1, Runtime.getRuntime()
           .availableProcessors());
@@ -185,6 +187,12 @@ public class ClientConfiguration implements IClientConfiguration
         return faceLayerCacheSize;
     }
 
+    @Override
+    public Supplier<Boolean> getPrecomputeFaceLayers()
+    {
+        return precomputeFaceLayers;
+    }
+
     @Override
     public Supplier<Integer> getModelBuildingThreadCount()
     {
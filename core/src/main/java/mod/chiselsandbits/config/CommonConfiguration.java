@@ -15,6 +15,11 @@ public class CommonConfiguration implements ICommonConfiguration
     private final Supplier<Long> collisionBoxCacheSize;
     private final Supplier<Long> classMetadataCacheSize;
     private final Supplier<Integer> blockSaveThreadCount;
+    private final Supplier<Integer> bulkEditingThreadCount;
+    private final Supplier<Integer> bulkEditingTickBudget;
+    private final Supplier<Integer> workerThreadCount;
+    private final Supplier<Integer> laneQueueCapacity;
+    private final Supplier<Integer> playerNetworkByteBudget;
 
     public CommonConfiguration() {
         final IConfigurationBuilder builder = IConfigurationManager.getInstance().createBuilder(
@@ -26,6 +31,13 @@ public class CommonConfiguration implements ICommonConfiguration
         classMetadataCacheSize = builder.defineLong("performance.caches.sizes.class-metadata", 10000, 0, Long.MAX_VALUE);
         blockSaveThreadCount = builder.defineInteger("performance.saving.thread-count", Math.max(1, Runtime.getRuntime().availableProcessors()) / 2, 1, Runtime.getRuntime()
           .availableProcessors());
+        bulkEditingThreadCount = builder.defineInteger("performance.bulk-editing.thread-count", Math.max(1, Runtime.getRuntime().availableProcessors() / 4), 1, Runtime.getRuntime()
+          .availableProcessors());
+        bulkEditingTickBudget = builder.defineInteger("performance.bulk-editing.tick-budget", 10, 1, 50);
+        workerThreadCount = builder.defineInteger("performance.executor.thread-count", Math.max(1, Runtime.getRuntime().availableProcessors() - 1), 1, Runtime.getRuntime()
+          .availableProcessors());
+        laneQueueCapacity = builder.defineInteger("performance.executor.queue-capacity", 4096, 16, 1 << 20);
+        playerNetworkByteBudget = builder.defineInteger("performance.network.player-byte-budget", 0, 0, Integer.MAX_VALUE);
 
         builder.setup();
     }
@@ -52,4 +64,34 @@ public class CommonConfiguration implements ICommonConfiguration
     {
         return blockSaveThreadCount;
     }
+
+    @Override
+    public Supplier<Integer> getBulkEditingThreadCount()
+    {
+        return bulkEditingThreadCount;
+    }
+
+    @Override
+    public Supplier<Integer> getBulkEditingTickBudget()
+    {
+        return bulkEditingTickBudget;
+    }
+
+    @Override
+    public Supplier<Integer> getWorkerThreadCount()
+    {
+        return workerThreadCount;
+    }
+
+    @Override
+    public Supplier<Integer> getLaneQueueCapacity()
+    {
+        return laneQueueCapacity;
+    }
+
+    @Override
+    public Supplier<Integer> getPlayerNetworkByteBudget()
+    {
+        return playerNetworkByteBudget;
+    }
 }
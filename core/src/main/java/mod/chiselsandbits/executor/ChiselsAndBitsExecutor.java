@@ -0,0 +1,366 @@
+package mod.chiselsandbits.executor;
+
+import mod.chiselsandbits.ChiselsAndBits;
+import mod.chiselsandbits.api.config.ICommonConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * The central executor for all background work of Chisels and Bits.
+ * <p>
+ * A single set of worker threads serves several {@link ExecutorLane lanes}. Every lane has a queue capacity and a concurrency limit,
+ * and idle workers pick up work from the highest priority lane which can accept more work.
+ * <p>
+ * When the queue of a lane is over its capacity, work which is submitted by a worker is executed by that worker itself, which
+ * slows down bulk producers. Work from all other threads, like the game and render threads, is still queued and counted as
+ * deferred, those threads never execute background work themselves. The capacity is therefore no hard bound for those threads.
+ * Instead, the per block work which they submit, like meshing and saving, goes through
+ * {@link #supplyCoalescing(ExecutorLane, Object, Supplier)}, which replaces queued work with the same key. That work thus
+ * occupies at most one slot per block, no matter how often the block changes before a worker gets to it.
+ */
+public final class ChiselsAndBitsExecutor
+{
+    private static final ChiselsAndBitsExecutor INSTANCE = new ChiselsAndBitsExecutor();
+    private static final Logger                 LOGGER   = LogManager.getLogger();
+
+    private final ReentrantLock           lock          = new ReentrantLock();
+    private final Condition               workAvailable = lock.newCondition();
+    private final Map<ExecutorLane, Lane> lanes         = new EnumMap<>(ExecutorLane.class);
+    private final ThreadLocal<Boolean>    isWorker      = ThreadLocal.withInitial(() -> false);
+
+    private volatile boolean started = false;
+
+    private ChiselsAndBitsExecutor()
+    {
+        for (final ExecutorLane lane : ExecutorLane.values())
+        {
+            lanes.put(lane, new Lane(lane));
+        }
+    }
+
+    public static ChiselsAndBitsExecutor getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gives access to an executor which submits its work to the given lane.
+     *
+     * @param lane The lane.
+     * @return The executor for the lane.
+     */
+    public Executor getExecutor(final ExecutorLane lane)
+    {
+        return lanes.get(lane);
+    }
+
+    /**
+     * Submits work to the given lane, replacing work with the same key which is still queued.
+     * Replaced work is not executed and its future is cancelled, so this may only be used for work which is superseded by newer work.
+     *
+     * @param lane     The lane.
+     * @param key      The key which identifies the work, for example the object whose state is saved.
+     * @param supplier The work.
+     * @param <T>      The type of the result of the work.
+     * @return The future which completes with the result of the work, or is cancelled when newer work with the same key replaces it.
+     */
+    public <T> CompletableFuture<T> supplyCoalescing(final ExecutorLane lane, final Object key, final Supplier<T> supplier)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        lanes.get(lane).submit(
+          () -> {
+              try
+              {
+                  future.complete(supplier.get());
+              }
+              catch (Throwable throwable)
+              {
+                  future.completeExceptionally(throwable);
+              }
+          },
+          key,
+          () -> future.cancel(false)
+        );
+
+        return future;
+    }
+
+    /**
+     * Creates a snapshot of the current statistics of all lanes.
+     *
+     * @return The statistics, in lane priority order.
+     */
+    public List<LaneStatistics> getStatistics()
+    {
+        lock.lock();
+        try
+        {
+            return Arrays.stream(ExecutorLane.values())
+                     .map(lane -> lanes.get(lane).createStatistics())
+                     .toList();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void ensureStarted()
+    {
+        if (started)
+            return;
+
+        lock.lock();
+        try
+        {
+            if (started)
+                return;
+
+            final ClassLoader classLoader = ChiselsAndBits.class.getClassLoader();
+            final int workerCount = ICommonConfiguration.getInstance().getWorkerThreadCount().get();
+            for (int i = 0; i < workerCount; i++)
+            {
+                final Thread thread = new Thread(() -> {
+                    isWorker.set(true);
+                    runWorker();
+                });
+                thread.setContextClassLoader(classLoader);
+                thread.setName(String.format("Chisels and Bits Worker #%s", i + 1));
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            started = true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("InfiniteLoopStatement")
+    private void runWorker()
+    {
+        while (true)
+        {
+            final Lane lane;
+            final Task task;
+            lock.lock();
+            try
+            {
+                Lane candidate;
+                while ((candidate = findLaneWithWork()) == null)
+                {
+                    workAvailable.awaitUninterruptibly();
+                }
+
+                lane = candidate;
+                task = lane.queue.poll();
+                if (task.key != null)
+                    lane.queuedByKey.remove(task.key);
+                lane.running++;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
+            final long startTime = System.nanoTime();
+            try
+            {
+                task.runnable.run();
+            }
+            catch (Throwable throwable)
+            {
+                LOGGER.error("Uncaught exception while executing work in lane: {}", lane.lane, throwable);
+            }
+
+            lock.lock();
+            try
+            {
+                lane.running--;
+                lane.onCompleted(startTime - task.queuedAt);
+                //A slot in the lane got freed, which might allow another worker to pick up work from it.
+                workAvailable.signal();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Lane findLaneWithWork()
+    {
+        for (final ExecutorLane lane : ExecutorLane.values())
+        {
+            final Lane candidate = lanes.get(lane);
+            if (!candidate.queue.isEmpty() && candidate.running < candidate.maxConcurrency)
+                return candidate;
+        }
+
+        return null;
+    }
+
+    private final class Lane implements Executor
+    {
+        private final ExecutorLane lane;
+        private final Deque<Task>  queue = new ArrayDeque<>();
+        private final Map<Object, Task> queuedByKey = new HashMap<>();
+
+        private int  maxConcurrency = -1;
+        private int  running        = 0;
+        private long completed      = 0;
+        private long totalWaitTime  = 0;
+        private long maxWaitTime    = 0;
+        private long deferred       = 0;
+        private long coalesced      = 0;
+        private final AtomicLong executedByCaller = new AtomicLong();
+
+        private Lane(final ExecutorLane lane)
+        {
+            this.lane = lane;
+        }
+
+        @Override
+        public void execute(@NotNull final Runnable command)
+        {
+            submit(command, null, null);
+        }
+
+        private void submit(final Runnable command, @Nullable final Object key, @Nullable final Runnable onReplaced)
+        {
+            ensureStarted();
+
+            Runnable replaced = null;
+            boolean executeByCaller = false;
+            lock.lock();
+            try
+            {
+                if (maxConcurrency == -1)
+                {
+                    //Resolved lazily, the configuration of some lanes is not available on all sides.
+                    maxConcurrency = lane.getMaxConcurrency();
+                }
+
+                final Task queued = key == null ? null : queuedByKey.get(key);
+                if (queued != null)
+                {
+                    //The queued work has not started yet, the new work supersedes it in its slot.
+                    replaced = queued.onReplaced;
+                    queued.runnable = command;
+                    queued.onReplaced = onReplaced;
+                    coalesced++;
+                }
+                else
+                {
+                    final boolean full = queue.size() >= ICommonConfiguration.getInstance().getLaneQueueCapacity().get();
+                    if (!full || !isWorker.get())
+                    {
+                        //The game and render threads never execute background work, their work is deferred instead.
+                        if (full)
+                            deferred++;
+
+                        final Task task = new Task(command, key, onReplaced, System.nanoTime());
+                        queue.add(task);
+                        if (key != null)
+                            queuedByKey.put(key, task);
+
+                        workAvailable.signal();
+                    }
+                    else
+                    {
+                        executeByCaller = true;
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
+            //Notified outside the lock, cancelling the replaced work runs the dependents of its future.
+            if (replaced != null)
+                replaced.run();
+
+            if (executeByCaller)
+            {
+                //Back-pressure: The queue is full and the producer is a worker itself, so it has to do the work itself.
+                executedByCaller.incrementAndGet();
+                command.run();
+            }
+        }
+
+        private void onCompleted(final long waitTime)
+        {
+            completed++;
+            totalWaitTime += waitTime;
+            maxWaitTime = Math.max(maxWaitTime, waitTime);
+        }
+
+        private LaneStatistics createStatistics()
+        {
+            return new LaneStatistics(
+              lane,
+              queue.size(),
+              running,
+              completed,
+              executedByCaller.get(),
+              deferred,
+              coalesced,
+              completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitTime / completed),
+              TimeUnit.NANOSECONDS.toMillis(maxWaitTime)
+            );
+        }
+    }
+
+    private static final class Task
+    {
+        private       Runnable runnable;
+        @Nullable
+        private final Object   key;
+        @Nullable
+        private       Runnable onReplaced;
+        private final long     queuedAt;
+
+        private Task(final Runnable runnable, @Nullable final Object key, @Nullable final Runnable onReplaced, final long queuedAt)
+        {
+            this.runnable = runnable;
+            this.key = key;
+            this.onReplaced = onReplaced;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    /**
+     * The statistics of a single lane.
+     *
+     * @param lane             The lane.
+     * @param queued           The amount of work which is waiting to be executed.
+     * @param running          The amount of work which is currently being executed.
+     * @param completed        The amount of work which has been executed by the workers.
+     * @param executedByCaller The amount of work which was executed by a submitting worker, because the queue was full.
+     * @param deferred         The amount of work which was queued beyond the capacity, because it was not submitted by a worker.
+     * @param coalesced        The amount of work which replaced queued work with the same key.
+     * @param averageWaitTime  The average time in milliseconds work spent in the queue.
+     * @param maxWaitTime      The maximal time in milliseconds work spent in the queue.
+     */
+    public record LaneStatistics(ExecutorLane lane, int queued, int running, long completed, long executedByCaller, long deferred, long coalesced, long averageWaitTime, long maxWaitTime) {}
+}
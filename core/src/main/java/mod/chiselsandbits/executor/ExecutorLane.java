@@ -0,0 +1,52 @@
+package mod.chiselsandbits.executor;
+
+import mod.chiselsandbits.api.config.IClientConfiguration;
+import mod.chiselsandbits.api.config.ICommonConfiguration;
+
+import java.util.function.IntSupplier;
+
+/**
+ * The lanes of the {@link ChiselsAndBitsExecutor}.
+ * <p>
+ * Lanes are served in declaration order: An idle worker always picks up work from the first lane which has queued work
+ * and has not yet reached its concurrency limit.
+ */
+public enum ExecutorLane
+{
+    /**
+     * Decoding of block entity data which was loaded from disk or received from the network.
+     */
+    LOAD(() -> ICommonConfiguration.getInstance().getBlockSaveThreadCount().get()),
+
+    /**
+     * Model building on the client.
+     */
+    MESHING(() -> IClientConfiguration.getInstance().getModelBuildingThreadCount().get()),
+
+    /**
+     * Encoding of block entity data before it is saved to disk.
+     */
+    SAVE(() -> ICommonConfiguration.getInstance().getBlockSaveThreadCount().get()),
+
+    /**
+     * Calculations of bulk jobs, like the fill and stats commands.
+     */
+    BULK(() -> ICommonConfiguration.getInstance().getBulkEditingThreadCount().get());
+
+    private final IntSupplier concurrencySupplier;
+
+    ExecutorLane(final IntSupplier concurrencySupplier)
+    {
+        this.concurrencySupplier = concurrencySupplier;
+    }
+
+    /**
+     * The maximal amount of workers which may execute work of this lane at the same time.
+     *
+     * @return The concurrency limit of the lane.
+     */
+    public int getMaxConcurrency()
+    {
+        return Math.max(1, concurrencySupplier.getAsInt());
+    }
+}
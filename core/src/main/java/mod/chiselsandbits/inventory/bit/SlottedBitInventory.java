@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.api.inventory.bit.watchable.IWatch;
 import mod.chiselsandbits.api.inventory.bit.watchable.IWatchableBitInventory;
 import mod.chiselsandbits.api.item.bit.IBitItem;
@@ -151,7 +152,7 @@ public class SlottedBitInventory extends AbstractBitInventory implements IWatcha
         @Override
         public void deserializeFrom(final @NotNull FriendlyByteBuf packetBuffer)
         {
-            blockInformation = new BlockInformation(packetBuffer);
+            blockInformation = BlockInformationDictionary.getInstance().fromNetwork(packetBuffer);
 
             final int count = packetBuffer.readVarInt();
             internalStack = IBitItemManager.getInstance().create(blockInformation, count);
@@ -171,7 +172,7 @@ public class SlottedBitInventory extends AbstractBitInventory implements IWatcha
         @Override
         public void deserializeNBT(final CompoundTag nbt)
         {
-            blockInformation = new BlockInformation(nbt.getCompound(NbtConstants.BLOCK_INFORMATION));
+            blockInformation = BlockInformationDictionary.getInstance().fromNBT(nbt.getCompound(NbtConstants.BLOCK_INFORMATION));
             final int count = nbt.getInt(NbtConstants.COUNT);
             internalStack = IBitItemManager.getInstance().create(blockInformation, count);
         }
@@ -1,6 +1,7 @@
 package mod.chiselsandbits.item;
 
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.api.util.HelpTextUtils;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.constants.NbtConstants;
@@ -37,7 +38,7 @@ public class BitStorageBlockItem extends BlockItem
         super.appendHoverText( stack, worldIn, tooltip, flagIn );
 
         if (stack.getOrCreateTag().contains(NbtConstants.BLOCK_INFORMATION)) {
-            final BlockInformation containedState = new BlockInformation(stack.getOrCreateTag().getCompound(NbtConstants.BLOCK_INFORMATION));
+            final BlockInformation containedState = BlockInformationDictionary.getInstance().fromNBT(stack.getOrCreateTag().getCompound(NbtConstants.BLOCK_INFORMATION));
             final int count = stack.getOrCreateTag().getInt(NbtConstants.COUNT);
 
             HelpTextUtils.build(LocalStrings.HelpBitStorageFilled, tooltip, containedState.getBlockState().getBlock().getName(), count);
@@ -2,7 +2,6 @@ package mod.chiselsandbits.item.bit;
 
 import com.communi.suggestu.scena.core.dist.Dist;
 import com.communi.suggestu.scena.core.dist.DistExecutor;
-import com.communi.suggestu.scena.core.fluid.IFluidManager;
 import com.communi.suggestu.scena.core.registries.IPlatformRegistryManager;
 import com.google.common.collect.Lists;
 import com.mojang.blaze3d.vertex.PoseStack;
@@ -23,8 +22,8 @@ import mod.chiselsandbits.api.notifications.INotificationManager;
 import mod.chiselsandbits.api.util.LocalStrings;
 import mod.chiselsandbits.api.util.constants.Constants;
 import mod.chiselsandbits.api.util.constants.NbtConstants;
-import mod.chiselsandbits.api.variant.state.IStateVariantManager;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.chiseling.ChiselingManager;
 import mod.chiselsandbits.client.render.ModRenderTypes;
 import mod.chiselsandbits.registrars.ModCreativeTabs;
@@ -45,8 +44,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.phys.Vec3;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -146,18 +143,7 @@ public class BitItem extends Item implements IChiselingItem, IBitItem, IDocument
     @Override
     public Component getName(@NotNull final ItemStack stack)
     {
-        final IBlockInformation containedStack = getBlockInformation(stack);
-        final Block block = containedStack.getBlockState().getBlock();
-
-        Component stateName = block.asItem().getName(new ItemStack(block));
-        if (block instanceof final LiquidBlock flowingFluidBlock) {
-            stateName = IFluidManager.getInstance().getDisplayName(flowingFluidBlock.getFluidState(flowingFluidBlock.defaultBlockState()).getType());
-        }
-
-        if (containedStack.getVariant().isPresent()) {
-            stateName = IStateVariantManager.getInstance().getName(containedStack).orElse(stateName);
-        }
-
+        final Component stateName = BitItemMetadataTable.getInstance().getStateName(getBlockInformation(stack));
         return Component.translatable(this.getDescriptionId(stack), stateName);
     }
 
@@ -174,9 +160,11 @@ public class BitItem extends Item implements IChiselingItem, IBitItem, IDocument
         }
 
         final IBlockInformation blockInformation = getBlockInformation(stack);
-        DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> {
-            IClientStateVariantManager.getInstance().appendHoverText(blockInformation, worldIn, tooltip, flagIn);
-        });
+        if (BitItemMetadataTable.getInstance().hasStateTooltip(blockInformation)) {
+            DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> {
+                IClientStateVariantManager.getInstance().appendHoverText(blockInformation, worldIn, tooltip, flagIn);
+            });
+        }
 
 
         super.appendHoverText(stack, worldIn, tooltip, flagIn);
@@ -274,7 +262,7 @@ public class BitItem extends Item implements IChiselingItem, IBitItem, IDocument
         if (!stack.hasTag())
             return BlockInformation.AIR;
 
-        return new BlockInformation(stack.getOrCreateTag().getCompound(NbtConstants.BLOCK_INFORMATION));
+        return BlockInformationDictionary.getInstance().fromNBT(stack.getOrCreateTag().getCompound(NbtConstants.BLOCK_INFORMATION));
     }
 
     @Override
@@ -0,0 +1,78 @@
+package mod.chiselsandbits.item.bit;
+
+import com.communi.suggestu.scena.core.fluid.IFluidManager;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.variant.state.IStateVariantManager;
+import mod.chiselsandbits.utils.StateIdTable;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LiquidBlock;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Holds the metadata of bit items which only depends on the contained block state, like the name of the state.
+ * <p>
+ * The metadata of bits without a variant is computed once per state and looked up by the interned id of the state.
+ * Bits with a variant are computed on every call, since their metadata depends on the variant.
+ * The table is cleared whenever the data of the game is reloaded.
+ */
+public final class BitItemMetadataTable
+{
+    private static final BitItemMetadataTable INSTANCE = new BitItemMetadataTable();
+
+    private final StateIdTable<Component> stateNames = new StateIdTable<>();
+
+    private BitItemMetadataTable()
+    {
+    }
+
+    public static BitItemMetadataTable getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gives access to the display name of the state contained in a bit.
+     *
+     * @param blockInformation The block information contained in the bit.
+     * @return The display name of the state.
+     */
+    public Component getStateName(final IBlockInformation blockInformation)
+    {
+        if (blockInformation.getVariant().isEmpty())
+            return stateNames.computeIfAbsent(blockInformation.getBlockState(), BitItemMetadataTable::computeStateName);
+
+        return IStateVariantManager.getInstance().getName(blockInformation)
+                 .orElseGet(() -> computeStateName(blockInformation.getBlockState()));
+    }
+
+    /**
+     * Indicates if the state contained in a bit contributes lines to the tooltip of the bit.
+     * Only variants provide tooltip lines.
+     *
+     * @param blockInformation The block information contained in the bit.
+     * @return {@code true} when tooltip lines need to be collected.
+     */
+    public boolean hasStateTooltip(final IBlockInformation blockInformation)
+    {
+        return blockInformation.getVariant().isPresent();
+    }
+
+    /**
+     * Drops all cached metadata, invoked when the registries or tags are reloaded.
+     */
+    public void clearCache()
+    {
+        stateNames.clear();
+    }
+
+    private static Component computeStateName(final BlockState blockState)
+    {
+        final Block block = blockState.getBlock();
+        if (block instanceof final LiquidBlock liquidBlock)
+            return IFluidManager.getInstance().getDisplayName(liquidBlock.getFluidState(liquidBlock.defaultBlockState()).getType());
+
+        return block.asItem().getName(new ItemStack(block));
+    }
+}
@@ -24,6 +24,7 @@ import mod.chiselsandbits.api.util.VectorUtils;
 import mod.chiselsandbits.api.util.constants.NbtConstants;
 import mod.chiselsandbits.block.entities.storage.SimpleStateEntryStorage;
 import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.item.ChiseledBlockItem;
 import mod.chiselsandbits.registrars.ModItems;
 import mod.chiselsandbits.storage.IStorageEngine;
@@ -704,14 +705,14 @@ public class SingleBlockMultiStateItemStack implements IMultiStateItemStack
         {
             this.countMap.clear();
 
-            this.primaryState = new BlockInformation(nbt.getCompound(NbtConstants.PRIMARY_STATE));
+            this.primaryState = BlockInformationDictionary.getInstance().fromNBT(nbt.getCompound(NbtConstants.PRIMARY_STATE));
 
             final ListTag blockStateList = nbt.getList(NbtConstants.BLOCK_STATES, Tag.TAG_COMPOUND);
             for (int i = 0; i < blockStateList.size(); i++)
             {
                 final CompoundTag stateNbt = blockStateList.getCompound(i);
 
-                final BlockInformation blockInformation = new BlockInformation(stateNbt.getCompound(NbtConstants.BLOCK_INFORMATION));
+                final BlockInformation blockInformation = BlockInformationDictionary.getInstance().fromNBT(stateNbt.getCompound(NbtConstants.BLOCK_INFORMATION));
 
                 this.countMap.put(
                   blockInformation,
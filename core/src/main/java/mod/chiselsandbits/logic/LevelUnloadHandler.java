@@ -0,0 +1,17 @@
+package mod.chiselsandbits.logic;
+
+import mod.chiselsandbits.block.entities.storage.StorageInterner;
+import net.minecraft.world.level.LevelAccessor;
+
+public final class LevelUnloadHandler
+{
+    private LevelUnloadHandler()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: LevelUnloadHandler. This is a utility class");
+    }
+
+    public static void onLevelUnloaded(final LevelAccessor level)
+    {
+        StorageInterner.onLevelUnloaded(level);
+    }
+}
@@ -0,0 +1,19 @@
+package mod.chiselsandbits.logic;
+
+import mod.chiselsandbits.ChiselsAndBits;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+
+public final class PlayerLogoutHandler
+{
+    private PlayerLogoutHandler()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: PlayerLogoutHandler. This is a utility class");
+    }
+
+    public static void onPlayerLoggedOut(final Player player)
+    {
+        if (player instanceof ServerPlayer serverPlayer)
+            ChiselsAndBits.getInstance().getNetworkChannel().onPlayerLoggedOut(serverPlayer);
+    }
+}
@@ -1,5 +1,6 @@
 package mod.chiselsandbits.logic;
 
+import mod.chiselsandbits.bulk.BulkEditManager;
 import mod.chiselsandbits.chiseling.ChiselingManager;
 
 public class ServerStartHandler
@@ -7,5 +8,6 @@ public class ServerStartHandler
 
     public static void onServerStart() {
         ChiselingManager.getInstance().onServerStarting();
+        BulkEditManager.getInstance().onServerStarting();
     }
 }
@@ -1,10 +1,14 @@
 package mod.chiselsandbits.logic;
 
+import mod.chiselsandbits.ChiselsAndBits;
+import mod.chiselsandbits.bulk.BulkEditManager;
 import mod.chiselsandbits.change.ChangeTrackerSyncManager;
 
 public class ServerTickHandler {
 
     public static void onPostServerTick() {
+        BulkEditManager.getInstance().tick();
         ChangeTrackerSyncManager.getInstance().sync();
+        ChiselsAndBits.getInstance().getNetworkChannel().sendDeferredPackets();
     }
 }
@@ -508,6 +508,17 @@ public class LazilyDecodingSingleBlockMultiStateSnapshot implements IMultiStateS
         buildStatistics();
     }
 
+    /**
+     * Creates a copy of the storage which backs this snapshot, decoding it if needed.
+     *
+     * @return A copy of the storage.
+     */
+    public IStateEntryStorage createStorageSnapshot()
+    {
+        load();
+        return this.lazyChunkSection.createSnapshot();
+    }
+
     @Override
     public IMultiStateSnapshot clone()
     {
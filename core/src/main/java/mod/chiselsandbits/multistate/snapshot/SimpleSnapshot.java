@@ -461,6 +461,16 @@ public class SimpleSnapshot implements IMultiStateSnapshot
         buildStatistics();
     }
 
+    /**
+     * Creates a copy of the storage which backs this snapshot.
+     *
+     * @return A copy of the storage.
+     */
+    public IStateEntryStorage createStorageSnapshot()
+    {
+        return this.chunkSection.createSnapshot();
+    }
+
     @Override
     public IMultiStateSnapshot clone()
     {
@@ -4,6 +4,7 @@ import com.communi.suggestu.scena.core.network.INetworkChannel;
 import mod.chiselsandbits.network.packets.*;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.chunk.LevelChunk;
 
@@ -21,6 +22,9 @@ public class NetworkChannel
      */
     private final INetworkChannel rawChannel;
 
+    private final NetworkTrafficStatistics statistics = new NetworkTrafficStatistics();
+    private final PlayerNetworkBudgets     budgets    = new PlayerNetworkBudgets();
+
     /**
      * Creates a new instance of network channel.
      *
@@ -77,10 +81,11 @@ public class NetworkChannel
      */
     public <MSG extends ModPacket> void registerMessage(final int id, final Class<MSG> msgClazz, final Function<FriendlyByteBuf, MSG> msgCreator)
     {
+        statistics.register(msgClazz);
         rawChannel.register(
           id,
           msgClazz,
-          ModPacket::writePayload,
+          statistics::encode,
           msgCreator,
           (msg, serverSide, player, executor) -> executor.accept(() -> msg.processPacket(player, serverSide))
         );
@@ -93,18 +98,32 @@ public class NetworkChannel
      */
     public void sendToServer(final ModPacket msg)
     {
-        rawChannel.sendToServer(msg);
+        statistics.send("server", () -> rawChannel.sendToServer(msg));
     }
 
     /**
      * Sends to player.
+     * Packets with a deferral key might be held back until a later tick, if the player used up its byte budget.
      *
      * @param msg    message to send
      * @param player target player
      */
     public void sendToPlayer(final ModPacket msg, final ServerPlayer player)
     {
-        rawChannel.sendToPlayer(msg, player);
+        if (msg.getDeferralKey() != null && budgets.deferIfOverBudget(msg, player))
+            return;
+
+        sendToPlayerDirectly(msg, player);
+    }
+
+    private void sendToPlayerDirectly(final ModPacket msg, final ServerPlayer player)
+    {
+        statistics.send(getDestinationName(player), () -> rawChannel.sendToPlayer(msg, player));
+    }
+
+    private static String getDestinationName(final ServerPlayer player)
+    {
+        return "player." + player.getGameProfile().getName();
     }
 
     /**
@@ -114,17 +133,69 @@ public class NetworkChannel
      */
     public void sendToEveryone(final ModPacket msg)
     {
-        rawChannel.sendToEveryone(msg);
+        statistics.send("everyone", () -> rawChannel.sendToEveryone(msg));
     }
 
     /**
      * Sends to everyone in given chunk.
+     * Packets with a deferral key are sent to each player individually, so that they are subject to the byte budget of each player.
      *
      * @param msg   message to send
      * @param chunk target chunk to look at
      */
     public void sendToTrackingChunk(final ModPacket msg, final LevelChunk chunk)
     {
-        rawChannel.sendToTrackingChunk(msg, chunk);
+        if (msg.getDeferralKey() != null && chunk.getLevel() instanceof ServerLevel serverLevel)
+        {
+            for (final ServerPlayer player : serverLevel.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false))
+            {
+                sendToPlayer(msg, player);
+            }
+            return;
+        }
+
+        statistics.send("tracking-chunk", () -> rawChannel.sendToTrackingChunk(msg, chunk));
+    }
+
+    /**
+     * Sends the packets which were deferred because of the byte budgets of their receivers, as far as the budgets of this tick allow.
+     * Needs to be invoked once per server tick.
+     */
+    public void sendDeferredPackets()
+    {
+        budgets.tick(this::sendToPlayerDirectly);
+    }
+
+    /**
+     * Drops all deferred packets and the traffic statistics of the given player.
+     * Needs to be invoked when the player logs out.
+     *
+     * @param player The player.
+     */
+    public void onPlayerLoggedOut(final ServerPlayer player)
+    {
+        budgets.remove(player);
+        statistics.remove(getDestinationName(player));
+    }
+
+    /**
+     * Gives access to the traffic statistics of this channel.
+     *
+     * @return The traffic statistics.
+     */
+    public NetworkTrafficStatistics getStatistics()
+    {
+        return statistics;
+    }
+
+    /**
+     * The amount of packets which are currently held back for the given player.
+     *
+     * @param player The player.
+     * @return The amount of deferred packets.
+     */
+    public int getDeferredPacketCount(final ServerPlayer player)
+    {
+        return budgets.getDeferredCount(player);
     }
 }
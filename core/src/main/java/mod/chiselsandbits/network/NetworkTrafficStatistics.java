@@ -0,0 +1,141 @@
+package mod.chiselsandbits.network;
+
+import mod.chiselsandbits.network.packets.ModPacket;
+import mod.chiselsandbits.profiling.metrics.Counter;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.MetricsRegistry;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Records the traffic of the {@link NetworkChannel}, per packet type and per destination.
+ * <p>
+ * All values are registered in the {@link MetricsRegistry}, so they are exported together with all other metrics.
+ * Sizes are measured while a packet is encoded. They are attributed to a destination when the encoding happens on the
+ * thread which sent the packet, which is the case for all packets that leave the server through the network.
+ */
+public final class NetworkTrafficStatistics
+{
+    private static final String PREFIX = "network.";
+
+    private final Map<Class<?>, PacketTypeStatistics>   packetTypes        = new ConcurrentHashMap<>();
+    private final Map<String, DestinationStatistics>    destinations       = new ConcurrentSkipListMap<>();
+    private final ThreadLocal<DestinationStatistics>    currentDestination = new ThreadLocal<>();
+
+    NetworkTrafficStatistics()
+    {
+    }
+
+    void register(final Class<? extends ModPacket> packetType)
+    {
+        packetTypes.put(packetType, new PacketTypeStatistics(packetType.getSimpleName()));
+    }
+
+    void encode(final ModPacket packet, final FriendlyByteBuf buffer)
+    {
+        final long encodingStart = LatencyHistogram.start();
+        final int startIndex = buffer.writerIndex();
+
+        packet.writePayload(buffer);
+
+        final long size = buffer.writerIndex() - startIndex;
+        final PacketTypeStatistics packetTypeStatistics = packetTypes.get(packet.getClass());
+        if (packetTypeStatistics != null)
+        {
+            packetTypeStatistics.encoding().recordSince(encodingStart);
+            packetTypeStatistics.packets().increment();
+            packetTypeStatistics.bytes().add(size);
+        }
+
+        final DestinationStatistics destination = currentDestination.get();
+        if (destination != null)
+        {
+            destination.packets().increment();
+            destination.bytes().add(size);
+        }
+    }
+
+    void send(final String destination, final Runnable sender)
+    {
+        final DestinationStatistics previous = currentDestination.get();
+        currentDestination.set(destinations.computeIfAbsent(destination, DestinationStatistics::new));
+        try
+        {
+            sender.run();
+        }
+        finally
+        {
+            currentDestination.set(previous);
+        }
+    }
+
+    /**
+     * Drops the statistics of the given destination, for example when the player it belongs to logs out.
+     *
+     * @param destination The name of the destination.
+     */
+    void remove(final String destination)
+    {
+        final DestinationStatistics statistics = destinations.remove(destination);
+        if (statistics == null)
+            return;
+
+        MetricsRegistry.getInstance().removeCounter(statistics.packets().getName());
+        MetricsRegistry.getInstance().removeCounter(statistics.bytes().getName());
+    }
+
+    public Collection<PacketTypeStatistics> getPacketTypes()
+    {
+        return Collections.unmodifiableCollection(packetTypes.values());
+    }
+
+    public Collection<DestinationStatistics> getDestinations()
+    {
+        return Collections.unmodifiableCollection(destinations.values());
+    }
+
+    /**
+     * The traffic of a single packet type.
+     *
+     * @param name     The name of the packet type.
+     * @param packets  The amount of encoded packets.
+     * @param bytes    The amount of encoded bytes.
+     * @param encoding The time spent encoding the packets.
+     */
+    public record PacketTypeStatistics(String name, Counter packets, Counter bytes, LatencyHistogram encoding)
+    {
+        private PacketTypeStatistics(final String name)
+        {
+            this(
+              name,
+              MetricsRegistry.getInstance().counter(PREFIX + name + ".packets"),
+              MetricsRegistry.getInstance().counter(PREFIX + name + ".bytes"),
+              MetricsRegistry.getInstance().histogram(PREFIX + name + ".encoding")
+            );
+        }
+    }
+
+    /**
+     * The traffic sent to a single destination, like a player.
+     *
+     * @param name    The name of the destination.
+     * @param packets The amount of packets sent to the destination.
+     * @param bytes   The amount of bytes sent to the destination.
+     */
+    public record DestinationStatistics(String name, Counter packets, Counter bytes)
+    {
+        private DestinationStatistics(final String name)
+        {
+            this(
+              name,
+              MetricsRegistry.getInstance().counter(PREFIX + "destination." + name + ".packets"),
+              MetricsRegistry.getInstance().counter(PREFIX + "destination." + name + ".bytes")
+            );
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package mod.chiselsandbits.network;
+
+import mod.chiselsandbits.api.config.ICommonConfiguration;
+import mod.chiselsandbits.network.packets.ModPacket;
+import mod.chiselsandbits.profiling.metrics.Counter;
+import mod.chiselsandbits.profiling.metrics.MetricsRegistry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Limits the amount of deferrable traffic which is sent to a single player per tick.
+ * <p>
+ * Packets which exceed the budget of their receiver are queued and sent in later ticks, in the order they were sent in.
+ * Queued packets with the same {@link ModPacket#getDeferralKey() deferral key} replace each other, so that a block which
+ * changes several times while its updates are held back is only sent once.
+ * <p>
+ * Queued packets only apply to the dimension the player was in when they were queued. They are dropped when the player changes
+ * dimension, the player receives the full data of the chunks of its new dimension anyway.
+ */
+final class PlayerNetworkBudgets
+{
+    private final Map<UUID, PlayerBudget> budgets         = new HashMap<>();
+    private final Counter                 deferredPackets = MetricsRegistry.getInstance().counter("network.deferred");
+
+    /**
+     * Charges the given packet to the budget of the player, or queues it when the budget is used up.
+     *
+     * @param packet The packet, which needs to have a deferral key.
+     * @param player The receiving player.
+     * @return True when the packet was queued, false when it should be sent right away.
+     */
+    synchronized boolean deferIfOverBudget(final ModPacket packet, final ServerPlayer player)
+    {
+        final int budget = ICommonConfiguration.getInstance().getPlayerNetworkByteBudget().get();
+        if (budget <= 0)
+            return false;
+
+        final PlayerBudget playerBudget = budgets.computeIfAbsent(player.getUUID(), id -> new PlayerBudget(player));
+        playerBudget.dropIfDimensionChanged();
+        if (!playerBudget.deferred.isEmpty() || playerBudget.spent >= budget)
+        {
+            //Once a packet is queued, all later ones have to wait as well to preserve the order.
+            playerBudget.deferred.put(packet.getDeferralKey(), packet);
+            deferredPackets.increment();
+            return true;
+        }
+
+        playerBudget.spent += packet.getEstimatedPayloadSize();
+        return false;
+    }
+
+    /**
+     * Resets the budgets for a new tick, and sends as many queued packets as the new budgets allow.
+     *
+     * @param sender The callback which sends a packet to a player.
+     */
+    synchronized void tick(final BiConsumer<ModPacket, ServerPlayer> sender)
+    {
+        final int budget = ICommonConfiguration.getInstance().getPlayerNetworkByteBudget().get();
+        final Iterator<PlayerBudget> budgetIterator = budgets.values().iterator();
+        while (budgetIterator.hasNext())
+        {
+            final PlayerBudget playerBudget = budgetIterator.next();
+            if (playerBudget.player.hasDisconnected())
+            {
+                budgetIterator.remove();
+                continue;
+            }
+
+            playerBudget.spent = 0;
+            playerBudget.dropIfDimensionChanged();
+            final Iterator<ModPacket> packetIterator = playerBudget.deferred.values().iterator();
+            while (packetIterator.hasNext() && (budget <= 0 || playerBudget.spent < budget))
+            {
+                final ModPacket packet = packetIterator.next();
+                packetIterator.remove();
+                playerBudget.spent += packet.getEstimatedPayloadSize();
+                sender.accept(packet, playerBudget.player);
+            }
+
+            if (playerBudget.deferred.isEmpty() && playerBudget.spent == 0)
+                budgetIterator.remove();
+        }
+    }
+
+    /**
+     * Drops the budget and all queued packets of the given player, invoked when the player logs out.
+     *
+     * @param player The player.
+     */
+    synchronized void remove(final ServerPlayer player)
+    {
+        budgets.remove(player.getUUID());
+    }
+
+    synchronized int getDeferredCount(final ServerPlayer player)
+    {
+        final PlayerBudget playerBudget = budgets.get(player.getUUID());
+        return playerBudget == null ? 0 : playerBudget.deferred.size();
+    }
+
+    private static final class PlayerBudget
+    {
+        private final ServerPlayer                     player;
+        private final LinkedHashMap<Object, ModPacket> deferred = new LinkedHashMap<>();
+        private long                                   spent    = 0;
+        private ResourceKey<Level>                     dimension;
+
+        private PlayerBudget(final ServerPlayer player)
+        {
+            this.player = player;
+            this.dimension = player.level().dimension();
+        }
+
+        private void dropIfDimensionChanged()
+        {
+            final ResourceKey<Level> currentDimension = player.level().dimension();
+            if (currentDimension == dimension)
+                return;
+
+            deferred.clear();
+            dimension = currentDimension;
+        }
+    }
+}
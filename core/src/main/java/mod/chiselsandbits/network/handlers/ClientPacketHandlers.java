@@ -15,6 +15,8 @@ import mod.chiselsandbits.clipboard.CreativeClipboardUtils;
 import mod.chiselsandbits.item.multistate.SingleBlockMultiStateItemStack;
 import mod.chiselsandbits.network.packets.GivePlayerPatternCommandPacket;
 import mod.chiselsandbits.profiling.ProfilingManager;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.Metrics;
 import mod.chiselsandbits.registrars.ModBlocks;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
@@ -34,6 +36,7 @@ public final class ClientPacketHandlers
     }
 
     public static void handleChiseledBlockUpdated(final BlockPos blockPos, final FriendlyByteBuf updateData) {
+        final long syncStart = LatencyHistogram.start();
         try(IProfilerSection ignored = ProfilingManager.getInstance().withSection("Handling tile entity update packet")) {
             if (Minecraft.getInstance().level != null) {
                 BlockEntity tileEntity = Minecraft.getInstance().level.getBlockEntity(blockPos);
@@ -47,6 +50,7 @@ public final class ClientPacketHandlers
                 }
             }
         }
+        Metrics.NETWORK_SYNC.recordSince(syncStart);
     }
 
     public static void handleChangeTrackerUpdated(final CompoundTag tag) {
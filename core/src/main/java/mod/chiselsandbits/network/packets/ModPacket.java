@@ -3,6 +3,7 @@ package mod.chiselsandbits.network.packets;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class ModPacket
 {
@@ -22,6 +23,29 @@ public abstract class ModPacket
 		throw new RuntimeException( getClass().getName() + " is not a client packet." );
 	}
 
+	/**
+	 * Packets which return a key here may be deferred to a later tick, when the receiving player used up its byte budget.
+	 * Deferred packets with the same key replace each other, so only the latest one is sent.
+	 *
+	 * @return The deferral key, or null if the packet always has to be sent right away.
+	 */
+	@Nullable
+	public Object getDeferralKey()
+	{
+		return null;
+	}
+
+	/**
+	 * An estimate of the size of the payload, which is charged to the byte budget of the receiving player.
+	 * Only used for packets with a {@link #getDeferralKey() deferral key}.
+	 *
+	 * @return The estimated payload size in bytes.
+	 */
+	public int getEstimatedPayloadSize()
+	{
+		return 0;
+	}
+
 	abstract public void writePayload(
 			FriendlyByteBuf buffer );
 
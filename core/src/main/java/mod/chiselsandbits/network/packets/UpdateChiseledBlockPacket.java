@@ -4,9 +4,14 @@ import com.communi.suggestu.scena.core.dist.DistExecutor;
 import io.netty.buffer.Unpooled;
 import mod.chiselsandbits.api.block.entity.INetworkUpdatableEntity;
 import mod.chiselsandbits.network.handlers.ClientPacketHandlers;
+import mod.chiselsandbits.profiling.metrics.Metrics;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Consumer;
 
@@ -18,17 +23,25 @@ public final class UpdateChiseledBlockPacket extends ModPacket
     private BlockPos blockPos;
     private byte[] data;
     private Consumer<byte[]> dataConsumer;
+    @Nullable
+    private ResourceKey<Level> dimension;
 
     public UpdateChiseledBlockPacket(final INetworkUpdatableEntity tileEntity)
     {
         this.blockPos = tileEntity.getBlockPos();
+        //Only needed on the sending side, to tell apart updates of the same position in different dimensions.
+        this.dimension = tileEntity instanceof BlockEntity blockEntity && blockEntity.getLevel() != null ? blockEntity.getLevel().dimension() : null;
         this.data = writeBlockEntity(tileEntity);
+        Metrics.NETWORK_SYNC_SENT.increment();
+        Metrics.NETWORK_SYNC_BYTES.add(this.data.length);
     }
 
     private static byte @NotNull [] writeBlockEntity(INetworkUpdatableEntity tileEntity) {
         final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
         tileEntity.serializeInto(buf);
-        byte[] data = buf.array();
+        //Only the written bytes, the backing array of the buffer is usually larger.
+        byte[] data = new byte[buf.readableBytes()];
+        buf.readBytes(data);
         buf.release();
         return data;
     }
@@ -38,6 +51,19 @@ public final class UpdateChiseledBlockPacket extends ModPacket
         readPayload(buffer);
     }
 
+    @Override
+    public Object getDeferralKey()
+    {
+        return new DeferralKey(dimension, blockPos);
+    }
+
+    @Override
+    public int getEstimatedPayloadSize()
+    {
+        //The position, the length prefix of the data and the data itself.
+        return Long.BYTES + 5 + data.length;
+    }
+
     @Override
     public void writePayload(final FriendlyByteBuf buffer)
     {
@@ -59,4 +85,6 @@ public final class UpdateChiseledBlockPacket extends ModPacket
         DistExecutor.runWhenOn(CLIENT, () -> () -> ClientPacketHandlers.handleChiseledBlockUpdated(blockPos, buf));
         buf.release();
     }
+
+    private record DeferralKey(@Nullable ResourceKey<Level> dimension, BlockPos blockPos) {}
 }
@@ -1,13 +1,13 @@
 package mod.chiselsandbits.pattern.placement;
 
 import mod.chiselsandbits.api.block.IMultiStateBlock;
+import mod.chiselsandbits.api.block.storage.StateEntryMergePolicy;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
 import mod.chiselsandbits.api.config.IClientConfiguration;
 import mod.chiselsandbits.api.inventory.bit.IBitInventory;
 import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
 import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
-import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
 import mod.chiselsandbits.api.multistate.mutator.IMutatorFactory;
 import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.api.multistate.mutator.world.IWorldAreaMutator;
@@ -31,7 +31,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static mod.chiselsandbits.api.util.constants.Constants.MOD_ID;
 
@@ -85,24 +84,16 @@ public class CarvePatternPlacementType extends AbstractCustomRegistryEntry imple
                     LocalStrings.PatternPlacementNotAChiseledBlock.getText());
         }
 
-        final Map<IBlockInformation, Integer> totalRemovedBits = source.stream()
-          .filter(s -> !s.getBlockInformation().isAir())
-          .filter(s -> {
-              final Optional<IStateEntryInfo> o = areaMutator.getInAreaTarget(s.getStartPoint().add(areaMutator.getInWorldStartPoint()));
-
-              return o
-                .filter(os -> !os.getBlockInformation().isAir())
-                .map(os -> !os.getBlockInformation().equals(s.getBlockInformation()))
-                .orElse(false);
-          })
-          .map(s -> areaMutator.getInAreaTarget(s.getStartPoint().add(areaMutator.getInWorldStartPoint())))
-          .filter(Optional::isPresent)
-          .map(Optional::get)
-          .collect(Collectors.toMap(
-            IStateEntryInfo::getBlockInformation,
-            s -> 1,
-            Integer::sum
-          ));
+        final PatternMergePlan mergePlan = PatternMergePlan.create(source, areaMutator, context.getLevel(), StateEntryMergePolicy.CARVE);
+
+        if (!mergePlan.getRejectedPositions().isEmpty())
+        {
+            return PlacementResult.failure(
+                    IClientConfiguration::getNotFittingPatternPlacementColor,
+                    LocalStrings.PatternPlacementNotASupportedBlock.getText());
+        }
+
+        final Map<IBlockInformation, Integer> totalRemovedBits = mergePlan.getReturnedBits();
 
         final IBitInventory playerBitInventory = IBitInventoryManager.getInstance().create(context.getPlayer());
         final boolean hasRequiredSpace = context.getPlayer().isCreative() ||
@@ -122,11 +113,7 @@ public class CarvePatternPlacementType extends AbstractCustomRegistryEntry imple
 
         try (IBatchMutation ignored = areaMutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(context.getPlayer())))
         {
-            source.stream()
-              .filter(s -> !s.getBlockInformation().isAir())
-              .forEach(
-                stateEntryInfo -> areaMutator.clearInAreaTarget(stateEntryInfo.getStartPoint())
-              );
+            mergePlan.apply(context.getLevel());
         }
 
         if (!context.getPlayer().isCreative())
@@ -1,6 +1,7 @@
 package mod.chiselsandbits.pattern.placement;
 
 import mod.chiselsandbits.api.block.IMultiStateBlock;
+import mod.chiselsandbits.api.block.storage.StateEntryMergePolicy;
 import mod.chiselsandbits.api.blockinformation.IBlockInformation;
 import mod.chiselsandbits.blockinformation.BlockInformation;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
@@ -9,7 +10,6 @@ import mod.chiselsandbits.api.config.IClientConfiguration;
 import mod.chiselsandbits.api.inventory.bit.IBitInventory;
 import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
 import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
-import mod.chiselsandbits.api.multistate.accessor.IStateEntryInfo;
 import mod.chiselsandbits.api.multistate.mutator.IMutatorFactory;
 import mod.chiselsandbits.api.util.IBatchMutation;
 import mod.chiselsandbits.api.multistate.mutator.world.IWorldAreaMutator;
@@ -36,7 +36,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static mod.chiselsandbits.api.util.constants.Constants.MOD_ID;
 
@@ -105,21 +104,16 @@ public class ImposePatternPlacementType extends AbstractCustomRegistryEntry impl
                     LocalStrings.PatternPlacementNotASupportedBlock.getText());
         }
 
-        final Map<IBlockInformation, Integer> extractedBitsCount = source.stream()
-                .filter(s -> !s.getBlockInformation().isAir())
-                .map(IStateEntryInfo::getStartPoint)
-                .map(pos -> pos.add(areaMutator.getInWorldStartPoint()))
-                .map(areaMutator::getInAreaTarget)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .filter(s -> !s.getBlockInformation().isAir())
-                .collect(
-                        Collectors.toMap(
-                                IStateEntryInfo::getBlockInformation,
-                                s -> 1,
-                                Integer::sum
-                        )
-                );
+        final PatternMergePlan mergePlan = PatternMergePlan.create(source, areaMutator, context.getLevel(), StateEntryMergePolicy.IMPOSE);
+
+        if (!mergePlan.getRejectedPositions().isEmpty())
+        {
+            return PlacementResult.failure(
+                    IClientConfiguration::getNotFittingPatternPlacementColor,
+                    LocalStrings.PatternPlacementNotASupportedBlock.getText());
+        }
+
+        final Map<IBlockInformation, Integer> extractedBitsCount = mergePlan.getReturnedBits();
 
         final IBitInventory playerBitInventory = IBitInventoryManager.getInstance().create(context.getPlayer());
         final boolean hasRequiredSpace = context.getPlayer().isCreative() ||
@@ -132,8 +126,7 @@ public class ImposePatternPlacementType extends AbstractCustomRegistryEntry impl
                     LocalStrings.PatternPlacementNoBitSpace.getText());
         }
 
-        final boolean hasRequiredBits = context.getPlayer().isCreative() || source.getStatics().getStateCounts().entrySet().stream()
-                .filter(e -> !e.getKey().isAir())
+        final boolean hasRequiredBits = context.getPlayer().isCreative() || mergePlan.getRequiredBits().entrySet().stream()
                 .allMatch(e -> playerBitInventory.canExtract(e.getKey(), e.getValue()));
 
         if (!hasRequiredBits)
@@ -150,24 +143,13 @@ public class ImposePatternPlacementType extends AbstractCustomRegistryEntry impl
 
         try (IBatchMutation ignored = areaMutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(context.getPlayer())))
         {
-            source.stream()
-                    .filter(s -> !s.getBlockInformation().isAir())
-                    .forEach(
-                            stateEntryInfo ->
-                            {
-                                areaMutator.overrideInAreaTarget(
-                                        stateEntryInfo.getBlockInformation(),
-                                        stateEntryInfo.getStartPoint());
-                            }
-                    );
+            mergePlan.apply(context.getLevel());
         }
 
         if (!context.getPlayer().isCreative())
         {
             extractedBitsCount.forEach(playerBitInventory::insertOrDiscard);
-            source.getStatics().getStateCounts().entrySet().stream()
-                    .filter(e -> !e.getKey().isAir())
-                    .forEach(e -> playerBitInventory.extract(e.getKey(), e.getValue()));
+            mergePlan.getRequiredBits().forEach(playerBitInventory::extract);
         }
 
         return PlacementResult.success();
@@ -0,0 +1,168 @@
+package mod.chiselsandbits.pattern.placement;
+
+import com.google.common.collect.Maps;
+import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
+import mod.chiselsandbits.api.block.storage.StateEntryMergePolicy;
+import mod.chiselsandbits.api.block.storage.StateEntryMergeResult;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.chiseling.eligibility.IEligibilityManager;
+import mod.chiselsandbits.api.multistate.StateEntrySize;
+import mod.chiselsandbits.api.multistate.mutator.world.IWorldAreaMutator;
+import mod.chiselsandbits.api.multistate.snapshot.IMultiStateSnapshot;
+import mod.chiselsandbits.api.util.BlockPosStreamProvider;
+import mod.chiselsandbits.api.util.VectorUtils;
+import mod.chiselsandbits.api.variant.state.IStateVariantManager;
+import mod.chiselsandbits.block.entities.ChiseledBlockEntity;
+import mod.chiselsandbits.block.entities.storage.SimpleStateEntryStorage;
+import mod.chiselsandbits.blockinformation.BlockInformation;
+import mod.chiselsandbits.utils.MultiStateSnapshotUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The outcome of merging a pattern into every block its placement area covers.
+ * <p>
+ * The pattern is merged into copies of the block storages, collecting the required and returned bits on the way. Once the placement
+ * has been validated against those counts, the merged storages are swapped into the world, one step per block.
+ * <p>
+ * Blocks which hold bits of the pattern but can not be chiseled are not merged, and are reported as rejected instead.
+ */
+final class PatternMergePlan
+{
+    private final List<BlockMerge>                merges            = new ArrayList<>();
+    private final Map<IBlockInformation, Integer> requiredBits      = Maps.newHashMap();
+    private final Map<IBlockInformation, Integer> returnedBits      = Maps.newHashMap();
+    private final List<BlockPos>                  rejectedPositions = new ArrayList<>();
+
+    private PatternMergePlan()
+    {
+    }
+
+    /**
+     * Merges the given pattern into copies of the blocks covered by the area.
+     * Blocks which can not be chiseled are rejected when the pattern has bits inside of them, and are skipped otherwise.
+     *
+     * @param source      The pattern to merge.
+     * @param areaMutator The area covered by the pattern, its start point is the position of the first entry of the pattern.
+     * @param level       The level the area is in.
+     * @param policy      The policy to merge with.
+     * @return The merge plan.
+     */
+    static PatternMergePlan create(final IMultiStateSnapshot source, final IWorldAreaMutator areaMutator, final Level level, final StateEntryMergePolicy policy)
+    {
+        final PatternMergePlan plan = new PatternMergePlan();
+        final IStateEntryStorage sourceStorage = MultiStateSnapshotUtils.createStorage(source);
+
+        final int size = StateEntrySize.current().getBitsPerBlockSide();
+        final BlockPos sourceStart = VectorUtils.toBlockPos(areaMutator.getInWorldStartPoint().multiply(size, size, size));
+
+        BlockPosStreamProvider.getForAccessor(areaMutator).forEach(position -> {
+            if (level.isOutsideBuildHeight(position))
+                return;
+
+            final Vec3i offset = new Vec3i(
+              sourceStart.getX() - position.getX() * size,
+              sourceStart.getY() - position.getY() * size,
+              sourceStart.getZ() - position.getZ() * size
+            );
+
+            final Optional<IStateEntryStorage> targetStorage = createTargetStorage(level, position, size);
+            if (targetStorage.isEmpty())
+            {
+                if (new SimpleStateEntryStorage(size).merge(sourceStorage, offset, StateEntryMergePolicy.PLACE).hasChanged())
+                    plan.rejectedPositions.add(position.immutable());
+
+                return;
+            }
+
+            final StateEntryMergeResult result = targetStorage.get().merge(sourceStorage, offset, policy);
+            result.getRequiredBits().forEach((blockInformation, count) -> plan.requiredBits.merge(blockInformation, count, Integer::sum));
+            result.getReturnedBits().forEach((blockInformation, count) -> plan.returnedBits.merge(blockInformation, count, Integer::sum));
+
+            if (result.hasChanged())
+                plan.merges.add(new BlockMerge(position.immutable(), targetStorage.get()));
+        });
+
+        return plan;
+    }
+
+    private static Optional<IStateEntryStorage> createTargetStorage(final Level level, final BlockPos position, final int size)
+    {
+        final BlockEntity blockEntity = level.getBlockEntity(position);
+        if (blockEntity instanceof ChiseledBlockEntity chiseledBlockEntity)
+            return Optional.of(chiseledBlockEntity.createStorageSnapshot());
+
+        //Mirrors the conversion of the batch mutation, which also takes the variant of a block entity into account.
+        final BlockState blockState = level.getBlockState(position);
+        final IBlockInformation blockInformation = new BlockInformation(
+          blockState,
+          IStateVariantManager.getInstance().getStateVariant(blockState, Optional.ofNullable(blockEntity))
+        );
+
+        final IStateEntryStorage storage = new SimpleStateEntryStorage(size);
+        if (blockInformation.isAir())
+            return Optional.of(storage);
+
+        if (!IEligibilityManager.getInstance().canBeChiseled(blockInformation))
+            return Optional.empty();
+
+        storage.initializeWith(blockInformation);
+        return Optional.of(storage);
+    }
+
+    /**
+     * The bits which the placement writes into the world.
+     *
+     * @return The required bit counts.
+     */
+    Map<IBlockInformation, Integer> getRequiredBits()
+    {
+        return Collections.unmodifiableMap(requiredBits);
+    }
+
+    /**
+     * The bits which the placement removes from the world.
+     *
+     * @return The returned bit counts.
+     */
+    Map<IBlockInformation, Integer> getReturnedBits()
+    {
+        return Collections.unmodifiableMap(returnedBits);
+    }
+
+    /**
+     * The blocks which hold bits of the pattern, but which can not be chiseled.
+     *
+     * @return The rejected positions.
+     */
+    List<BlockPos> getRejectedPositions()
+    {
+        return Collections.unmodifiableList(rejectedPositions);
+    }
+
+    /**
+     * Swaps the merged storages into the world.
+     * Needs to be called inside a batch mutation of the area, which converts all covered blocks into chiseled blocks.
+     *
+     * @param level The level the area is in.
+     */
+    void apply(final Level level)
+    {
+        for (final BlockMerge merge : merges)
+        {
+            if (level.getBlockEntity(merge.position()) instanceof ChiseledBlockEntity chiseledBlockEntity)
+                chiseledBlockEntity.replaceStorage(merge.storage());
+        }
+    }
+
+    private record BlockMerge(BlockPos position, IStateEntryStorage storage) {}
+}
@@ -1,9 +1,9 @@
 package mod.chiselsandbits.pattern.placement;
 
 import mod.chiselsandbits.api.axissize.CollisionType;
+import mod.chiselsandbits.api.block.storage.StateEntryMergePolicy;
 import mod.chiselsandbits.api.change.IChangeTrackerManager;
 import mod.chiselsandbits.api.config.IClientConfiguration;
-import mod.chiselsandbits.api.exceptions.SpaceOccupiedException;
 import mod.chiselsandbits.api.inventory.bit.IBitInventory;
 import mod.chiselsandbits.api.inventory.management.IBitInventoryManager;
 import mod.chiselsandbits.api.item.withmode.group.IToolModeGroup;
@@ -69,9 +69,17 @@ public class PlacePatternPlacementType extends AbstractCustomRegistryEntry imple
                     LocalStrings.PatternPlacementNotAnAirBlock.getText());
         }
 
+        final PatternMergePlan mergePlan = PatternMergePlan.create(source, areaMutator, context.getLevel(), StateEntryMergePolicy.PLACE);
+
+        if (!mergePlan.getRejectedPositions().isEmpty())
+        {
+            return PlacementResult.failure(
+                    IClientConfiguration::getNotFittingPatternPlacementColor,
+                    LocalStrings.PatternPlacementNotASupportedBlock.getText());
+        }
+
         final IBitInventory playerBitInventory = IBitInventoryManager.getInstance().create(context.getPlayer());
-        final boolean hasRequiredBits = context.getPlayer().isCreative() || source.getStatics().getStateCounts().entrySet().stream()
-          .filter(e -> !e.getKey().isAir())
+        final boolean hasRequiredBits = context.getPlayer().isCreative() || mergePlan.getRequiredBits().entrySet().stream()
           .allMatch(e -> playerBitInventory.canExtract(e.getKey(), e.getValue()));
 
         if (!hasRequiredBits)
@@ -88,26 +96,12 @@ public class PlacePatternPlacementType extends AbstractCustomRegistryEntry imple
 
         try (IBatchMutation ignored = areaMutator.batch(IChangeTrackerManager.getInstance().getChangeTracker(context.getPlayer())))
         {
-            source.stream().sequential().forEach(
-              stateEntryInfo -> {
-                  try
-                  {
-                      areaMutator.setInAreaTarget(
-                        stateEntryInfo.getBlockInformation(),
-                        stateEntryInfo.getStartPoint());
-                  }
-                  catch (SpaceOccupiedException ignored1)
-                  {
-                  }
-              }
-            );
+            mergePlan.apply(context.getLevel());
         }
 
         if (!context.getPlayer().isCreative())
         {
-            source.getStatics().getStateCounts().entrySet().stream()
-              .filter(e -> !e.getKey().isAir())
-              .forEach(e -> playerBitInventory.extract(e.getKey(), e.getValue()));
+            mergePlan.getRequiredBits().forEach(playerBitInventory::extract);
         }
 
         return PlacementResult.success();
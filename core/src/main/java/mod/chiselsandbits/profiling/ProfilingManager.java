@@ -19,7 +19,7 @@ public class ProfilingManager implements IProfilingManager
         return INSTANCE;
     }
 
-    public IProfiler profiler = null;
+    private volatile IProfiler profiler = null;
 
     private ProfilingManager()
     {
@@ -73,15 +73,13 @@ public class ProfilingManager implements IProfilingManager
             callback.accept(getProfiler());
     }
 
+    @Override
     public IProfilerSection withSection(final String name) {
         final IProfiler profiler = getProfiler();
+        if (profiler == null)
+            return IProfilerSection.NOOP;
 
-        if (profiler != null)
-            profiler.startSection(name);
-
-        return () -> {
-            if (profiler != null)
-                profiler.endSection();
-        };
+        profiler.startSection(name);
+        return profiler::endSection;
     }
 }
@@ -0,0 +1,76 @@
+package mod.chiselsandbits.profiling.jvm.jfr;
+
+import jdk.jfr.FlightRecorder;
+import mod.chiselsandbits.profiling.jvm.jfr.events.CandBCacheMetricEvent;
+import mod.chiselsandbits.profiling.jvm.jfr.events.CandBCounterMetricEvent;
+import mod.chiselsandbits.profiling.jvm.jfr.events.CandBLatencyMetricEvent;
+import mod.chiselsandbits.profiling.metrics.CacheMetric;
+import mod.chiselsandbits.profiling.metrics.Counter;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.MetricsRegistry;
+
+/**
+ * Exports the metrics of the {@link MetricsRegistry} as periodic JFR events.
+ * <p>
+ * The events are only emitted while a recording which has them enabled is running, so registering them costs nothing otherwise.
+ */
+public final class JfrMetricsExporter
+{
+    private static boolean registered = false;
+
+    private JfrMetricsExporter()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: JfrMetricsExporter. This is a utility class");
+    }
+
+    public static synchronized void register()
+    {
+        if (registered || !FlightRecorder.isAvailable())
+            return;
+
+        FlightRecorder.addPeriodicEvent(CandBLatencyMetricEvent.class, JfrMetricsExporter::emitLatencyMetrics);
+        FlightRecorder.addPeriodicEvent(CandBCounterMetricEvent.class, JfrMetricsExporter::emitCounterMetrics);
+        FlightRecorder.addPeriodicEvent(CandBCacheMetricEvent.class, JfrMetricsExporter::emitCacheMetrics);
+        registered = true;
+    }
+
+    private static void emitLatencyMetrics()
+    {
+        for (final LatencyHistogram histogram : MetricsRegistry.getInstance().getHistograms())
+        {
+            final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            final CandBLatencyMetricEvent event = new CandBLatencyMetricEvent();
+            event.name = histogram.getName();
+            event.count = snapshot.count();
+            event.mean = snapshot.mean();
+            event.p50 = snapshot.p50();
+            event.p99 = snapshot.p99();
+            event.max = snapshot.max();
+            event.commit();
+        }
+    }
+
+    private static void emitCounterMetrics()
+    {
+        for (final Counter counter : MetricsRegistry.getInstance().getCounters())
+        {
+            final CandBCounterMetricEvent event = new CandBCounterMetricEvent();
+            event.name = counter.getName();
+            event.value = counter.get();
+            event.commit();
+        }
+    }
+
+    private static void emitCacheMetrics()
+    {
+        for (final CacheMetric cache : MetricsRegistry.getInstance().getCaches())
+        {
+            final CandBCacheMetricEvent event = new CandBCacheMetricEvent();
+            event.name = cache.getName();
+            event.lookups = cache.getLookups();
+            event.misses = cache.getMisses();
+            event.hitRate = cache.getHitRate();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package mod.chiselsandbits.profiling.jvm.jfr.events;
+
+import jdk.jfr.*;
+
+@Name(CandBCacheMetricEvent.NAME)
+@Label("C&B Cache Metric")
+@Category({"Minecraft", "C&B"})
+@Period("10 s")
+@StackTrace(false)
+public class CandBCacheMetricEvent extends Event
+{
+    public static final String NAME = "minecraft.candb.CacheMetric";
+
+    @Name("name")
+    @Label("Name")
+    public String name;
+
+    @Name("lookups")
+    @Label("Lookups")
+    public long lookups;
+
+    @Name("misses")
+    @Label("Misses")
+    public long misses;
+
+    @Name("hitRate")
+    @Label("Hit Rate")
+    @Percentage
+    public double hitRate;
+}
@@ -0,0 +1,21 @@
+package mod.chiselsandbits.profiling.jvm.jfr.events;
+
+import jdk.jfr.*;
+
+@Name(CandBCounterMetricEvent.NAME)
+@Label("C&B Counter Metric")
+@Category({"Minecraft", "C&B"})
+@Period("10 s")
+@StackTrace(false)
+public class CandBCounterMetricEvent extends Event
+{
+    public static final String NAME = "minecraft.candb.CounterMetric";
+
+    @Name("name")
+    @Label("Name")
+    public String name;
+
+    @Name("value")
+    @Label("Value")
+    public long value;
+}
@@ -0,0 +1,41 @@
+package mod.chiselsandbits.profiling.jvm.jfr.events;
+
+import jdk.jfr.*;
+
+@Name(CandBLatencyMetricEvent.NAME)
+@Label("C&B Latency Metric")
+@Category({"Minecraft", "C&B"})
+@Period("10 s")
+@StackTrace(false)
+public class CandBLatencyMetricEvent extends Event
+{
+    public static final String NAME = "minecraft.candb.LatencyMetric";
+
+    @Name("name")
+    @Label("Name")
+    public String name;
+
+    @Name("count")
+    @Label("Count")
+    public long count;
+
+    @Name("mean")
+    @Label("Mean")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mean;
+
+    @Name("p50")
+    @Label("50th Percentile")
+    @Timespan(Timespan.NANOSECONDS)
+    public long p50;
+
+    @Name("p99")
+    @Label("99th Percentile")
+    @Timespan(Timespan.NANOSECONDS)
+    public long p99;
+
+    @Name("max")
+    @Label("Max")
+    @Timespan(Timespan.NANOSECONDS)
+    public long max;
+}
@@ -0,0 +1,63 @@
+package mod.chiselsandbits.profiling.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the lookups and misses of a cache, from which its hit rate is derived.
+ */
+public final class CacheMetric
+{
+    private final String    name;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses  = new LongAdder();
+
+    CacheMetric(final String name)
+    {
+        this.name = name;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Records a lookup in the cache, regardless of whether it hits or misses.
+     */
+    public void lookup()
+    {
+        lookups.increment();
+    }
+
+    /**
+     * Records that a lookup missed and the value had to be calculated.
+     */
+    public void miss()
+    {
+        misses.increment();
+    }
+
+    public long getLookups()
+    {
+        return lookups.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * The fraction of lookups which were served from the cache.
+     *
+     * @return The hit rate, between 0 and 1.
+     */
+    public double getHitRate()
+    {
+        final long lookupCount = getLookups();
+        if (lookupCount == 0)
+            return 0;
+
+        return Math.max(0, lookupCount - getMisses()) / (double) lookupCount;
+    }
+}
@@ -0,0 +1,37 @@
+package mod.chiselsandbits.profiling.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing counter, which is cheap to update from many threads at once.
+ */
+public final class Counter
+{
+    private final String    name;
+    private final LongAdder value = new LongAdder();
+
+    Counter(final String name)
+    {
+        this.name = name;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public void increment()
+    {
+        value.increment();
+    }
+
+    public void add(final long amount)
+    {
+        value.add(amount);
+    }
+
+    public long get()
+    {
+        return value.sum();
+    }
+}
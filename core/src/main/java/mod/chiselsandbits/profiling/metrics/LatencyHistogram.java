@@ -0,0 +1,124 @@
+package mod.chiselsandbits.profiling.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations with power of two buckets.
+ * <p>
+ * Recording a duration only updates a few striped counters, so it can stay enabled at all times. In exchange the percentiles
+ * are approximations, they are reported as the upper bound of the bucket they fall into.
+ */
+public final class LatencyHistogram
+{
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final String          name;
+    private final LongAdder[]     buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder       total   = new LongAdder();
+    private final LongAccumulator max     = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram(final String name)
+    {
+        this.name = name;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Returns the current time, to be passed to {@link #recordSince(long)} once the measured operation completed.
+     *
+     * @return The current time in nanoseconds.
+     */
+    public static long start()
+    {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time which passed since the given start time.
+     *
+     * @param startTime The start time, as returned by {@link #start()}.
+     */
+    public void recordSince(final long startTime)
+    {
+        record(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(final long nanos)
+    {
+        final long duration = Math.max(0, nanos);
+        //Bucket i holds the durations in [2^i, 2^(i+1)), with zero folded into the first bucket.
+        buckets[Math.max(0, BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(duration))].increment();
+        total.add(duration);
+        max.accumulate(duration);
+    }
+
+    /**
+     * Creates a snapshot of the current state of the histogram.
+     *
+     * @return The snapshot.
+     */
+    public Snapshot snapshot()
+    {
+        final long[] bucketCounts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            bucketCounts[i] = buckets[i].sum();
+            recorded += bucketCounts[i];
+        }
+
+        final long maxDuration = max.get();
+        return new Snapshot(
+          recorded,
+          recorded == 0 ? 0 : total.sum() / recorded,
+          percentile(bucketCounts, recorded, 0.5, maxDuration),
+          percentile(bucketCounts, recorded, 0.99, maxDuration),
+          maxDuration
+        );
+    }
+
+    private static long percentile(final long[] bucketCounts, final long recorded, final double percentile, final long maxDuration)
+    {
+        if (recorded == 0)
+            return 0;
+
+        final long target = (long) Math.ceil(recorded * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            seen += bucketCounts[i];
+            if (seen >= target)
+            {
+                final long upperBound = i >= BUCKET_COUNT - 2 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min(upperBound, maxDuration);
+            }
+        }
+
+        return maxDuration;
+    }
+
+    /**
+     * A snapshot of a histogram, all durations are in nanoseconds.
+     *
+     * @param count The amount of recorded durations.
+     * @param mean  The mean duration.
+     * @param p50   The approximate median duration.
+     * @param p99   The approximate 99th percentile duration.
+     * @param max   The longest recorded duration.
+     */
+    public record Snapshot(long count, long mean, long p50, long p99, long max) {}
+}
@@ -0,0 +1,25 @@
+package mod.chiselsandbits.profiling.metrics;
+
+/**
+ * The well known metrics which are recorded by Chisels and Bits.
+ */
+public final class Metrics
+{
+    public static final LatencyHistogram MESHING        = MetricsRegistry.getInstance().histogram("meshing");
+    public static final LatencyHistogram SHAPE_BUILDING = MetricsRegistry.getInstance().histogram("shape_building");
+    public static final LatencyHistogram SAVE           = MetricsRegistry.getInstance().histogram("save");
+    public static final LatencyHistogram LOAD           = MetricsRegistry.getInstance().histogram("load");
+    public static final LatencyHistogram NETWORK_SYNC   = MetricsRegistry.getInstance().histogram("network_sync");
+
+    public static final Counter NETWORK_SYNC_SENT  = MetricsRegistry.getInstance().counter("network_sync.sent");
+    public static final Counter NETWORK_SYNC_BYTES = MetricsRegistry.getInstance().counter("network_sync.bytes");
+
+    public static final CacheMetric MODEL_CACHE = MetricsRegistry.getInstance().cache("model");
+    public static final CacheMetric SHAPE_CACHE = MetricsRegistry.getInstance().cache("shape");
+    public static final CacheMetric STORAGE_INTERNING = MetricsRegistry.getInstance().cache("storage_interning");
+
+    private Metrics()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: Metrics. This is a utility class");
+    }
+}
@@ -0,0 +1,89 @@
+package mod.chiselsandbits.profiling.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The registry of the always-on metrics of Chisels and Bits.
+ * <p>
+ * Unlike the profiler sections, metrics are recorded at all times. They are limited to counters and histograms which only
+ * update striped counters, so that recording them is cheap enough for production use.
+ * The well known metrics are declared in {@link Metrics}.
+ */
+public final class MetricsRegistry
+{
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<String, Counter>          counters   = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, CacheMetric>      caches     = new ConcurrentSkipListMap<>();
+
+    private MetricsRegistry()
+    {
+    }
+
+    public static MetricsRegistry getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets or creates the counter with the given name.
+     *
+     * @param name The name of the counter.
+     * @return The counter.
+     */
+    public Counter counter(final String name)
+    {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Gets or creates the latency histogram with the given name.
+     *
+     * @param name The name of the histogram.
+     * @return The histogram.
+     */
+    public LatencyHistogram histogram(final String name)
+    {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Gets or creates the cache metric with the given name.
+     *
+     * @param name The name of the cache.
+     * @return The cache metric.
+     */
+    public CacheMetric cache(final String name)
+    {
+        return caches.computeIfAbsent(name, CacheMetric::new);
+    }
+
+    /**
+     * Removes the counter with the given name, for counters whose subject no longer exists.
+     *
+     * @param name The name of the counter.
+     */
+    public void removeCounter(final String name)
+    {
+        counters.remove(name);
+    }
+
+    public Collection<Counter> getCounters()
+    {
+        return Collections.unmodifiableCollection(counters.values());
+    }
+
+    public Collection<LatencyHistogram> getHistograms()
+    {
+        return Collections.unmodifiableCollection(histograms.values());
+    }
+
+    public Collection<CacheMetric> getCaches()
+    {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+}
@@ -121,10 +121,12 @@ public final class ModEventHandler {
                     .filter(ChiseledBlockEntity.class::isInstance)
                     .map(ChiseledBlockEntity.class::cast)
                     .forEach(chiseledBlockEntity -> {
-                        ChiselsAndBits.getInstance().getNetworkChannel().sendToTrackingChunk(
+                        //Only the player which received the chunk is missing the data, all other players are already up-to-date.
+                        ChiselsAndBits.getInstance().getNetworkChannel().sendToPlayer(
                                 new UpdateChiseledBlockPacket(chiseledBlockEntity),
-                                serverLevel.getChunkAt(chiseledBlockEntity.getBlockPos())
+                                serverPlayer
                         );
+                        chiseledBlockEntity.onSentToClient();
                     });
         });
     }
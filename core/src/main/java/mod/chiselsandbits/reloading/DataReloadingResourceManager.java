@@ -3,10 +3,13 @@ package mod.chiselsandbits.reloading;
 import com.google.common.collect.Sets;
 import mod.chiselsandbits.aabb.AABBManager;
 import mod.chiselsandbits.api.reloading.ICacheClearingHandler;
+import mod.chiselsandbits.block.entities.StateLightPropertiesTable;
+import mod.chiselsandbits.blockinformation.BlockInformationDictionary;
 import mod.chiselsandbits.change.ChangeTrackerManger;
 import mod.chiselsandbits.chiseling.LocalChiselingContextCache;
 import mod.chiselsandbits.client.model.baked.chiseled.ChiseledBlockBakedModelManager;
 import mod.chiselsandbits.client.model.baked.face.FaceManager;
+import mod.chiselsandbits.item.bit.BitItemMetadataTable;
 import mod.chiselsandbits.voxelshape.VoxelShapeManager;
 import net.minecraft.server.packs.resources.PreparableReloadListener;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -48,7 +51,10 @@ public class DataReloadingResourceManager implements PreparableReloadListener {
         registerCacheClearer(AABBManager.getInstance()::clearCache)
                 .registerCacheClearer(VoxelShapeManager.getInstance()::clearCache)
                 .registerCacheClearer(LocalChiselingContextCache.getInstance()::clearCache)
-                .registerCacheClearer(ChangeTrackerManger.getInstance()::clearCache);
+                .registerCacheClearer(ChangeTrackerManger.getInstance()::clearCache)
+                .registerCacheClearer(BlockInformationDictionary.getInstance()::clearCache)
+                .registerCacheClearer(BitItemMetadataTable.getInstance()::clearCache)
+                .registerCacheClearer(StateLightPropertiesTable.getInstance()::clearCache);
     }
 
     @Override
@@ -0,0 +1,145 @@
+package mod.chiselsandbits.storage;
+
+import mod.chiselsandbits.executor.ChiselsAndBitsExecutor;
+import mod.chiselsandbits.executor.ExecutorLane;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Batches the deserialization of block entities per chunk.
+ * <p>
+ * The game registers all block entities of a chunk in one go when it is loaded, so every read which is submitted for a given chunk
+ * before the game executor gets to run again ends up in the same batch. All reads of a batch are executed as a single job on the
+ * {@link ExecutorLane#LOAD load lane}, and their results are applied to the game in a single task on the game executor.
+ * <p>
+ * This only covers block entities which are read from their saved data. Clients receive the uncompressed network form of a
+ * chiseled block instead, which is applied directly when its update packet is handled.
+ */
+public final class ChunkBatchedDeserializer
+{
+    private static final ChunkBatchedDeserializer INSTANCE = new ChunkBatchedDeserializer();
+    private static final Logger                   LOGGER   = LogManager.getLogger();
+
+    private final Map<BatchKey, Batch> pendingBatches = new HashMap<>();
+
+    private ChunkBatchedDeserializer()
+    {
+    }
+
+    public static ChunkBatchedDeserializer getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Submits a read to the batch of the chunk which contains the given position.
+     *
+     * @param level        The level the data is loaded into.
+     * @param position     The position of the block entity which is loaded.
+     * @param reader       The read operation, is invoked off-thread and produces the task which applies the read data.
+     * @param gameExecutor The executor of the game thread, on which the results are applied.
+     */
+    public void submit(final Level level, final BlockPos position, final Supplier<Runnable> reader, final Executor gameExecutor)
+    {
+        final BatchKey key = new BatchKey(level, new ChunkPos(position));
+        final boolean isNewBatch;
+        synchronized (pendingBatches)
+        {
+            final Batch batch = pendingBatches.get(key);
+            isNewBatch = batch == null;
+            if (isNewBatch)
+            {
+                final Batch newBatch = new Batch(gameExecutor);
+                newBatch.readers.add(reader);
+                pendingBatches.put(key, newBatch);
+            }
+            else
+            {
+                batch.readers.add(reader);
+            }
+        }
+
+        if (isNewBatch)
+        {
+            //The flush is deferred until the game executor runs again, at which point the entire chunk has been registered.
+            gameExecutor.execute(() -> flush(key));
+        }
+    }
+
+    private void flush(final BatchKey key)
+    {
+        final Batch batch;
+        synchronized (pendingBatches)
+        {
+            batch = pendingBatches.remove(key);
+        }
+
+        if (batch == null)
+            return;
+
+        CompletableFuture.supplyAsync(
+          () -> read(key, batch.readers),
+          ChiselsAndBitsExecutor.getInstance().getExecutor(ExecutorLane.LOAD)
+        ).thenAcceptAsync(
+          results -> apply(key, results),
+          batch.gameExecutor
+        );
+    }
+
+    private static List<Runnable> read(final BatchKey key, final List<Supplier<Runnable>> readers)
+    {
+        final List<Runnable> results = new ArrayList<>(readers.size());
+        for (final Supplier<Runnable> reader : readers)
+        {
+            try
+            {
+                results.add(reader.get());
+            }
+            catch (Exception exception)
+            {
+                LOGGER.error("Failed to read block entity data in chunk: {}", key.chunkPos(), exception);
+            }
+        }
+
+        return results;
+    }
+
+    private static void apply(final BatchKey key, final List<Runnable> results)
+    {
+        for (final Runnable result : results)
+        {
+            try
+            {
+                result.run();
+            }
+            catch (Exception exception)
+            {
+                LOGGER.error("Failed to apply block entity data in chunk: {}", key.chunkPos(), exception);
+            }
+        }
+    }
+
+    private record BatchKey(Level level, ChunkPos chunkPos) {}
+
+    private static final class Batch
+    {
+        private final Executor               gameExecutor;
+        private final List<Supplier<Runnable>> readers = new ArrayList<>();
+
+        private Batch(final Executor gameExecutor)
+        {
+            this.gameExecutor = gameExecutor;
+        }
+    }
+}
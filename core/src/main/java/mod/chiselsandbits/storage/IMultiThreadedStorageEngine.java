@@ -5,6 +5,7 @@ import net.minecraft.nbt.CompoundTag;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Represents a multi-threaded storage engine, which can process data for IO purposes.
@@ -12,12 +13,30 @@ import java.util.function.Function;
 public interface IMultiThreadedStorageEngine extends IStorageEngine, Executor
 {
     /**
-     * Runs the save process off-thread and returns the scheduled task.
+     * Captures the current data and runs the save process off-thread, returning the scheduled task.
      *
      * @param resultSaver The builder which is able to produce a results processing task.
      * @return The off-thread save task.
      */
-    CompletableFuture<Void> serializeOffThread(Function<CompoundTag, CompletableFuture<Void>> resultSaver);
+    default CompletableFuture<Void> serializeOffThread(Function<CompoundTag, CompletableFuture<Void>> resultSaver) {
+        return serializeOffThread(createSerializationSnapshot(), resultSaver);
+    }
+
+    /**
+     * Runs the save process of a previously captured snapshot off-thread and returns the scheduled task.
+     *
+     * @param snapshot The snapshot to save.
+     * @param resultSaver The builder which is able to produce a results processing task.
+     * @return The off-thread save task, completes exceptionally when a newer save of this engine replaces it before it started.
+     */
+    CompletableFuture<Void> serializeOffThread(Supplier<CompoundTag> snapshot, Function<CompoundTag, CompletableFuture<Void>> resultSaver);
+
+    /**
+     * Captures the current data on the calling thread, in a form which can be serialized off-thread while the data is being modified.
+     *
+     * @return The supplier which produces the nbt of the captured data, can be invoked on any thread.
+     */
+    Supplier<CompoundTag> createSerializationSnapshot();
 
     /**
      * Deserializes the given nbt data off-thread.
@@ -26,4 +45,13 @@ public interface IMultiThreadedStorageEngine extends IStorageEngine, Executor
      * @return The off-thread deserialize task.
      */
     CompletableFuture<Void> deserializeOffThread(CompoundTag tag);
+
+    /**
+     * Reads the given nbt data on the calling thread, without applying the read data.
+     *
+     * @param tag The tag to read.
+     * @return The task which applies the read data, needs to be invoked on the game thread.
+     * @see IThreadAwareStorageEngine#readOffThread(CompoundTag)
+     */
+    Runnable readOffThread(CompoundTag tag);
 }
@@ -4,6 +4,8 @@ import mod.chiselsandbits.api.util.INBTSerializable;
 import mod.chiselsandbits.api.util.IPacketBufferSerializable;
 import net.minecraft.nbt.CompoundTag;
 
+import java.util.function.Supplier;
+
 /**
  * Represents a storage handler which can read and write data.
  * @param <P> The payload holder type that is used to pass data from an off-thread read into an on-thread read.
@@ -27,4 +29,18 @@ public interface IStorageHandler<P> extends INBTSerializable<CompoundTag>, IPack
      * @param payload The payload to write to target object.
      */
     void syncPayloadOnGameThread(P payload);
+
+    /**
+     * Invoked on the main game thread when the storage handler is being used to write NBT off-thread.
+     * Needs to capture the current data in a form which is not affected by later changes, the returned supplier is then
+     * invoked on the IO thread to produce the nbt.
+     * <p>
+     * By default, the data is serialized immediately.
+     *
+     * @return The supplier which produces the nbt of the captured data.
+     */
+    default Supplier<CompoundTag> createSnapshotOnGameThread() {
+        final CompoundTag nbt = serializeNBT();
+        return () -> nbt;
+    }
 }
@@ -4,6 +4,7 @@ import net.minecraft.nbt.CompoundTag;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Represents a single threaded storage engine which is aware of the fact that it can be invoked from off-thread, which can process data for IO purposes.
@@ -19,4 +20,20 @@ public interface IThreadAwareStorageEngine extends IStorageEngine {
      * @return The scheduled tasks
      */
     CompletableFuture<Void> deserializeOffThread(CompoundTag tag, Executor ioExecutor, Executor gameExecutor);
+
+    /**
+     * Reads the given tag on the calling thread, without applying the read data.
+     * Allows callers to decode many tags in a single off-thread job, and to apply all of them in a single game thread task.
+     *
+     * @param tag The tag to read.
+     * @return The task which applies the read data, needs to be invoked on the game thread.
+     */
+    Runnable readOffThread(CompoundTag tag);
+
+    /**
+     * Captures the current data on the calling thread, in a form which can be serialized off-thread while the data is being modified.
+     *
+     * @return The supplier which produces the nbt of the captured data, can be invoked on any thread.
+     */
+    Supplier<CompoundTag> createSerializationSnapshot();
 }
@@ -1,7 +1,9 @@
 package mod.chiselsandbits.storage;
 
-import mod.chiselsandbits.ChiselsAndBits;
-import mod.chiselsandbits.api.config.ICommonConfiguration;
+import mod.chiselsandbits.executor.ChiselsAndBitsExecutor;
+import mod.chiselsandbits.executor.ExecutorLane;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.Metrics;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
@@ -9,33 +11,12 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 final class MultiThreadAwareStorageEngine implements IMultiThreadedStorageEngine
 {
 
-    private static ExecutorService saveService;
-
-    private static synchronized void ensureThreadPoolSetup() {
-        if (saveService == null) {
-            final ClassLoader classLoader = ChiselsAndBits.class.getClassLoader();
-            final AtomicInteger genericThreadCounter = new AtomicInteger();
-            saveService = Executors.newFixedThreadPool(
-              ICommonConfiguration.getInstance().getBlockSaveThreadCount().get(),
-              runnable -> {
-                  final Thread thread = new Thread(runnable);
-                  thread.setContextClassLoader(classLoader);
-                  thread.setName(String.format("Chisels and Bits Block save handler #%s", genericThreadCounter.incrementAndGet()));
-                  thread.setDaemon(true);
-                  return thread;
-              }
-            );
-        }
-    }
-
     private final IThreadAwareStorageEngine internalEngine;
     private final Executor gameExecutor;
 
@@ -80,12 +61,18 @@ final class MultiThreadAwareStorageEngine implements IMultiThreadedStorageEngine
     }
 
     @Override
-    public CompletableFuture<Void> serializeOffThread(Function<CompoundTag, CompletableFuture<Void>> resultSaver)
+    public CompletableFuture<Void> serializeOffThread(Supplier<CompoundTag> snapshot, Function<CompoundTag, CompletableFuture<Void>> resultSaver)
     {
-        ensureThreadPoolSetup();
-        return CompletableFuture.supplyAsync(
-          this::serializeNBT,
-          saveService
+        //A newer save of the same block replaces this one while it is still queued, which cancels the returned future.
+        return ChiselsAndBitsExecutor.getInstance().supplyCoalescing(
+          ExecutorLane.SAVE,
+          this,
+          () -> {
+              final long saveStart = LatencyHistogram.start();
+              final CompoundTag tag = snapshot.get();
+              Metrics.SAVE.recordSince(saveStart);
+              return tag;
+          }
         )
        .thenComposeAsync(resultSaver);
     }
@@ -93,13 +80,25 @@ final class MultiThreadAwareStorageEngine implements IMultiThreadedStorageEngine
     @Override
     public void execute(@NotNull final Runnable command)
     {
-        ensureThreadPoolSetup();
-        saveService.execute(command);
+        ChiselsAndBitsExecutor.getInstance().getExecutor(ExecutorLane.SAVE).execute(command);
     }
 
     @Override
     public CompletableFuture<Void> deserializeOffThread(CompoundTag tag) {
-        ensureThreadPoolSetup();
-        return internalEngine.deserializeOffThread(tag, saveService, gameExecutor);
+        return internalEngine.deserializeOffThread(tag, ChiselsAndBitsExecutor.getInstance().getExecutor(ExecutorLane.LOAD), gameExecutor);
+    }
+
+    @Override
+    public Supplier<CompoundTag> createSerializationSnapshot()
+    {
+        return internalEngine.createSerializationSnapshot();
+    }
+
+    @Override
+    public Runnable readOffThread(CompoundTag tag) {
+        final long loadStart = LatencyHistogram.start();
+        final Runnable sync = internalEngine.readOffThread(tag);
+        Metrics.LOAD.recordSince(loadStart);
+        return sync;
     }
 }
@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 final class VersionedStorageEngine implements IThreadAwareStorageEngine
 {
@@ -55,6 +56,18 @@ final class VersionedStorageEngine implements IThreadAwareStorageEngine
         tag.put(NbtConstants.DATA, this.saveHandler.serializeNBT());
     }
 
+    @Override
+    public Supplier<CompoundTag> createSerializationSnapshot()
+    {
+        final Supplier<CompoundTag> dataSnapshot = this.saveHandler.createSnapshotOnGameThread();
+        return () -> {
+            final CompoundTag compoundTag = new CompoundTag();
+            compoundTag.putInt(NbtConstants.VERSION, currentVersion);
+            compoundTag.put(NbtConstants.DATA, dataSnapshot.get());
+            return compoundTag;
+        };
+    }
+
     @Override
     public void deserializeNBT(final @NotNull CompoundTag nbt)
     {
@@ -119,4 +132,16 @@ final class VersionedStorageEngine implements IThreadAwareStorageEngine
                 ioExecutor
         ).thenAcceptAsync(handler::syncPayloadOnGameThread, gameExecutor);
     }
+
+    @Override
+    public Runnable readOffThread(CompoundTag tag) {
+        final IStorageHandler<?> storageHandler = readStorageHandler(tag);
+        if (storageHandler == null) return () -> {};
+        return doReadOffThread(storageHandler, tag);
+    }
+
+    private <P> Runnable doReadOffThread(IStorageHandler<P> handler, CompoundTag tag) {
+        final P payload = handler.readPayloadOffThread(tag.getCompound(NbtConstants.DATA));
+        return () -> handler.syncPayloadOnGameThread(payload);
+    }
 }
@@ -1,14 +1,21 @@
 package mod.chiselsandbits.utils;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import mod.chiselsandbits.api.util.constants.NbtConstants;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4FrameInputStream;
 import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.lz4.LZ4SafeDecompressor;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
+import net.minecraft.network.FriendlyByteBuf;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.*;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -16,6 +23,98 @@ public class LZ4DataCompressionUtils
 {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final LZ4Compressor       BLOCK_COMPRESSOR   = LZ4Factory.fastestJavaInstance().fastCompressor();
+    private static final LZ4SafeDecompressor BLOCK_DECOMPRESSOR = LZ4Factory.fastestJavaInstance().safeDecompressor();
+    private static final int                 BLOCK_HEADER_SIZE  = Integer.BYTES;
+    //Scratch buffers which grew beyond this size are not kept, so a single large block does not pin memory on every worker thread.
+    private static final int                 MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    //Scratch space for block compression, reused by all invocations on the same thread.
+    private static final ThreadLocal<ByteBuf> UNCOMPRESSED_BUFFER = ThreadLocal.withInitial(() -> Unpooled.buffer(8192));
+    private static final ThreadLocal<byte[]>  BLOCK_BUFFER        = ThreadLocal.withInitial(() -> new byte[8192]);
+
+    private LZ4DataCompressionUtils()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: LZ4DataCompressionUtils. This is a utility class");
+    }
+
+    /**
+     * Writes binary data into a pooled buffer and compresses it as a single LZ4 block.
+     * The uncompressed size is stored in front of the block, so it can be restored by {@link #decompressBlock(byte[], int, Function)}.
+     *
+     * @param writer The writer of the uncompressed data.
+     * @return The compressed data.
+     */
+    public static byte[] compressBlock(final Consumer<FriendlyByteBuf> writer) {
+        final ByteBuf uncompressed = UNCOMPRESSED_BUFFER.get().clear();
+        writer.accept(new FriendlyByteBuf(uncompressed));
+
+        final int uncompressedLength = uncompressed.readableBytes();
+        final int maxLength = BLOCK_HEADER_SIZE + BLOCK_COMPRESSOR.maxCompressedLength(uncompressedLength);
+        final byte[] target = maxLength > MAX_RETAINED_BUFFER_SIZE ? new byte[maxLength] : ensureBlockBufferCapacity(maxLength);
+
+        target[0] = (byte) (uncompressedLength >>> 24);
+        target[1] = (byte) (uncompressedLength >>> 16);
+        target[2] = (byte) (uncompressedLength >>> 8);
+        target[3] = (byte) uncompressedLength;
+        final int compressedLength = BLOCK_COMPRESSOR.compress(
+          uncompressed.array(),
+          uncompressed.arrayOffset() + uncompressed.readerIndex(),
+          uncompressedLength,
+          target,
+          BLOCK_HEADER_SIZE,
+          maxLength - BLOCK_HEADER_SIZE
+        );
+
+        if (uncompressed.capacity() > MAX_RETAINED_BUFFER_SIZE)
+            UNCOMPRESSED_BUFFER.remove();
+
+        return Arrays.copyOf(target, BLOCK_HEADER_SIZE + compressedLength);
+    }
+
+    /**
+     * Decompresses data written by {@link #compressBlock(Consumer)} into a pooled buffer and reads it.
+     * The reader is handed a view of the pooled buffer, it may not retain it beyond the invocation.
+     *
+     * @param input The compressed data.
+     * @param maxUncompressedLength The largest uncompressed size the reader can consume, blocks which claim to be larger are rejected.
+     * @param reader The reader of the uncompressed data.
+     * @return The result of the reader.
+     * @param <P> The type of the result.
+     * @throws IllegalArgumentException When the data is not a compressed block, or its uncompressed size is out of bounds.
+     * @throws net.jpountz.lz4.LZ4Exception When the data is corrupt.
+     */
+    public static <P> P decompressBlock(final byte[] input, final int maxUncompressedLength, final Function<FriendlyByteBuf, P> reader) {
+        if (input.length < BLOCK_HEADER_SIZE)
+            throw new IllegalArgumentException("The given data is not a compressed block. Length: " + input.length);
+
+        final int uncompressedLength = ((input[0] & 0xFF) << 24) | ((input[1] & 0xFF) << 16) | ((input[2] & 0xFF) << 8) | (input[3] & 0xFF);
+        if (uncompressedLength < 0 || uncompressedLength > maxUncompressedLength)
+            throw new IllegalArgumentException("The uncompressed size of the given block is out of bounds. Size: %s, Maximum: %s".formatted(uncompressedLength, maxUncompressedLength));
+
+        final byte[] target = uncompressedLength > MAX_RETAINED_BUFFER_SIZE ? new byte[uncompressedLength] : ensureBlockBufferCapacity(uncompressedLength);
+        final int decompressedLength = BLOCK_DECOMPRESSOR.decompress(
+          input,
+          BLOCK_HEADER_SIZE,
+          input.length - BLOCK_HEADER_SIZE,
+          target,
+          0,
+          uncompressedLength
+        );
+
+        return reader.apply(new FriendlyByteBuf(Unpooled.wrappedBuffer(target, 0, decompressedLength)));
+    }
+
+    private static byte[] ensureBlockBufferCapacity(final int capacity) {
+        byte[] buffer = BLOCK_BUFFER.get();
+        if (buffer.length < capacity) {
+            buffer = new byte[Math.min(MAX_RETAINED_BUFFER_SIZE, Math.max(capacity, buffer.length + (buffer.length >> 1)))];
+            BLOCK_BUFFER.set(buffer);
+        }
+
+        return buffer;
+    }
+
     public static CompoundTag compress(final Consumer<CompoundTag> uncompressedBuilder) {
         final CompoundTag result = new CompoundTag();
 
@@ -14,6 +14,11 @@ public final class LightUtil {
     }
 
     public static void pack(float[] from, int[] to, int v, int e)
+    {
+        pack(from, to, 0, v, e);
+    }
+
+    public static void pack(float[] from, int[] to, int toOffset, int v, int e)
     {
         VertexFormatElement element = DefaultVertexFormat.BLOCK.getElements().get(e);
         int vertexStart = v * DefaultVertexFormat.BLOCK.getVertexSize() + DefaultVertexFormat.BLOCK.offsets.getInt(e);
@@ -26,7 +31,7 @@ public final class LightUtil {
             if(i < count)
             {
                 int pos = vertexStart + size * i;
-                int index = pos >> 2;
+                int index = toOffset + (pos >> 2);
                 int offset = pos & 3;
                 int bits = 0;
                 float f = i < from.length ? from[i] : 0;
@@ -1,8 +1,14 @@
 package mod.chiselsandbits.utils;
 
 import mod.chiselsandbits.api.block.storage.IStateEntryStorage;
+import mod.chiselsandbits.api.multistate.StateEntrySize;
 import mod.chiselsandbits.api.multistate.snapshot.IMultiStateSnapshot;
+import mod.chiselsandbits.api.util.IBatchMutation;
+import mod.chiselsandbits.api.util.VectorUtils;
+import mod.chiselsandbits.block.entities.storage.SimpleStateEntryStorage;
 import mod.chiselsandbits.multistate.snapshot.LazilyDecodingSingleBlockMultiStateSnapshot;
+import mod.chiselsandbits.multistate.snapshot.SimpleSnapshot;
+import net.minecraft.core.BlockPos;
 
 public class MultiStateSnapshotUtils
 {
@@ -15,4 +21,33 @@ public class MultiStateSnapshotUtils
     public static IMultiStateSnapshot createFromStorage(final IStateEntryStorage storage) {
         return new LazilyDecodingSingleBlockMultiStateSnapshot(storage.serializeNBT());
     }
+
+    /**
+     * Creates a storage with the entries of the first block of the given snapshot.
+     * Single block snapshots hand out a copy of their own storage, any other snapshot is copied entry by entry.
+     *
+     * @param snapshot The snapshot to create the storage from.
+     * @return The storage.
+     */
+    public static IStateEntryStorage createStorage(final IMultiStateSnapshot snapshot) {
+        if (snapshot instanceof SimpleSnapshot simpleSnapshot)
+            return simpleSnapshot.createStorageSnapshot();
+
+        if (snapshot instanceof LazilyDecodingSingleBlockMultiStateSnapshot lazilyDecodingSnapshot)
+            return lazilyDecodingSnapshot.createStorageSnapshot();
+
+        final int size = StateEntrySize.current().getBitsPerBlockSide();
+        final IStateEntryStorage storage = new SimpleStateEntryStorage(size);
+        try (IBatchMutation ignored = storage.batch()) {
+            snapshot.stream()
+              .filter(entry -> !entry.getBlockInformation().isAir())
+              .forEach(entry -> {
+                  final BlockPos position = VectorUtils.toBlockPos(entry.getStartPoint().multiply(size, size, size));
+                  if (position.getX() >= 0 && position.getY() >= 0 && position.getZ() >= 0 && position.getX() < size && position.getY() < size && position.getZ() < size)
+                      storage.setBlockInformation(position.getX(), position.getY(), position.getZ(), entry.getBlockInformation());
+              });
+        }
+
+        return storage;
+    }
 }
@@ -0,0 +1,64 @@
+package mod.chiselsandbits.utils;
+
+import mod.chiselsandbits.api.block.entity.IMultiStateBlockEntity;
+import mod.chiselsandbits.api.blockinformation.IBlockInformation;
+import mod.chiselsandbits.api.multistate.StateEntrySize;
+import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.world.level.LevelAccessor;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+public class StateEntryMatchUtils
+{
+
+    private StateEntryMatchUtils()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: StateEntryMatchUtils. This is a utility class");
+    }
+
+    /**
+     * Determines which state entries of the block at the given position have block information that matches the given predicate.
+     * Chiseled blocks resolve the predicate against their palette, any other block is uniform and is only tested once.
+     *
+     * @param world         The world the block is in.
+     * @param pos           The position of the block.
+     * @param blockAccessor An accessor which covers exactly the block.
+     * @param predicate     The predicate to match the block information with.
+     * @return A bit set in which the bit of each matching entry is set, see {@link #getEntryIndex(int, int, int)}.
+     */
+    public static BitSet findMatchingEntries(
+      final LevelAccessor world,
+      final BlockPos pos,
+      final IAreaAccessor blockAccessor,
+      final Predicate<IBlockInformation> predicate)
+    {
+        if (world.getBlockEntity(pos) instanceof IMultiStateBlockEntity multiStateBlockEntity)
+        {
+            return multiStateBlockEntity.findMatchingEntries(predicate);
+        }
+
+        final int entryCount = StateEntrySize.current().getBitsPerBlock();
+        final BitSet matches = new BitSet(entryCount);
+        blockAccessor.stream()
+          .findFirst()
+          .filter(entry -> predicate.test(entry.getBlockInformation()))
+          .ifPresent(entry -> matches.set(0, entryCount));
+
+        return matches;
+    }
+
+    public static int getEntryIndex(final int x, final int y, final int z)
+    {
+        final int size = StateEntrySize.current().getBitsPerBlockSide();
+        return x * size * size + y * size + z;
+    }
+
+    public static Vec3i getEntryPosition(final int index)
+    {
+        final int size = StateEntrySize.current().getBitsPerBlockSide();
+        return new Vec3i(index / (size * size), (index / size) % size, index % size);
+    }
+}
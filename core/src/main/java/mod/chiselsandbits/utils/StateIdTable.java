@@ -0,0 +1,81 @@
+package mod.chiselsandbits.utils;
+
+import mod.chiselsandbits.api.block.state.id.IBlockStateIdManager;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A lazily filled table with one value per block state, addressed by the registry id of the state.
+ * Lookups are a single array access, and the table is sized to the block state registry on first use.
+ * <p>
+ * Registry ids can change while the game runs, for example when the registries are synced with a server. Every slot therefore
+ * remembers the state it was computed for, and a slot which belongs to another state is computed again.
+ *
+ * @param <V> The type of the values.
+ */
+public final class StateIdTable<V>
+{
+    private volatile AtomicReferenceArray<Entry<V>> valuesByStateId = new AtomicReferenceArray<>(0);
+
+    /**
+     * Gets the value for the given state, computing it when it is not known yet.
+     * States which are not registered are computed on every call.
+     *
+     * @param blockState The block state.
+     * @param factory    The factory which computes the value for the state.
+     * @return The value.
+     */
+    public V computeIfAbsent(final BlockState blockState, final Function<BlockState, V> factory)
+    {
+        final int id = IBlockStateIdManager.getInstance().getIdFrom(blockState);
+        final AtomicReferenceArray<Entry<V>> values = getValues(id);
+        if (values == null)
+            return factory.apply(blockState);
+
+        final Entry<V> existing = values.get(id);
+        if (existing != null && existing.blockState() == blockState)
+            return existing.value();
+
+        final Entry<V> created = new Entry<>(blockState, factory.apply(blockState));
+        if (values.compareAndSet(id, existing, created))
+            return created.value();
+
+        //Another thread might have won the race, in which case its value is the shared one.
+        final Entry<V> current = values.get(id);
+        return current != null && current.blockState() == blockState ? current.value() : created.value();
+    }
+
+    /**
+     * Drops all values.
+     */
+    public void clear()
+    {
+        valuesByStateId = new AtomicReferenceArray<>(0);
+    }
+
+    private AtomicReferenceArray<Entry<V>> getValues(final int id)
+    {
+        AtomicReferenceArray<Entry<V>> current = valuesByStateId;
+        if (id >= 0 && id < current.length())
+            return current;
+
+        if (id < 0 || id >= Block.BLOCK_STATE_REGISTRY.size())
+            return null;
+
+        synchronized (this)
+        {
+            current = valuesByStateId;
+            if (current.length() <= id)
+            {
+                current = new AtomicReferenceArray<>(Block.BLOCK_STATE_REGISTRY.size());
+                valuesByStateId = current;
+            }
+            return current;
+        }
+    }
+
+    private record Entry<V>(BlockState blockState, V value) {}
+}
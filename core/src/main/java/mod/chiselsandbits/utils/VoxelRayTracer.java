@@ -0,0 +1,175 @@
+package mod.chiselsandbits.utils;
+
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Traces rays through the voxel grid of a single block, visiting the voxels the ray passes in order.
+ * <p>
+ * The ray is walked voxel by voxel (a digital differential analyzer), so the cost only depends on the amount of voxels the ray crosses,
+ * and no bounding boxes or shapes are needed to find the first voxel which stops it.
+ */
+public final class VoxelRayTracer
+{
+    private VoxelRayTracer()
+    {
+        throw new IllegalStateException("Can not instantiate an instance of: VoxelRayTracer. This is a utility class");
+    }
+
+    /**
+     * Traces the ray between the given points through a block with the given amount of voxels per side.
+     * The points are in block local coordinates, the block spans from 0 to 1 on every axis. The ray is allowed to start and end outside
+     * of the block.
+     *
+     * @param size   The amount of voxels per block side.
+     * @param filter The filter which decides which voxels stop the ray.
+     * @param fromX  The x coordinate of the start of the ray.
+     * @param fromY  The y coordinate of the start of the ray.
+     * @param fromZ  The z coordinate of the start of the ray.
+     * @param toX    The x coordinate of the end of the ray.
+     * @param toY    The y coordinate of the end of the ray.
+     * @param toZ    The z coordinate of the end of the ray.
+     * @return The first voxel on the ray which passes the filter, or {@code null} when there is none.
+     */
+    @Nullable
+    public static Hit trace(
+      final int size,
+      final VoxelFilter filter,
+      final double fromX,
+      final double fromY,
+      final double fromZ,
+      final double toX,
+      final double toY,
+      final double toZ)
+    {
+        final double originX = fromX * size;
+        final double originY = fromY * size;
+        final double originZ = fromZ * size;
+        final double deltaX = (toX - fromX) * size;
+        final double deltaY = (toY - fromY) * size;
+        final double deltaZ = (toZ - fromZ) * size;
+
+        if (deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ < 1.0E-7D)
+            return null;
+
+        //Clip the ray against the block, remembering through which face it enters.
+        double enter = 0;
+        double exit = 1;
+        Direction enterFace = null;
+
+        final double[] origin = {originX, originY, originZ};
+        final double[] delta = {deltaX, deltaY, deltaZ};
+        for (final Direction.Axis axis : Direction.Axis.values())
+        {
+            final int axisIndex = axis.ordinal();
+            if (delta[axisIndex] == 0)
+            {
+                if (origin[axisIndex] < 0 || origin[axisIndex] > size)
+                    return null;
+
+                continue;
+            }
+
+            final double nearPlane = delta[axisIndex] > 0 ? 0 : size;
+            final double farPlane = delta[axisIndex] > 0 ? size : 0;
+            final double near = (nearPlane - origin[axisIndex]) / delta[axisIndex];
+            final double far = (farPlane - origin[axisIndex]) / delta[axisIndex];
+
+            if (near > enter)
+            {
+                enter = near;
+                enterFace = Direction.fromAxisAndDirection(axis, delta[axisIndex] > 0 ? Direction.AxisDirection.NEGATIVE : Direction.AxisDirection.POSITIVE);
+            }
+            exit = Math.min(exit, far);
+
+            if (enter > exit)
+                return null;
+        }
+
+        final boolean inside = enterFace == null;
+        final Direction initialFace = inside ? Direction.getNearest(deltaX, deltaY, deltaZ).getOpposite() : enterFace;
+
+        int x = clampToGrid(originX + deltaX * enter, size);
+        int y = clampToGrid(originY + deltaY * enter, size);
+        int z = clampToGrid(originZ + deltaZ * enter, size);
+
+        final int stepX = deltaX > 0 ? 1 : -1;
+        final int stepY = deltaY > 0 ? 1 : -1;
+        final int stepZ = deltaZ > 0 ? 1 : -1;
+
+        final double stepDistanceX = deltaX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / deltaX);
+        final double stepDistanceY = deltaY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / deltaY);
+        final double stepDistanceZ = deltaZ == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / deltaZ);
+
+        double nextX = deltaX == 0 ? Double.POSITIVE_INFINITY : ((stepX > 0 ? x + 1 : x) - originX) / deltaX;
+        double nextY = deltaY == 0 ? Double.POSITIVE_INFINITY : ((stepY > 0 ? y + 1 : y) - originY) / deltaY;
+        double nextZ = deltaZ == 0 ? Double.POSITIVE_INFINITY : ((stepZ > 0 ? z + 1 : z) - originZ) / deltaZ;
+
+        double distance = enter;
+        Direction face = initialFace;
+        while (true)
+        {
+            if (filter.test(x, y, z))
+                return new Hit(x, y, z, face, distance, inside && distance == 0);
+
+            if (nextX <= nextY && nextX <= nextZ)
+            {
+                distance = nextX;
+                x += stepX;
+                nextX += stepDistanceX;
+                face = stepX > 0 ? Direction.WEST : Direction.EAST;
+            }
+            else if (nextY <= nextZ)
+            {
+                distance = nextY;
+                y += stepY;
+                nextY += stepDistanceY;
+                face = stepY > 0 ? Direction.DOWN : Direction.UP;
+            }
+            else
+            {
+                distance = nextZ;
+                z += stepZ;
+                nextZ += stepDistanceZ;
+                face = stepZ > 0 ? Direction.NORTH : Direction.SOUTH;
+            }
+
+            if (distance > exit || x < 0 || y < 0 || z < 0 || x >= size || y >= size || z >= size)
+                return null;
+        }
+    }
+
+    private static int clampToGrid(final double position, final int size)
+    {
+        return Math.max(0, Math.min(size - 1, (int) Math.floor(position)));
+    }
+
+    /**
+     * Decides which voxels stop a ray.
+     */
+    @FunctionalInterface
+    public interface VoxelFilter
+    {
+        /**
+         * Indicates if the voxel at the given grid position stops the ray.
+         *
+         * @param x The x position of the voxel.
+         * @param y The y position of the voxel.
+         * @param z The z position of the voxel.
+         * @return {@code true} when the ray stops at the voxel.
+         */
+        boolean test(int x, int y, int z);
+    }
+
+    /**
+     * The voxel at which a ray stopped.
+     *
+     * @param x        The x position of the voxel.
+     * @param y        The y position of the voxel.
+     * @param z        The z position of the voxel.
+     * @param face     The face of the voxel through which the ray entered it.
+     * @param fraction The fraction of the ray at which the voxel was entered, between 0 and 1.
+     * @param inside   {@code true} when the ray started inside the voxel.
+     */
+    public record Hit(int x, int y, int z, Direction face, double fraction, boolean inside) {}
+}
@@ -1,7 +1,6 @@
 package mod.chiselsandbits.voxelshape;
 
 import mod.chiselsandbits.api.multistate.StateEntrySize;
-import mod.chiselsandbits.utils.BlockPosUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.world.phys.shapes.BitSetDiscreteVoxelShape;
 
@@ -32,6 +31,9 @@ public class MultiStateBlockEntityDiscreteVoxelShape extends BitSetDiscreteVoxel
         recalculateBounds();
     }
 
+    /**
+     * Calculates the bounds from the set entries, the maxima are exclusive just like the ones of a filled discrete shape.
+     */
     private void recalculateBounds()
     {
         this.xMin = this.xSize;
@@ -41,19 +43,18 @@ public class MultiStateBlockEntityDiscreteVoxelShape extends BitSetDiscreteVoxel
         this.yMax = 0;
         this.zMax = 0;
 
-        for (int x = 0; x < this.xSize; ++x) {
-            for (int y = 0; y < this.ySize; ++y) {
-                for (int z = 0; z < this.zSize; ++z) {
-                    if(this.storage.get(BlockPosUtils.getCollisionIndex(x,y,z,this.ySize, this.zSize))) {
-                        this.xMin = Math.min(this.xMin, x);
-                        this.yMin = Math.min(this.yMin, y);
-                        this.zMin = Math.min(this.zMin, z);
-                        this.xMax = Math.max(this.xMax, x);
-                        this.yMax = Math.max(this.yMax, y);
-                        this.zMax = Math.max(this.zMax, z);
-                    }
-                }
-            }
+        final int layerSize = this.ySize * this.zSize;
+        for (int index = this.storage.nextSetBit(0); index >= 0 && index < this.xSize * layerSize; index = this.storage.nextSetBit(index + 1)) {
+            final int x = index / layerSize;
+            final int y = (index % layerSize) / this.zSize;
+            final int z = index % this.zSize;
+
+            this.xMin = Math.min(this.xMin, x);
+            this.yMin = Math.min(this.yMin, y);
+            this.zMin = Math.min(this.zMin, z);
+            this.xMax = Math.max(this.xMax, x + 1);
+            this.yMax = Math.max(this.yMax, y + 1);
+            this.zMax = Math.max(this.zMax, z + 1);
         }
     }
 }
@@ -0,0 +1,86 @@
+package mod.chiselsandbits.voxelshape;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import mod.chiselsandbits.utils.BlockPosUtils;
+import mod.chiselsandbits.utils.VoxelRayTracer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * The shape of a chiseled block, backed directly by its collideable entries.
+ * <p>
+ * Behaves like a cube shape over the entries, but ray traces walk the entries voxel by voxel instead of clipping against the boxes of the shape.
+ * Targeting and picking run such ray traces every frame.
+ */
+public class MultiStateBlockEntityVoxelShape extends VoxelShape
+{
+    private final BitSet     entries;
+    private final int        size;
+    private final DoubleList coordinates;
+
+    /**
+     * Creates a new shape, the entries are used as is and may not be modified afterwards.
+     *
+     * @param entries The entries which are part of the shape, indexed like the collision data of a chiseled block.
+     * @param size    The amount of entries per block side.
+     */
+    public MultiStateBlockEntityVoxelShape(final BitSet entries, final int size)
+    {
+        super(new MultiStateBlockEntityDiscreteVoxelShape(entries, size));
+        this.entries = entries;
+        this.size = size;
+
+        final double[] coordinates = new double[size + 1];
+        for (int i = 0; i <= size; i++)
+        {
+            coordinates[i] = i / (double) size;
+        }
+        this.coordinates = DoubleArrayList.wrap(coordinates);
+    }
+
+    @Override
+    protected @NotNull DoubleList getCoords(final Direction.Axis axis)
+    {
+        return coordinates;
+    }
+
+    @Override
+    protected int findIndex(final Direction.Axis axis, final double position)
+    {
+        return Mth.floor(Mth.clamp(position * size, -1.0D, size));
+    }
+
+    @Nullable
+    @Override
+    public BlockHitResult clip(final @NotNull Vec3 from, final @NotNull Vec3 to, final @NotNull BlockPos pos)
+    {
+        if (isEmpty())
+            return null;
+
+        final VoxelRayTracer.Hit hit = VoxelRayTracer.trace(
+          size,
+          (x, y, z) -> entries.get(BlockPosUtils.getCollisionIndex(x, y, z, size, size)),
+          from.x() - pos.getX(),
+          from.y() - pos.getY(),
+          from.z() - pos.getZ(),
+          to.x() - pos.getX(),
+          to.y() - pos.getY(),
+          to.z() - pos.getZ()
+        );
+
+        if (hit == null)
+            return null;
+
+        final Vec3 location = hit.inside() ? from : from.lerp(to, hit.fraction());
+        return new BlockHitResult(location, hit.face(), pos, hit.inside());
+    }
+}
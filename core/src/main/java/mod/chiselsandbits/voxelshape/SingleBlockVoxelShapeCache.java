@@ -1,17 +1,29 @@
 package mod.chiselsandbits.voxelshape;
 
 import mod.chiselsandbits.api.axissize.CollisionType;
-import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
-import mod.chiselsandbits.api.voxelshape.IVoxelShapeManager;
+import mod.chiselsandbits.api.multistate.StateEntrySize;
 import mod.chiselsandbits.block.entities.ChiseledBlockEntity;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
+import java.util.BitSet;
 import java.util.EnumMap;
 
+/**
+ * Holds the shapes of a single chiseled block.
+ * <p>
+ * The shapes are derived directly from the collideable entries which the statistics of the block keep up to date on every edit.
+ * A shape is only rebuilt when the entries it is derived from have changed, edits which do not flip any of those entries keep it.
+ * Ray traces against the shapes walk the entries directly, see {@link MultiStateBlockEntityVoxelShape}.
+ */
 public class SingleBlockVoxelShapeCache {
 
-    private final EnumMap<CollisionType, VoxelShape> shapes = new EnumMap<>(CollisionType.class);
+    /**
+     * All shapes are derived from the collideable entries, the collision type only decides how a block without any of them is shaped.
+     */
+    private static final CollisionType SHAPE_SOURCE = CollisionType.COLLIDEABLE_ONLY;
+
+    private final EnumMap<CollisionType, Entry> shapes = new EnumMap<>(CollisionType.class);
 
     private final ChiseledBlockEntity blockEntity;
 
@@ -19,22 +31,38 @@ public class SingleBlockVoxelShapeCache {
         this.blockEntity = blockEntity;
     }
 
-    public void reset() {
-        shapes.clear();
-    }
-
     public VoxelShape getShape(final CollisionType type) {
-        return shapes.computeIfAbsent(type, this::createShape);
+        final VoxelShape shape = getEntriesShape(SHAPE_SOURCE);
+        if (!shape.isEmpty())
+            return shape;
+
+        return type.canBeEmptyWithJustFluids() && containsJustFluids() ? shape : Shapes.block();
     }
 
-    private VoxelShape createShape(final CollisionType type) {
-        final VoxelShape shape = IVoxelShapeManager.getInstance().get(blockEntity, CollisionType.COLLIDEABLE_ONLY);
+    private VoxelShape getEntriesShape(final CollisionType source) {
+        //The version is read first, an edit which slips in before the entries are copied only causes another rebuild.
+        final int version = blockEntity.getCollideableEntriesVersion(source);
+        final BitSet entries = blockEntity.getStatistics().getCollideableEntries(source);
 
-        if (type.canBeEmptyWithJustFluids() && shape.isEmpty()) {
-            final boolean justFluids = blockEntity.stream().allMatch(stateEntry -> stateEntry.getBlockInformation().isAir() || !stateEntry.getBlockInformation().getBlockState().getFluidState().isEmpty());
-            return justFluids ? shape : Shapes.block();
-        }
+        final Entry current = shapes.get(source);
+        if (current != null && current.entries() == entries && current.version() == version)
+            return current.shape();
 
-        return shape.isEmpty() ? Shapes.block() : shape;
+        final VoxelShape shape = entries.isEmpty() ?
+                                   Shapes.empty() :
+                                   new MultiStateBlockEntityVoxelShape((BitSet) entries.clone(), StateEntrySize.current().getBitsPerBlockSide());
+        shapes.put(source, new Entry(entries, version, shape));
+        return shape;
     }
+
+    private boolean containsJustFluids() {
+        return blockEntity.getStatistics().getStateCounts().keySet().stream()
+                 .allMatch(blockInformation -> blockInformation.isAir() || !blockInformation.getBlockState().getFluidState().isEmpty());
+    }
+
+    /**
+     * A built shape, together with the instance and version of the entries it was built from.
+     * Replacing the entries wholesale always creates a new instance, edits in place advance the version.
+     */
+    private record Entry(BitSet entries, int version, VoxelShape shape) {}
 }
@@ -5,6 +5,8 @@ import mod.chiselsandbits.api.config.ICommonConfiguration;
 import mod.chiselsandbits.api.multistate.accessor.IAreaAccessor;
 import mod.chiselsandbits.api.multistate.accessor.identifier.IAreaShapeIdentifier;
 import mod.chiselsandbits.api.voxelshape.IVoxelShapeManager;
+import mod.chiselsandbits.profiling.metrics.LatencyHistogram;
+import mod.chiselsandbits.profiling.metrics.Metrics;
 import mod.chiselsandbits.utils.SimpleMaxSizedCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.phys.shapes.Shapes;
@@ -46,9 +48,13 @@ public class VoxelShapeManager implements IVoxelShapeManager
           sizeType,
           simplify);
 
+        Metrics.SHAPE_CACHE.lookup();
         return cache.get(cacheKey,
           () -> {
+            Metrics.SHAPE_CACHE.miss();
+            final long shapeBuildingStart = LatencyHistogram.start();
             final VoxelShape calculatedShape = VoxelShapeCalculator.calculate(accessor, offset, sizeType, simplify);
+            Metrics.SHAPE_BUILDING.recordSince(shapeBuildingStart);
             if (calculatedShape.isEmpty())
                 return Shapes.empty();
 
@@ -4,7 +4,11 @@ import com.communi.suggestu.scena.core.init.PlatformInitializationHandler;
 import mod.chiselsandbits.ChiselsAndBits;
 import mod.chiselsandbits.block.ChiseledBlock;
 import mod.chiselsandbits.fabric.plugin.FabricPluginManager;
+import mod.chiselsandbits.logic.LevelUnloadHandler;
+import mod.chiselsandbits.logic.PlayerLogoutHandler;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +35,9 @@ public class Fabric implements ModInitializer {
     @Override
     public void onInitialize()
     {
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> PlayerLogoutHandler.onPlayerLoggedOut(handler.getPlayer()));
+        ServerWorldEvents.UNLOAD.register((server, level) -> LevelUnloadHandler.onLevelUnloaded(level));
+
         if (chiselsAndBits != null)
         {
             chiselsAndBits.onInitialize();
@@ -1,7 +1,10 @@
 package mod.chiselsandbits.fabric.client;
 
 import mod.chiselsandbits.client.ChiselsAndBitsClient;
+import mod.chiselsandbits.client.logic.StateIdCacheResetHandler;
+import mod.chiselsandbits.logic.LevelUnloadHandler;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,6 +22,12 @@ public class FabricClient implements ClientModInitializer {
     {
         LOGGER.info("Initialized chisels-and-bits for Fabric client module");
         setChiselsAndBits(new ChiselsAndBitsClient());
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            StateIdCacheResetHandler.doReset();
+            //Client levels are otherwise only dropped by the garbage collector.
+            if (client.level != null)
+                LevelUnloadHandler.onLevelUnloaded(client.level);
+        });
     }
 
     public void setChiselsAndBits(final ChiselsAndBitsClient chiselsAndBits)
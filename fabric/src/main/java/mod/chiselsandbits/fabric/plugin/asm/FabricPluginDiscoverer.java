@@ -2,7 +2,6 @@ package mod.chiselsandbits.fabric.plugin.asm;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import mod.chiselsandbits.api.config.ICommonConfiguration;
 import mod.chiselsandbits.api.launch.ILaunchPropertyManager;
 import mod.chiselsandbits.api.plugin.IPluginDiscoverer;
@@ -11,6 +10,8 @@ import mod.chiselsandbits.api.util.ClassUtils;
 import mod.chiselsandbits.api.util.GroupingUtils;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
+import net.fabricmc.loader.api.metadata.CustomValue;
+import net.fabricmc.loader.api.metadata.ModOrigin;
 import org.apache.commons.io.file.AccumulatorPathVisitor;
 import org.apache.commons.io.file.Counters;
 import org.apache.commons.io.filefilter.AbstractFileFilter;
@@ -20,6 +21,7 @@ import org.jetbrains.annotations.Nullable;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.util.asm.ASM;
@@ -38,57 +40,37 @@ public class FabricPluginDiscoverer implements IPluginDiscoverer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FabricPluginDiscoverer.class);
 
+    /**
+     * The custom value in the fabric.mod.json of a mod which lists its plugin classes.
+     * Mods which declare it are not scanned, only the listed classes are read.
+     */
+    private static final String PLUGINS_CUSTOM_VALUE = "chiselsandbits:plugins";
+
+    /**
+     * Class files larger than this are skipped, plugin classes are tiny in comparison.
+     */
+    private static final long MAX_CLASS_FILE_SIZE = 1024 * 1024;
+
     private record DiscoveredPlugin(Map<String, Object> annotationData, String className) {};
 
     public <A, I extends Annotation, T> Collection<PluginData<T>> loadPlugins(Class<A> annotationType, Class<I> instanceAnnotationType, Class<T> pluginSpecificationType, Function<T, String> idExtractor) {
-        final Set<DiscoveredPlugin> pluginCandidates = Sets.newHashSet();
-
-        for (ModContainer allMod : FabricLoader.getInstance().getAllMods()) {
-            for (Path rootPath : allMod.getRootPaths()) {
-                final AccumulatorPathVisitor visitor = new AccumulatorPathVisitor(Counters.noopPathCounters(), new AbstractFileFilter() {
-                    @Override
-                    public FileVisitResult accept(Path path, BasicFileAttributes attributes) {
-                        return path.getFileName().toString().endsWith(".class") ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
-                    }
-                }, TrueFileFilter.TRUE);
-                try {
-                    Files.walkFileTree(rootPath, visitor);
-                } catch (IOException e) {
-                    LOGGER.debug("Failed to discover plugins from path: %s".formatted(rootPath), e);
-                    continue;
-                }
+        final PluginDiscoveryIndex index = PluginDiscoveryIndex.load(
+                FabricLoader.getInstance().getGameDir().resolve(".chiselsandbits").resolve("plugin-index.json")
+        );
 
-                final List<Path> classFiles = visitor.getFileList();
-                for (Path classFile : classFiles) {
-                    final ClassReader reader;
-                    try {
-                        reader = new ClassReader(Files.newInputStream(classFile));
-                    } catch (IOException e) {
-                        LOGGER.debug("Failed to read class for plugin detection: %s".formatted(classFile.toAbsolutePath()), e);
-                        continue;
-                    } catch (IllegalArgumentException iae) {
-                        LOGGER.warn("Failed to read class for plugin detection, it has an unsupported ASM Version: %s".formatted(classFile.toAbsolutePath()), iae);
-                        continue;
-                    }
-
-                    final ModClassVisitor modClassVisitor = new ModClassVisitor();
-                    reader.accept(modClassVisitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG);
-                    final Set<AnnotationData> annotationData = modClassVisitor.annotationData();
-                    for (AnnotationData data : annotationData) {
-                        if (data.annotationType().getClassName().equals(annotationType.getName())) {
-                            pluginCandidates.add(new DiscoveredPlugin(data.annotationData(), data.clazz().getClassName()));
-                        }
-                    }
-                }
-            }
-        }
+        final Set<DiscoveredPlugin> pluginCandidates = FabricLoader.getInstance().getAllMods()
+                .parallelStream()
+                .flatMap(mod -> discoverPlugins(mod, annotationType, index).stream())
+                .map(plugin -> new DiscoveredPlugin(plugin.annotationData(), plugin.className()))
+                .collect(Collectors.toSet());
 
+        index.save();
 
         List<PluginData<T>> plugins = new ArrayList<>();
         for (DiscoveredPlugin pluginCandidate : pluginCandidates) {
-            final ArrayList<String> requiredMods = (ArrayList<String>) pluginCandidate.annotationData().get("requiredMods");
+            final List<?> requiredMods = (List<?>) pluginCandidate.annotationData().get("requiredMods");
             if (requiredMods != null && requiredMods.size() > 0) {
-                if (requiredMods.stream().anyMatch(modId -> !FabricLoader.getInstance().isModLoaded(modId))) {
+                if (requiredMods.stream().anyMatch(modId -> !FabricLoader.getInstance().isModLoaded(String.valueOf(modId)))) {
                     continue;
                 }
             }
@@ -126,6 +108,141 @@ public class FabricPluginDiscoverer implements IPluginDiscoverer {
 
     }
 
+    private static List<PluginDiscoveryIndex.IndexedPlugin> discoverPlugins(final ModContainer mod, final Class<?> annotationType, final PluginDiscoveryIndex index) {
+        final String annotationDescriptor = Type.getDescriptor(annotationType);
+
+        final CustomValue declaredPlugins = mod.getMetadata().getCustomValue(PLUGINS_CUSTOM_VALUE);
+        if (declaredPlugins != null && declaredPlugins.getType() == CustomValue.CvType.ARRAY) {
+            final List<PluginDiscoveryIndex.IndexedPlugin> plugins = new ArrayList<>();
+            for (CustomValue declaredPlugin : declaredPlugins.getAsArray()) {
+                final String classFileName = declaredPlugin.getAsString().replace('.', '/') + ".class";
+                mod.findPath(classFileName).ifPresentOrElse(
+                        classFile -> plugins.addAll(scanClass(classFile, annotationType, annotationDescriptor)),
+                        () -> LOGGER.warn("The plugin class: %s declared by mod: %s could not be found.".formatted(declaredPlugin.getAsString(), mod.getMetadata().getId()))
+                );
+            }
+            return plugins;
+        }
+
+        final String modId = mod.getMetadata().getId();
+        final String fingerprint = createFingerprint(mod);
+        if (fingerprint != null) {
+            final List<PluginDiscoveryIndex.IndexedPlugin> indexedPlugins = index.get(annotationType.getName(), modId, fingerprint);
+            if (indexedPlugins != null)
+                return indexedPlugins;
+        }
+
+        final List<PluginDiscoveryIndex.IndexedPlugin> plugins = new ArrayList<>();
+        for (Path rootPath : mod.getRootPaths()) {
+            final AccumulatorPathVisitor visitor = new AccumulatorPathVisitor(Counters.noopPathCounters(), new AbstractFileFilter() {
+                @Override
+                public FileVisitResult accept(Path path, BasicFileAttributes attributes) {
+                    return path.getFileName().toString().endsWith(".class") && attributes.size() <= MAX_CLASS_FILE_SIZE ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
+                }
+            }, TrueFileFilter.TRUE);
+            try {
+                Files.walkFileTree(rootPath, visitor);
+            } catch (IOException e) {
+                LOGGER.debug("Failed to discover plugins from path: %s".formatted(rootPath), e);
+                continue;
+            }
+
+            visitor.getFileList()
+                    .parallelStream()
+                    .flatMap(classFile -> scanClass(classFile, annotationType, annotationDescriptor).stream())
+                    .forEachOrdered(plugins::add);
+        }
+
+        if (fingerprint != null)
+            index.put(annotationType.getName(), modId, fingerprint, plugins);
+
+        return plugins;
+    }
+
+    private static List<PluginDiscoveryIndex.IndexedPlugin> scanClass(final Path classFile, final Class<?> annotationType, final String annotationDescriptor) {
+        final byte[] classData;
+        try {
+            classData = Files.readAllBytes(classFile);
+        } catch (IOException e) {
+            LOGGER.debug("Failed to read class for plugin detection: %s".formatted(classFile.toAbsolutePath()), e);
+            return List.of();
+        }
+
+        //An annotated class always references the descriptor of the annotation in its constant pool.
+        if (!containsAscii(classData, annotationDescriptor))
+            return List.of();
+
+        final ClassReader reader;
+        try {
+            reader = new ClassReader(classData);
+        } catch (IllegalArgumentException iae) {
+            LOGGER.warn("Failed to read class for plugin detection, it has an unsupported ASM Version: %s".formatted(classFile.toAbsolutePath()), iae);
+            return List.of();
+        }
+
+        final ModClassVisitor modClassVisitor = new ModClassVisitor();
+        reader.accept(modClassVisitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG);
+
+        final List<PluginDiscoveryIndex.IndexedPlugin> plugins = new ArrayList<>();
+        for (AnnotationData data : modClassVisitor.annotationData()) {
+            if (data.annotationType().getClassName().equals(annotationType.getName())) {
+                plugins.add(new PluginDiscoveryIndex.IndexedPlugin(data.clazz().getClassName(), data.annotationData()));
+            }
+        }
+        return plugins;
+    }
+
+    private static boolean containsAscii(final byte[] data, final String value) {
+        final int length = value.length();
+        final byte first = (byte) value.charAt(0);
+        outer:
+        for (int i = 0; i <= data.length - length; i++) {
+            if (data[i] != first)
+                continue;
+
+            for (int j = 1; j < length; j++) {
+                if (data[i + j] != (byte) value.charAt(j))
+                    continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates a fingerprint of the files a mod was loaded from, which changes whenever one of them is replaced or modified.
+     *
+     * @param mod The mod.
+     * @return The fingerprint, or null if the mod is not loaded from files which can be fingerprinted, like directories in a development environment.
+     */
+    @Nullable
+    private static String createFingerprint(final ModContainer mod) {
+        final ModOrigin origin = mod.getOrigin();
+        if (origin.getKind() == ModOrigin.Kind.NESTED) {
+            final String parentFingerprint = FabricLoader.getInstance().getModContainer(origin.getParentModId())
+                    .map(FabricPluginDiscoverer::createFingerprint)
+                    .orElse(null);
+            return parentFingerprint == null ? null : "%s!%s@%s".formatted(parentFingerprint, origin.getParentSubLocation(), mod.getMetadata().getVersion().getFriendlyString());
+        }
+
+        if (origin.getKind() != ModOrigin.Kind.PATH)
+            return null;
+
+        final StringBuilder fingerprint = new StringBuilder(mod.getMetadata().getVersion().getFriendlyString());
+        for (Path path : origin.getPaths()) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile())
+                    return null;
+
+                fingerprint.append('|').append(path.toAbsolutePath()).append(':').append(attributes.size()).append(':').append(attributes.lastModifiedTime().toMillis());
+            } catch (IOException | UnsupportedOperationException e) {
+                return null;
+            }
+        }
+        return fingerprint.toString();
+    }
+
     @Nullable
     private static <T, I extends Annotation> T createPluginFrom(
             String className,
@@ -0,0 +1,192 @@
+package mod.chiselsandbits.fabric.plugin.asm;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A persistent index of the plugin annotations found in each mod, so that mods which did not change since the last launch
+ * do not need to be scanned again.
+ * <p>
+ * Entries are keyed by the annotation type and the mod id, and are only valid as long as the fingerprint of the mod matches.
+ */
+final class PluginDiscoveryIndex
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(PluginDiscoveryIndex.class);
+    private static final Gson   GSON   = new GsonBuilder().create();
+
+    /**
+     * The version of the index format, changing it invalidates all existing indices.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path                            file;
+    private final Map<String, Map<String, Entry>> entries;
+    private volatile boolean                      isDirty = false;
+
+    private PluginDiscoveryIndex(final Path file, final Map<String, Map<String, Entry>> entries)
+    {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the index from the given file, or creates an empty one when the file does not exist or can not be read.
+     *
+     * @param file The file of the index.
+     * @return The index.
+     */
+    static PluginDiscoveryIndex load(final Path file)
+    {
+        final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(file))
+        {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+            {
+                final StoredIndex storedIndex = GSON.fromJson(reader, StoredIndex.class);
+                if (storedIndex != null && storedIndex.version() == FORMAT_VERSION && storedIndex.entries() != null)
+                {
+                    storedIndex.entries().forEach((annotationType, modEntries) -> entries.put(annotationType, new ConcurrentHashMap<>(modEntries)));
+                }
+            }
+            catch (IOException | JsonParseException e)
+            {
+                LOGGER.warn("Failed to read the plugin discovery index from: %s. All mods will be scanned.".formatted(file), e);
+                entries.clear();
+            }
+        }
+
+        return new PluginDiscoveryIndex(file, entries);
+    }
+
+    /**
+     * Looks up the plugins of the given mod, as long as the mod did not change since it was indexed.
+     *
+     * @param annotationType The name of the plugin annotation type.
+     * @param modId          The id of the mod.
+     * @param fingerprint    The current fingerprint of the mod.
+     * @return The indexed plugins, or null when the mod needs to be scanned.
+     */
+    @Nullable
+    List<IndexedPlugin> get(final String annotationType, final String modId, final String fingerprint)
+    {
+        final Map<String, Entry> modEntries = entries.get(annotationType);
+        if (modEntries == null)
+            return null;
+
+        final Entry entry = modEntries.get(modId);
+        if (entry == null || !Objects.equals(entry.fingerprint(), fingerprint))
+            return null;
+
+        return entry.plugins();
+    }
+
+    /**
+     * Records the plugins which were found by scanning the given mod.
+     *
+     * @param annotationType The name of the plugin annotation type.
+     * @param modId          The id of the mod.
+     * @param fingerprint    The fingerprint of the mod at the time of the scan.
+     * @param plugins        The plugins which were found.
+     */
+    void put(final String annotationType, final String modId, final String fingerprint, final List<IndexedPlugin> plugins)
+    {
+        final List<IndexedPlugin> storedPlugins = plugins.stream()
+          .map(plugin -> new IndexedPlugin(plugin.className(), sanitize(plugin.annotationData())))
+          .toList();
+
+        entries.computeIfAbsent(annotationType, key -> new ConcurrentHashMap<>())
+          .put(modId, new Entry(fingerprint, storedPlugins));
+        isDirty = true;
+    }
+
+    /**
+     * Strips all annotation values which can not be stored as JSON, like enum constants and class references.
+     * The discoverer only consumes strings, booleans and lists thereof.
+     */
+    private static Map<String, Object> sanitize(final Map<String, Object> annotationData)
+    {
+        final Map<String, Object> sanitized = new HashMap<>();
+        annotationData.forEach((key, value) -> {
+            final Object sanitizedValue = sanitizeValue(value);
+            if (sanitizedValue != null)
+                sanitized.put(key, sanitizedValue);
+        });
+        return sanitized;
+    }
+
+    @Nullable
+    private static Object sanitizeValue(final Object value)
+    {
+        if (value instanceof String || value instanceof Boolean || value instanceof Number)
+            return value;
+
+        if (value instanceof List<?> list)
+        {
+            final List<Object> sanitized = new ArrayList<>(list.size());
+            for (final Object element : list)
+            {
+                final Object sanitizedElement = sanitizeValue(element);
+                if (sanitizedElement != null)
+                    sanitized.add(sanitizedElement);
+            }
+            return sanitized;
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes the index back to disk, if it changed.
+     */
+    void save()
+    {
+        if (!isDirty)
+            return;
+
+        try
+        {
+            Files.createDirectories(file.getParent());
+            final Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8))
+            {
+                GSON.toJson(new StoredIndex(FORMAT_VERSION, entries), StoredIndex.class, writer);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            isDirty = false;
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Failed to write the plugin discovery index to: %s".formatted(file), e);
+        }
+    }
+
+    /**
+     * A plugin which was found in a mod.
+     *
+     * @param className      The name of the plugin class.
+     * @param annotationData The values of the plugin annotation.
+     */
+    record IndexedPlugin(String className, Map<String, Object> annotationData) {}
+
+    private record Entry(String fingerprint, List<IndexedPlugin> plugins) {}
+
+    private record StoredIndex(int version, Map<String, Map<String, Entry>> entries) {}
+}
@@ -7,13 +7,20 @@ import com.mojang.logging.LogUtils;
 import mod.chiselsandbits.ChiselsAndBits;
 import mod.chiselsandbits.api.util.constants.Constants;
 import mod.chiselsandbits.client.ChiselsAndBitsClient;
+import mod.chiselsandbits.client.logic.StateIdCacheResetHandler;
 import mod.chiselsandbits.forge.platform.ForgeAdaptingBitInventoryManager;
 import mod.chiselsandbits.forge.platform.ForgeBlockConstructionManager;
 import mod.chiselsandbits.forge.platform.ForgePluginDiscoverer;
+import mod.chiselsandbits.logic.LevelUnloadHandler;
+import mod.chiselsandbits.logic.PlayerLogoutHandler;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.extensions.IBlockExtension;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
 import org.slf4j.Logger;
 
 import java.util.function.Consumer;
@@ -46,6 +53,8 @@ public class Forge
         });
         
         modBus.addListener((Consumer<FMLCommonSetupEvent>) event -> chiselsAndBits.onInitialize());
+        NeoForge.EVENT_BUS.addListener((Consumer<PlayerEvent.PlayerLoggedOutEvent>) event -> PlayerLogoutHandler.onPlayerLoggedOut(event.getEntity()));
+        NeoForge.EVENT_BUS.addListener((Consumer<LevelEvent.Unload>) event -> LevelUnloadHandler.onLevelUnloaded(event.getLevel()));
 	}
 
     public static final class Client {
@@ -63,6 +72,8 @@ public class Forge
             PlatformInitializationHandler.getInstance().onInit(platform -> {
                 setChiselsAndBitsClient(new ChiselsAndBitsClient());
             });
+
+            NeoForge.EVENT_BUS.addListener((Consumer<ClientPlayerNetworkEvent.LoggingOut>) event -> StateIdCacheResetHandler.doReset());
         }
     }
 }